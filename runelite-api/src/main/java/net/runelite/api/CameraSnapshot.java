@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import javax.annotation.Nonnull;
+import lombok.Getter;
+
+/**
+ * A copy of the camera and scene state used to project local coordinates
+ * to the canvas, for use with the batch projection methods in {@link Perspective}.
+ * <p>
+ * Capture a snapshot once per frame with {@link #update(Client)} and reuse it
+ * for every projection made during that frame, instead of re-reading the
+ * camera from the client for every point.
+ */
+@Getter
+public class CameraSnapshot
+{
+	private int cameraX;
+	private int cameraY;
+	private int cameraZ;
+	private int pitchSin;
+	private int pitchCos;
+	private int yawSin;
+	private int yawCos;
+	private int scale;
+	private int viewportCenterX;
+	private int viewportCenterY;
+	private int plane;
+	private int[][][] tileHeights;
+	private byte[][][] tileSettings;
+
+	/**
+	 * Copies the current camera, viewport and scene state from the client.
+	 *
+	 * @param client the game client
+	 * @return this snapshot
+	 */
+	public CameraSnapshot update(@Nonnull Client client)
+	{
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
+
+		cameraX = client.getCameraX();
+		cameraY = client.getCameraY();
+		cameraZ = client.getCameraZ();
+		pitchSin = Perspective.SINE[cameraPitch];
+		pitchCos = Perspective.COSINE[cameraPitch];
+		yawSin = Perspective.SINE[cameraYaw];
+		yawCos = Perspective.COSINE[cameraYaw];
+		scale = client.getScale();
+		viewportCenterX = client.getViewportWidth() / 2 + client.getViewportXOffset();
+		viewportCenterY = client.getViewportHeight() / 2 + client.getViewportYOffset();
+		plane = client.getPlane();
+		tileHeights = client.getTileHeights();
+		tileSettings = client.getTileSettings();
+		return this;
+	}
+}
@@ -0,0 +1,666 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+
+/**
+ * An immutable copy of the scene collision flags of every plane.
+ * <p>
+ * Take a snapshot once per tick with {@link #of(Client)} and reuse it for
+ * every movement and line of sight check made during that tick, instead of
+ * converting world coordinates and reading the client collision maps for
+ * every check. All methods take scene coordinates and do not allocate.
+ * <p>
+ * Tiles are addressed either by scene x and y, or by a single scene index
+ * as returned by {@link #index(int, int)}.
+ */
+public final class CollisionSnapshot
+{
+	private static final int SIZE = Constants.SCENE_SIZE;
+
+	// Flags blocking a single tile step, indexed by direction (see #direction),
+	// for the tile moved on to and for the tiles passed on a diagonal step
+	private static final int[] STEP_FLAGS = new int[9];
+	private static final int[] STEP_X_FLAGS = new int[9];
+	private static final int[] STEP_Y_FLAGS = new int[9];
+
+	static
+	{
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dy = -1; dy <= 1; ++dy)
+			{
+				int xFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL |
+					(dx < 0 ? CollisionDataFlag.BLOCK_MOVEMENT_EAST : CollisionDataFlag.BLOCK_MOVEMENT_WEST);
+				int yFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL |
+					(dy < 0 ? CollisionDataFlag.BLOCK_MOVEMENT_NORTH : CollisionDataFlag.BLOCK_MOVEMENT_SOUTH);
+				int xyFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+				if (dx < 0)
+				{
+					xyFlags |= dy < 0 ? CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST : CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+				}
+				else
+				{
+					xyFlags |= dy < 0 ? CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST : CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+				}
+
+				int d = direction(dx, dy);
+				if (dx != 0 && dy != 0)
+				{
+					STEP_FLAGS[d] = xFlags | yFlags | xyFlags;
+					STEP_X_FLAGS[d] = xFlags;
+					STEP_Y_FLAGS[d] = yFlags;
+				}
+				else if (dx != 0)
+				{
+					STEP_FLAGS[d] = xFlags;
+				}
+				else if (dy != 0)
+				{
+					STEP_FLAGS[d] = yFlags;
+				}
+			}
+		}
+	}
+
+	/**
+	 * The x-axis world coordinate of scene tile (0, 0).
+	 */
+	@Getter
+	private final int baseX;
+
+	/**
+	 * The y-axis world coordinate of scene tile (0, 0).
+	 */
+	@Getter
+	private final int baseY;
+
+	/**
+	 * Collision flags per plane, indexed by {@link #index(int, int)}.
+	 */
+	private final int[][] planes;
+
+	/**
+	 * Creates a snapshot from collision flags indexed as [plane][x][y].
+	 * Planes which are missing or null are considered fully blocked.
+	 *
+	 * @param baseX the x-axis world coordinate of scene tile (0, 0)
+	 * @param baseY the y-axis world coordinate of scene tile (0, 0)
+	 * @param flags the collision flags to copy
+	 */
+	public CollisionSnapshot(int baseX, int baseY, @Nonnull int[][][] flags)
+	{
+		this.baseX = baseX;
+		this.baseY = baseY;
+		this.planes = new int[Constants.MAX_Z][];
+		for (int z = 0; z < Constants.MAX_Z; ++z)
+		{
+			planes[z] = copy(z < flags.length ? flags[z] : null);
+		}
+	}
+
+	/**
+	 * Copies the collision flags of every plane of the current scene.
+	 *
+	 * @param client the game client
+	 * @return the snapshot
+	 */
+	public static CollisionSnapshot of(@Nonnull Client client)
+	{
+		final CollisionData[] maps = client.getCollisionMaps();
+		final int[][][] flags = new int[Constants.MAX_Z][][];
+		if (maps != null)
+		{
+			for (int z = 0; z < Constants.MAX_Z && z < maps.length; ++z)
+			{
+				flags[z] = maps[z] != null ? maps[z].getFlags() : null;
+			}
+		}
+		return new CollisionSnapshot(client.getBaseX(), client.getBaseY(), flags);
+	}
+
+	private static int[] copy(@Nullable int[][] flags)
+	{
+		final int[] plane = new int[SIZE * SIZE];
+		if (flags == null)
+		{
+			Arrays.fill(plane, CollisionDataFlag.BLOCK_MOVEMENT_FULL | CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL);
+			return plane;
+		}
+
+		for (int x = 0; x < SIZE; ++x)
+		{
+			System.arraycopy(flags[x], 0, plane, x * SIZE, SIZE);
+		}
+		return plane;
+	}
+
+	/**
+	 * Packs scene coordinates into a single scene index.
+	 *
+	 * @param sceneX the scene x-axis coordinate
+	 * @param sceneY the scene y-axis coordinate
+	 * @return the scene index
+	 */
+	public static int index(int sceneX, int sceneY)
+	{
+		return sceneX * SIZE + sceneY;
+	}
+
+	/**
+	 * Gets the scene x-axis coordinate of a scene index.
+	 *
+	 * @param index the scene index
+	 * @return the scene x-axis coordinate
+	 */
+	public static int getSceneX(int index)
+	{
+		return index / SIZE;
+	}
+
+	/**
+	 * Gets the scene y-axis coordinate of a scene index.
+	 *
+	 * @param index the scene index
+	 * @return the scene y-axis coordinate
+	 */
+	public static int getSceneY(int index)
+	{
+		return index % SIZE;
+	}
+
+	/**
+	 * Checks whether scene coordinates are within the scene.
+	 *
+	 * @param sceneX the scene x-axis coordinate
+	 * @param sceneY the scene y-axis coordinate
+	 * @return true if the coordinates are within the scene
+	 */
+	public static boolean isInScene(int sceneX, int sceneY)
+	{
+		return sceneX >= 0 && sceneX < SIZE && sceneY >= 0 && sceneY < SIZE;
+	}
+
+	/**
+	 * Gets the collision flags of a tile.
+	 *
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate
+	 * @param sceneY the scene y-axis coordinate
+	 * @return the flags, or fully blocked if the tile is outside of the scene
+	 * @see CollisionDataFlag
+	 */
+	public int getFlags(int plane, int sceneX, int sceneY)
+	{
+		if (!isInScene(sceneX, sceneY))
+		{
+			return CollisionDataFlag.BLOCK_MOVEMENT_FULL | CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL;
+		}
+		return planes[plane][index(sceneX, sceneY)];
+	}
+
+	/**
+	 * Determines if an area can travel in one of the 9 directions, using the
+	 * same collision detection as {@link net.runelite.api.coords.WorldArea#canTravelInDirection}.
+	 *
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate of the south west tile of the area
+	 * @param sceneY the scene y-axis coordinate of the south west tile of the area
+	 * @param width the width of the area
+	 * @param height the height of the area
+	 * @param dx the x-axis direction to travel (-1, 0, or 1)
+	 * @param dy the y-axis direction to travel (-1, 0, or 1)
+	 * @return true if the area can travel in the specified direction
+	 */
+	public boolean canTravelInDirection(int plane, int sceneX, int sceneY, int width, int height, int dx, int dy)
+	{
+		return canTravelInDirection(plane, sceneX, sceneY, width, height, dx, dy, null);
+	}
+
+	/**
+	 * Determines if an area can travel in one of the 9 directions, using the
+	 * same collision detection as {@link net.runelite.api.coords.WorldArea#canTravelInDirection}.
+	 * Travelling out of the scene is never possible.
+	 *
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate of the south west tile of the area
+	 * @param sceneY the scene y-axis coordinate of the south west tile of the area
+	 * @param width the width of the area
+	 * @param height the height of the area
+	 * @param dx the x-axis direction to travel (-1, 0, or 1)
+	 * @param dy the y-axis direction to travel (-1, 0, or 1)
+	 * @param extraCondition an additional condition to perform when checking valid tiles,
+	 *                       such as performing a check for un-passable actors, or null
+	 * @return true if the area can travel in the specified direction
+	 */
+	public boolean canTravelInDirection(int plane, int sceneX, int sceneY, int width, int height, int dx, int dy,
+										@Nullable TileCondition extraCondition)
+	{
+		dx = Integer.signum(dx);
+		dy = Integer.signum(dy);
+
+		if (dx == 0 && dy == 0)
+		{
+			return true;
+		}
+
+		if (width == 1 && height == 1 && extraCondition == null)
+		{
+			return canStep(planes[plane], sceneX, sceneY, dx, dy);
+		}
+
+		final int startX = sceneX + dx;
+		final int startY = sceneY + dy;
+		final int endX = startX + width - 1;
+		final int endY = startY + height - 1;
+
+		if (!isInScene(sceneX, sceneY) || !isInScene(startX, startY)
+			|| !isInScene(sceneX + width - 1, sceneY + height - 1) || !isInScene(endX, endY))
+		{
+			return false;
+		}
+
+		final int checkX = startX + (dx > 0 ? width - 1 : 0);
+		final int checkY = startY + (dy > 0 ? height - 1 : 0);
+
+		int xFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int yFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int xyFlags = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int xWallFlagsSouth = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int xWallFlagsNorth = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int yWallFlagsWest = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+		int yWallFlagsEast = CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+
+		if (dx < 0)
+		{
+			xFlags |= CollisionDataFlag.BLOCK_MOVEMENT_EAST;
+			xWallFlagsSouth |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH |
+				CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+			xWallFlagsNorth |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH |
+				CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST;
+		}
+		if (dx > 0)
+		{
+			xFlags |= CollisionDataFlag.BLOCK_MOVEMENT_WEST;
+			xWallFlagsSouth |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH |
+				CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+			xWallFlagsNorth |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH |
+				CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST;
+		}
+		if (dy < 0)
+		{
+			yFlags |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH;
+			yWallFlagsWest |= CollisionDataFlag.BLOCK_MOVEMENT_WEST |
+				CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST;
+			yWallFlagsEast |= CollisionDataFlag.BLOCK_MOVEMENT_EAST |
+				CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST;
+		}
+		if (dy > 0)
+		{
+			yFlags |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH;
+			yWallFlagsWest |= CollisionDataFlag.BLOCK_MOVEMENT_WEST |
+				CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+			yWallFlagsEast |= CollisionDataFlag.BLOCK_MOVEMENT_EAST |
+				CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+		}
+		if (dx < 0 && dy < 0)
+		{
+			xyFlags |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST;
+		}
+		if (dx < 0 && dy > 0)
+		{
+			xyFlags |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST;
+		}
+		if (dx > 0 && dy < 0)
+		{
+			xyFlags |= CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST;
+		}
+		if (dx > 0 && dy > 0)
+		{
+			xyFlags |= CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST;
+		}
+
+		final int[] flags = planes[plane];
+
+		if (dx != 0)
+		{
+			// Check that the area doesn't bypass a wall
+			final int column = checkX * SIZE;
+			for (int y = startY; y <= endY; y++)
+			{
+				if ((flags[column + y] & xFlags) != 0 ||
+					(extraCondition != null && !extraCondition.test(checkX, y)))
+				{
+					// Collision while attempting to travel along the x axis
+					return false;
+				}
+			}
+
+			// Check that the new area tiles don't contain a wall
+			for (int y = startY + 1; y <= endY; y++)
+			{
+				if ((flags[column + y] & xWallFlagsSouth) != 0)
+				{
+					return false;
+				}
+			}
+			for (int y = endY - 1; y >= startY; y--)
+			{
+				if ((flags[column + y] & xWallFlagsNorth) != 0)
+				{
+					return false;
+				}
+			}
+		}
+		if (dy != 0)
+		{
+			// Check that the area tiles don't bypass a wall
+			for (int x = startX; x <= endX; x++)
+			{
+				if ((flags[x * SIZE + checkY] & yFlags) != 0 ||
+					(extraCondition != null && !extraCondition.test(x, checkY)))
+				{
+					// Collision while attempting to travel along the y axis
+					return false;
+				}
+			}
+
+			// Check that the new area tiles don't contain a wall
+			for (int x = startX + 1; x <= endX; x++)
+			{
+				if ((flags[x * SIZE + checkY] & yWallFlagsWest) != 0)
+				{
+					return false;
+				}
+			}
+			for (int x = endX - 1; x >= startX; x--)
+			{
+				if ((flags[x * SIZE + checkY] & yWallFlagsEast) != 0)
+				{
+					return false;
+				}
+			}
+		}
+		if (dx != 0 && dy != 0)
+		{
+			if ((flags[checkX * SIZE + checkY] & xyFlags) != 0 ||
+				(extraCondition != null && !extraCondition.test(checkX, checkY)))
+			{
+				// Collision while attempting to travel diagonally
+				return false;
+			}
+
+			// When the areas edge size is 1 and it attempts to travel
+			// diagonally, a collision check is done for respective
+			// x and y axis as well.
+			if (width == 1)
+			{
+				if ((flags[checkX * SIZE + checkY - dy] & xFlags) != 0 &&
+					(extraCondition == null || extraCondition.test(checkX, startY)))
+				{
+					return false;
+				}
+			}
+			if (height == 1)
+			{
+				if ((flags[(checkX - dx) * SIZE + checkY] & yFlags) != 0 &&
+					(extraCondition == null || extraCondition.test(startX, checkY)))
+				{
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Single tile version of {@link #canTravelInDirection}, doing the same checks
+	 * with precomputed flags.
+	 */
+	private static boolean canStep(int[] flags, int sceneX, int sceneY, int dx, int dy)
+	{
+		final int nextX = sceneX + dx;
+		final int nextY = sceneY + dy;
+		if (!isInScene(sceneX, sceneY) || !isInScene(nextX, nextY))
+		{
+			return false;
+		}
+
+		final int d = direction(dx, dy);
+		return (flags[nextX * SIZE + nextY] & STEP_FLAGS[d]) == 0
+			&& (flags[nextX * SIZE + sceneY] & STEP_X_FLAGS[d]) == 0
+			&& (flags[sceneX * SIZE + nextY] & STEP_Y_FLAGS[d]) == 0;
+	}
+
+	private static int direction(int dx, int dy)
+	{
+		return (dx + 1) * 3 + dy + 1;
+	}
+
+	/**
+	 * Determines if there is line of sight from one tile to another, using the
+	 * same algorithm as {@link Tile#hasLineOfSightTo(Tile)}.
+	 * <p>
+	 * Note that the reverse isn't necessarily true.
+	 *
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate of the source tile
+	 * @param sceneY the scene y-axis coordinate of the source tile
+	 * @param otherX the scene x-axis coordinate of the target tile
+	 * @param otherY the scene y-axis coordinate of the target tile
+	 * @return true if the source tile has line of sight to the target tile
+	 */
+	public boolean hasLineOfSight(int plane, int sceneX, int sceneY, int otherX, int otherY)
+	{
+		if (!isInScene(sceneX, sceneY) || !isInScene(otherX, otherY))
+		{
+			return false;
+		}
+		return lineOfSight(planes[plane], sceneX, sceneY, otherX, otherY);
+	}
+
+	/**
+	 * Determines if one area has line of sight to another, comparing the
+	 * closest tiles of both areas like
+	 * {@link net.runelite.api.coords.WorldArea#hasLineOfSightTo}.
+	 *
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate of the south west tile of the source area
+	 * @param sceneY the scene y-axis coordinate of the south west tile of the source area
+	 * @param width the width of the source area
+	 * @param height the height of the source area
+	 * @param otherX the scene x-axis coordinate of the south west tile of the target area
+	 * @param otherY the scene y-axis coordinate of the south west tile of the target area
+	 * @param otherWidth the width of the target area
+	 * @param otherHeight the height of the target area
+	 * @return true if the source area has line of sight to the target area
+	 */
+	public boolean hasLineOfSight(int plane, int sceneX, int sceneY, int width, int height,
+		int otherX, int otherY, int otherWidth, int otherHeight)
+	{
+		return hasLineOfSight(plane,
+			closest(sceneX, width, otherX), closest(sceneY, height, otherY),
+			closest(otherX, otherWidth, sceneX), closest(otherY, otherHeight, sceneY));
+	}
+
+	/**
+	 * Determines line of sight from one tile to many target tiles at once.
+	 *
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate of the source tile
+	 * @param sceneY the scene y-axis coordinate of the source tile
+	 * @param targets the scene indexes of the target tiles
+	 * @param count the number of targets to check
+	 * @param visible receives, for each target, whether the source tile has line of sight to it
+	 * @return the number of targets in line of sight
+	 * @see #index(int, int)
+	 */
+	public int hasLineOfSight(int plane, int sceneX, int sceneY, int[] targets, int count, boolean[] visible)
+	{
+		if (!isInScene(sceneX, sceneY))
+		{
+			Arrays.fill(visible, 0, count, false);
+			return 0;
+		}
+
+		final int[] flags = planes[plane];
+		int seen = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final int target = targets[i];
+			final boolean los = target >= 0 && target < SIZE * SIZE
+				&& lineOfSight(flags, sceneX, sceneY, target / SIZE, target % SIZE);
+			visible[i] = los;
+			if (los)
+			{
+				++seen;
+			}
+		}
+		return seen;
+	}
+
+	private static int closest(int start, int size, int other)
+	{
+		if (other <= start)
+		{
+			return start;
+		}
+		if (other >= start + size - 1)
+		{
+			return start + size - 1;
+		}
+		return other;
+	}
+
+	private static boolean lineOfSight(int[] flags, int x1, int y1, int x2, int y2)
+	{
+		if (x1 == x2 && y1 == y2)
+		{
+			return true;
+		}
+
+		final int dx = x2 - x1;
+		final int dy = y2 - y1;
+		final int dxAbs = Math.abs(dx);
+		final int dyAbs = Math.abs(dy);
+
+		int xFlags = CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL;
+		int yFlags = CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL;
+		if (dx < 0)
+		{
+			xFlags |= CollisionDataFlag.BLOCK_LINE_OF_SIGHT_EAST;
+		}
+		else
+		{
+			xFlags |= CollisionDataFlag.BLOCK_LINE_OF_SIGHT_WEST;
+		}
+		if (dy < 0)
+		{
+			yFlags |= CollisionDataFlag.BLOCK_LINE_OF_SIGHT_NORTH;
+		}
+		else
+		{
+			yFlags |= CollisionDataFlag.BLOCK_LINE_OF_SIGHT_SOUTH;
+		}
+
+		if (dxAbs > dyAbs)
+		{
+			int x = x1;
+			int yBig = y1 << 16; // The y position is represented as a bigger number to handle rounding
+			final int slope = (dy << 16) / dxAbs;
+			yBig += 0x8000; // Add half of a tile
+			if (dy < 0)
+			{
+				yBig--; // For correct rounding
+			}
+			final int direction = dx < 0 ? -1 : 1;
+
+			while (x != x2)
+			{
+				x += direction;
+				final int y = yBig >>> 16;
+				if ((flags[x * SIZE + y] & xFlags) != 0)
+				{
+					// Collision while traveling on the x axis
+					return false;
+				}
+				yBig += slope;
+				final int nextY = yBig >>> 16;
+				if (nextY != y && (flags[x * SIZE + nextY] & yFlags) != 0)
+				{
+					// Collision while traveling on the y axis
+					return false;
+				}
+			}
+		}
+		else
+		{
+			int y = y1;
+			int xBig = x1 << 16; // The x position is represented as a bigger number to handle rounding
+			final int slope = (dx << 16) / dyAbs;
+			xBig += 0x8000; // Add half of a tile
+			if (dx < 0)
+			{
+				xBig--; // For correct rounding
+			}
+			final int direction = dy < 0 ? -1 : 1;
+
+			while (y != y2)
+			{
+				y += direction;
+				final int x = xBig >>> 16;
+				if ((flags[x * SIZE + y] & yFlags) != 0)
+				{
+					// Collision while traveling on the y axis
+					return false;
+				}
+				xBig += slope;
+				final int nextX = xBig >>> 16;
+				if (nextX != x && (flags[nextX * SIZE + y] & xFlags) != 0)
+				{
+					// Collision while traveling on the x axis
+					return false;
+				}
+			}
+		}
+
+		// No collision
+		return true;
+	}
+
+	/**
+	 * A condition on a tile, given by scene coordinates.
+	 */
+	@FunctionalInterface
+	public interface TileCondition
+	{
+		boolean test(int sceneX, int sceneY);
+	}
+}
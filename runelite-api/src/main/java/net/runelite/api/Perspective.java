@@ -60,6 +60,14 @@ public class Perspective
 	public static final int[] SINE = new int[2048]; // sine angles for each of the 2048 units, * 65536 and stored as an int
 	public static final int[] COSINE = new int[2048]; // cosine
 
+	/**
+	 * Written to the x coordinate of points the batch projection methods could not project.
+	 */
+	public static final int UNPROJECTED = Integer.MIN_VALUE;
+
+	private static final int CLICKBOX_RADIUS = 5; // pixels the clickbox extends past the model
+	private static final int CLICKBOX_ADJUSTMENT = 4;
+
 	static
 	{
 		for (int i = 0; i < 2048; ++i)
@@ -236,20 +244,28 @@ public class Perspective
 		int sceneY = point.getSceneY();
 		if (sceneX >= 0 && sceneY >= 0 && sceneX < SCENE_SIZE && sceneY < SCENE_SIZE)
 		{
-			byte[][][] tileSettings = client.getTileSettings();
-			int[][][] tileHeights = client.getTileHeights();
+			return getTileHeight(client.getTileSettings(), client.getTileHeights(), point.getX(), point.getY(), plane);
+		}
 
+		return 0;
+	}
+
+	/**
+	 * Calculates the above ground height of a tile point, accounting for bridges.
+	 */
+	private static int getTileHeight(byte[][][] tileSettings, int[][][] tileHeights, int localX, int localY, int plane)
+	{
+		int sceneX = localX >> LOCAL_COORD_BITS;
+		int sceneY = localY >> LOCAL_COORD_BITS;
+		if (sceneX >= 0 && sceneY >= 0 && sceneX < SCENE_SIZE && sceneY < SCENE_SIZE)
+		{
 			int z1 = plane;
 			if (plane < Constants.MAX_Z - 1 && (tileSettings[1][sceneX][sceneY] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
 			{
 				z1 = plane + 1;
 			}
 
-			int x = point.getX() & (LOCAL_TILE_SIZE - 1);
-			int y = point.getY() & (LOCAL_TILE_SIZE - 1);
-			int var8 = x * tileHeights[z1][sceneX + 1][sceneY] + (LOCAL_TILE_SIZE - x) * tileHeights[z1][sceneX][sceneY] >> LOCAL_COORD_BITS;
-			int var9 = tileHeights[z1][sceneX][sceneY + 1] * (LOCAL_TILE_SIZE - x) + x * tileHeights[z1][sceneX + 1][sceneY + 1] >> LOCAL_COORD_BITS;
-			return (LOCAL_TILE_SIZE - y) * var8 + y * var9 >> LOCAL_COORD_BITS;
+			return getHeight(tileHeights, localX, localY, z1);
 		}
 
 		return 0;
@@ -265,13 +281,16 @@ public class Perspective
 	 * @return
 	 */
 	private static int getHeight(@Nonnull Client client, int localX, int localY, int plane)
+	{
+		return getHeight(client.getTileHeights(), localX, localY, plane);
+	}
+
+	private static int getHeight(int[][][] tileHeights, int localX, int localY, int plane)
 	{
 		int sceneX = localX >> LOCAL_COORD_BITS;
 		int sceneY = localY >> LOCAL_COORD_BITS;
 		if (sceneX >= 0 && sceneY >= 0 && sceneX < SCENE_SIZE && sceneY < SCENE_SIZE)
 		{
-			int[][][] tileHeights = client.getTileHeights();
-
 			int x = localX & (LOCAL_TILE_SIZE - 1);
 			int y = localY & (LOCAL_TILE_SIZE - 1);
 			int var8 = x * tileHeights[plane][sceneX + 1][sceneY] + (LOCAL_TILE_SIZE - x) * tileHeights[plane][sceneX][sceneY] >> LOCAL_COORD_BITS;
@@ -359,6 +378,222 @@ public class Perspective
 		return poly;
 	}
 
+	/**
+	 * Translates ground coordinates within the 3D world to their corresponding
+	 * coordinates on the game screen, for many points at once.
+	 * <p>
+	 * The canvas coordinates of the point at index {@code i} are written to index
+	 * {@code i} of {@code canvasX} and {@code canvasY}. Points which can not be
+	 * projected have {@link #UNPROJECTED} written to their x coordinate.
+	 *
+	 * @param camera the camera snapshot for the current frame
+	 * @param localX ground coordinates on the x axis
+	 * @param localY ground coordinates on the y axis
+	 * @param zOffset distance from ground on the z axis
+	 * @param count the number of points to project
+	 * @param canvasX the array to write canvas x coordinates to
+	 * @param canvasY the array to write canvas y coordinates to
+	 * @return the number of points which were projected
+	 */
+	public static int localToCanvas(
+		@Nonnull CameraSnapshot camera,
+		@Nonnull int[] localX,
+		@Nonnull int[] localY,
+		int zOffset,
+		int count,
+		@Nonnull int[] canvasX,
+		@Nonnull int[] canvasY)
+	{
+		final byte[][][] tileSettings = camera.getTileSettings();
+		final int[][][] tileHeights = camera.getTileHeights();
+		final int plane = camera.getPlane();
+
+		int projected = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final int x = localX[i];
+			final int y = localY[i];
+			final int z = getTileHeight(tileSettings, tileHeights, x, y, plane) - zOffset;
+
+			if (localToCanvas(camera, x, y, z, canvasX, canvasY, i))
+			{
+				++projected;
+			}
+		}
+
+		return projected;
+	}
+
+	/**
+	 * Translates three-dimensional local coordinates within the 3D world to
+	 * their corresponding coordinates on the game screen, for many points at once.
+	 * <p>
+	 * The canvas coordinates of the point at index {@code i} are written to index
+	 * {@code i} of {@code canvasX} and {@code canvasY}. Points which can not be
+	 * projected have {@link #UNPROJECTED} written to their x coordinate.
+	 *
+	 * @param camera the camera snapshot for the current frame
+	 * @param localX coordinates on the x axis
+	 * @param localY coordinates on the y axis
+	 * @param localZ coordinates on the z axis
+	 * @param count the number of points to project
+	 * @param canvasX the array to write canvas x coordinates to
+	 * @param canvasY the array to write canvas y coordinates to
+	 * @return the number of points which were projected
+	 */
+	public static int localToCanvas(
+		@Nonnull CameraSnapshot camera,
+		@Nonnull int[] localX,
+		@Nonnull int[] localY,
+		@Nonnull int[] localZ,
+		int count,
+		@Nonnull int[] canvasX,
+		@Nonnull int[] canvasY)
+	{
+		int projected = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			if (localToCanvas(camera, localX[i], localY[i], localZ[i], canvasX, canvasY, i))
+			{
+				++projected;
+			}
+		}
+
+		return projected;
+	}
+
+	/**
+	 * Calculates the tile polygons of many tiles at once.
+	 *
+	 * @param camera the camera snapshot for the current frame
+	 * @param localX local x coordinates of the tiles
+	 * @param localY local y coordinates of the tiles
+	 * @param count the number of tiles
+	 * @param polyX the array to write polygon x coordinates to
+	 * @param polyY the array to write polygon y coordinates to
+	 * @return the number of tiles which were projected
+	 * @see #getCanvasTileAreaPolys(CameraSnapshot, int[], int[], int, int, int[], int[])
+	 */
+	public static int getCanvasTilePolys(
+		@Nonnull CameraSnapshot camera,
+		@Nonnull int[] localX,
+		@Nonnull int[] localY,
+		int count,
+		@Nonnull int[] polyX,
+		@Nonnull int[] polyY)
+	{
+		return getCanvasTileAreaPolys(camera, localX, localY, 1, count, polyX, polyY);
+	}
+
+	/**
+	 * Calculates the area polygons of many areas of the same size at once.
+	 * <p>
+	 * Each polygon has 4 points, and the polygon of the area at index {@code i} is written
+	 * to indexes {@code 4 * i} through {@code 4 * i + 3} of {@code polyX} and {@code polyY},
+	 * in the same order as {@link #getCanvasTileAreaPoly(Client, LocalPoint, int)}.
+	 * Areas which can not be projected have {@link #UNPROJECTED} written to their first
+	 * x coordinate.
+	 *
+	 * @param camera the camera snapshot for the current frame
+	 * @param localX local x coordinates of the centers of the areas
+	 * @param localY local y coordinates of the centers of the areas
+	 * @param size the size of the areas (ie. 3x3 AoE evaluates to size 3)
+	 * @param count the number of areas
+	 * @param polyX the array to write polygon x coordinates to
+	 * @param polyY the array to write polygon y coordinates to
+	 * @return the number of areas which were projected
+	 */
+	public static int getCanvasTileAreaPolys(
+		@Nonnull CameraSnapshot camera,
+		@Nonnull int[] localX,
+		@Nonnull int[] localY,
+		int size,
+		int count,
+		@Nonnull int[] polyX,
+		@Nonnull int[] polyY)
+	{
+		final byte[][][] tileSettings = camera.getTileSettings();
+		final int[][][] tileHeights = camera.getTileHeights();
+		final int plane = camera.getPlane();
+		final int halfSize = size * LOCAL_TILE_SIZE / 2;
+
+		int projected = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final int offset = i * 4;
+			final int sceneX = localX[i] >> LOCAL_COORD_BITS;
+			final int sceneY = localY[i] >> LOCAL_COORD_BITS;
+
+			if (sceneX < 0 || sceneY < 0 || sceneX >= SCENE_SIZE || sceneY >= SCENE_SIZE)
+			{
+				polyX[offset] = UNPROJECTED;
+				continue;
+			}
+
+			int tilePlane = plane;
+			if (plane < Constants.MAX_Z - 1 && (tileSettings[1][sceneX][sceneY] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+			{
+				tilePlane = plane + 1;
+			}
+
+			final int swX = localX[i] - halfSize;
+			final int swY = localY[i] - halfSize;
+			final int neX = localX[i] + halfSize;
+			final int neY = localY[i] + halfSize;
+
+			if (localToCanvas(camera, swX, swY, getHeight(tileHeights, swX, swY, tilePlane), polyX, polyY, offset)
+				&& localToCanvas(camera, neX, swY, getHeight(tileHeights, neX, swY, tilePlane), polyX, polyY, offset + 1)
+				&& localToCanvas(camera, neX, neY, getHeight(tileHeights, neX, neY, tilePlane), polyX, polyY, offset + 2)
+				&& localToCanvas(camera, swX, neY, getHeight(tileHeights, swX, neY, tilePlane), polyX, polyY, offset + 3))
+			{
+				++projected;
+			}
+			else
+			{
+				polyX[offset] = UNPROJECTED;
+			}
+		}
+
+		return projected;
+	}
+
+	/**
+	 * Projects a single point using a camera snapshot, writing the result to
+	 * {@code index} of {@code canvasX} and {@code canvasY}.
+	 *
+	 * @return whether the point was projected
+	 */
+	private static boolean localToCanvas(CameraSnapshot camera, int x, int y, int z, int[] canvasX, int[] canvasY, int index)
+	{
+		if (x >= 128 && y >= 128 && x <= 13056 && y <= 13056)
+		{
+			x -= camera.getCameraX();
+			y -= camera.getCameraY();
+			z -= camera.getCameraZ();
+
+			final int pitchSin = camera.getPitchSin();
+			final int pitchCos = camera.getPitchCos();
+			final int yawSin = camera.getYawSin();
+			final int yawCos = camera.getYawCos();
+
+			int var8 = yawCos * x + y * yawSin >> 16;
+			y = yawCos * y - yawSin * x >> 16;
+			x = var8;
+			var8 = pitchCos * z - y * pitchSin >> 16;
+			y = z * pitchSin + y * pitchCos >> 16;
+
+			if (y >= 50)
+			{
+				canvasX[index] = camera.getViewportCenterX() + x * camera.getScale() / y;
+				canvasY[index] = camera.getViewportCenterY() + var8 * camera.getScale() / y;
+				return true;
+			}
+		}
+
+		canvasX[index] = UNPROJECTED;
+		return false;
+	}
+
 	/**
 	 * Calculates text position and centers depending on string length.
 	 *
@@ -526,6 +761,158 @@ public class Perspective
 		return clickBox;
 	}
 
+	/**
+	 * Get the on-screen clickable area of {@code model} as the convex hull of its
+	 * vertices, as though it's for the object on the tile at {@code point} and
+	 * rotated to angle {@code orientation}.
+	 * <p>
+	 * This is a cheaper approximation of {@link #getClickbox(Client, Model, int, LocalPoint)}.
+	 * Vertices are rotated and projected straight from the model's vertex arrays, and the
+	 * hull is computed over the projected coordinates, instead of building a {@link Triangle}
+	 * and {@link Vertex} per face and unioning an {@link Area} per triangle. Each vertex is
+	 * padded like the triangles of the clickbox, but vertices are skipped when they are
+	 * off-screen rather than whole triangles. The hull does not follow concave outlines of
+	 * the model.
+	 *
+	 * @param client the game client
+	 * @param model the model to calculate a clickbox for
+	 * @param orientation the orientation of the model (0-2048, where 0 is north)
+	 * @param point the coordinate of the tile
+	 * @return the convex hull of the model on screen, or null if it is not visible
+	 */
+	@Nullable
+	public static Polygon getClickboxHull(@Nonnull Client client, Model model, int orientation, @Nonnull LocalPoint point)
+	{
+		if (model == null)
+		{
+			return null;
+		}
+
+		final int count = model.getVerticesCount();
+		final int[] x2d = new int[count];
+		final int[] y2d = new int[count];
+
+		final int projected = modelToCanvas(client, model, orientation, point, x2d, y2d);
+
+		// pad each vertex to a box, the same as the triangles of getClickbox
+		final int[] paddedX = new int[projected * 4];
+		final int[] paddedY = new int[projected * 4];
+		int padded = 0;
+
+		for (int i = 0; i < projected; ++i)
+		{
+			final int x = x2d[i];
+			final int y = y2d[i];
+
+			if (isOffscreen(client, x, y))
+			{
+				continue;
+			}
+
+			final int minX = x - CLICKBOX_RADIUS;
+			final int minY = y - CLICKBOX_RADIUS;
+			final int maxX = x + CLICKBOX_ADJUSTMENT;
+			final int maxY = y + CLICKBOX_ADJUSTMENT;
+
+			paddedX[padded] = minX;
+			paddedY[padded++] = minY;
+			paddedX[padded] = maxX;
+			paddedY[padded++] = minY;
+			paddedX[padded] = maxX;
+			paddedY[padded++] = maxY;
+			paddedX[padded] = minX;
+			paddedY[padded++] = maxY;
+		}
+
+		final int[] hullX = new int[padded];
+		final int[] hullY = new int[padded];
+		final int hullSize = Jarvis.convexHull(paddedX, paddedY, padded, hullX, hullY);
+
+		if (hullSize == 0)
+		{
+			return null;
+		}
+
+		return new Polygon(hullX, hullY, hullSize);
+	}
+
+	/**
+	 * Rotates and projects the vertices of a model to the canvas.
+	 * Vertices which are off the scene or behind the camera are skipped.
+	 *
+	 * @return the number of projected vertices written to {@code x2d} and {@code y2d}
+	 */
+	private static int modelToCanvas(Client client, Model model, int orientation, LocalPoint point, int[] x2d, int[] y2d)
+	{
+		final int count = model.getVerticesCount();
+		final int[] verticesX = model.getVerticesX();
+		final int[] verticesY = model.getVerticesY();
+		final int[] verticesZ = model.getVerticesZ();
+
+		// models are orientated north (1024) and there are 2048 angles total
+		orientation = (orientation + 1024) % 2048;
+		final int orientSin = SINE[orientation];
+		final int orientCos = COSINE[orientation];
+
+		final int tileHeight = getTileHeight(client, point, client.getPlane());
+
+		final int cameraX = client.getCameraX();
+		final int cameraY = client.getCameraY();
+		final int cameraZ = client.getCameraZ();
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
+		final int pitchSin = SINE[cameraPitch];
+		final int pitchCos = COSINE[cameraPitch];
+		final int yawSin = SINE[cameraYaw];
+		final int yawCos = COSINE[cameraYaw];
+		final int scale = client.getScale();
+		final int viewportCenterX = client.getViewportWidth() / 2 + client.getViewportXOffset();
+		final int viewportCenterY = client.getViewportHeight() / 2 + client.getViewportYOffset();
+
+		int projected = 0;
+
+		for (int i = 0; i < count; ++i)
+		{
+			int vx = verticesX[i];
+			int vz = verticesZ[i];
+
+			if (orientation != 0)
+			{
+				final int rotated = vx * orientCos + vz * orientSin >> 16;
+				vz = vz * orientCos - vx * orientSin >> 16;
+				vx = rotated;
+			}
+
+			int x = point.getX() - vx;
+			int y = point.getY() - vz;
+			int z = tileHeight + verticesY[i];
+
+			if (x < 128 || y < 128 || x > 13056 || y > 13056)
+			{
+				continue;
+			}
+
+			x -= cameraX;
+			y -= cameraY;
+			z -= cameraZ;
+
+			int var8 = yawCos * x + y * yawSin >> 16;
+			y = yawCos * y - yawSin * x >> 16;
+			x = var8;
+			var8 = pitchCos * z - y * pitchSin >> 16;
+			y = z * pitchSin + y * pitchCos >> 16;
+
+			if (y >= 50)
+			{
+				x2d[projected] = viewportCenterX + x * scale / y;
+				y2d[projected] = viewportCenterY + var8 * scale / y;
+				++projected;
+			}
+		}
+
+		return projected;
+	}
+
 	/**
 	 * Determine if a given point is off-screen.
 	 *
@@ -535,8 +922,13 @@ public class Perspective
 	 */
 	private static boolean isOffscreen(@Nonnull Client client, @Nonnull Point point)
 	{
-		return (point.getX() < 0 || point.getX() >= client.getViewportWidth())
-			&& (point.getY() < 0 || point.getY() >= client.getViewportHeight());
+		return isOffscreen(client, point.getX(), point.getY());
+	}
+
+	private static boolean isOffscreen(@Nonnull Client client, int x, int y)
+	{
+		return (x < 0 || x >= client.getViewportWidth())
+			&& (y < 0 || y >= client.getViewportHeight());
 	}
 
 	private static Area get2DGeometry(
@@ -545,7 +937,7 @@ public class Perspective
 		@Nonnull LocalPoint point
 	)
 	{
-		int radius = 5;
+		int radius = CLICKBOX_RADIUS;
 		Area geometry = new Area();
 
 		final int tileHeight = getTileHeight(client, point, client.getPlane());
@@ -591,8 +983,8 @@ public class Perspective
 			int minY = Math.min(Math.min(a.getY(), b.getY()), c.getY());
 
 			// For some reason, this calculation is always 4 pixels short of the actual in-client one
-			int maxX = Math.max(Math.max(a.getX(), b.getX()), c.getX()) + 4;
-			int maxY = Math.max(Math.max(a.getY(), b.getY()), c.getY()) + 4;
+			int maxX = Math.max(Math.max(a.getX(), b.getX()), c.getX()) + CLICKBOX_ADJUSTMENT;
+			int maxY = Math.max(Math.max(a.getY(), b.getY()), c.getY()) + CLICKBOX_ADJUSTMENT;
 
 			Rectangle clickableRect = new Rectangle(
 				minX - radius, minY - radius,
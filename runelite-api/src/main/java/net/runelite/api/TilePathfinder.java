@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Breadth first and A* search over the tiles of a {@link CollisionSnapshot}.
+ * <p>
+ * The search buffers are allocated once and reused between searches, so a
+ * pathfinder should be kept around rather than created per search. Instances
+ * are not thread safe.
+ * <p>
+ * Movement follows {@link CollisionSnapshot#canTravelInDirection}, with every
+ * step costing one tick regardless of direction. Tiles are reported as scene
+ * indexes, see {@link CollisionSnapshot#index(int, int)}.
+ */
+public class TilePathfinder
+{
+	private static final int SIZE = Constants.SCENE_SIZE;
+	private static final int TILES = SIZE * SIZE;
+	private static final int INDEX_BITS = 14;
+	private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+	// Same order the game checks directions in: west, east, south, north, then the diagonals
+	private static final int[] DIRECTION_X = {-1, 1, 0, 0, -1, 1, -1, 1};
+	private static final int[] DIRECTION_Y = {0, 0, -1, 1, -1, -1, 1, 1};
+
+	private final int[] queue = new int[TILES];
+	private final int[] distances = new int[TILES];
+	private final int[] parents = new int[TILES];
+	private final int[] visited = new int[TILES];
+	// A* open set, as a binary heap of (estimate << INDEX_BITS | index). A tile is only
+	// pushed again when its distance improves, which can happen once per neighbour.
+	private final int[] heap = new int[TILES * DIRECTION_X.length];
+	private int generation;
+
+	/**
+	 * Finds every tile reachable from a starting tile.
+	 *
+	 * @param snapshot the collision snapshot to search
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate to start from
+	 * @param sceneY the scene y-axis coordinate to start from
+	 * @return the number of reachable tiles, including the starting tile
+	 * @see #getDistance(int, int)
+	 */
+	public int reachable(@Nonnull CollisionSnapshot snapshot, int plane, int sceneX, int sceneY)
+	{
+		return reachable(snapshot, plane, sceneX, sceneY, 1, Integer.MAX_VALUE, null);
+	}
+
+	/**
+	 * Finds every tile reachable from a starting tile within a number of steps.
+	 * After the search, {@link #getDistance(int, int)} returns the number of
+	 * steps to each reached tile.
+	 *
+	 * @param snapshot the collision snapshot to search
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate of the south west tile to start from
+	 * @param sceneY the scene y-axis coordinate of the south west tile to start from
+	 * @param size the size of the travelling actor
+	 * @param maxDistance the maximum number of steps to search
+	 * @param extraCondition an additional condition for tiles to be walkable, or null
+	 * @return the number of reachable tiles, including the starting tile
+	 */
+	public int reachable(@Nonnull CollisionSnapshot snapshot, int plane, int sceneX, int sceneY, int size,
+		int maxDistance, @Nullable CollisionSnapshot.TileCondition extraCondition)
+	{
+		final int stamp = nextGeneration();
+		if (!CollisionSnapshot.isInScene(sceneX, sceneY))
+		{
+			return 0;
+		}
+
+		final int start = CollisionSnapshot.index(sceneX, sceneY);
+		visit(start, stamp, 0, -1);
+		queue[0] = start;
+		int head = 0;
+		int tail = 1;
+
+		while (head < tail)
+		{
+			final int current = queue[head++];
+			final int distance = distances[current];
+			if (distance >= maxDistance)
+			{
+				continue;
+			}
+
+			final int x = current / SIZE;
+			final int y = current % SIZE;
+			for (int d = 0; d < DIRECTION_X.length; ++d)
+			{
+				final int dx = DIRECTION_X[d];
+				final int dy = DIRECTION_Y[d];
+				final int next = current + dx * SIZE + dy;
+				if (!CollisionSnapshot.isInScene(x + dx, y + dy)
+					|| visited[next] == stamp
+					|| !snapshot.canTravelInDirection(plane, x, y, size, size, dx, dy, extraCondition))
+				{
+					continue;
+				}
+
+				visit(next, stamp, distance + 1, current);
+				queue[tail++] = next;
+			}
+		}
+
+		return tail;
+	}
+
+	/**
+	 * Finds a shortest path between two tiles.
+	 *
+	 * @param snapshot the collision snapshot to search
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate to start from
+	 * @param sceneY the scene y-axis coordinate to start from
+	 * @param targetX the scene x-axis coordinate of the target
+	 * @param targetY the scene y-axis coordinate of the target
+	 * @return the scene indexes of each step of the path, excluding the start and
+	 * including the target, or null if the target can't be reached
+	 */
+	@Nullable
+	public int[] findPath(@Nonnull CollisionSnapshot snapshot, int plane, int sceneX, int sceneY,
+		int targetX, int targetY)
+	{
+		return findPath(snapshot, plane, sceneX, sceneY, 1, targetX, targetY, null);
+	}
+
+	/**
+	 * Finds a shortest path between two tiles with A*, using the diagonal
+	 * distance to the target as the heuristic.
+	 *
+	 * @param snapshot the collision snapshot to search
+	 * @param plane the plane
+	 * @param sceneX the scene x-axis coordinate of the south west tile to start from
+	 * @param sceneY the scene y-axis coordinate of the south west tile to start from
+	 * @param size the size of the travelling actor
+	 * @param targetX the scene x-axis coordinate of the south west tile of the target
+	 * @param targetY the scene y-axis coordinate of the south west tile of the target
+	 * @param extraCondition an additional condition for tiles to be walkable, or null
+	 * @return the scene indexes of each step of the path, excluding the start and
+	 * including the target, or null if the target can't be reached
+	 */
+	@Nullable
+	public int[] findPath(@Nonnull CollisionSnapshot snapshot, int plane, int sceneX, int sceneY, int size,
+		int targetX, int targetY, @Nullable CollisionSnapshot.TileCondition extraCondition)
+	{
+		final int stamp = nextGeneration();
+		if (!CollisionSnapshot.isInScene(sceneX, sceneY) || !CollisionSnapshot.isInScene(targetX, targetY))
+		{
+			return null;
+		}
+
+		final int start = CollisionSnapshot.index(sceneX, sceneY);
+		final int target = CollisionSnapshot.index(targetX, targetY);
+		visit(start, stamp, 0, -1);
+		int heapSize = push(0, heuristic(sceneX, sceneY, targetX, targetY) << INDEX_BITS | start);
+
+		while (heapSize > 0)
+		{
+			final int top = heap[0];
+			heapSize = pop(heapSize);
+
+			final int current = top & INDEX_MASK;
+			final int x = current / SIZE;
+			final int y = current % SIZE;
+			final int distance = distances[current];
+			if ((top >>> INDEX_BITS) != distance + heuristic(x, y, targetX, targetY))
+			{
+				// Stale entry, the tile has since been reached in fewer steps
+				continue;
+			}
+
+			if (current == target)
+			{
+				return buildPath(target, distance);
+			}
+
+			for (int d = 0; d < DIRECTION_X.length; ++d)
+			{
+				final int dx = DIRECTION_X[d];
+				final int dy = DIRECTION_Y[d];
+				final int next = current + dx * SIZE + dy;
+				if (!CollisionSnapshot.isInScene(x + dx, y + dy)
+					|| (visited[next] == stamp && distances[next] <= distance + 1)
+					|| !snapshot.canTravelInDirection(plane, x, y, size, size, dx, dy, extraCondition))
+				{
+					continue;
+				}
+
+				visit(next, stamp, distance + 1, current);
+				final int estimate = distance + 1 + heuristic(x + dx, y + dy, targetX, targetY);
+				heapSize = push(heapSize, estimate << INDEX_BITS | next);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the number of steps to a tile found by the last call to
+	 * {@link #reachable}.
+	 *
+	 * @param sceneX the scene x-axis coordinate
+	 * @param sceneY the scene y-axis coordinate
+	 * @return the number of steps, or -1 if the tile was not reached
+	 */
+	public int getDistance(int sceneX, int sceneY)
+	{
+		if (!CollisionSnapshot.isInScene(sceneX, sceneY))
+		{
+			return -1;
+		}
+
+		final int index = CollisionSnapshot.index(sceneX, sceneY);
+		return visited[index] == generation ? distances[index] : -1;
+	}
+
+	private int nextGeneration()
+	{
+		if (++generation == 0)
+		{
+			// Wrapped around, so old marks could be mistaken for this search
+			Arrays.fill(visited, 0);
+			generation = 1;
+		}
+		return generation;
+	}
+
+	private void visit(int index, int stamp, int distance, int parent)
+	{
+		visited[index] = stamp;
+		distances[index] = distance;
+		parents[index] = parent;
+	}
+
+	private int[] buildPath(int target, int length)
+	{
+		final int[] path = new int[length];
+		for (int i = length - 1, current = target; i >= 0; --i, current = parents[current])
+		{
+			path[i] = current;
+		}
+		return path;
+	}
+
+	private static int heuristic(int x, int y, int targetX, int targetY)
+	{
+		return Math.max(Math.abs(targetX - x), Math.abs(targetY - y));
+	}
+
+	private int push(int size, int value)
+	{
+		int i = size;
+		while (i > 0)
+		{
+			final int parent = (i - 1) >>> 1;
+			if (heap[parent] <= value)
+			{
+				break;
+			}
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		heap[i] = value;
+		return size + 1;
+	}
+
+	private int pop(int size)
+	{
+		final int last = heap[--size];
+		int i = 0;
+		while (true)
+		{
+			int child = 2 * i + 1;
+			if (child >= size)
+			{
+				break;
+			}
+			if (child + 1 < size && heap[child + 1] < heap[child])
+			{
+				++child;
+			}
+			if (heap[child] >= last)
+			{
+				break;
+			}
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = last;
+		return size;
+	}
+}
@@ -31,6 +31,7 @@ import lombok.Getter;
 import net.runelite.api.Client;
 import net.runelite.api.CollisionData;
 import net.runelite.api.CollisionDataFlag;
+import net.runelite.api.CollisionSnapshot;
 import net.runelite.api.Constants;
 import net.runelite.api.Point;
 import net.runelite.api.Tile;
@@ -392,6 +393,55 @@ public class WorldArea
 		return true;
 	}
 
+	/**
+	 * Determines if the area can travel in one of the 9 directions
+	 * by using the standard collision detection algorithm on a
+	 * collision snapshot.
+	 *
+	 * @param snapshot the collision snapshot to test in
+	 * @param dx the x-axis direction to travel (-1, 0, or 1)
+	 * @param dy the y-axis direction to travel (-1, 0, or 1)
+	 * @return true if the area can travel in the specified direction
+	 * @see #canTravelInDirection(Client, int, int)
+	 */
+	public boolean canTravelInDirection(CollisionSnapshot snapshot, int dx, int dy)
+	{
+		return canTravelInDirection(snapshot, dx, dy, null);
+	}
+
+	/**
+	 * Determines if the area can travel in one of the 9 directions
+	 * by using the standard collision detection algorithm on a
+	 * collision snapshot.
+	 *
+	 * @param snapshot the collision snapshot to test in
+	 * @param dx the x-axis direction to travel (-1, 0, or 1)
+	 * @param dy the y-axis direction to travel (-1, 0, or 1)
+	 * @param extraCondition an additional condition to perform when checking valid tiles,
+	 *                       such as performing a check for un-passable actors, or null
+	 * @return true if the area can travel in the specified direction
+	 * @see #canTravelInDirection(Client, int, int, Predicate)
+	 */
+	public boolean canTravelInDirection(CollisionSnapshot snapshot, int dx, int dy,
+										Predicate<? super WorldPoint> extraCondition)
+	{
+		return snapshot.canTravelInDirection(plane, x - snapshot.getBaseX(), y - snapshot.getBaseY(),
+			width, height, dx, dy, toTileCondition(snapshot, extraCondition));
+	}
+
+	private CollisionSnapshot.TileCondition toTileCondition(CollisionSnapshot snapshot,
+		Predicate<? super WorldPoint> extraCondition)
+	{
+		if (extraCondition == null)
+		{
+			return null;
+		}
+
+		final int baseX = snapshot.getBaseX();
+		final int baseY = snapshot.getBaseY();
+		return (sceneX, sceneY) -> extraCondition.test(new WorldPoint(sceneX + baseX, sceneY + baseY, plane));
+	}
+
 	/**
 	 * Gets the point within this area that is closest to another.
 	 *
@@ -456,6 +506,55 @@ public class WorldArea
 	 */
 	public WorldArea calculateNextTravellingPoint(Client client, WorldArea target,
 		boolean stopAtMeleeDistance, Predicate<? super WorldPoint> extraCondition)
+	{
+		LocalPoint lp = LocalPoint.fromWorld(client, x, y);
+		return calculateNextTravellingPoint(lp == null ? -1 : lp.getSceneX(), lp == null ? -1 : lp.getSceneY(),
+			target, stopAtMeleeDistance, (dx, dy) -> canTravelInDirection(client, dx, dy, extraCondition));
+	}
+
+	/**
+	 * Calculates the next area that will be occupied if this area attempts
+	 * to move toward it by using the normal NPC travelling pattern.
+	 *
+	 * @param snapshot the collision snapshot to calculate with
+	 * @param target the target area
+	 * @param stopAtMeleeDistance whether to stop at melee distance to the target
+	 * @return the next occupied area
+	 */
+	public WorldArea calculateNextTravellingPoint(CollisionSnapshot snapshot, WorldArea target,
+		boolean stopAtMeleeDistance)
+	{
+		return calculateNextTravellingPoint(snapshot, target, stopAtMeleeDistance, null);
+	}
+
+	/**
+	 * Calculates the next area that will be occupied if this area attempts
+	 * to move toward it by using the normal NPC travelling pattern.
+	 *
+	 * @param snapshot the collision snapshot to calculate with
+	 * @param target the target area
+	 * @param stopAtMeleeDistance whether to stop at melee distance to the target
+	 * @param extraCondition an additional condition to perform when checking valid tiles,
+	 * 	                     such as performing a check for un-passable actors, or null
+	 * @return the next occupied area
+	 */
+	public WorldArea calculateNextTravellingPoint(CollisionSnapshot snapshot, WorldArea target,
+		boolean stopAtMeleeDistance, Predicate<? super WorldPoint> extraCondition)
+	{
+		final CollisionSnapshot.TileCondition condition = toTileCondition(snapshot, extraCondition);
+		final int sceneX = x - snapshot.getBaseX();
+		final int sceneY = y - snapshot.getBaseY();
+		return calculateNextTravellingPoint(
+			CollisionSnapshot.isInScene(sceneX, sceneY) ? sceneX : -1, sceneY, target, stopAtMeleeDistance,
+			(dx, dy) -> snapshot.canTravelInDirection(plane, sceneX, sceneY, width, height, dx, dy, condition));
+	}
+
+	/**
+	 * Shared implementation of the travelling point calculations, where
+	 * a negative scene x coordinate means the area is not in the scene.
+	 */
+	private WorldArea calculateNextTravellingPoint(int sceneX, int sceneY, WorldArea target,
+		boolean stopAtMeleeDistance, DirectionCondition canTravel)
 	{
 		if (plane != target.getPlane())
 		{
@@ -484,10 +583,9 @@ public class WorldArea
 			return this;
 		}
 
-		LocalPoint lp = LocalPoint.fromWorld(client, x, y);
-		if (lp == null ||
-			lp.getSceneX() + dx < 0 || lp.getSceneX() + dy >= Constants.SCENE_SIZE ||
-			lp.getSceneY() + dx < 0 || lp.getSceneY() + dy >= Constants.SCENE_SIZE)
+		if (sceneX < 0 ||
+			sceneX + dx < 0 || sceneX + dy >= Constants.SCENE_SIZE ||
+			sceneY + dx < 0 || sceneY + dy >= Constants.SCENE_SIZE)
 		{
 			// NPC is travelling out of the scene, so collision data isn't available
 			return null;
@@ -500,23 +598,23 @@ public class WorldArea
 			// When it needs to stop at melee distance, it will only attempt
 			// to travel along the x axis when it is standing diagonally
 			// from the target
-			if (this.canTravelInDirection(client, dxSig, 0, extraCondition))
+			if (canTravel.test(dxSig, 0))
 			{
 				return new WorldArea(x + dxSig, y, width, height, plane);
 			}
 		}
 		else
 		{
-			if (this.canTravelInDirection(client, dxSig, dySig, extraCondition))
+			if (canTravel.test(dxSig, dySig))
 			{
 				return new WorldArea(x + dxSig, y + dySig, width, height, plane);
 			}
-			else if (dx != 0 && this.canTravelInDirection(client, dxSig, 0, extraCondition))
+			else if (dx != 0 && canTravel.test(dxSig, 0))
 			{
 				return new WorldArea(x + dxSig, y, width, height, plane);
 			}
 			else if (dy != 0 && Math.max(Math.abs(dx), Math.abs(dy)) > 1 &&
-				this.canTravelInDirection(client, 0, dy, extraCondition))
+				canTravel.test(0, dy))
 			{
 				// Note that NPCs don't attempts to travel along the y-axis
 				// if the target is <= 1 tile distance away
@@ -636,6 +734,41 @@ public class WorldArea
 		return hasLineOfSightTo(client, new WorldArea(other, 1, 1));
 	}
 
+	/**
+	 * Determine if this WorldArea has line of sight to another WorldArea,
+	 * using a collision snapshot.
+	 *
+	 * @param snapshot The collision snapshot to compare in
+	 * @param other The other WorldArea to compare with
+	 * @return Returns true if this WorldArea has line of sight to the other
+	 * @see #hasLineOfSightTo(Client, WorldArea)
+	 */
+	public boolean hasLineOfSightTo(CollisionSnapshot snapshot, WorldArea other)
+	{
+		if (plane != other.getPlane())
+		{
+			return false;
+		}
+
+		final int baseX = snapshot.getBaseX();
+		final int baseY = snapshot.getBaseY();
+		return snapshot.hasLineOfSight(plane, x - baseX, y - baseY, width, height,
+			other.getX() - baseX, other.getY() - baseY, other.getWidth(), other.getHeight());
+	}
+
+	/**
+	 * Determine if this WorldArea has line of sight to a WorldPoint,
+	 * using a collision snapshot.
+	 *
+	 * @param snapshot The collision snapshot to compare in
+	 * @param other The other WorldPoint to compare with
+	 * @return Returns true if this WorldArea has line of sight to the WorldPoint
+	 */
+	public boolean hasLineOfSightTo(CollisionSnapshot snapshot, WorldPoint other)
+	{
+		return hasLineOfSightTo(snapshot, new WorldArea(other, 1, 1));
+	}
+
 	/**
 	 * Retrieves the southwestern most point of this WorldArea.
 	 *
@@ -664,4 +797,10 @@ public class WorldArea
 
 		return list;
 	}
-}
\ No newline at end of file
+
+	@FunctionalInterface
+	private interface DirectionCondition
+	{
+		boolean test(int dx, int dy);
+	}
+}
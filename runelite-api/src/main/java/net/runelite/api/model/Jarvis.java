@@ -104,6 +104,79 @@ public class Jarvis
 		return ch;
 	}
 
+	/**
+	 * Computes the convex hull of points given as parallel coordinate arrays,
+	 * without creating a {@link Point} for each of them.
+	 * <p>
+	 * The hull is written to {@code hullX} and {@code hullY}, which must be able to hold
+	 * {@code count} points, in the same order as {@link #convexHull(List)}.
+	 *
+	 * @param xs x coordinates of the points
+	 * @param ys y coordinates of the points
+	 * @param count number of points
+	 * @param hullX output x coordinates of the hull
+	 * @param hullY output y coordinates of the hull
+	 * @return the number of points in the hull, or 0 if there are less than 3 points
+	 */
+	public static int convexHull(int[] xs, int[] ys, int count, int[] hullX, int[] hullY)
+	{
+		if (count < 3)
+		{
+			return 0;
+		}
+
+		// find the left most point
+		int left = 0;
+		for (int i = 1; i < count; ++i)
+		{
+			if (xs[i] < xs[left] || (xs[i] == xs[left] && ys[i] < ys[left]))
+			{
+				left = i;
+			}
+		}
+
+		int size = 0;
+		int current = left;
+
+		do
+		{
+			if (size == count)
+			{
+				// Just to make sure we never somehow get stuck in this loop
+				return 0;
+			}
+
+			hullX[size] = xs[current];
+			hullY[size] = ys[current];
+			++size;
+
+			// the next point - all points are to the right of the
+			// line between current and next
+			int next = -1;
+
+			for (int i = 0; i < count; ++i)
+			{
+				if (next == -1)
+				{
+					next = i;
+					continue;
+				}
+
+				long cp = crossProduct(xs[current], ys[current], xs[i], ys[i], xs[next], ys[next]);
+				if (cp > 0 || (cp == 0 && distanceSquared(xs[current], ys[current], xs[i], ys[i])
+					> distanceSquared(xs[current], ys[current], xs[next], ys[next])))
+				{
+					next = i;
+				}
+			}
+
+			current = next;
+		}
+		while (xs[current] != xs[left] || ys[current] != ys[left]);
+
+		return size;
+	}
+
 	private static Point findLeftMost(List<Point> points)
 	{
 		Point left = null;
@@ -129,4 +202,17 @@ public class Jarvis
 			- (long)(q.getX() - p.getX()) * (r.getY() - q.getY());
 		return val;
 	}
+
+	private static long crossProduct(int px, int py, int qx, int qy, int rx, int ry)
+	{
+		return (long) (qy - py) * (rx - qx)
+			- (long) (qx - px) * (ry - qy);
+	}
+
+	private static long distanceSquared(int x1, int y1, int x2, int y2)
+	{
+		long dx = x2 - x1;
+		long dy = y2 - y1;
+		return dx * dx + dy * dy;
+	}
 }
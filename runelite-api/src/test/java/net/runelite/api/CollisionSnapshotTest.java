@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.Random;
+import static net.runelite.api.CollisionDataFlag.BLOCK_LINE_OF_SIGHT_EAST;
+import static net.runelite.api.CollisionDataFlag.BLOCK_LINE_OF_SIGHT_FULL;
+import static net.runelite.api.CollisionDataFlag.BLOCK_LINE_OF_SIGHT_WEST;
+import static net.runelite.api.CollisionDataFlag.BLOCK_MOVEMENT_EAST;
+import static net.runelite.api.CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+import static net.runelite.api.CollisionDataFlag.BLOCK_MOVEMENT_OBJECT;
+import static net.runelite.api.CollisionDataFlag.BLOCK_MOVEMENT_WEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class CollisionSnapshotTest
+{
+	static int[][][] emptyScene()
+	{
+		return new int[Constants.MAX_Z][Constants.SCENE_SIZE][Constants.SCENE_SIZE];
+	}
+
+	/**
+	 * Places a wall between (x, y) and (x + 1, y), blocking both movement and line of sight.
+	 */
+	static void eastWall(int[][] flags, int x, int y)
+	{
+		flags[x][y] |= BLOCK_MOVEMENT_EAST | BLOCK_LINE_OF_SIGHT_EAST;
+		flags[x + 1][y] |= BLOCK_MOVEMENT_WEST | BLOCK_LINE_OF_SIGHT_WEST;
+	}
+
+	@Test
+	public void testCopiesFlags()
+	{
+		int[][][] flags = emptyScene();
+		flags[1][10][20] = BLOCK_MOVEMENT_OBJECT;
+
+		CollisionSnapshot snapshot = new CollisionSnapshot(3200, 3200, flags);
+		flags[1][10][20] = 0;
+
+		assertEquals(BLOCK_MOVEMENT_OBJECT, snapshot.getFlags(1, 10, 20));
+		assertEquals(0, snapshot.getFlags(0, 10, 20));
+		assertTrue((snapshot.getFlags(0, -1, 20) & BLOCK_MOVEMENT_FULL) != 0);
+		assertTrue((snapshot.getFlags(0, Constants.SCENE_SIZE, 20) & BLOCK_MOVEMENT_FULL) != 0);
+	}
+
+	@Test
+	public void testMissingPlaneIsBlocked()
+	{
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, new int[][][]{new int[Constants.SCENE_SIZE][Constants.SCENE_SIZE]});
+
+		assertTrue(snapshot.canTravelInDirection(0, 50, 50, 1, 1, 1, 0));
+		assertFalse(snapshot.canTravelInDirection(3, 50, 50, 1, 1, 1, 0));
+		assertFalse(snapshot.hasLineOfSight(3, 50, 50, 52, 50));
+	}
+
+	@Test
+	public void testIndex()
+	{
+		int index = CollisionSnapshot.index(37, 91);
+		assertEquals(37, CollisionSnapshot.getSceneX(index));
+		assertEquals(91, CollisionSnapshot.getSceneY(index));
+	}
+
+	@Test
+	public void testCanTravelInDirection()
+	{
+		int[][][] flags = emptyScene();
+		eastWall(flags[0], 50, 50);
+		flags[0][50][52] = BLOCK_MOVEMENT_OBJECT;
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, flags);
+
+		assertTrue(snapshot.canTravelInDirection(0, 50, 50, 1, 1, 0, 0));
+		assertFalse(snapshot.canTravelInDirection(0, 50, 50, 1, 1, 1, 0));
+		assertFalse(snapshot.canTravelInDirection(0, 51, 50, 1, 1, -1, 0));
+		// Diagonal moves can't cut past the wall either
+		assertFalse(snapshot.canTravelInDirection(0, 50, 50, 1, 1, 1, 1));
+		assertTrue(snapshot.canTravelInDirection(0, 50, 50, 1, 1, -1, 0));
+		assertFalse(snapshot.canTravelInDirection(0, 50, 51, 1, 1, 0, 1));
+
+		// A 2x2 area is blocked by the wall along its whole edge
+		assertFalse(snapshot.canTravelInDirection(0, 49, 49, 2, 2, 1, 0));
+		assertTrue(snapshot.canTravelInDirection(0, 49, 47, 2, 2, 1, 0));
+
+		// Never out of the scene
+		assertFalse(snapshot.canTravelInDirection(0, 0, 0, 1, 1, -1, 0));
+		assertFalse(snapshot.canTravelInDirection(0, Constants.SCENE_SIZE - 2, 10, 2, 2, 1, 0));
+
+		// Extra conditions are checked for the tiles moved on to
+		assertFalse(snapshot.canTravelInDirection(0, 20, 20, 1, 1, 1, 0, (x, y) -> x != 21 || y != 20));
+		assertTrue(snapshot.canTravelInDirection(0, 20, 20, 1, 1, 1, 0, (x, y) -> x != 22));
+	}
+
+	@Test
+	public void testSingleTileMatchesArea()
+	{
+		Random random = new Random(1);
+		int[][][] flags = emptyScene();
+		for (int x = 0; x < Constants.SCENE_SIZE; ++x)
+		{
+			for (int y = 0; y < Constants.SCENE_SIZE; ++y)
+			{
+				// Any combination of walls and objects
+				flags[0][x][y] = random.nextInt() & (BLOCK_MOVEMENT_FULL | 0xff);
+			}
+		}
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, flags);
+
+		for (int x = 0; x < Constants.SCENE_SIZE; ++x)
+		{
+			for (int y = 0; y < Constants.SCENE_SIZE; ++y)
+			{
+				for (int dx = -1; dx <= 1; ++dx)
+				{
+					for (int dy = -1; dy <= 1; ++dy)
+					{
+						// The extra condition forces the general area checks
+						assertEquals(snapshot.canTravelInDirection(0, x, y, 1, 1, dx, dy, (tx, ty) -> true),
+							snapshot.canTravelInDirection(0, x, y, 1, 1, dx, dy));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLineOfSight()
+	{
+		int[][][] flags = emptyScene();
+		eastWall(flags[0], 50, 50);
+		flags[0][60][60] = BLOCK_LINE_OF_SIGHT_FULL;
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, flags);
+
+		assertTrue(snapshot.hasLineOfSight(0, 50, 50, 50, 50));
+		assertFalse(snapshot.hasLineOfSight(0, 45, 50, 55, 50));
+		assertFalse(snapshot.hasLineOfSight(0, 55, 50, 45, 50));
+		assertTrue(snapshot.hasLineOfSight(0, 45, 51, 55, 51));
+		assertFalse(snapshot.hasLineOfSight(0, 55, 55, 65, 65));
+		assertTrue(snapshot.hasLineOfSight(0, 55, 56, 65, 66));
+		assertFalse(snapshot.hasLineOfSight(0, -1, 50, 10, 50));
+
+		// The closest tiles of two areas are compared
+		assertTrue(snapshot.hasLineOfSight(0, 45, 50, 1, 2, 55, 51, 1, 1));
+		assertFalse(snapshot.hasLineOfSight(0, 45, 49, 1, 2, 55, 50, 1, 1));
+	}
+
+	@Test
+	public void testBatchLineOfSight()
+	{
+		int[][][] flags = emptyScene();
+		eastWall(flags[0], 50, 50);
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, flags);
+
+		int[] targets = {
+			CollisionSnapshot.index(55, 50),
+			CollisionSnapshot.index(55, 53),
+			CollisionSnapshot.index(40, 50),
+			-1,
+		};
+		boolean[] visible = new boolean[targets.length];
+
+		assertEquals(2, snapshot.hasLineOfSight(0, 45, 50, targets, targets.length, visible));
+		assertFalse(visible[0]);
+		assertTrue(visible[1]);
+		assertTrue(visible[2]);
+		assertFalse(visible[3]);
+
+		for (int i = 0; i < targets.length - 1; ++i)
+		{
+			int target = targets[i];
+			assertEquals(snapshot.hasLineOfSight(0, 45, 50, CollisionSnapshot.getSceneX(target), CollisionSnapshot.getSceneY(target)), visible[i]);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.LocalPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares {@link Perspective#getClickbox} and {@link Perspective#getClickboxHull}
+ * on a synthetic cylinder model.
+ * Run with {@code main} from the IDE, or through the JMH runner on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PerspectiveBenchmark
+{
+	private static final LocalPoint LOCATION = new LocalPoint(6464, 6464);
+
+	@Param({"50", "500"})
+	private int sides;
+
+	private Client client;
+	private Model model;
+
+	@Setup
+	public void setup()
+	{
+		client = mock(Client.class);
+		when(client.getTileSettings()).thenReturn(new byte[Constants.MAX_Z][Constants.SCENE_SIZE][Constants.SCENE_SIZE]);
+		when(client.getTileHeights()).thenReturn(new int[Constants.MAX_Z][Constants.SCENE_SIZE + 1][Constants.SCENE_SIZE + 1]);
+		when(client.getCameraX()).thenReturn(6464);
+		when(client.getCameraY()).thenReturn(5000);
+		when(client.getCameraZ()).thenReturn(-800);
+		when(client.getCameraPitch()).thenReturn(256);
+		when(client.getScale()).thenReturn(512);
+		when(client.getViewportWidth()).thenReturn(512);
+		when(client.getViewportHeight()).thenReturn(334);
+
+		model = PerspectiveTest.cylinder(sides, 60, 200);
+	}
+
+	@Benchmark
+	public Object clickbox()
+	{
+		return Perspective.getClickbox(client, model, 512, LOCATION);
+	}
+
+	@Benchmark
+	public Object clickboxHull()
+	{
+		return Perspective.getClickboxHull(client, model, 512, LOCATION);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(PerspectiveBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.model.Triangle;
+import net.runelite.api.model.Vertex;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PerspectiveTest
+{
+	private static final LocalPoint LOCATION = new LocalPoint(6464, 6464);
+
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		client = mock(Client.class);
+		when(client.getPlane()).thenReturn(0);
+		when(client.getTileSettings()).thenReturn(new byte[Constants.MAX_Z][Constants.SCENE_SIZE][Constants.SCENE_SIZE]);
+		when(client.getTileHeights()).thenReturn(new int[Constants.MAX_Z][Constants.SCENE_SIZE + 1][Constants.SCENE_SIZE + 1]);
+		when(client.getCameraX()).thenReturn(6464);
+		when(client.getCameraY()).thenReturn(5000);
+		when(client.getCameraZ()).thenReturn(-800);
+		when(client.getCameraPitch()).thenReturn(256);
+		when(client.getCameraYaw()).thenReturn(0);
+		when(client.getScale()).thenReturn(512);
+		when(client.getViewportWidth()).thenReturn(512);
+		when(client.getViewportHeight()).thenReturn(334);
+		when(client.getViewportXOffset()).thenReturn(4);
+		when(client.getViewportYOffset()).thenReturn(4);
+	}
+
+	@Test
+	public void testClickboxHull()
+	{
+		for (int orientation = 0; orientation < 2048; orientation += 128)
+		{
+			Model model = cylinder(16, 60, 200);
+			Polygon hull = Perspective.getClickboxHull(client, model, orientation, LOCATION);
+			assertNotNull(hull);
+
+			List<java.awt.Point> projected = project(model, orientation);
+			Rectangle expected = new Rectangle(projected.get(0));
+			for (java.awt.Point p : projected)
+			{
+				expected.add(p);
+			}
+			// padded by 5 pixels before and 4 pixels after, like the clickbox
+			expected.setBounds(expected.x - 5, expected.y - 5, expected.width + 9, expected.height + 9);
+
+			// every hull vertex is a corner of a padded projected vertex, and the hull spans all of them
+			for (int i = 0; i < hull.npoints; ++i)
+			{
+				assertTrue(isPaddedCorner(projected, hull.xpoints[i], hull.ypoints[i]));
+			}
+			assertEquals(expected, hull.getBounds());
+		}
+	}
+
+	@Test
+	public void testClickboxHullCoversClickbox()
+	{
+		Model model = cylinder(16, 60, 200);
+		Polygon hull = Perspective.getClickboxHull(client, model, 512, LOCATION);
+		assertNotNull(hull);
+
+		Rectangle clickbox = Perspective.getClickbox(client, model, 512, LOCATION).getBounds();
+		assertTrue(hull.getBounds().contains(clickbox));
+	}
+
+	@Test
+	public void testClickboxHullOffscreen()
+	{
+		// the model is in front of the camera, but projects below and left of the viewport
+		when(client.getCameraX()).thenReturn(10000);
+		when(client.getCameraZ()).thenReturn(-5000);
+
+		Model model = cylinder(16, 60, 200);
+		assertEquals(32, project(model, 0).size());
+		assertTrue(Perspective.getClickbox(client, model, 0, LOCATION).isEmpty());
+		assertNull(Perspective.getClickboxHull(client, model, 0, LOCATION));
+	}
+
+	@Test
+	public void testClickboxHullBehindCamera()
+	{
+		when(client.getCameraY()).thenReturn(8000);
+		assertNull(Perspective.getClickboxHull(client, cylinder(16, 60, 200), 0, LOCATION));
+	}
+
+	@Test
+	public void testBatchProjection()
+	{
+		final int[][][] tileHeights = new int[Constants.MAX_Z][Constants.SCENE_SIZE + 1][Constants.SCENE_SIZE + 1];
+		for (int x = 0; x <= Constants.SCENE_SIZE; ++x)
+		{
+			for (int y = 0; y <= Constants.SCENE_SIZE; ++y)
+			{
+				tileHeights[0][x][y] = -((x * 31 + y * 17) % 200);
+			}
+		}
+		when(client.getTileHeights()).thenReturn(tileHeights);
+
+		final int count = 64;
+		final int[] localX = new int[count];
+		final int[] localY = new int[count];
+		for (int i = 0; i < count; ++i)
+		{
+			localX[i] = LOCATION.getX() + ((i % 8) - 4) * Perspective.LOCAL_TILE_SIZE;
+			localY[i] = LOCATION.getY() + ((i / 8) - 4) * Perspective.LOCAL_TILE_SIZE;
+		}
+
+		final CameraSnapshot camera = new CameraSnapshot().update(client);
+
+		final int[] canvasX = new int[count];
+		final int[] canvasY = new int[count];
+		Perspective.localToCanvas(camera, localX, localY, 0, count, canvasX, canvasY);
+
+		final int[] polyX = new int[count * 4];
+		final int[] polyY = new int[count * 4];
+		Perspective.getCanvasTileAreaPolys(camera, localX, localY, 3, count, polyX, polyY);
+
+		for (int i = 0; i < count; ++i)
+		{
+			final LocalPoint lp = new LocalPoint(localX[i], localY[i]);
+
+			final Point point = Perspective.localToCanvas(client, lp, 0);
+			if (point == null)
+			{
+				assertEquals(Perspective.UNPROJECTED, canvasX[i]);
+			}
+			else
+			{
+				assertEquals(point.getX(), canvasX[i]);
+				assertEquals(point.getY(), canvasY[i]);
+			}
+
+			final Polygon poly = Perspective.getCanvasTileAreaPoly(client, lp, 3);
+			if (poly == null)
+			{
+				assertEquals(Perspective.UNPROJECTED, polyX[i * 4]);
+			}
+			else
+			{
+				for (int j = 0; j < 4; ++j)
+				{
+					assertEquals(poly.xpoints[j], polyX[i * 4 + j]);
+					assertEquals(poly.ypoints[j], polyY[i * 4 + j]);
+				}
+			}
+		}
+	}
+
+	private static boolean isPaddedCorner(List<java.awt.Point> points, int x, int y)
+	{
+		for (java.awt.Point p : points)
+		{
+			if ((x == p.x - 5 || x == p.x + 4) && (y == p.y - 5 || y == p.y + 4))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Projects the vertices of {@code model} the same way {@link Perspective#getClickbox} does.
+	 */
+	private List<java.awt.Point> project(Model model, int orientation)
+	{
+		List<java.awt.Point> points = new ArrayList<>();
+		for (Vertex v : model.getVertices())
+		{
+			v = v.rotate(orientation);
+			LocalPoint lp = new LocalPoint(LOCATION.getX() - v.getX(), LOCATION.getY() - v.getZ());
+			Point p = Perspective.localToCanvas(client, lp, client.getPlane(), -v.getY());
+			if (p != null)
+			{
+				points.add(new java.awt.Point(p.getX(), p.getY()));
+			}
+		}
+		return points;
+	}
+
+	/**
+	 * Builds a model of a cylinder standing on the tile, with {@code sides} vertices
+	 * around each of its two rims.
+	 */
+	static Model cylinder(int sides, int radius, int height)
+	{
+		final int count = sides * 2;
+		final int[] xs = new int[count];
+		final int[] ys = new int[count];
+		final int[] zs = new int[count];
+		final List<Vertex> vertices = new ArrayList<>(count);
+
+		for (int i = 0; i < sides; ++i)
+		{
+			final int angle = i * 2048 / sides;
+			final int x = radius * Perspective.COSINE[angle] >> 16;
+			final int z = radius * Perspective.SINE[angle] >> 16;
+
+			xs[i] = xs[i + sides] = x;
+			zs[i] = zs[i + sides] = z;
+			ys[i + sides] = -height;
+		}
+
+		for (int i = 0; i < count; ++i)
+		{
+			vertices.add(new Vertex(xs[i], ys[i], zs[i]));
+		}
+
+		final List<Triangle> triangles = new ArrayList<>(count);
+		for (int i = 0; i < sides; ++i)
+		{
+			final int next = (i + 1) % sides;
+			triangles.add(new Triangle(vertices.get(i), vertices.get(next), vertices.get(i + sides)));
+			triangles.add(new Triangle(vertices.get(next), vertices.get(next + sides), vertices.get(i + sides)));
+		}
+
+		final Model model = mock(Model.class);
+		when(model.getVerticesCount()).thenReturn(count);
+		when(model.getVerticesX()).thenReturn(xs);
+		when(model.getVerticesY()).thenReturn(ys);
+		when(model.getVerticesZ()).thenReturn(zs);
+		when(model.getVertices()).thenReturn(vertices);
+		when(model.getTriangles()).thenReturn(triangles);
+		return model;
+	}
+}
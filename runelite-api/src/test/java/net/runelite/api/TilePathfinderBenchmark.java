@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.WorldArea;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures full scene reachability, a corner to corner path and line of sight
+ * to every tile within 15 tiles on a synthetic collision map.
+ * Run with {@code main} from the IDE, or through the JMH runner on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TilePathfinderBenchmark
+{
+	private static final int CENTER = Constants.SCENE_SIZE / 2;
+	private static final int RANGE = 15;
+
+	@Param({"0.1", "0.3"})
+	private double density;
+
+	private CollisionSnapshot snapshot;
+	private TilePathfinder pathfinder;
+	private WorldArea area;
+	private int[] targets;
+	private boolean[] visible;
+
+	@Setup
+	public void setup()
+	{
+		snapshot = TilePathfinderTest.randomScene(42, density);
+		pathfinder = new TilePathfinder();
+		area = new WorldArea(CENTER, CENTER, 1, 1, 0);
+
+		targets = new int[(RANGE * 2 + 1) * (RANGE * 2 + 1)];
+		int count = 0;
+		for (int x = CENTER - RANGE; x <= CENTER + RANGE; ++x)
+		{
+			for (int y = CENTER - RANGE; y <= CENTER + RANGE; ++y)
+			{
+				targets[count++] = CollisionSnapshot.index(x, y);
+			}
+		}
+		visible = new boolean[targets.length];
+	}
+
+	@Benchmark
+	public int reachable()
+	{
+		return pathfinder.reachable(snapshot, 0, CENTER, CENTER);
+	}
+
+	@Benchmark
+	public Object findPath()
+	{
+		return pathfinder.findPath(snapshot, 0, 0, 0, Constants.SCENE_SIZE - 1, Constants.SCENE_SIZE - 1);
+	}
+
+	@Benchmark
+	public int lineOfSightBatch()
+	{
+		return snapshot.hasLineOfSight(0, CENTER, CENTER, targets, targets.length, visible);
+	}
+
+	@Benchmark
+	public int lineOfSightWorldArea()
+	{
+		int seen = 0;
+		for (int target : targets)
+		{
+			WorldArea other = new WorldArea(CollisionSnapshot.getSceneX(target), CollisionSnapshot.getSceneY(target), 1, 1, 0);
+			if (area.hasLineOfSightTo(snapshot, other))
+			{
+				++seen;
+			}
+		}
+		return seen;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(TilePathfinderBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
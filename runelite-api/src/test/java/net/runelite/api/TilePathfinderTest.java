@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.Random;
+import static net.runelite.api.CollisionDataFlag.BLOCK_MOVEMENT_OBJECT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class TilePathfinderTest
+{
+	private static final int SIZE = Constants.SCENE_SIZE;
+
+	private final TilePathfinder pathfinder = new TilePathfinder();
+
+	/**
+	 * Creates a scene on plane 0 where roughly {@code density} of the tiles are blocked by objects,
+	 * leaving the center and the corners of the scene open.
+	 */
+	static CollisionSnapshot randomScene(long seed, double density)
+	{
+		Random random = new Random(seed);
+		int[][][] flags = CollisionSnapshotTest.emptyScene();
+		for (int x = 0; x < SIZE; ++x)
+		{
+			for (int y = 0; y < SIZE; ++y)
+			{
+				if (random.nextDouble() < density)
+				{
+					flags[0][x][y] = BLOCK_MOVEMENT_OBJECT;
+				}
+			}
+		}
+		flags[0][SIZE / 2][SIZE / 2] = 0;
+		flags[0][0][0] = 0;
+		flags[0][SIZE - 1][SIZE - 1] = 0;
+		return new CollisionSnapshot(0, 0, flags);
+	}
+
+	@Test
+	public void testReachableOpenScene()
+	{
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, CollisionSnapshotTest.emptyScene());
+
+		assertEquals(SIZE * SIZE, pathfinder.reachable(snapshot, 0, 50, 50));
+		assertEquals(0, pathfinder.getDistance(50, 50));
+		assertEquals(50, pathfinder.getDistance(0, 0));
+		assertEquals(53, pathfinder.getDistance(SIZE - 1, 0));
+		assertEquals(-1, pathfinder.getDistance(-1, 0));
+	}
+
+	@Test
+	public void testReachableMaxDistance()
+	{
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, CollisionSnapshotTest.emptyScene());
+
+		assertEquals(25, pathfinder.reachable(snapshot, 0, 50, 50, 1, 2, null));
+		assertEquals(2, pathfinder.getDistance(52, 48));
+		assertEquals(-1, pathfinder.getDistance(53, 50));
+	}
+
+	@Test
+	public void testEnclosed()
+	{
+		int[][][] flags = CollisionSnapshotTest.emptyScene();
+		for (int i = 0; i < 5; ++i)
+		{
+			flags[0][20 + i][20] = BLOCK_MOVEMENT_OBJECT;
+			flags[0][20 + i][24] = BLOCK_MOVEMENT_OBJECT;
+			flags[0][20][20 + i] = BLOCK_MOVEMENT_OBJECT;
+			flags[0][24][20 + i] = BLOCK_MOVEMENT_OBJECT;
+		}
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, flags);
+
+		assertEquals(9, pathfinder.reachable(snapshot, 0, 22, 22));
+		assertEquals(-1, pathfinder.getDistance(30, 30));
+		assertNull(pathfinder.findPath(snapshot, 0, 22, 22, 30, 30));
+		assertNull(pathfinder.findPath(snapshot, 0, 30, 30, 22, 22));
+	}
+
+	@Test
+	public void testFindPathAroundWall()
+	{
+		int[][][] flags = CollisionSnapshotTest.emptyScene();
+		for (int y = 40; y <= 60; ++y)
+		{
+			flags[0][52][y] = BLOCK_MOVEMENT_OBJECT;
+		}
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, flags);
+
+		int[] path = pathfinder.findPath(snapshot, 0, 50, 50, 54, 50);
+		assertNotNull(path);
+		assertValidPath(snapshot, 50, 50, 1, path);
+		assertEquals(CollisionSnapshot.index(54, 50), path[path.length - 1]);
+		// 11 tiles north to clear the wall, without cutting its corner, and back
+		assertEquals(24, path.length);
+
+		assertEquals(0, pathfinder.findPath(snapshot, 0, 50, 50, 50, 50).length);
+	}
+
+	@Test
+	public void testFindPathMatchesBreadthFirst()
+	{
+		CollisionSnapshot snapshot = randomScene(42, 0.3);
+		int start = SIZE / 2;
+
+		pathfinder.reachable(snapshot, 0, start, start);
+		int[] distances = new int[SIZE * SIZE];
+		for (int x = 0; x < SIZE; ++x)
+		{
+			for (int y = 0; y < SIZE; ++y)
+			{
+				distances[CollisionSnapshot.index(x, y)] = pathfinder.getDistance(x, y);
+			}
+		}
+
+		Random random = new Random(7);
+		int found = 0;
+		for (int i = 0; i < 200; ++i)
+		{
+			int x = random.nextInt(SIZE);
+			int y = random.nextInt(SIZE);
+			int[] path = pathfinder.findPath(snapshot, 0, start, start, x, y);
+			int distance = distances[CollisionSnapshot.index(x, y)];
+			if (distance == -1)
+			{
+				assertNull(path);
+				continue;
+			}
+
+			assertNotNull(path);
+			assertEquals(distance, path.length);
+			assertValidPath(snapshot, start, start, 1, path);
+			++found;
+		}
+		assertTrue(found > 0);
+	}
+
+	@Test
+	public void testLargeActor()
+	{
+		int[][][] flags = CollisionSnapshotTest.emptyScene();
+		// A one tile gap in a wall, which only a 1x1 actor fits through
+		for (int x = 30; x <= 70; ++x)
+		{
+			if (x != 50)
+			{
+				flags[0][x][50] = BLOCK_MOVEMENT_OBJECT;
+			}
+		}
+		CollisionSnapshot snapshot = new CollisionSnapshot(0, 0, flags);
+
+		int[] small = pathfinder.findPath(snapshot, 0, 50, 45, 1, 50, 55, null);
+		assertNotNull(small);
+		assertEquals(10, small.length);
+
+		int[] large = pathfinder.findPath(snapshot, 0, 50, 45, 2, 50, 55, null);
+		assertNotNull(large);
+		assertValidPath(snapshot, 50, 45, 2, large);
+		assertTrue(large.length > 20);
+	}
+
+	private static void assertValidPath(CollisionSnapshot snapshot, int x, int y, int size, int[] path)
+	{
+		for (int step : path)
+		{
+			int nextX = CollisionSnapshot.getSceneX(step);
+			int nextY = CollisionSnapshot.getSceneY(step);
+			assertTrue(Math.abs(nextX - x) <= 1 && Math.abs(nextY - y) <= 1);
+			assertTrue(snapshot.canTravelInDirection(0, x, y, size, size, nextX - x, nextY - y));
+			x = nextX;
+			y = nextY;
+		}
+	}
+}
@@ -107,4 +107,51 @@ public class JarvisTest
 		};
 		Jarvis.convexHull(Arrays.asList(points));
 	}
+
+	@Test
+	public void testArray()
+	{
+		int[] xs = {0, 1, 2, 4, 0, 1, 3, 3};
+		int[] ys = {3, 1, 2, 4, 0, 2, 1, 3};
+		int[] hullX = new int[xs.length];
+		int[] hullY = new int[ys.length];
+
+		int size = Jarvis.convexHull(xs, ys, xs.length, hullX, hullY);
+		Assert.assertEquals(4, size);
+		Assert.assertArrayEquals(new int[]{0, 0, 4, 3}, Arrays.copyOf(hullX, size));
+		Assert.assertArrayEquals(new int[]{0, 3, 4, 1}, Arrays.copyOf(hullY, size));
+	}
+
+	@Test
+	public void testArrayMatchesList()
+	{
+		int[] xs = {604, 609, 606, 602, 610, 609, 602, 606, 611, 607, 616, 611, 611, 610, 614, 615, 615, 615, 634, 604};
+		int[] ys = {76, 81, 78, 74, 74, 77, 72, 77, 77, 72, 74, 70, 71, 73, 82, 79, 77, 76, 71, 76};
+
+		Point[] points = new Point[xs.length];
+		for (int i = 0; i < xs.length; ++i)
+		{
+			points[i] = new Point(xs[i], ys[i]);
+		}
+
+		List<Point> expected = Jarvis.convexHull(Arrays.asList(points));
+
+		int[] hullX = new int[xs.length];
+		int[] hullY = new int[ys.length];
+		int size = Jarvis.convexHull(xs, ys, xs.length, hullX, hullY);
+
+		Assert.assertEquals(expected.size(), size);
+		for (int i = 0; i < size; ++i)
+		{
+			Assert.assertEquals(expected.get(i), new Point(hullX[i], hullY[i]));
+		}
+	}
+
+	@Test
+	public void testArrayTooFewPoints()
+	{
+		int[] hullX = new int[2];
+		int[] hullY = new int[2];
+		Assert.assertEquals(0, Jarvis.convexHull(new int[]{0, 1}, new int[]{0, 1}, 2, hullX, hullY));
+	}
 }
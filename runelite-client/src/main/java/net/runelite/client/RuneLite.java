@@ -46,6 +46,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.client.account.SessionManager;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.CommandManager;
 import net.runelite.client.config.ConfigManager;
@@ -53,6 +54,7 @@ import net.runelite.client.discord.DiscordService;
 import net.runelite.client.game.ClanManager;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.LootManager;
+import net.runelite.client.game.SceneIndex;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
@@ -66,6 +68,7 @@ import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxOverlay;
 import net.runelite.client.ui.overlay.tooltip.TooltipOverlay;
 import net.runelite.client.ui.overlay.worldmap.WorldMapOverlay;
+import net.runelite.client.util.Tracer;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
@@ -142,9 +145,15 @@ public class RuneLite
 	@Inject
 	private Provider<LootManager> lootManager;
 
+	@Inject
+	private Provider<SceneIndex> sceneIndex;
+
 	@Inject
 	private Provider<ChatboxPanelManager> chatboxPanelManager;
 
+	@Inject
+	private Provider<ClientThread> clientThread;
+
 	@Inject
 	@Nullable
 	private Client client;
@@ -157,6 +166,12 @@ public class RuneLite
 		parser.accepts("developer-mode", "Enable developer tools");
 		parser.accepts("debug", "Show extra debugging output");
 
+		final ArgumentAcceptingOptionSpec<File> traceStartup = parser
+			.accepts("trace-startup", "Write a Chrome trace of the client startup to a file")
+			.withOptionalArg()
+			.ofType(File.class)
+			.defaultsTo(new File(LOGS_DIR, "startup-trace.json"));
+
 		final ArgumentAcceptingOptionSpec<ClientUpdateCheckMode> updateMode = parser
 			.accepts("rs", "Select client type")
 			.withRequiredArg()
@@ -212,18 +227,40 @@ public class RuneLite
 			}
 		});
 
+		if (options.has(traceStartup))
+		{
+			Tracer.enable();
+		}
+
 		final long start = System.currentTimeMillis();
 
-		injector = Guice.createInjector(new RuneLiteModule(
-			options.valueOf(updateMode),
-			developerMode));
+		try (Tracer.Span span = Tracer.span("startup"))
+		{
+			try (Tracer.Span injectorSpan = Tracer.span("create injector"))
+			{
+				injector = Guice.createInjector(new RuneLiteModule(
+					options.valueOf(updateMode),
+					developerMode));
+			}
+
+			final RuneLite runeLite;
+			try (Tracer.Span clientSpan = Tracer.span("create client"))
+			{
+				runeLite = injector.getInstance(RuneLite.class);
+			}
 
-		injector.getInstance(RuneLite.class).start();
+			runeLite.start();
+		}
 
 		final long end = System.currentTimeMillis();
 		final RuntimeMXBean rb = ManagementFactory.getRuntimeMXBean();
 		final long uptime = rb.getUptime();
 		log.info("Client initialization took {}ms. Uptime: {}ms", end - start, uptime);
+
+		if (Tracer.isEnabled())
+		{
+			Tracer.write(options.valueOf(traceStartup));
+		}
 	}
 
 	public void start() throws Exception
@@ -238,61 +275,87 @@ public class RuneLite
 		}
 
 		// Load user configuration
-		configManager.load();
+		try (Tracer.Span span = Tracer.span("load config"))
+		{
+			configManager.load();
+		}
 
 		// Load the session, including saved configuration
-		sessionManager.loadSession();
+		try (Tracer.Span span = Tracer.span("load session"))
+		{
+			sessionManager.loadSession();
+		}
 
 		// Tell the plugin manager if client is outdated or not
 		pluginManager.setOutdated(isOutdated);
 
 		// Load the plugins, but does not start them yet.
 		// This will initialize configuration
-		pluginManager.loadCorePlugins();
+		try (Tracer.Span span = Tracer.span("load plugins"))
+		{
+			pluginManager.loadCorePlugins();
+		}
 
 		// Plugins have provided their config, so set default config
 		// to main settings
-		pluginManager.loadDefaultPluginConfiguration();
+		try (Tracer.Span span = Tracer.span("load default config"))
+		{
+			pluginManager.loadDefaultPluginConfiguration();
+		}
 
 		// Start client session
 		clientSessionManager.start();
 
 		// Initialize UI
-		clientUI.open(this);
+		try (Tracer.Span span = Tracer.span("open client ui"))
+		{
+			clientUI.open(this);
+		}
 
 		// Initialize Discord service
-		discordService.init();
-
-		// Register event listeners
-		eventBus.register(clientUI);
-		eventBus.register(pluginManager);
-		eventBus.register(overlayManager);
-		eventBus.register(drawManager);
-		eventBus.register(infoBoxManager);
+		try (Tracer.Span span = Tracer.span("init discord"))
+		{
+			discordService.init();
+		}
 
-		if (!isOutdated)
+		try (Tracer.Span span = Tracer.span("register core services"))
 		{
-			// Initialize chat colors
-			chatMessageManager.get().loadColors();
-
-			eventBus.register(overlayRenderer.get());
-			eventBus.register(clanManager.get());
-			eventBus.register(itemManager.get());
-			eventBus.register(menuManager.get());
-			eventBus.register(chatMessageManager.get());
-			eventBus.register(commandManager.get());
-			eventBus.register(lootManager.get());
-			eventBus.register(chatboxPanelManager.get());
-
-			// Add core overlays
-			WidgetOverlay.createOverlays(client).forEach(overlayManager::add);
-			overlayManager.add(infoBoxOverlay.get());
-			overlayManager.add(worldMapOverlay.get());
-			overlayManager.add(tooltipOverlay.get());
+			// Register event listeners
+			eventBus.register(clientUI);
+			eventBus.register(pluginManager);
+			eventBus.register(overlayManager);
+			eventBus.register(drawManager);
+			eventBus.register(infoBoxManager);
+
+			if (!isOutdated)
+			{
+				// Initialize chat colors
+				chatMessageManager.get().loadColors();
+
+				eventBus.register(overlayRenderer.get());
+				eventBus.register(clanManager.get());
+				eventBus.register(itemManager.get());
+				eventBus.register(menuManager.get());
+				eventBus.register(chatMessageManager.get());
+				eventBus.register(commandManager.get());
+				eventBus.register(lootManager.get());
+				eventBus.register(sceneIndex.get());
+				eventBus.register(chatboxPanelManager.get());
+				eventBus.register(clientThread.get());
+
+				// Add core overlays
+				WidgetOverlay.createOverlays(client).forEach(overlayManager::add);
+				overlayManager.add(infoBoxOverlay.get());
+				overlayManager.add(worldMapOverlay.get());
+				overlayManager.add(tooltipOverlay.get());
+			}
 		}
 
 		// Start plugins
-		pluginManager.startCorePlugins();
+		try (Tracer.Span span = Tracer.span("start plugins"))
+		{
+			pluginManager.startCorePlugins();
+		}
 	}
 
 	public void shutdown()
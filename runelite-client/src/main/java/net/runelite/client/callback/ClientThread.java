@@ -24,30 +24,94 @@
  */
 package net.runelite.client.callback;
 
+import com.google.common.eventbus.Subscribe;
 import com.google.inject.Inject;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.api.events.ConfigChanged;
+import net.runelite.client.config.RuneLiteConfig;
 
 @Singleton
 @Slf4j
 public class ClientThread
 {
-	private ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
+	private static final String RUNELITE_CONFIG_GROUP_NAME = "runelite";
+
+	/**
+	 * The class which submitted a task. Lambdas and method references are spun as
+	 * hidden classes named after the class declaring them, so that suffix is dropped.
+	 */
+	private static final ClassValue<String> ORIGINS = new ClassValue<String>()
+	{
+		@Override
+		protected String computeValue(Class<?> type)
+		{
+			final String name = type.getName();
+			final int lambda = name.indexOf("$$Lambda$");
+			return lambda == -1 ? name : name.substring(0, lambda);
+		}
+	};
+
+	private ConcurrentLinkedQueue<Invocation> invokes = new ConcurrentLinkedQueue<>();
+
+	private final Map<String, InvokeStatistics> invokeStatistics = new ConcurrentHashMap<>();
 
 	@Inject
 	private Client client;
 
+	@Inject
+	private RuneLiteConfig runeLiteConfig;
+
+	/**
+	 * Whether the run times of tasks are recorded per origin
+	 */
+	@Getter
+	@Setter
+	private volatile boolean instrumented;
+
+	/**
+	 * The time queued tasks may run for each frame, 0 if unlimited, or -1 if it must
+	 * be read from the config
+	 */
+	private volatile long budgetNanos = -1;
+
+	/**
+	 * The number of queued tasks run during the last frame
+	 */
+	@Getter
+	private volatile int lastFrameRuns;
+
+	/**
+	 * How long queued tasks ran for during the last frame, if the budget is enabled or
+	 * the client thread is instrumented
+	 */
+	@Getter
+	private volatile long lastFrameNanos;
+
+	/**
+	 * The number of frames which left tasks queued because the budget ran out
+	 */
+	@Getter
+	private volatile long deferredFrames;
+
 	public void invoke(Runnable r)
 	{
-		invoke(() ->
+		invoke(new Invocation(() ->
 		{
 			r.run();
 			return true;
-		});
+		}, r.getClass()));
 	}
 
 	/**
@@ -55,17 +119,31 @@ public class ClientThread
 	 * If r returns false, r will be ran again, at a later point
 	 */
 	public void invoke(BooleanSupplier r)
+	{
+		invoke(new Invocation(r, r.getClass()));
+	}
+
+	private void invoke(Invocation invocation)
 	{
 		if (client.isClientThread())
 		{
-			if (r.getAsBoolean())
+			final boolean instrumented = this.instrumented;
+			final long start = instrumented ? System.nanoTime() : 0;
+			final boolean completed = run(invocation);
+
+			if (instrumented)
 			{
-				invokes.add(r);
+				record(invocation, System.nanoTime() - start, completed);
+			}
+
+			if (!completed)
+			{
+				invokes.add(invocation);
 			}
 			return;
 		}
 
-		invokeLater(r);
+		invokes.add(invocation);
 	}
 
 	/**
@@ -74,42 +152,157 @@ public class ClientThread
 	 */
 	public void invokeLater(Runnable r)
 	{
-		invokeLater(() ->
+		invokes.add(new Invocation(() ->
 		{
 			r.run();
 			return true;
-		});
+		}, r.getClass()));
 	}
 
 	public void invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		invokes.add(new Invocation(r, r.getClass()));
+	}
+
+	/**
+	 * @return the number of tasks waiting to run on the client thread
+	 */
+	public int getQueueSize()
+	{
+		return invokes.size();
+	}
+
+	/**
+	 * Get the run times of tasks, per origin, recorded while instrumented
+	 *
+	 * @return statistics, sorted by descending total run time
+	 */
+	public List<InvokeStatistics> getInvokeStatistics()
+	{
+		final List<InvokeStatistics> statistics = new ArrayList<>(invokeStatistics.values());
+		statistics.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+		return statistics;
+	}
+
+	public void resetInvokeStatistics()
+	{
+		invokeStatistics.clear();
 	}
 
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (event.getGroup().equals(RUNELITE_CONFIG_GROUP_NAME))
+		{
+			// reread on the client thread
+			budgetNanos = -1;
+		}
+	}
+
+	/**
+	 * Run queued tasks. If a budget is set, this stops once the budget has been used,
+	 * leaving the remaining tasks for the next frame, but always runs at least one task.
+	 * Tasks which ask to be run again are moved behind the tasks left waiting, so a
+	 * task retrying every frame can not keep the rest of the queue from running.
+	 */
 	void invoke()
 	{
 		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
+
+		long budget = budgetNanos;
+		if (budget < 0)
+		{
+			budget = budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, runeLiteConfig.clientThreadBudget()));
+		}
+
+		final boolean instrumented = this.instrumented;
+		final boolean timed = instrumented || budget > 0;
+		final long frameStart = timed ? System.nanoTime() : 0;
+		long now = frameStart;
+		int runs = 0;
+		List<Invocation> retries = null;
+
+		Iterator<Invocation> ir = invokes.iterator();
 		for (; ir.hasNext(); )
 		{
-			BooleanSupplier r = ir.next();
-			boolean remove = true;
-			try
+			if (budget > 0 && runs > 0 && now - frameStart >= budget)
 			{
-				remove = r.getAsBoolean();
+				++deferredFrames;
+				break;
 			}
-			catch (ThreadDeath d)
-			{
-				throw d;
-			}
-			catch (Throwable e)
+
+			Invocation invocation = ir.next();
+			boolean remove = run(invocation);
+			ir.remove();
+			if (!remove)
 			{
-				log.warn("Exception in invoke", e);
+				if (retries == null)
+				{
+					retries = new ArrayList<>();
+				}
+				retries.add(invocation);
 			}
-			if (remove)
+			++runs;
+
+			if (timed)
 			{
-				ir.remove();
+				final long end = System.nanoTime();
+				if (instrumented)
+				{
+					record(invocation, end - now, remove);
+				}
+				now = end;
 			}
 		}
+
+		if (retries != null)
+		{
+			invokes.addAll(retries);
+		}
+
+		lastFrameRuns = runs;
+		lastFrameNanos = now - frameStart;
+	}
+
+	private static boolean run(Invocation invocation)
+	{
+		boolean remove = true;
+		try
+		{
+			remove = invocation.task.getAsBoolean();
+		}
+		catch (ThreadDeath d)
+		{
+			throw d;
+		}
+		catch (Throwable e)
+		{
+			log.warn("Exception in invoke from {}", ORIGINS.get(invocation.origin), e);
+		}
+
+		if (!remove)
+		{
+			++invocation.retries;
+		}
+		return remove;
+	}
+
+	private void record(Invocation invocation, long elapsedNanos, boolean completed)
+	{
+		invokeStatistics.computeIfAbsent(ORIGINS.get(invocation.origin), InvokeStatistics::new)
+			.record(elapsedNanos, completed, invocation.retries);
+	}
+
+	private static class Invocation
+	{
+		private final BooleanSupplier task;
+		private final Class<?> origin;
+		private int retries;
+
+		Invocation(BooleanSupplier task, Class<?> origin)
+		{
+			this.task = task;
+			this.origin = origin;
+		}
 	}
 }
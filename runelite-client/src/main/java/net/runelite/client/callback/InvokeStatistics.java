@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import lombok.Getter;
+
+/**
+ * Accumulated run times of the tasks invoked on the client thread from a single origin
+ */
+public class InvokeStatistics
+{
+	/**
+	 * The class which submitted the tasks
+	 */
+	@Getter
+	private final String origin;
+
+	private long runs;
+	private long retries;
+	private long totalNanos;
+	private long maxNanos;
+	private int maxRetries;
+
+	InvokeStatistics(String origin)
+	{
+		this.origin = origin;
+	}
+
+	/**
+	 * Record a single run of a task
+	 *
+	 * @param elapsedNanos time taken by the task
+	 * @param completed false if the task asked to be run again
+	 * @param retries the number of times the task has asked to be run again so far
+	 */
+	synchronized void record(long elapsedNanos, boolean completed, int retries)
+	{
+		++runs;
+		totalNanos += elapsedNanos;
+		maxNanos = Math.max(maxNanos, elapsedNanos);
+
+		if (!completed)
+		{
+			++this.retries;
+		}
+
+		maxRetries = Math.max(maxRetries, retries);
+	}
+
+	public synchronized long getRuns()
+	{
+		return runs;
+	}
+
+	/**
+	 * @return the number of runs which asked to be run again
+	 */
+	public synchronized long getRetries()
+	{
+		return retries;
+	}
+
+	/**
+	 * @return the most times a single task has asked to be run again
+	 */
+	public synchronized int getMaxRetries()
+	{
+		return maxRetries;
+	}
+
+	public synchronized long getTotalNanos()
+	{
+		return totalNanos;
+	}
+
+	public synchronized long getMaxNanos()
+	{
+		return maxNanos;
+	}
+
+	public synchronized long getAverageNanos()
+	{
+		return runs == 0 ? 0 : totalNanos / runs;
+	}
+}
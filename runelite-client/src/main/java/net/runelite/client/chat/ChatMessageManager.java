@@ -26,16 +26,19 @@ package net.runelite.client.chat;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.eventbus.Subscribe;
 import java.awt.Color;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicReference;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.ChatLineBuffer;
@@ -57,6 +60,13 @@ import net.runelite.client.util.ColorUtil;
 public class ChatMessageManager
 {
 	private final Multimap<ChatMessageType, ChatColor> colorCache = HashMultimap.create();
+	// keyed on identity of the message node's RuneLite format message
+	private final LoadingCache<String, ChatMessageTemplate> templateCache = CacheBuilder.newBuilder()
+		.weakKeys()
+		.build(CacheLoader.from(ChatMessageTemplate::parse));
+	// color tags per ChatColorType ordinal, rebuilt from colorCache in loadColors
+	private volatile Map<ChatMessageType, String[]> opaqueColorTags = Collections.emptyMap();
+	private volatile Map<ChatMessageType, String[]> transparentColorTags = Collections.emptyMap();
 	private final Client client;
 	private final ChatColorConfig chatColorConfig;
 	private final ClientThread clientThread;
@@ -522,6 +532,26 @@ public class ChatMessageManager
 			cacheColor(new ChatColor(ChatColorType.HIGHLIGHT, chatColorConfig.transparentFilteredHighlight(), true),
 				ChatMessageType.FILTERED);
 		}
+
+		buildColorTags();
+	}
+
+	private void buildColorTags()
+	{
+		final Map<ChatMessageType, String[]> opaque = new EnumMap<>(ChatMessageType.class);
+		final Map<ChatMessageType, String[]> transparent = new EnumMap<>(ChatMessageType.class);
+
+		for (Map.Entry<ChatMessageType, ChatColor> entry : colorCache.entries())
+		{
+			final ChatColor chatColor = entry.getValue();
+			final Map<ChatMessageType, String[]> tags = chatColor.isTransparent() ? transparent : opaque;
+
+			tags.computeIfAbsent(entry.getKey(), k -> new String[ChatColorType.values().length])
+				[chatColor.getType().ordinal()] = ColorUtil.colorTag(chatColor.getColor());
+		}
+
+		opaqueColorTags = opaque;
+		transparentColorTags = transparent;
 	}
 
 	private void cacheColor(final ChatColor chatColor, final ChatMessageType... types)
@@ -575,41 +605,37 @@ public class ChatMessageManager
 		}
 
 		final boolean transparent = client.isResized() && transparencyVarbit != 0;
-		final Collection<ChatColor> chatColors = colorCache.get(target.getType());
+		final String[] colorTags = (transparent ? transparentColorTags : opaqueColorTags).get(target.getType());
 
 		// If we do not have any colors cached, simply set clean message
-		if (chatColors == null || chatColors.isEmpty())
+		if (colorTags == null)
 		{
 			target.setValue(target.getRuneLiteFormatMessage());
 			return;
 		}
 
-		target.setValue(recolorMessage(transparent, target.getRuneLiteFormatMessage(), target.getType()));
-	}
-
-	private String recolorMessage(boolean transparent, String message, ChatMessageType messageType)
-	{
-		final Collection<ChatColor> chatColors = colorCache.get(messageType);
-		final AtomicReference<String> resultMessage = new AtomicReference<>(message);
-
 		// Replace custom formatting with actual colors
-		chatColors.stream()
-			.filter(chatColor -> chatColor.isTransparent() == transparent)
-			.forEach(chatColor ->
-				resultMessage.getAndUpdate(oldMessage -> oldMessage.replaceAll(
-					"<col" + chatColor.getType().name() + ">",
-					ColorUtil.colorTag(chatColor.getColor()))));
-
-		return resultMessage.get();
+		final ChatMessageTemplate template = templateCache.getUnchecked(target.getRuneLiteFormatMessage());
+		target.setValue(template.format(colorTags));
 	}
 
 	private void refreshAll()
 	{
-		client.getChatLineMap().values().stream()
-			.filter(Objects::nonNull)
-			.flatMap(clb -> Arrays.stream(clb.getLines()))
-			.filter(Objects::nonNull)
-			.forEach(this::update);
+		for (ChatLineBuffer chatLineBuffer : client.getChatLineMap().values())
+		{
+			if (chatLineBuffer == null)
+			{
+				continue;
+			}
+
+			for (MessageNode line : chatLineBuffer.getLines())
+			{
+				if (line != null)
+				{
+					update(line);
+				}
+			}
+		}
 
 		client.refreshChat();
 	}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A RuneLite formatted message split into literal segments and the
+ * {@link ChatColorType} slots between them, so that recoloring a message
+ * is a single append of each segment and the tag configured for each slot.
+ */
+class ChatMessageTemplate
+{
+	private static final String COLOR_TAG_START = "<col";
+	private static final char COLOR_TAG_END = '>';
+	private static final ChatColorType[] COLOR_TYPES = ChatColorType.values();
+
+	/**
+	 * Literal text, one more element than {@link #slots}
+	 */
+	private final String[] literals;
+	private final ChatColorType[] slots;
+	private final String message;
+
+	private ChatMessageTemplate(String message, String[] literals, ChatColorType[] slots)
+	{
+		this.message = message;
+		this.literals = literals;
+		this.slots = slots;
+	}
+
+	/**
+	 * Split a message on its {@code <colNORMAL>}-style tags. Any other tags
+	 * are kept as literal text.
+	 *
+	 * @param message RuneLite formatted message
+	 * @return parsed template
+	 */
+	static ChatMessageTemplate parse(String message)
+	{
+		final List<String> literals = new ArrayList<>();
+		final List<ChatColorType> slots = new ArrayList<>();
+		int literalStart = 0;
+		int idx = message.indexOf(COLOR_TAG_START);
+
+		while (idx != -1)
+		{
+			final int nameStart = idx + COLOR_TAG_START.length();
+			final ChatColorType type = matchType(message, nameStart);
+
+			if (type == null)
+			{
+				idx = message.indexOf(COLOR_TAG_START, nameStart);
+				continue;
+			}
+
+			literals.add(message.substring(literalStart, idx));
+			slots.add(type);
+			literalStart = nameStart + type.name().length() + 1;
+			idx = message.indexOf(COLOR_TAG_START, literalStart);
+		}
+
+		literals.add(message.substring(literalStart));
+		return new ChatMessageTemplate(message,
+			literals.toArray(new String[0]),
+			slots.toArray(new ChatColorType[0]));
+	}
+
+	private static ChatColorType matchType(String message, int nameStart)
+	{
+		for (ChatColorType type : COLOR_TYPES)
+		{
+			final String name = type.name();
+			final int end = nameStart + name.length();
+
+			if (end < message.length()
+				&& message.charAt(end) == COLOR_TAG_END
+				&& message.startsWith(name, nameStart))
+			{
+				return type;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Fill the color slots of this template.
+	 *
+	 * @param colorTags color tag for each {@link ChatColorType}, indexed by ordinal. A null
+	 *                  entry leaves the original {@code <colTYPE>} tag in place.
+	 * @return the recolored message
+	 */
+	String format(String[] colorTags)
+	{
+		if (slots.length == 0)
+		{
+			return message;
+		}
+
+		final StringBuilder sb = new StringBuilder(message.length() + slots.length * 4);
+		for (int i = 0; i < slots.length; i++)
+		{
+			sb.append(literals[i]);
+
+			final String tag = colorTags[slots[i].ordinal()];
+			if (tag != null)
+			{
+				sb.append(tag);
+			}
+			else
+			{
+				sb.append(COLOR_TAG_START).append(slots[i].name()).append(COLOR_TAG_END);
+			}
+		}
+
+		return sb.append(literals[slots.length]).toString();
+	}
+}
@@ -261,4 +261,26 @@ public interface RuneLiteConfig extends Config
 	{
 		return 35;
 	}
+
+	@ConfigItem(
+		keyName = "overlayFrameBudget",
+		name = "Overlay frame budget (ms)",
+		description = "Throttles overlays which repeatedly take longer than this to render, 0 to disable.<br>Throttled overlays are only drawn every few frames.",
+		position = 40
+	)
+	default int overlayFrameBudget()
+	{
+		return 0;
+	}
+
+	@ConfigItem(
+		keyName = "clientThreadBudget",
+		name = "Client thread budget (ms)",
+		description = "Limits how long queued tasks may run on the client thread each frame, 0 to disable.<br>Tasks which do not fit are run on the following frames.",
+		position = 41
+	)
+	default int clientThreadBudget()
+	{
+		return 0;
+	}
 }
\ No newline at end of file
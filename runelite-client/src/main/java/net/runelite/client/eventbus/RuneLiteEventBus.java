@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A drop-in replacement for Guava's {@link EventBus}.
+ * <p>
+ * Subscriber methods are resolved once at registration and invoked through lambdas generated with
+ * {@link LambdaMetafactory} instead of reflection. Posting an event looks up a cached array of all
+ * subscribers for the event class and its supertypes, so steady state posts do not allocate.
+ * <p>
+ * Dispatch semantics match Guava's default bus: subscribers of supertypes receive the event,
+ * events posted from within a subscriber are queued and dispatched once the current event has been
+ * delivered to all subscribers on that thread, events without subscribers are reposted as
+ * {@link DeadEvent}s, and subscribers without {@link AllowConcurrentEvents} are never invoked
+ * concurrently.
+ */
+@Singleton
+@Slf4j
+public class RuneLiteEventBus extends EventBus
+{
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+
+	/**
+	 * Subscribers keyed by the event type of their method. Replaced, never mutated,
+	 * on register and unregister.
+	 */
+	private volatile Registry registry = new Registry(Collections.emptyMap());
+
+	private final ThreadLocal<DispatchQueue> dispatchQueue = ThreadLocal.withInitial(DispatchQueue::new);
+
+	@Override
+	public synchronized void register(Object object)
+	{
+		final Map<Class<?>, List<Subscriber>> subscribers = copy(registry.subscribers);
+
+		for (Method method : findSubscriberMethods(object.getClass()))
+		{
+			final Class<?> eventType = method.getParameterTypes()[0];
+			final List<Subscriber> list = subscribers.computeIfAbsent(eventType, k -> new ArrayList<>());
+
+			if (list.stream().anyMatch(s -> s.matches(object, method)))
+			{
+				// already registered
+				continue;
+			}
+
+			final boolean synchronize = method.getAnnotation(AllowConcurrentEvents.class) == null;
+			list.add(new Subscriber(object, method, createHandler(object, method), synchronize));
+		}
+
+		registry = new Registry(subscribers);
+	}
+
+	@Override
+	public synchronized void unregister(Object object)
+	{
+		final Map<Class<?>, List<Subscriber>> subscribers = copy(registry.subscribers);
+
+		for (Method method : findSubscriberMethods(object.getClass()))
+		{
+			final Class<?> eventType = method.getParameterTypes()[0];
+			final List<Subscriber> list = subscribers.get(eventType);
+
+			if (list == null || !list.removeIf(s -> s.matches(object, method)))
+			{
+				throw new IllegalArgumentException("missing event subscriber for an annotated method. Is " + object + " registered?");
+			}
+
+			if (list.isEmpty())
+			{
+				subscribers.remove(eventType);
+			}
+		}
+
+		registry = new Registry(subscribers);
+	}
+
+	@Override
+	public void post(Object event)
+	{
+		final DispatchQueue queue = dispatchQueue.get();
+
+		if (queue.dispatching)
+		{
+			queue.events.add(event);
+			return;
+		}
+
+		queue.dispatching = true;
+
+		try
+		{
+			dispatch(event);
+
+			Object next;
+			while ((next = queue.events.poll()) != null)
+			{
+				dispatch(next);
+			}
+		}
+		finally
+		{
+			queue.dispatching = false;
+			queue.events.clear();
+		}
+	}
+
+	/**
+	 * Get a snapshot of the invocation count and cumulative time spent in every registered subscriber
+	 *
+	 * @return subscriber metrics, sorted by descending total time
+	 */
+	public List<SubscriberMetrics> getSubscriberMetrics()
+	{
+		final List<SubscriberMetrics> metrics = new ArrayList<>();
+
+		for (List<Subscriber> subscribers : registry.subscribers.values())
+		{
+			for (Subscriber subscriber : subscribers)
+			{
+				metrics.add(subscriber.metrics());
+			}
+		}
+
+		metrics.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+		return metrics;
+	}
+
+	private void dispatch(Object event)
+	{
+		final Subscriber[] subscribers = registry.getSubscribers(event.getClass());
+
+		if (subscribers.length == 0)
+		{
+			if (!(event instanceof DeadEvent))
+			{
+				post(new DeadEvent(this, event));
+			}
+			return;
+		}
+
+		for (Subscriber subscriber : subscribers)
+		{
+			final long start = System.nanoTime();
+
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Throwable ex)
+			{
+				// like Guava, a failing subscriber must not prevent delivery to the others
+				log.warn("uncaught exception in event subscriber {}", subscriber, ex);
+			}
+			finally
+			{
+				subscriber.record(System.nanoTime() - start);
+			}
+		}
+	}
+
+	private static Map<Class<?>, List<Subscriber>> copy(Map<Class<?>, List<Subscriber>> subscribers)
+	{
+		final Map<Class<?>, List<Subscriber>> copy = new HashMap<>();
+		subscribers.forEach((type, list) -> copy.put(type, new ArrayList<>(list)));
+		return copy;
+	}
+
+	private static List<Method> findSubscriberMethods(Class<?> clazz)
+	{
+		final List<Method> methods = new ArrayList<>();
+
+		for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass())
+		{
+			for (Method method : c.getDeclaredMethods())
+			{
+				if (method.getAnnotation(Subscribe.class) == null || method.isSynthetic())
+				{
+					continue;
+				}
+
+				if (method.getParameterCount() != 1)
+				{
+					throw new IllegalArgumentException("Method " + method + " has @Subscribe annotation but has "
+						+ method.getParameterCount() + " parameters. Subscriber methods must have exactly 1 parameter.");
+				}
+
+				if (methods.stream().anyMatch(m -> m.getName().equals(method.getName())
+					&& m.getParameterTypes()[0] == method.getParameterTypes()[0]))
+				{
+					// overridden by a subclass method which is already registered
+					continue;
+				}
+
+				methods.add(method);
+			}
+		}
+
+		return methods;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Consumer<Object> createHandler(Object target, Method method)
+	{
+		if (!Modifier.isStatic(method.getModifiers()))
+		{
+			try
+			{
+				final Class<?> declaringClass = method.getDeclaringClass();
+				final MethodHandles.Lookup caller = privateLookupIn(declaringClass);
+				final MethodHandle implementation = caller.unreflect(method);
+				final MethodType instantiatedType = MethodType.methodType(void.class, method.getParameterTypes()[0]);
+
+				final CallSite site = LambdaMetafactory.metafactory(caller,
+					"accept",
+					MethodType.methodType(Consumer.class, declaringClass),
+					MethodType.methodType(void.class, Object.class),
+					implementation,
+					instantiatedType);
+
+				return (Consumer<Object>) site.getTarget().invoke(target);
+			}
+			catch (Throwable ex)
+			{
+				log.debug("Unable to generate handler for {}, falling back to reflection", method, ex);
+			}
+		}
+
+		method.setAccessible(true);
+		return event ->
+		{
+			try
+			{
+				method.invoke(target, event);
+			}
+			catch (IllegalAccessException ex)
+			{
+				throw new IllegalStateException(ex);
+			}
+			catch (InvocationTargetException ex)
+			{
+				final Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException)
+				{
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error)
+				{
+					throw (Error) cause;
+				}
+				throw new RuntimeException(cause);
+			}
+		};
+	}
+
+	/**
+	 * Get a lookup with private access to the given class, which is required for the generated
+	 * lambda to call non-public subscriber methods
+	 */
+	private static MethodHandles.Lookup privateLookupIn(Class<?> clazz) throws ReflectiveOperationException
+	{
+		try
+		{
+			// Java 9+
+			final Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+			return (MethodHandles.Lookup) privateLookupIn.invoke(null, clazz, MethodHandles.lookup());
+		}
+		catch (NoSuchMethodException ex)
+		{
+			// Java 8, see ConfigInvocationHandler.callDefaultMethod
+			final Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+			constructor.setAccessible(true);
+			return constructor.newInstance(clazz, MethodHandles.Lookup.PUBLIC | MethodHandles.Lookup.PRIVATE | MethodHandles.Lookup.PACKAGE);
+		}
+	}
+
+	private static Set<Class<?>> flattenHierarchy(Class<?> clazz)
+	{
+		final Set<Class<?>> types = new LinkedHashSet<>();
+		for (Class<?> c = clazz; c != null; c = c.getSuperclass())
+		{
+			types.add(c);
+			addInterfaces(c, types);
+		}
+		return types;
+	}
+
+	private static void addInterfaces(Class<?> clazz, Set<Class<?>> types)
+	{
+		for (Class<?> iface : clazz.getInterfaces())
+		{
+			if (types.add(iface))
+			{
+				addInterfaces(iface, types);
+			}
+		}
+	}
+
+	private static class Registry
+	{
+		private final Map<Class<?>, List<Subscriber>> subscribers;
+		private final Map<Class<?>, Subscriber[]> dispatchCache = new ConcurrentHashMap<>();
+
+		Registry(Map<Class<?>, List<Subscriber>> subscribers)
+		{
+			this.subscribers = subscribers;
+		}
+
+		Subscriber[] getSubscribers(Class<?> eventClass)
+		{
+			final Subscriber[] cached = dispatchCache.get(eventClass);
+			if (cached != null)
+			{
+				return cached;
+			}
+
+			return dispatchCache.computeIfAbsent(eventClass, this::resolve);
+		}
+
+		private Subscriber[] resolve(Class<?> eventClass)
+		{
+			final ImmutableList.Builder<Subscriber> builder = ImmutableList.builder();
+
+			for (Class<?> type : flattenHierarchy(eventClass))
+			{
+				final List<Subscriber> list = subscribers.get(type);
+				if (list != null)
+				{
+					builder.addAll(list);
+				}
+			}
+
+			final List<Subscriber> resolved = builder.build();
+			return resolved.isEmpty() ? EMPTY : resolved.toArray(EMPTY);
+		}
+	}
+
+	private static class DispatchQueue
+	{
+		private final ArrayDeque<Object> events = new ArrayDeque<>();
+		private boolean dispatching;
+	}
+}
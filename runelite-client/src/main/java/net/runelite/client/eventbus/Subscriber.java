@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+import lombok.Getter;
+
+/**
+ * A single {@link com.google.common.eventbus.Subscribe} method bound to its target object
+ */
+final class Subscriber
+{
+	@Getter
+	private final Object target;
+
+	@Getter
+	private final Method method;
+
+	private final Consumer<Object> handler;
+
+	/**
+	 * Whether the subscriber must not be invoked concurrently, which is the case
+	 * unless the method is annotated with {@link com.google.common.eventbus.AllowConcurrentEvents}
+	 */
+	private final boolean synchronize;
+
+	// these are not updated atomically, so they can drift slightly when an
+	// event type is posted from more than one thread
+	private long invocations;
+	private long totalNanos;
+
+	Subscriber(Object target, Method method, Consumer<Object> handler, boolean synchronize)
+	{
+		this.target = target;
+		this.method = method;
+		this.handler = handler;
+		this.synchronize = synchronize;
+	}
+
+	void invoke(Object event)
+	{
+		if (synchronize)
+		{
+			synchronized (this)
+			{
+				handler.accept(event);
+			}
+		}
+		else
+		{
+			handler.accept(event);
+		}
+	}
+
+	void record(long nanos)
+	{
+		++invocations;
+		totalNanos += nanos;
+	}
+
+	SubscriberMetrics metrics()
+	{
+		return new SubscriberMetrics(
+			target.getClass().getName() + "." + method.getName(),
+			method.getParameterTypes()[0],
+			invocations,
+			totalNanos);
+	}
+
+	boolean matches(Object target, Method method)
+	{
+		return this.target == target && this.method.equals(method);
+	}
+
+	@Override
+	public String toString()
+	{
+		return target.getClass().getName() + "." + method.getName() + "(" + method.getParameterTypes()[0].getSimpleName() + ")";
+	}
+}
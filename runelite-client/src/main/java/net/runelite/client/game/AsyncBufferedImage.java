@@ -26,6 +26,8 @@
 package net.runelite.client.game;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.WritableRaster;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import javax.swing.ImageIcon;
@@ -41,6 +43,14 @@ public class AsyncBufferedImage extends BufferedImage
 		super(width, height, imageType);
 	}
 
+	/**
+	 * Create an image backed by an existing raster, such as a region of a larger atlas
+	 */
+	AsyncBufferedImage(ColorModel colorModel, WritableRaster raster)
+	{
+		super(colorModel, raster, colorModel.isAlphaPremultiplied(), null);
+	}
+
 	/**
 	 * Call when the buffer has been changed
 	 */
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.game;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -31,11 +32,16 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.eventbus.Subscribe;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -76,12 +82,21 @@ public class ItemManager
 		private final Color outlineColor;
 	}
 
+	private static final int IMAGE_WIDTH = 36;
+	private static final int IMAGE_HEIGHT = 32;
+	private static final int ATLAS_COLUMNS = 16;
+
 	private final Client client;
 	private final ScheduledExecutorService scheduledExecutorService;
 	private final ClientThread clientThread;
 
 	private final ItemClient itemClient = new ItemClient();
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private volatile ItemSearchIndex searchIndex = ItemSearchIndex.EMPTY;
+	/**
+	 * Item prices indexed by item id, with the prices of mapped untradeable items
+	 * already summed from their tradeable counterparts
+	 */
+	private volatile int[] mappedPrices = new int[0];
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<Integer, ItemComposition> itemCompositions;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
@@ -202,15 +217,10 @@ public class ItemManager
 			ItemPrice[] prices = itemClient.getPrices();
 			if (prices != null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getId(), price);
-				}
-				itemPrices = map.build();
+				setPrices(prices);
 			}
 
-			log.debug("Loaded {} prices", itemPrices.size());
+			log.debug("Loaded {} prices", searchIndex.size());
 		}
 		catch (IOException e)
 		{
@@ -218,6 +228,49 @@ public class ItemManager
 		}
 	}
 
+	@VisibleForTesting
+	void setPrices(ItemPrice[] prices)
+	{
+		int maxId = -1;
+		for (ItemPrice price : prices)
+		{
+			maxId = Math.max(maxId, price.getId());
+		}
+
+		final Set<Integer> mappedItems = ItemMapping.getMappedItems();
+		for (int itemId : mappedItems)
+		{
+			maxId = Math.max(maxId, itemId);
+		}
+
+		final int[] basePrices = new int[maxId + 1];
+		for (ItemPrice price : prices)
+		{
+			if (price.getId() >= 0)
+			{
+				basePrices[price.getId()] = price.getPrice();
+			}
+		}
+
+		// Mapped items have no price of their own, only the sum of the items they map to
+		final int[] mapped = basePrices.clone();
+		for (int itemId : mappedItems)
+		{
+			int price = 0;
+			for (int mappedId : ItemMapping.map(itemId))
+			{
+				if (mappedId >= 0 && mappedId < basePrices.length)
+				{
+					price += basePrices[mappedId];
+				}
+			}
+			mapped[itemId] = price;
+		}
+
+		searchIndex = new ItemSearchIndex(Arrays.asList(prices));
+		mappedPrices = mapped;
+	}
+
 	@Subscribe
 	public void onGameStateChanged(final GameStateChanged event)
 	{
@@ -250,39 +303,25 @@ public class ItemManager
 			return 1000;
 		}
 
-		int price = 0;
-		for (int mappedID : ItemMapping.map(itemID))
+		final int[] prices = mappedPrices;
+		if (itemID < 0 || itemID >= prices.length)
 		{
-			ItemPrice ip = itemPrices.get(mappedID);
-			if (ip != null)
-			{
-				price += ip.getPrice();
-			}
+			return 0;
 		}
 
-		return price;
+		return prices[itemID];
 	}
 
 	/**
 	 * Search for tradeable items based on item name
 	 *
 	 * @param itemName item name
-	 * @return
+	 * @return items whose name contains the search, ordered by exact, prefix, word prefix
+	 * and then substring matches, shortest name first
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
-
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+		return searchIndex.search(itemName);
 	}
 
 	/**
@@ -325,7 +364,7 @@ public class ItemManager
 	 */
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
-		AsyncBufferedImage img = new AsyncBufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		AsyncBufferedImage img = new AsyncBufferedImage(IMAGE_WIDTH, IMAGE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
 		clientThread.invoke(() ->
 		{
 			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
@@ -345,6 +384,42 @@ public class ItemManager
 		return img;
 	}
 
+	/**
+	 * Draws item sprites into their images in a single pass on the client thread, retrying
+	 * on later ticks for any sprites which could not yet be created
+	 */
+	private void loadImages(Map<ImageKey, AsyncBufferedImage> images)
+	{
+		final Map<ImageKey, AsyncBufferedImage> pending = new LinkedHashMap<>(images);
+		clientThread.invoke(() ->
+		{
+			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+			{
+				return false;
+			}
+
+			final Iterator<Map.Entry<ImageKey, AsyncBufferedImage>> it = pending.entrySet().iterator();
+			while (it.hasNext())
+			{
+				final Map.Entry<ImageKey, AsyncBufferedImage> entry = it.next();
+				final ImageKey key = entry.getKey();
+				final SpritePixels sprite = client.createItemSprite(key.itemId, key.itemQuantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
+					key.stackable ? 1 : 0, false, CLIENT_DEFAULT_ZOOM);
+				if (sprite == null)
+				{
+					continue;
+				}
+
+				final AsyncBufferedImage img = entry.getValue();
+				sprite.toBufferedImage(img);
+				img.changed();
+				it.remove();
+			}
+
+			return pending.isEmpty();
+		});
+	}
+
 	/**
 	 * Get item sprite image as BufferedImage.
 	 * <p>
@@ -383,6 +458,66 @@ public class ItemManager
 		}
 	}
 
+	/**
+	 * Get item sprite images for many items at once. Items with a quantity greater than one
+	 * are drawn as stackable.
+	 * <p>
+	 * Images which are not yet cached share a single atlas image, and are all drawn in a single
+	 * pass on the client thread. Like {@link #getImage(int, int, boolean)}, the images may be blank
+	 * when returned and filled in later.
+	 *
+	 * @param items the items to get images for
+	 * @return the item images, in the same order as the items
+	 */
+	public List<AsyncBufferedImage> getImages(List<ItemStack> items)
+	{
+		final ImageKey[] keys = new ImageKey[items.size()];
+		final List<AsyncBufferedImage> images = new ArrayList<>(items.size());
+		final Set<ImageKey> missing = new LinkedHashSet<>();
+		for (int i = 0; i < keys.length; ++i)
+		{
+			final ItemStack item = items.get(i);
+			keys[i] = new ImageKey(item.getId(), item.getQuantity(), item.getQuantity() > 1);
+
+			final AsyncBufferedImage image = itemImages.getIfPresent(keys[i]);
+			if (image == null)
+			{
+				missing.add(keys[i]);
+			}
+			images.add(image);
+		}
+
+		if (missing.isEmpty())
+		{
+			return images;
+		}
+
+		final int columns = Math.min(missing.size(), ATLAS_COLUMNS);
+		final int rows = (missing.size() + columns - 1) / columns;
+		final BufferedImage atlas = new BufferedImage(columns * IMAGE_WIDTH, rows * IMAGE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+
+		final Map<ImageKey, AsyncBufferedImage> loaded = new LinkedHashMap<>(missing.size());
+		for (ImageKey key : missing)
+		{
+			final int index = loaded.size();
+			final WritableRaster raster = atlas.getRaster().createWritableChild(
+				(index % columns) * IMAGE_WIDTH, (index / columns) * IMAGE_HEIGHT, IMAGE_WIDTH, IMAGE_HEIGHT, 0, 0, null);
+			loaded.put(key, new AsyncBufferedImage(atlas.getColorModel(), raster));
+		}
+
+		for (int i = 0; i < keys.length; ++i)
+		{
+			if (images.get(i) == null)
+			{
+				images.set(i, loaded.get(keys[i]));
+			}
+		}
+
+		itemImages.putAll(loaded);
+		loadImages(loaded);
+		return images;
+	}
+
 	/**
 	 * Create item sprite and applies an outline.
 	 *
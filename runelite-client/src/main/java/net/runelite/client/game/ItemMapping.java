@@ -29,6 +29,7 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Set;
 import static net.runelite.api.ItemID.*;
 
 /**
@@ -262,4 +263,14 @@ public enum ItemMapping
 
 		return mapping.iterator().next();
 	}
+
+	/**
+	 * Get the ids of all untradeable items which have a mapping.
+	 *
+	 * @return the mapped item ids
+	 */
+	static Set<Integer> getMappedItems()
+	{
+		return Collections.unmodifiableSet(MAPPINGS.keySet());
+	}
 }
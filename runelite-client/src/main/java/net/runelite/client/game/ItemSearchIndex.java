@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * An index over item names for substring search. Each name is broken into
+ * trigrams, and a query is only checked against the names that contain its
+ * rarest trigram. Results are ranked with exact matches first, followed by
+ * names starting with the query, names with a word starting with the query,
+ * and then any other name containing the query. Within a rank, shorter names
+ * come first.
+ */
+class ItemSearchIndex
+{
+	static final ItemSearchIndex EMPTY = new ItemSearchIndex(Collections.emptyList());
+
+	private static final int RANK_EXACT = 0;
+	private static final int RANK_PREFIX = 1;
+	private static final int RANK_WORD_PREFIX = 2;
+	private static final int RANK_SUBSTRING = 3;
+
+	private final ItemPrice[] items;
+	private final String[] names;
+	private final Map<Long, int[]> trigrams;
+
+	ItemSearchIndex(Collection<ItemPrice> prices)
+	{
+		items = prices.toArray(new ItemPrice[0]);
+		Arrays.sort(items, Comparator.comparingInt((ItemPrice item) -> item.getName().length())
+			.thenComparing(ItemPrice::getName));
+
+		names = new String[items.length];
+		final Map<Long, List<Integer>> postings = new HashMap<>();
+		for (int i = 0; i < items.length; ++i)
+		{
+			final String name = items[i].getName().toLowerCase();
+			names[i] = name;
+
+			for (int j = 0; j + 3 <= name.length(); ++j)
+			{
+				final List<Integer> posting = postings.computeIfAbsent(trigram(name, j), k -> new ArrayList<>());
+				// Postings are built in item order, so a repeated trigram is always the last entry
+				if (posting.isEmpty() || posting.get(posting.size() - 1) != i)
+				{
+					posting.add(i);
+				}
+			}
+		}
+
+		trigrams = new HashMap<>(postings.size() * 4 / 3 + 1);
+		for (Map.Entry<Long, List<Integer>> entry : postings.entrySet())
+		{
+			trigrams.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+		}
+	}
+
+	/**
+	 * Find all items whose name contains the query, ignoring case.
+	 *
+	 * @param query the text to search for
+	 * @return the matching items, best match first
+	 */
+	List<ItemPrice> search(String query)
+	{
+		query = query.toLowerCase();
+
+		int[] candidates = null;
+		for (int j = 0; j + 3 <= query.length(); ++j)
+		{
+			final int[] posting = trigrams.get(trigram(query, j));
+			if (posting == null)
+			{
+				return Collections.emptyList();
+			}
+
+			if (candidates == null || posting.length < candidates.length)
+			{
+				candidates = posting;
+			}
+		}
+
+		// Matches are collected as rank << 32 | index, so sorting them orders by rank and then by name
+		long[] matches = new long[candidates != null ? candidates.length : names.length];
+		int count = 0;
+		final int limit = candidates != null ? candidates.length : names.length;
+		for (int i = 0; i < limit; ++i)
+		{
+			final int index = candidates != null ? candidates[i] : i;
+			final int rank = rank(names[index], query);
+			if (rank >= 0)
+			{
+				matches[count++] = (long) rank << 32 | index;
+			}
+		}
+
+		Arrays.sort(matches, 0, count);
+
+		final List<ItemPrice> result = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+		{
+			result.add(items[(int) matches[i]]);
+		}
+		return result;
+	}
+
+	int size()
+	{
+		return items.length;
+	}
+
+	private static int rank(String name, String query)
+	{
+		int index = name.indexOf(query);
+		if (index < 0)
+		{
+			return -1;
+		}
+
+		if (index == 0)
+		{
+			return name.length() == query.length() ? RANK_EXACT : RANK_PREFIX;
+		}
+
+		for (; index >= 0; index = name.indexOf(query, index + 1))
+		{
+			if (!Character.isLetterOrDigit(name.charAt(index - 1)))
+			{
+				return RANK_WORD_PREFIX;
+			}
+		}
+
+		return RANK_SUBSTRING;
+	}
+
+	private static long trigram(String s, int index)
+	{
+		return (long) s.charAt(index) << 32 | (long) s.charAt(index + 1) << 16 | s.charAt(index + 2);
+	}
+}
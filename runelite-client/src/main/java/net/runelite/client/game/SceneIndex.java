@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.eventbus.Subscribe;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Value;
+import net.runelite.api.Client;
+import static net.runelite.api.Constants.MAX_Z;
+import static net.runelite.api.Constants.SCENE_SIZE;
+import net.runelite.api.GameObject;
+import net.runelite.api.NPC;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
+import net.runelite.api.Point;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.DecorativeObjectChanged;
+import net.runelite.api.events.DecorativeObjectDespawned;
+import net.runelite.api.events.DecorativeObjectSpawned;
+import net.runelite.api.events.GameObjectChanged;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GroundObjectChanged;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.WallObjectChanged;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.util.Text;
+
+/**
+ * Keeps indexes of the objects, NPCs and ground items in the scene, updated from their spawn
+ * and despawn events, so they can be looked up without scanning the scene.
+ * <p>
+ * Objects are indexed by id and by a coarse grid of 8x8 tile cells, NPCs by id and by
+ * standardized name, and ground items by id. NPCs are indexed under the id and name they had
+ * when they spawned, which for a transformed NPC may not be its current id or name, and are
+ * removed by the same keys when they despawn.
+ * <p>
+ * The index is updated and must be queried on the client thread.
+ */
+@Singleton
+public class SceneIndex
+{
+	private static final int CELL_SHIFT = 3;
+	private static final int CELL_SIZE = 1 << CELL_SHIFT;
+	private static final int CELLS = (SCENE_SIZE + CELL_SIZE - 1) >> CELL_SHIFT;
+
+	private final Client client;
+	private final ListMultimap<Integer, TileObject> objects = ArrayListMultimap.create();
+	private final List<List<TileObject>> cells = new ArrayList<>(MAX_Z * CELLS * CELLS);
+	private final ListMultimap<Integer, NPC> npcs = ArrayListMultimap.create();
+	private final ListMultimap<String, NPC> npcsByName = ArrayListMultimap.create();
+	private final Map<NPC, NpcKey> npcKeys = new IdentityHashMap<>();
+	private final ListMultimap<Integer, Tile> items = ArrayListMultimap.create();
+
+	@Inject
+	private SceneIndex(Client client)
+	{
+		this.client = client;
+
+		for (int i = 0; i < MAX_Z * CELLS * CELLS; ++i)
+		{
+			cells.add(new ArrayList<>());
+		}
+	}
+
+	/**
+	 * Get the objects in the scene with the given id.
+	 *
+	 * @param id object id
+	 * @return the objects, which should not be modified
+	 */
+	public List<TileObject> getObjects(int id)
+	{
+		return Collections.unmodifiableList(objects.get(id));
+	}
+
+	/**
+	 * Get the objects in the scene with the given id within a distance of a location.
+	 *
+	 * @param id object id
+	 * @param location the location to search around
+	 * @param distance the maximum distance from the location, in tiles
+	 * @return the objects
+	 */
+	public List<TileObject> getObjects(int id, WorldPoint location, int distance)
+	{
+		final int sceneX = location.getX() - client.getBaseX();
+		final int sceneY = location.getY() - client.getBaseY();
+		final List<TileObject> result = new ArrayList<>();
+		for (TileObject object : objects.get(id))
+		{
+			if (isWithin(object, sceneX, sceneY, location.getPlane(), distance))
+			{
+				result.add(object);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get all of the objects in the scene within a distance of a location.
+	 *
+	 * @param location the location to search around
+	 * @param distance the maximum distance from the location, in tiles
+	 * @return the objects
+	 */
+	public List<TileObject> getObjects(WorldPoint location, int distance)
+	{
+		final int sceneX = location.getX() - client.getBaseX();
+		final int sceneY = location.getY() - client.getBaseY();
+		final int plane = location.getPlane();
+		final List<TileObject> result = new ArrayList<>();
+		if (plane < 0 || plane >= MAX_Z)
+		{
+			return result;
+		}
+
+		final int minCellX = Math.max(0, (sceneX - distance) >> CELL_SHIFT);
+		final int maxCellX = Math.min(CELLS - 1, (sceneX + distance) >> CELL_SHIFT);
+		final int minCellY = Math.max(0, (sceneY - distance) >> CELL_SHIFT);
+		final int maxCellY = Math.min(CELLS - 1, (sceneY + distance) >> CELL_SHIFT);
+		for (int cellX = minCellX; cellX <= maxCellX; ++cellX)
+		{
+			for (int cellY = minCellY; cellY <= maxCellY; ++cellY)
+			{
+				for (TileObject object : cells.get(cellIndex(plane, cellX, cellY)))
+				{
+					if (isWithin(object, sceneX, sceneY, plane, distance))
+					{
+						result.add(object);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the NPCs in the scene with the given id.
+	 *
+	 * @param id npc id
+	 * @return the NPCs, which should not be modified
+	 */
+	public List<NPC> getNpcs(int id)
+	{
+		return Collections.unmodifiableList(npcs.get(id));
+	}
+
+	/**
+	 * Get the NPCs in the scene with the given name, compared with {@link Text#standardize(String)}.
+	 *
+	 * @param name npc name
+	 * @return the NPCs, which should not be modified
+	 */
+	public List<NPC> getNpcs(String name)
+	{
+		return Collections.unmodifiableList(npcsByName.get(Text.standardize(name)));
+	}
+
+	/**
+	 * Get the tiles with a ground item of the given id. A tile is listed once for each
+	 * matching item on it.
+	 *
+	 * @param id item id
+	 * @return the tiles, which should not be modified
+	 */
+	public List<Tile> getItemTiles(int id)
+	{
+		return Collections.unmodifiableList(items.get(id));
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		switch (event.getGameState())
+		{
+			case HOPPING:
+			case LOGIN_SCREEN:
+				npcs.clear();
+				npcsByName.clear();
+				npcKeys.clear();
+				// fall through
+			case LOADING:
+				// The scene is rebuilt and every object and item spawns again
+				objects.clear();
+				cells.forEach(List::clear);
+				items.clear();
+				break;
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		if (isOrigin(event.getTile(), event.getGameObject()))
+		{
+			addObject(event.getGameObject());
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectChanged(GameObjectChanged event)
+	{
+		if (isOrigin(event.getTile(), event.getPrevious()))
+		{
+			removeObject(event.getPrevious());
+		}
+		if (isOrigin(event.getTile(), event.getGameObject()))
+		{
+			addObject(event.getGameObject());
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		if (isOrigin(event.getTile(), event.getGameObject()))
+		{
+			removeObject(event.getGameObject());
+		}
+	}
+
+	@Subscribe
+	public void onWallObjectSpawned(WallObjectSpawned event)
+	{
+		addObject(event.getWallObject());
+	}
+
+	@Subscribe
+	public void onWallObjectChanged(WallObjectChanged event)
+	{
+		removeObject(event.getPrevious());
+		addObject(event.getWallObject());
+	}
+
+	@Subscribe
+	public void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		removeObject(event.getWallObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
+	{
+		addObject(event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectChanged(DecorativeObjectChanged event)
+	{
+		removeObject(event.getPrevious());
+		addObject(event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+	{
+		removeObject(event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectSpawned(GroundObjectSpawned event)
+	{
+		addObject(event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectChanged(GroundObjectChanged event)
+	{
+		removeObject(event.getPrevious());
+		addObject(event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectDespawned(GroundObjectDespawned event)
+	{
+		removeObject(event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onNpcSpawned(NpcSpawned event)
+	{
+		final NPC npc = event.getNpc();
+		final NpcKey key = new NpcKey(npc.getId(), npc.getName() != null ? Text.standardize(npc.getName()) : null);
+		npcKeys.put(npc, key);
+		npcs.put(key.getId(), npc);
+		if (key.getName() != null)
+		{
+			npcsByName.put(key.getName(), npc);
+		}
+	}
+
+	@Subscribe
+	public void onNpcDespawned(NpcDespawned event)
+	{
+		final NPC npc = event.getNpc();
+		final NpcKey key = npcKeys.remove(npc);
+		if (key == null)
+		{
+			return;
+		}
+
+		npcs.remove(key.getId(), npc);
+		if (key.getName() != null)
+		{
+			npcsByName.remove(key.getName(), npc);
+		}
+	}
+
+	@Subscribe
+	public void onItemSpawned(ItemSpawned event)
+	{
+		items.put(event.getItem().getId(), event.getTile());
+	}
+
+	@Subscribe
+	public void onItemDespawned(ItemDespawned event)
+	{
+		items.remove(event.getItem().getId(), event.getTile());
+	}
+
+	private void addObject(TileObject object)
+	{
+		objects.put(object.getId(), object);
+
+		final List<TileObject> cell = getCell(object);
+		if (cell != null)
+		{
+			cell.add(object);
+		}
+	}
+
+	private void removeObject(TileObject object)
+	{
+		objects.remove(object.getId(), object);
+
+		final List<TileObject> cell = getCell(object);
+		if (cell != null)
+		{
+			cell.remove(object);
+		}
+	}
+
+	private List<TileObject> getCell(TileObject object)
+	{
+		final int plane = object.getPlane();
+		final int cellX = (object.getX() >> LOCAL_COORD_BITS) >> CELL_SHIFT;
+		final int cellY = (object.getY() >> LOCAL_COORD_BITS) >> CELL_SHIFT;
+		if (plane < 0 || plane >= MAX_Z || cellX < 0 || cellX >= CELLS || cellY < 0 || cellY >= CELLS)
+		{
+			return null;
+		}
+
+		return cells.get(cellIndex(plane, cellX, cellY));
+	}
+
+	private static int cellIndex(int plane, int cellX, int cellY)
+	{
+		return (plane * CELLS + cellX) * CELLS + cellY;
+	}
+
+	private static boolean isWithin(TileObject object, int sceneX, int sceneY, int plane, int distance)
+	{
+		return object.getPlane() == plane
+			&& Math.abs((object.getX() >> LOCAL_COORD_BITS) - sceneX) <= distance
+			&& Math.abs((object.getY() >> LOCAL_COORD_BITS) - sceneY) <= distance;
+	}
+
+	/**
+	 * Game objects larger than one tile are on every tile they cover, so they are only
+	 * indexed from the tile at their south west corner.
+	 */
+	private static boolean isOrigin(Tile tile, GameObject object)
+	{
+		if (object == null)
+		{
+			return false;
+		}
+
+		final Point min = object.getSceneMinLocation();
+		final Point location = tile.getSceneLocation();
+		return min == null || location == null || min.equals(location);
+	}
+
+	/**
+	 * The keys an NPC was indexed under when it spawned. The id and name of an NPC
+	 * follow its transform, so they can differ by the time it despawns.
+	 */
+	@Value
+	private static class NpcKey
+	{
+		private final int id;
+		private final String name;
+	}
+}
@@ -31,12 +31,15 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.MenuAction;
@@ -69,10 +72,13 @@ public class MenuManager
 	private final Map<Integer, String> playerMenuIndexMap = new HashMap<>();
 	//Used to manage custom non-player menu options
 	private final Multimap<Integer, WidgetMenuOption> managedMenuOptions = HashMultimap.create();
-	private final Set<String> npcMenuOptions = new HashSet<>();
+	//Managed menu options by widget, option and target, to find the option clicked.
+	//The option and target can change after the menu is added, so a miss falls back to the widget's options
+	private final Map<MenuOptionKey, WidgetMenuOption> managedMenuOptionsByKey = new HashMap<>();
+	private final Set<String> npcMenuOptions = new LinkedHashSet<>();
 
 	@Inject
-	private MenuManager(Client client, EventBus eventBus)
+	MenuManager(Client client, EventBus eventBus)
 	{
 		this.client = client;
 		this.eventBus = eventBus;
@@ -83,9 +89,8 @@ public class MenuManager
 		npcMenuOptions.add(option);
 
 		// add to surrounding npcs
-		for (NPC npc : client.getNpcs())
+		for (NPCComposition composition : getNpcCompositions())
 		{
-			NPCComposition composition = npc.getComposition();
 			addNpcOption(composition, option);
 		}
 	}
@@ -95,11 +100,30 @@ public class MenuManager
 		npcMenuOptions.remove(option);
 
 		// remove this option from all npc compositions
+		for (NPCComposition composition : getNpcCompositions())
+		{
+			removeNpcOption(composition, option);
+		}
+	}
+
+	/**
+	 * Get the compositions of the surrounding npcs. Npcs of the same type share a composition,
+	 * so each is only returned once.
+	 */
+	private Set<NPCComposition> getNpcCompositions()
+	{
+		Set<NPCComposition> compositions = Collections.newSetFromMap(new IdentityHashMap<>());
+
 		for (NPC npc : client.getNpcs())
 		{
 			NPCComposition composition = npc.getComposition();
-			removeNpcOption(composition, option);
+			if (composition != null)
+			{
+				compositions.add(composition);
+			}
 		}
+
+		return compositions;
 	}
 
 	/**
@@ -111,6 +135,7 @@ public class MenuManager
 	{
 		WidgetInfo widget = customMenuOption.getWidget();
 		managedMenuOptions.put(widget.getId(), customMenuOption);
+		managedMenuOptionsByKey.putIfAbsent(MenuOptionKey.of(customMenuOption), customMenuOption);
 	}
 
 	/**
@@ -122,12 +147,42 @@ public class MenuManager
 	{
 		WidgetInfo widget = customMenuOption.getWidget();
 		managedMenuOptions.remove(widget.getId(), customMenuOption);
+
+		// the option may have been indexed under an older option or target
+		managedMenuOptionsByKey.values().removeIf(option -> option == customMenuOption);
+	}
+
+	/**
+	 * Find the managed menu option on a widget with the given option and target
+	 */
+	private WidgetMenuOption findManagedMenuOption(int widgetId, String option, String target)
+	{
+		WidgetMenuOption menuOption = managedMenuOptionsByKey.get(new MenuOptionKey(widgetId, option, target));
+
+		if (menuOption != null && menuOption.getMenuOption().equals(option) && menuOption.getMenuTarget().equals(target))
+		{
+			return menuOption;
+		}
+
+		// the option or target of a managed menu has changed since it was indexed
+		for (WidgetMenuOption candidate : managedMenuOptions.get(widgetId))
+		{
+			if (candidate.getMenuOption().equals(option) && candidate.getMenuTarget().equals(target))
+			{
+				managedMenuOptionsByKey.values().removeIf(o -> o == candidate);
+				managedMenuOptionsByKey.put(MenuOptionKey.of(candidate), candidate);
+				return candidate;
+			}
+		}
+
+		return null;
 	}
 
-	private boolean menuContainsCustomMenu(WidgetMenuOption customMenuOption)
+	private static boolean menuContainsCustomMenu(MenuEntry[] menuEntries, int count, WidgetMenuOption customMenuOption)
 	{
-		for (MenuEntry menuEntry : client.getMenuEntries())
+		for (int i = 0; i < count; ++i)
 		{
+			MenuEntry menuEntry = menuEntries[i];
 			String option = menuEntry.getOption();
 			String target = menuEntry.getTarget();
 
@@ -145,22 +200,36 @@ public class MenuManager
 		int widgetId = event.getActionParam1();
 		Collection<WidgetMenuOption> options = managedMenuOptions.get(widgetId);
 
+		if (options.isEmpty())
+		{
+			return;
+		}
+
+		MenuEntry[] menuEntries = client.getMenuEntries();
+		final int entries = menuEntries.length;
+		int count = entries;
+
 		for (WidgetMenuOption currentMenu : options)
 		{
-			if (!menuContainsCustomMenu(currentMenu))//Don't add if we have already added it to this widget
+			if (!menuContainsCustomMenu(menuEntries, count, currentMenu))//Don't add if we have already added it to this widget
 			{
-				MenuEntry[] menuEntries = client.getMenuEntries();
-				menuEntries = Arrays.copyOf(menuEntries, menuEntries.length + 1);
+				if (count == menuEntries.length)
+				{
+					menuEntries = Arrays.copyOf(menuEntries, count + options.size());
+				}
 
-				MenuEntry menuEntry = menuEntries[menuEntries.length - 1] = new MenuEntry();
+				MenuEntry menuEntry = menuEntries[count++] = new MenuEntry();
 				menuEntry.setOption(currentMenu.getMenuOption());
 				menuEntry.setParam1(widgetId);
 				menuEntry.setTarget(currentMenu.getMenuTarget());
 				menuEntry.setType(MenuAction.RUNELITE.getId());
-
-				client.setMenuEntries(menuEntries);
 			}
 		}
+
+		if (count != entries)
+		{
+			client.setMenuEntries(count == menuEntries.length ? menuEntries : Arrays.copyOf(menuEntries, count));
+		}
 	}
 
 	public void addPlayerMenuItem(String menuText)
@@ -217,6 +286,11 @@ public class MenuManager
 	@Subscribe
 	public void onNpcActionChanged(NpcActionChanged event)
 	{
+		if (npcMenuOptions.isEmpty())
+		{
+			return;
+		}
+
 		NPCComposition composition = event.getNpcComposition();
 		for (String npcOption : npcMenuOptions)
 		{
@@ -272,21 +346,16 @@ public class MenuManager
 			return; // not a player menu
 		}
 
-		int widgetId = event.getWidgetId();
-		Collection<WidgetMenuOption> options = managedMenuOptions.get(widgetId);
+		WidgetMenuOption curMenuOption = findManagedMenuOption(event.getWidgetId(), event.getMenuOption(), event.getMenuTarget());
 
-		for (WidgetMenuOption curMenuOption : options)
+		if (curMenuOption != null)
 		{
-			if (curMenuOption.getMenuTarget().equals(event.getMenuTarget())
-				&& curMenuOption.getMenuOption().equals(event.getMenuOption()))
-			{
-				WidgetMenuOptionClicked customMenu = new WidgetMenuOptionClicked();
-				customMenu.setMenuOption(event.getMenuOption());
-				customMenu.setMenuTarget(event.getMenuTarget());
-				customMenu.setWidget(curMenuOption.getWidget());
-				eventBus.post(customMenu);
-				return; // don't continue because it's not a player option
-			}
+			WidgetMenuOptionClicked customMenu = new WidgetMenuOptionClicked();
+			customMenu.setMenuOption(event.getMenuOption());
+			customMenu.setMenuTarget(event.getMenuTarget());
+			customMenu.setWidget(curMenuOption.getWidget());
+			eventBus.post(customMenu);
+			return; // don't continue because it's not a player option
 		}
 
 		String target = event.getMenuTarget();
@@ -332,4 +401,17 @@ public class MenuManager
 
 		return index;
 	}
+
+	@Value
+	private static class MenuOptionKey
+	{
+		private final int widgetId;
+		private final String option;
+		private final String target;
+
+		static MenuOptionKey of(WidgetMenuOption menuOption)
+		{
+			return new MenuOptionKey(menuOption.getWidget().getId(), menuOption.getMenuOption(), menuOption.getMenuTarget());
+		}
+	}
 }
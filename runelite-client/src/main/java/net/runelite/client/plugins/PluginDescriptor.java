@@ -58,4 +58,10 @@ public @interface PluginDescriptor
 	boolean developerPlugin() default false;
 
 	boolean loadWhenOutdated() default false;
+
+	/**
+	 * Whether the plugin's startUp does not touch Swing, so it may be run off of the
+	 * event dispatch thread, concurrently with the other plugins which allow it
+	 */
+	boolean concurrentStartUp() default false;
 }
@@ -25,6 +25,7 @@
 package net.runelite.client.plugins;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.eventbus.EventBus;
@@ -35,21 +36,37 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -71,6 +88,7 @@ import net.runelite.client.task.Schedule;
 import net.runelite.client.task.ScheduledMethod;
 import net.runelite.client.task.Scheduler;
 import net.runelite.client.util.GameEventManager;
+import net.runelite.client.util.Tracer;
 
 @Singleton
 @Slf4j
@@ -81,6 +99,11 @@ public class PluginManager
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
 
+	/**
+	 * Index of plugin classes written by the plugin processor
+	 */
+	private static final String PLUGIN_INDEX = "META-INF/runelite/plugins";
+
 	private final boolean developerMode;
 	private final EventBus eventBus;
 	private final Scheduler scheduler;
@@ -199,18 +222,79 @@ public class PluginManager
 
 	public void startCorePlugins()
 	{
-		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		for (Plugin plugin : scannedPlugins)
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+		final ExecutorService startExecutor = createPluginExecutor("plugin-startup-%d");
+		final Map<Class<? extends Plugin>, CompletableFuture<Boolean>> started = new HashMap<>();
+
+		try
 		{
-			try
+			// hold the lock for the whole startup so other plugins aren't started or stopped until
+			// the core plugins are running, the startup threads rely on this instead of taking it
+			synchronized (this)
 			{
-				startPlugin(plugin);
+				List<Plugin> scannedPlugins = new ArrayList<>(plugins);
+				for (Plugin plugin : scannedPlugins)
+				{
+					// plugins are sorted so their dependencies are always before them
+					final List<CompletableFuture<Boolean>> dependencies = Arrays.stream(plugin.getClass().getAnnotationsByType(PluginDependency.class))
+						.map(dependency -> started.get(dependency.value()))
+						.filter(Objects::nonNull)
+						.collect(Collectors.toList());
+
+					final CompletableFuture<Boolean> future;
+					if (isConcurrentStartUp(plugin))
+					{
+						future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]))
+							.thenApplyAsync(v -> startCorePlugin(plugin, dependencies), startExecutor);
+					}
+					else
+					{
+						future = CompletableFuture.completedFuture(startCorePlugin(plugin, dependencies));
+					}
+
+					started.put(plugin.getClass(), future);
+				}
+
+				CompletableFuture.allOf(started.values().toArray(new CompletableFuture[0])).join();
 			}
-			catch (PluginInstantiationException ex)
+		}
+		finally
+		{
+			startExecutor.shutdown();
+		}
+
+		log.info("Started {} plugins in {}", activePlugins.size(), stopwatch);
+	}
+
+	/**
+	 * Starts a core plugin once its dependencies have finished starting
+	 *
+	 * @return false if the plugin, or one of its dependencies, failed to start
+	 */
+	private boolean startCorePlugin(Plugin plugin, List<CompletableFuture<Boolean>> dependencies)
+	{
+		if (!dependencies.stream().allMatch(CompletableFuture::join))
+		{
+			log.warn("Not starting plugin {}, a plugin it depends on failed to start", plugin.getClass().getSimpleName());
+			plugins.remove(plugin);
+			return false;
+		}
+
+		try
+		{
+			if (!activePlugins.contains(plugin) && isPluginEnabled(plugin))
 			{
-				log.warn("Unable to start plugin {}. {}", plugin.getClass().getSimpleName(), ex);
-				plugins.remove(plugin);
+				activePlugins.add(plugin);
+				start(plugin);
 			}
+			return true;
+		}
+		catch (PluginInstantiationException ex)
+		{
+			log.warn("Unable to start plugin {}. {}", plugin.getClass().getSimpleName(), ex);
+			activePlugins.remove(plugin);
+			plugins.remove(plugin);
+			return false;
 		}
 	}
 
@@ -220,14 +304,16 @@ public class PluginManager
 			.directed()
 			.build();
 
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+		final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+		final long loadedClasses = classLoading.getTotalLoadedClassCount();
+
 		List<Plugin> scannedPlugins = new ArrayList<>();
-		ClassPath classPath = ClassPath.from(classLoader);
 
-		ImmutableSet<ClassInfo> classes = packageName == null ? classPath.getAllClasses()
-			: classPath.getTopLevelClassesRecursive(packageName);
-		for (ClassInfo classInfo : classes)
+		List<Class<?>> classes = loadPluginClasses(classLoader, packageName);
+
+		for (Class<?> clazz : classes)
 		{
-			Class<?> clazz = classInfo.load();
 			PluginDescriptor pluginDescriptor = clazz.getAnnotation(PluginDescriptor.class);
 
 			if (pluginDescriptor == null)
@@ -261,6 +347,10 @@ public class PluginManager
 			graph.addNode(pluginClass);
 		}
 
+		log.info("Found {} plugins in {}, loading {} classes", graph.nodes().size(), stopwatch,
+			classLoading.getTotalLoadedClassCount() - loadedClasses);
+		stopwatch.reset().start();
+
 		// Build plugin graph
 		for (Class<? extends Plugin> pluginClazz : graph.nodes())
 		{
@@ -280,50 +370,233 @@ public class PluginManager
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 		sortedPlugins = Lists.reverse(sortedPlugins);
 
-		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		// Instantiate plugins in parallel, each once all of its dependencies are
+		final ExecutorService instantiateExecutor = createPluginExecutor("plugin-loader-%d");
+		final Map<Class<? extends Plugin>, CompletableFuture<Plugin>> instantiated = new HashMap<>();
+
+		try
 		{
-			Plugin plugin;
-			try
+			for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 			{
-				plugin = instantiate(scannedPlugins, (Class<Plugin>) pluginClazz);
+				final List<CompletableFuture<Plugin>> dependencies = Arrays.stream(pluginClazz.getAnnotationsByType(PluginDependency.class))
+					.map(dependency -> instantiated.get(dependency.value()))
+					.filter(Objects::nonNull)
+					.collect(Collectors.toList());
+
+				final CompletableFuture<Plugin> future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]))
+					.thenApplyAsync(v ->
+					{
+						final List<Plugin> loadedDependencies = dependencies.stream()
+							.map(CompletableFuture::join)
+							.filter(Objects::nonNull)
+							.collect(Collectors.toList());
+
+						try
+						{
+							return instantiate(loadedDependencies, (Class<Plugin>) pluginClazz);
+						}
+						catch (PluginInstantiationException ex)
+						{
+							log.warn("Error instantiating plugin!", ex);
+							return null;
+						}
+					}, instantiateExecutor);
+
+				instantiated.put(pluginClazz, future);
 			}
-			catch (PluginInstantiationException ex)
+
+			for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 			{
-				log.warn("Error instantiating plugin!", ex);
-				continue;
+				final Plugin plugin = instantiated.get(pluginClazz).join();
+				if (plugin != null)
+				{
+					scannedPlugins.add(plugin);
+				}
 			}
-
-			scannedPlugins.add(plugin);
+		}
+		finally
+		{
+			instantiateExecutor.shutdown();
 		}
 
+		log.info("Instantiated {} plugins in {}", scannedPlugins.size(), stopwatch);
 		return scannedPlugins;
 	}
 
-	public synchronized boolean startPlugin(Plugin plugin) throws PluginInstantiationException
+	/**
+	 * Loads the plugin classes listed in the plugin indexes written at compile time by the plugin processor.
+	 * Classpath roots which contain the plugin package but have no index, such as jars built without the
+	 * plugin processor, are scanned for plugin classes instead. If there is no index on the classpath at all,
+	 * or no package is given, the whole classpath is scanned.
+	 *
+	 * @return the plugin classes
+	 */
+	private List<Class<?>> loadPluginClasses(ClassLoader classLoader, String packageName) throws IOException
 	{
-		if (activePlugins.contains(plugin) || !isPluginEnabled(plugin))
+		if (packageName == null)
 		{
-			return false;
+			return loadAllClasses(classLoader, null, null);
 		}
 
-		activePlugins.add(plugin);
+		final List<Class<?>> classes = new ArrayList<>();
+		final Set<String> indexedRoots = new HashSet<>();
 
-		try
+		final Enumeration<URL> indexes = classLoader.getResources(PLUGIN_INDEX);
+		while (indexes.hasMoreElements())
 		{
-			// plugins always start in the event thread
-			SwingUtilities.invokeAndWait(() ->
+			final URL index = indexes.nextElement();
+			indexedRoots.add(classpathRoot(index, PLUGIN_INDEX));
+			classes.addAll(loadIndexedClasses(classLoader, packageName, index));
+		}
+
+		if (indexedRoots.isEmpty())
+		{
+			log.debug("No plugin index found, scanning the classpath for plugins");
+			return loadAllClasses(classLoader, packageName, null);
+		}
+
+		final String packagePath = packageName.replace('.', '/');
+		final Set<String> unindexedRoots = new HashSet<>();
+		final Enumeration<URL> packages = classLoader.getResources(packagePath);
+		while (packages.hasMoreElements())
+		{
+			final String root = classpathRoot(packages.nextElement(), packagePath);
+			if (!indexedRoots.contains(root))
 			{
+				unindexedRoots.add(root);
+			}
+		}
+
+		if (!unindexedRoots.isEmpty())
+		{
+			log.debug("Scanning {} for plugins, as they have no plugin index", unindexedRoots);
+			classes.addAll(loadAllClasses(classLoader, packageName, unindexedRoots));
+		}
+
+		return classes;
+	}
+
+	/**
+	 * Loads the plugin classes listed in a plugin index. Plugins which would not be loaded because
+	 * of their descriptor are skipped without loading their class.
+	 */
+	private List<Class<?>> loadIndexedClasses(ClassLoader classLoader, String packageName, URL index) throws IOException
+	{
+		final List<Class<?>> classes = new ArrayList<>();
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8)))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				// class name, developerPlugin, loadWhenOutdated
+				final String[] fields = line.split("\t");
+				if (fields.length < 3)
+				{
+					continue;
+				}
+
+				final String className = fields[0];
+				if (packageName != null && !className.startsWith(packageName + "."))
+				{
+					continue;
+				}
+
+				if ((!Boolean.parseBoolean(fields[2]) && isOutdated)
+					|| (Boolean.parseBoolean(fields[1]) && !developerMode))
+				{
+					continue;
+				}
+
 				try
 				{
-					plugin.startUp();
+					classes.add(classLoader.loadClass(className));
 				}
-				catch (Exception ex)
+				catch (ClassNotFoundException ex)
 				{
-					throw new RuntimeException(ex);
+					log.warn("Plugin index {} lists missing class {}", index, className);
 				}
-			});
+			}
+		}
+
+		return classes;
+	}
+
+	/**
+	 * Loads all classes in a package by scanning the classpath
+	 *
+	 * @param roots the classpath roots to load classes from, as returned by {@link #classpathRoot(URL, String)},
+	 * or null to load classes from the whole classpath
+	 */
+	private static List<Class<?>> loadAllClasses(ClassLoader classLoader, String packageName, Set<String> roots) throws IOException
+	{
+		ClassPath classPath = ClassPath.from(classLoader);
+
+		ImmutableSet<ClassInfo> classes = packageName == null ? classPath.getAllClasses()
+			: classPath.getTopLevelClassesRecursive(packageName);
+		return classes.stream()
+			.filter(classInfo -> roots == null || roots.contains(classpathRoot(classInfo.url(), classInfo.getResourceName())))
+			.map(ClassInfo::load)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Get the classpath root, such as a jar or a directory, of a resource
+	 *
+	 * @param url resource url
+	 * @param path resource path within the classpath root
+	 * @return the url of the classpath root
+	 */
+	private static String classpathRoot(URL url, String path)
+	{
+		String root = url.toString();
+		if (root.endsWith("/"))
+		{
+			root = root.substring(0, root.length() - 1);
+		}
+
+		return root.endsWith(path) ? root.substring(0, root.length() - path.length()) : root;
+	}
+
+	public synchronized boolean startPlugin(Plugin plugin) throws PluginInstantiationException
+	{
+		if (activePlugins.contains(plugin) || !isPluginEnabled(plugin))
+		{
+			return false;
+		}
+
+		activePlugins.add(plugin);
+		start(plugin);
+		return true;
+	}
 
-			log.debug("Plugin {} is now running", plugin.getClass().getSimpleName());
+	private void start(Plugin plugin) throws PluginInstantiationException
+	{
+		final Stopwatch stopwatch = Stopwatch.createStarted();
+
+		try (Tracer.Span span = Tracer.span(plugin.getClass().getSimpleName()))
+		{
+			if (isConcurrentStartUp(plugin))
+			{
+				plugin.startUp();
+			}
+			else
+			{
+				// plugins start in the event thread unless they allow otherwise
+				SwingUtilities.invokeAndWait(() ->
+				{
+					try
+					{
+						plugin.startUp();
+					}
+					catch (Exception ex)
+					{
+						throw new RuntimeException(ex);
+					}
+				});
+			}
+
+			log.debug("Plugin {} is now running, started in {}", plugin.getClass().getSimpleName(), stopwatch);
 			if (!isOutdated && sceneTileManager != null)
 			{
 				final GameEventManager gameEventManager = this.sceneTileManager.get();
@@ -337,12 +610,24 @@ public class PluginManager
 			schedule(plugin);
 			eventBus.post(new PluginChanged(plugin, true));
 		}
-		catch (InterruptedException | InvocationTargetException ex)
+		catch (Exception ex)
 		{
 			throw new PluginInstantiationException(ex);
 		}
+	}
 
-		return true;
+	private static boolean isConcurrentStartUp(Plugin plugin)
+	{
+		final PluginDescriptor pluginDescriptor = plugin.getClass().getAnnotation(PluginDescriptor.class);
+		return pluginDescriptor != null && pluginDescriptor.concurrentStartUp();
+	}
+
+	private static ExecutorService createPluginExecutor(String nameFormat)
+	{
+		return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactoryBuilder()
+			.setNameFormat(nameFormat)
+			.setDaemon(true)
+			.build());
 	}
 
 	public synchronized boolean stopPlugin(Plugin plugin) throws PluginInstantiationException
@@ -72,7 +72,8 @@ import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
 @PluginDescriptor(
 	name = "Agility",
 	description = "Show helpful information about agility courses and obstacles",
-	tags = {"grace", "marks", "overlay", "shortcuts", "skilling", "traps"}
+	tags = {"grace", "marks", "overlay", "shortcuts", "skilling", "traps"},
+	concurrentStartUp = true
 )
 @Slf4j
 public class AgilityPlugin extends Plugin
@@ -56,7 +56,8 @@ import net.runelite.client.util.ImageUtil;
 @PluginDescriptor(
 	name = "Barbarian Assault",
 	description = "Show a timer to the next call change and game/wave duration in chat.",
-	tags = {"minigame", "overlay", "timer"}
+	tags = {"minigame", "overlay", "timer"},
+	concurrentStartUp = true
 )
 public class BarbarianAssaultPlugin extends Plugin
 {
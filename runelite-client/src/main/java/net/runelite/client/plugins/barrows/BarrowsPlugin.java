@@ -65,7 +65,8 @@ import net.runelite.client.util.StackFormatter;
 @PluginDescriptor(
 	name = "Barrows Brothers",
 	description = "Show helpful information for the Barrows minigame",
-	tags = {"combat", "minigame", "minimap", "bosses", "pve", "pvm"}
+	tags = {"combat", "minigame", "minimap", "bosses", "pve", "pvm"},
+	concurrentStartUp = true
 )
 public class BarrowsPlugin extends Plugin
 {
@@ -44,7 +44,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 @PluginDescriptor(
 	name = "Blast Furnace",
 	description = "Show helpful information for the Blast Furnace minigame",
-	tags = {"minigame", "overlay", "skilling", "smithing"}
+	tags = {"minigame", "overlay", "skilling", "smithing"},
+	concurrentStartUp = true
 )
 public class BlastFurnacePlugin extends Plugin
 {
@@ -460,7 +460,8 @@ public class ChatCommandsPlugin extends Plugin implements ChatboxInputListener
 
 		if (!results.isEmpty())
 		{
-			ItemPrice item = retrieveFromList(results, search);
+			// Results are ranked with exact and prefix matches first
+			ItemPrice item = results.get(0);
 
 			int itemId = item.getId();
 			int itemPrice = item.getPrice();
@@ -751,35 +752,6 @@ public class ChatCommandsPlugin extends Plugin implements ChatboxInputListener
 		return new HiscoreLookup(player, ironmanStatus);
 	}
 
-	/**
-	 * Compares the names of the items in the list with the original input.
-	 * Returns the item if its name is equal to the original input or the
-	 * shortest match if no exact match is found.
-	 *
-	 * @param items         List of items.
-	 * @param originalInput String with the original input.
-	 * @return Item which has a name equal to the original input.
-	 */
-	private ItemPrice retrieveFromList(List<ItemPrice> items, String originalInput)
-	{
-		ItemPrice shortest = null;
-		for (ItemPrice item : items)
-		{
-			if (item.getName().toLowerCase().equals(originalInput.toLowerCase()))
-			{
-				return item;
-			}
-
-			if (shortest == null || item.getName().length() < shortest.getName().length())
-			{
-				shortest = item;
-			}
-		}
-
-		// Take a guess
-		return shortest;
-	}
-
 	/**
 	 * Cleans the ironman status icon from playername string if present and
 	 * corrects spaces.
@@ -66,6 +66,7 @@ import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.SceneIndex;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.cluescrolls.clues.AnagramClue;
@@ -120,6 +121,9 @@ public class ClueScrollPlugin extends Plugin
 	@Inject
 	private ItemManager itemManager;
 
+	@Inject
+	private SceneIndex sceneIndex;
+
 	@Inject
 	private OverlayManager overlayManager;
 
@@ -256,7 +260,7 @@ public class ClueScrollPlugin extends Plugin
 					client.clearHintArrow();
 				}
 
-				checkClueNPCs(clue, client.getCachedNPCs());
+				checkClueNPCs(clue);
 			}
 		}
 	}
@@ -618,6 +622,17 @@ public class ClueScrollPlugin extends Plugin
 		}
 	}
 
+	private void checkClueNPCs(ClueScroll clue)
+	{
+		if (clue instanceof NpcClueScroll && ((NpcClueScroll) clue).getNpcs() != null)
+		{
+			for (String npcName : ((NpcClueScroll) clue).getNpcs())
+			{
+				checkClueNPCs(clue, sceneIndex.getNpcs(npcName).toArray(new NPC[0]));
+			}
+		}
+	}
+
 	private void checkClueNPCs(ClueScroll clue, final NPC... npcs)
 	{
 		if (!(clue instanceof NpcClueScroll))
@@ -665,7 +680,7 @@ public class ClueScrollPlugin extends Plugin
 		}
 
 		resetClue(false);
-		checkClueNPCs(clue, client.getCachedNPCs());
+		checkClueNPCs(clue);
 		this.clue = clue;
 	}
 }
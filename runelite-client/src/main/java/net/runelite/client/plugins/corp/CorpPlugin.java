@@ -60,7 +60,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 @PluginDescriptor(
 	name = "Corporeal Beast",
 	description = "Show damage statistics and highlight dark energy cores",
-	tags = {"bosses", "combat", "pve", "overlay"}
+	tags = {"bosses", "combat", "pve", "overlay"},
+	concurrentStartUp = true
 )
 @Slf4j
 public class CorpPlugin extends Plugin
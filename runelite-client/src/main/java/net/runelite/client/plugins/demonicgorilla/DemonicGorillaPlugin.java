@@ -36,6 +36,7 @@ import javax.inject.Inject;
 import lombok.Getter;
 import net.runelite.api.AnimationID;
 import net.runelite.api.Client;
+import net.runelite.api.CollisionSnapshot;
 import net.runelite.api.GameState;
 import net.runelite.api.HeadIcon;
 import net.runelite.api.Hitsplat;
@@ -282,7 +283,14 @@ public class DemonicGorillaPlugin extends Plugin
 
 	private void checkGorillaAttacks()
 	{
+		if (gorillas.isEmpty())
+		{
+			return;
+		}
+
 		int tickCounter = client.getTickCount();
+		// One copy of the collision maps for every gorilla checked this tick
+		CollisionSnapshot collisionSnapshot = CollisionSnapshot.of(client);
 		for (DemonicGorilla gorilla : gorillas.values())
 		{
 			Player interacting = (Player)gorilla.getNpc().getInteracting();
@@ -420,7 +428,7 @@ public class DemonicGorillaPlugin extends Plugin
 				if (mp != null && mp.getLastWorldArea() != null && gorilla.getLastWorldArea() != null)
 				{
 					WorldArea predictedNewArea = gorilla.getLastWorldArea().calculateNextTravellingPoint(
-						client, mp.getLastWorldArea(), true, x ->
+						collisionSnapshot, mp.getLastWorldArea(), true, x ->
 						{
 							// Gorillas can't normally walk through other gorillas
 							// or other players
@@ -455,7 +463,7 @@ public class DemonicGorillaPlugin extends Plugin
 						WorldPoint predictedMovement = predictedNewArea.toWorldPoint();
 						if (distance <= DemonicGorilla.MAX_ATTACK_RANGE &&
 							mp != null &&
-							mp.getLastWorldArea().hasLineOfSightTo(client, gorilla.getLastWorldArea()))
+							mp.getLastWorldArea().hasLineOfSightTo(collisionSnapshot, gorilla.getLastWorldArea()))
 						{
 							if (predictedMovement.distanceTo(gorilla.getLastWorldArea().toWorldPoint()) != 0)
 							{
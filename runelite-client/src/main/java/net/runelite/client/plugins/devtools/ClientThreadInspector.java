@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import com.google.inject.Inject;
+import java.awt.BorderLayout;
+import java.util.List;
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.InvokeStatistics;
+
+/**
+ * Shows the tasks run on the client thread by each class, to find which plugins are hogging the client thread
+ */
+@Slf4j
+class ClientThreadInspector extends TableInspector<InvokeStatistics>
+{
+	private static final String[] COLUMNS = {"Origin", "Runs", "Avg (µs)", "Max (µs)", "Total (ms)", "Retries", "Max retries"};
+	private static final Class<?>[] COLUMN_CLASSES = {String.class, Long.class, Long.class, Long.class, Long.class, Long.class, Integer.class};
+
+	private final ClientThread clientThread;
+	private final JLabel queueLabel = new JLabel();
+
+	@Inject
+	ClientThreadInspector(ClientThread clientThread)
+	{
+		super("RuneLite Client Thread Inspector", COLUMNS, COLUMN_CLASSES);
+		this.clientThread = clientThread;
+
+		queueLabel.setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 4));
+		add(queueLabel, BorderLayout.NORTH);
+
+		addButton("Reset", () ->
+		{
+			clientThread.resetInvokeStatistics();
+			refresh();
+		});
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		clientThread.setInstrumented(true);
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		clientThread.setInstrumented(false);
+	}
+
+	@Override
+	void refresh()
+	{
+		queueLabel.setText(String.format("Queued: %d, last frame: %d tasks in %dµs, frames over budget: %d",
+			clientThread.getQueueSize(),
+			clientThread.getLastFrameRuns(),
+			clientThread.getLastFrameNanos() / 1000,
+			clientThread.getDeferredFrames()));
+		super.refresh();
+	}
+
+	@Override
+	List<InvokeStatistics> getRows()
+	{
+		return clientThread.getInvokeStatistics();
+	}
+
+	@Override
+	Object getValue(InvokeStatistics s, int col)
+	{
+		switch (col)
+		{
+			case 0:
+				return s.getOrigin();
+			case 1:
+				return s.getRuns();
+			case 2:
+				return s.getAverageNanos() / 1000;
+			case 3:
+				return s.getMaxNanos() / 1000;
+			case 4:
+				return s.getTotalNanos() / 1_000_000;
+			case 5:
+				return s.getRetries();
+			case 6:
+				return s.getMaxRetries();
+			default:
+				return null;
+		}
+	}
+
+	@Override
+	void logRows()
+	{
+		log.info("{} tasks queued, {} frames over budget", clientThread.getQueueSize(), clientThread.getDeferredFrames());
+
+		for (InvokeStatistics statistics : clientThread.getInvokeStatistics())
+		{
+			log.info("{}: runs {}, avg {}µs, max {}µs, total {}ms, retries {}, max retries {}",
+				statistics.getOrigin(),
+				statistics.getRuns(),
+				statistics.getAverageNanos() / 1000,
+				statistics.getMaxNanos() / 1000,
+				statistics.getTotalNanos() / 1_000_000,
+				statistics.getRetries(),
+				statistics.getMaxRetries());
+		}
+	}
+}
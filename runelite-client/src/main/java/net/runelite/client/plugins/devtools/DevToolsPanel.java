@@ -41,15 +41,21 @@ public class DevToolsPanel extends PluginPanel
 
 	private final WidgetInspector widgetInspector;
 	private final VarInspector varInspector;
+	private final OverlayInspector overlayInspector;
+	private final SchedulerInspector schedulerInspector;
+	private final ClientThreadInspector clientThreadInspector;
 
 	@Inject
-	public DevToolsPanel(Client client, DevToolsPlugin plugin, WidgetInspector widgetInspector, VarInspector varInspector)
+	public DevToolsPanel(Client client, DevToolsPlugin plugin, WidgetInspector widgetInspector, VarInspector varInspector, OverlayInspector overlayInspector, SchedulerInspector schedulerInspector, ClientThreadInspector clientThreadInspector)
 	{
 		super();
 		this.client = client;
 		this.plugin = plugin;
 		this.widgetInspector = widgetInspector;
 		this.varInspector = varInspector;
+		this.overlayInspector = overlayInspector;
+		this.schedulerInspector = schedulerInspector;
+		this.clientThreadInspector = clientThreadInspector;
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -158,6 +164,27 @@ public class DevToolsPanel extends PluginPanel
 		});
 		container.add(varInspectorBtn);
 
+		final JButton overlayInspectorBtn = new JButton("Overlay Timings");
+		overlayInspectorBtn.addActionListener(e ->
+		{
+			overlayInspector.open();
+		});
+		container.add(overlayInspectorBtn);
+
+		final JButton schedulerInspectorBtn = new JButton("Scheduled Tasks");
+		schedulerInspectorBtn.addActionListener(e ->
+		{
+			schedulerInspector.open();
+		});
+		container.add(schedulerInspectorBtn);
+
+		final JButton clientThreadInspectorBtn = new JButton("Client Thread");
+		clientThreadInspectorBtn.addActionListener(e ->
+		{
+			clientThreadInspector.open();
+		});
+		container.add(clientThreadInspectorBtn);
+
 		final JButton chunkBordersBtn = new JButton("Chunk borders");
 		chunkBordersBtn.addActionListener(e ->
 		{
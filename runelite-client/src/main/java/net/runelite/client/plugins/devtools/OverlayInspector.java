@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import com.google.inject.Inject;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.ui.overlay.OverlayRenderer;
+import net.runelite.client.ui.overlay.OverlayStatistics;
+
+/**
+ * Shows the render time of each overlay, to find which overlays are causing frame drops
+ */
+@Slf4j
+class OverlayInspector extends TableInspector<OverlayStatistics>
+{
+	private static final String[] COLUMNS = {"Overlay", "Layer", "Avg (µs)", "p99 (µs)", "Max (µs)", "Alloc (B)", "Throttled"};
+	private static final Class<?>[] COLUMN_CLASSES = {String.class, String.class, Long.class, Long.class, Long.class, Long.class, Boolean.class};
+
+	private final OverlayRenderer overlayRenderer;
+
+	@Inject
+	OverlayInspector(OverlayRenderer overlayRenderer)
+	{
+		super("RuneLite Overlay Inspector", COLUMNS, COLUMN_CLASSES);
+		this.overlayRenderer = overlayRenderer;
+	}
+
+	@Override
+	public void open()
+	{
+		overlayRenderer.setInstrumented(true);
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		overlayRenderer.setInstrumented(false);
+	}
+
+	@Override
+	List<OverlayStatistics> getRows()
+	{
+		return overlayRenderer.getOverlayStatistics();
+	}
+
+	@Override
+	Object getValue(OverlayStatistics s, int col)
+	{
+		switch (col)
+		{
+			case 0:
+				return s.getName();
+			case 1:
+				return String.valueOf(s.getLayer());
+			case 2:
+				return s.getAverageNanos() / 1000;
+			case 3:
+				return s.getPercentileNanos(0.99) / 1000;
+			case 4:
+				return s.getMaxNanos() / 1000;
+			case 5:
+				return s.getAverageAllocatedBytes();
+			case 6:
+				return s.isThrottled();
+			default:
+				return null;
+		}
+	}
+
+	@Override
+	void logRows()
+	{
+		for (OverlayStatistics statistics : overlayRenderer.getOverlayStatistics())
+		{
+			log.info("{} ({}): avg {}µs, p99 {}µs, max {}µs, alloc {}B, throttled {}",
+				statistics.getName(),
+				statistics.getLayer(),
+				statistics.getAverageNanos() / 1000,
+				statistics.getPercentileNanos(0.99) / 1000,
+				statistics.getMaxNanos() / 1000,
+				statistics.getAverageAllocatedBytes(),
+				statistics.isThrottled());
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.task.Schedule;
+import net.runelite.client.task.ScheduledMethod;
+import net.runelite.client.task.Scheduler;
+
+/**
+ * Shows how often each scheduled task has run and how long it took
+ */
+@Slf4j
+class SchedulerInspector extends TableInspector<ScheduledMethod>
+{
+	private static final String[] COLUMNS = {"Task", "Period", "Async", "Runs", "Last (µs)", "Overruns"};
+	private static final Class<?>[] COLUMN_CLASSES = {String.class, String.class, Boolean.class, Long.class, Long.class, Long.class};
+
+	private final Scheduler scheduler;
+
+	@Inject
+	SchedulerInspector(Scheduler scheduler)
+	{
+		super("RuneLite Scheduler Inspector", COLUMNS, COLUMN_CLASSES);
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	List<ScheduledMethod> getRows()
+	{
+		return new ArrayList<>(scheduler.getScheduledMethods());
+	}
+
+	@Override
+	Object getValue(ScheduledMethod task, int col)
+	{
+		switch (col)
+		{
+			case 0:
+				return getName(task);
+			case 1:
+				return getPeriod(task.getSchedule());
+			case 2:
+				return task.getSchedule().asynchronous();
+			case 3:
+				return task.getRuns();
+			case 4:
+				return task.getLastDurationNanos() / 1000;
+			case 5:
+				return task.getOverruns();
+			default:
+				return null;
+		}
+	}
+
+	@Override
+	void logRows()
+	{
+		for (ScheduledMethod task : scheduler.getScheduledMethods())
+		{
+			log.info("{}: period {}, async {}, runs {}, last {}µs, overruns {}",
+				getName(task),
+				getPeriod(task.getSchedule()),
+				task.getSchedule().asynchronous(),
+				task.getRuns(),
+				task.getLastDurationNanos() / 1000,
+				task.getOverruns());
+		}
+	}
+
+	private static String getName(ScheduledMethod task)
+	{
+		return task.getObject().getClass().getSimpleName() + "." + task.getMethod().getName();
+	}
+
+	private static String getPeriod(Schedule schedule)
+	{
+		return Duration.of(schedule.period(), schedule.unit()).toString();
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.ui.ClientUI;
+
+/**
+ * A window showing a table of statistics which is refreshed while it is open
+ *
+ * @param <T> the type of a row
+ */
+abstract class TableInspector<T> extends JFrame
+{
+	private static final int REFRESH_INTERVAL = 1000; // ms
+
+	private final String[] columns;
+	private final Class<?>[] columnClasses;
+	private final RowTableModel tableModel = new RowTableModel();
+	private final JPanel buttons = new JPanel();
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL, e -> refresh());
+
+	TableInspector(String title, String[] columns, Class<?>[] columnClasses)
+	{
+		assert columns.length == columnClasses.length;
+		this.columns = columns;
+		this.columnClasses = columnClasses;
+
+		setTitle(title);
+		setIconImage(ClientUI.ICON);
+
+		setLayout(new BorderLayout());
+
+		setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+		addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowClosing(WindowEvent e)
+			{
+				close();
+			}
+		});
+
+		final JTable table = new JTable(tableModel);
+		table.setAutoCreateRowSorter(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(700, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		addButton("Log", this::logRows);
+		add(buttons, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	/**
+	 * @return the rows to show
+	 */
+	abstract List<T> getRows();
+
+	/**
+	 * @param row row
+	 * @param col column index
+	 * @return the value of a column of a row
+	 */
+	abstract Object getValue(T row, int col);
+
+	/**
+	 * Log the rows, for when they need to be shared
+	 */
+	abstract void logRows();
+
+	void addButton(String text, Runnable action)
+	{
+		final JButton button = new JButton(text);
+		button.addActionListener(e -> action.run());
+		buttons.add(button);
+	}
+
+	public void open()
+	{
+		refreshTimer.start();
+		refresh();
+		setVisible(true);
+		toFront();
+		repaint();
+	}
+
+	public void close()
+	{
+		refreshTimer.stop();
+		setVisible(false);
+	}
+
+	void refresh()
+	{
+		tableModel.setRows(getRows());
+	}
+
+	private class RowTableModel extends AbstractTableModel
+	{
+		private List<T> rows = Collections.emptyList();
+
+		void setRows(List<T> rows)
+		{
+			this.rows = rows;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return columns[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			return columnClasses[col];
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return rows.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return columns.length;
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			return getValue(rows.get(row), col);
+		}
+	}
+}
@@ -69,7 +69,8 @@ import net.runelite.client.util.QueryRunner;
 @PluginDescriptor(
 	name = "Fishing",
 	description = "Show fishing stats and mark fishing spots",
-	tags = {"overlay", "skilling"}
+	tags = {"overlay", "skilling"},
+	concurrentStartUp = true
 )
 @PluginDependency(XpTrackerPlugin.class)
 @Singleton
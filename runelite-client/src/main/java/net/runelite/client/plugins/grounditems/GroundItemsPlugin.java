@@ -83,7 +83,8 @@ import net.runelite.client.util.StackFormatter;
 @PluginDescriptor(
 	name = "Ground Items",
 	description = "Highlight ground items and/or show price information",
-	tags = {"grand", "exchange", "high", "alchemy", "prices", "highlight", "overlay"}
+	tags = {"grand", "exchange", "high", "alchemy", "prices", "highlight", "overlay"},
+	concurrentStartUp = true
 )
 public class GroundItemsPlugin extends Plugin
 {
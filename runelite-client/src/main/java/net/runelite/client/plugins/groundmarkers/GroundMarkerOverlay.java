@@ -25,14 +25,15 @@
  */
 package net.runelite.client.plugins.groundmarkers;
 
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.util.List;
 import javax.inject.Inject;
+import net.runelite.api.CameraSnapshot;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
-import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -42,10 +43,20 @@ import net.runelite.client.ui.overlay.OverlayUtil;
 
 public class GroundMarkerOverlay extends Overlay
 {
+	// offset from the south west corner of a tile to its center, see LocalPoint#fromScene
+	private static final int TILE_CENTER = (1 << Perspective.LOCAL_COORD_BITS - 1) - 1;
+
 	private final Client client;
 	private final GroundMarkerConfig config;
 	private final GroundMarkerPlugin plugin;
 
+	private final CameraSnapshot camera = new CameraSnapshot();
+	private final Polygon polygon = new Polygon(new int[4], new int[4], 4);
+	private int[] localX = new int[0];
+	private int[] localY = new int[0];
+	private int[] polyX = new int[0];
+	private int[] polyY = new int[0];
+
 	@Inject
 	private GroundMarkerOverlay(Client client, GroundMarkerConfig config, GroundMarkerPlugin plugin)
 	{
@@ -60,41 +71,66 @@ public class GroundMarkerOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		List<WorldPoint> points = plugin.getPoints();
+		final List<WorldPoint> points = plugin.getPoints();
+		if (points.isEmpty())
+		{
+			return null;
+		}
+
+		ensureCapacity(points.size());
+
+		final WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
+		final int plane = client.getPlane();
+		final int baseX = client.getBaseX();
+		final int baseY = client.getBaseY();
+
+		int count = 0;
 		for (WorldPoint point : points)
 		{
-			if (point.getPlane() != client.getPlane())
+			if (point.getPlane() != plane
+				|| point.distanceTo(playerLocation) >= 32
+				|| !WorldPoint.isInScene(client, point.getX(), point.getY()))
 			{
 				continue;
 			}
 
-			drawTile(graphics, point);
+			localX[count] = ((point.getX() - baseX) << Perspective.LOCAL_COORD_BITS) + TILE_CENTER;
+			localY[count] = ((point.getY() - baseY) << Perspective.LOCAL_COORD_BITS) + TILE_CENTER;
+			++count;
 		}
 
-		return null;
-	}
-
-	private void drawTile(Graphics2D graphics, WorldPoint point)
-	{
-		WorldPoint playerLocation = client.getLocalPlayer().getWorldLocation();
-
-		if (point.distanceTo(playerLocation) >= 32)
+		if (count == 0 || Perspective.getCanvasTilePolys(camera.update(client), localX, localY, count, polyX, polyY) == 0)
 		{
-			return;
+			return null;
 		}
 
-		LocalPoint lp = LocalPoint.fromWorld(client, point);
-		if (lp == null)
+		final Color color = config.markerColor();
+		for (int i = 0; i < count; ++i)
 		{
-			return;
+			final int offset = i * 4;
+			if (polyX[offset] == Perspective.UNPROJECTED)
+			{
+				continue;
+			}
+
+			System.arraycopy(polyX, offset, polygon.xpoints, 0, 4);
+			System.arraycopy(polyY, offset, polygon.ypoints, 0, 4);
+			polygon.invalidate();
+
+			OverlayUtil.renderPolygon(graphics, polygon, color);
 		}
 
-		Polygon poly = Perspective.getCanvasTilePoly(client, lp);
-		if (poly == null)
+		return null;
+	}
+
+	private void ensureCapacity(int size)
+	{
+		if (localX.length < size)
 		{
-			return;
+			localX = new int[size];
+			localY = new int[size];
+			polyX = new int[size * 4];
+			polyY = new int[size * 4];
 		}
-
-		OverlayUtil.renderPolygon(graphics, poly, config.markerColor());
 	}
-}
\ No newline at end of file
+}
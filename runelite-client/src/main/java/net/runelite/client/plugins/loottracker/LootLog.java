@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of loot records, one json entry per line.
+ * <p>
+ * Only the most recent records are kept individually, older ones are folded into
+ * a per source summary. Once enough lines in the file have been superseded, the
+ * file is rewritten as just the summaries and recent records, so loading it stays
+ * proportional to the number of loot sources rather than the number of kills.
+ */
+@Slf4j
+class LootLog
+{
+	static final int RECENT_RECORDS = 500;
+	private static final int COMPACT_THRESHOLD = 1000;
+
+	private enum EntryType
+	{
+		RECORD,
+		SUMMARY,
+		REMOVE,
+		RESET
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	private static class Entry
+	{
+		private EntryType type;
+		private UUID id;
+		private String title;
+		private String subTitle;
+		private long timestamp;
+		private long kills;
+		private LootTrackerItem[] items;
+	}
+
+	private final Gson gson = new Gson();
+	private final Path file;
+	private final Map<String, LootTrackerAggregate> summaries = new LinkedHashMap<>();
+	private final Deque<LootTrackerRecord> recent = new ArrayDeque<>();
+	private int lines;
+
+	LootLog(final File file)
+	{
+		this.file = file.toPath();
+	}
+
+	/**
+	 * Read the log from disk, compacting it if needed
+	 */
+	synchronized void load()
+	{
+		summaries.clear();
+		recent.clear();
+		lines = 0;
+
+		if (!Files.exists(file))
+		{
+			return;
+		}
+
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				lines++;
+
+				final Entry entry;
+				try
+				{
+					entry = gson.fromJson(line, Entry.class);
+				}
+				catch (JsonParseException ex)
+				{
+					log.warn("Skipping malformed loot log entry: {}", line, ex);
+					continue;
+				}
+
+				if (entry != null && entry.getType() != null && entry.getTitle() != null)
+				{
+					apply(entry);
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to load loot log", ex);
+			return;
+		}
+
+		log.debug("Loaded {} loot log entries for {} sources", lines, summaries.size());
+		compactIfNeeded();
+	}
+
+	/**
+	 * Get the lifetime totals of each loot source, oldest source first
+	 *
+	 * @return loot totals
+	 */
+	synchronized List<LootTrackerAggregate> getTotals()
+	{
+		final Map<String, LootTrackerAggregate> totals = new LinkedHashMap<>();
+
+		for (LootTrackerAggregate summary : summaries.values())
+		{
+			final LootTrackerAggregate total = new LootTrackerAggregate(summary.getTitle(), summary.getSubTitle());
+			total.add(summary);
+			totals.put(summary.getTitle(), total);
+		}
+
+		for (LootTrackerRecord record : recent)
+		{
+			final LootTrackerAggregate total = totals.remove(record.getTitle());
+			if (total != null)
+			{
+				total.add(record);
+				totals.put(record.getTitle(), total);
+			}
+			else
+			{
+				totals.put(record.getTitle(), new LootTrackerAggregate(record));
+			}
+		}
+
+		return new ArrayList<>(totals.values());
+	}
+
+	/**
+	 * Get the most recent records, oldest first
+	 *
+	 * @return recent records
+	 */
+	synchronized List<LootTrackerRecord> getRecent()
+	{
+		return new ArrayList<>(recent);
+	}
+
+	synchronized void append(final LootTrackerRecord record)
+	{
+		addRecent(record);
+		write(new Entry(EntryType.RECORD, record.getId(), record.getTitle(), record.getSubTitle(), record.getTimestamp(), 0, record.getItems()));
+	}
+
+	/**
+	 * Remove a single record from the log, matched by its id
+	 *
+	 * @param record loot record
+	 */
+	synchronized void remove(final LootTrackerRecord record)
+	{
+		final Entry entry = new Entry(EntryType.REMOVE, record.getId(), record.getTitle(), record.getSubTitle(), record.getTimestamp(), 0, record.getItems());
+		apply(entry);
+		write(entry);
+	}
+
+	/**
+	 * Remove all records of a loot source from the log
+	 *
+	 * @param title loot source, or null to remove everything
+	 */
+	synchronized void reset(@Nullable final String title)
+	{
+		if (title == null)
+		{
+			summaries.clear();
+			recent.clear();
+			writeAll(Collections.emptyList());
+			return;
+		}
+
+		final Entry entry = new Entry(EntryType.RESET, null, title, null, 0, 0, null);
+		apply(entry);
+		write(entry);
+	}
+
+	private void apply(final Entry entry)
+	{
+		switch (entry.getType())
+		{
+			case RECORD:
+				addRecent(toRecord(entry));
+				break;
+			case SUMMARY:
+				summaries.computeIfAbsent(entry.getTitle(), t -> new LootTrackerAggregate(t, entry.getSubTitle()))
+					.add(entry.getKills(), items(entry));
+				break;
+			case REMOVE:
+				removeRecord(toRecord(entry));
+				break;
+			case RESET:
+				summaries.remove(entry.getTitle());
+				recent.removeIf(r -> r.getTitle().equals(entry.getTitle()));
+				break;
+		}
+	}
+
+	private void addRecent(final LootTrackerRecord record)
+	{
+		recent.addLast(record);
+
+		while (recent.size() > RECENT_RECORDS)
+		{
+			final LootTrackerRecord oldest = recent.removeFirst();
+			summaries.computeIfAbsent(oldest.getTitle(), t -> new LootTrackerAggregate(t, oldest.getSubTitle()))
+				.add(oldest);
+		}
+	}
+
+	private void removeRecord(final LootTrackerRecord record)
+	{
+		for (Iterator<LootTrackerRecord> it = recent.iterator(); it.hasNext(); )
+		{
+			final LootTrackerRecord r = it.next();
+			if (Objects.equals(r.getId(), record.getId()))
+			{
+				it.remove();
+				return;
+			}
+		}
+
+		// The record has already been folded into the summary
+		final LootTrackerAggregate summary = summaries.get(record.getTitle());
+		if (summary != null)
+		{
+			summary.remove(record);
+			if (summary.isEmpty())
+			{
+				summaries.remove(record.getTitle());
+			}
+		}
+	}
+
+	private void write(final Entry entry)
+	{
+		try
+		{
+			Files.createDirectories(file.getParent());
+			Files.write(file, Collections.singletonList(gson.toJson(entry)), StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			lines++;
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to write loot log", ex);
+			return;
+		}
+
+		compactIfNeeded();
+	}
+
+	private void compactIfNeeded()
+	{
+		if (lines - (summaries.size() + recent.size()) < COMPACT_THRESHOLD)
+		{
+			return;
+		}
+
+		final List<Entry> entries = compactedEntries();
+		log.debug("Compacting loot log from {} to {} entries", lines, entries.size());
+		writeAll(entries);
+	}
+
+	private List<Entry> compactedEntries()
+	{
+		final List<Entry> entries = new ArrayList<>(summaries.size() + recent.size());
+
+		for (LootTrackerAggregate summary : summaries.values())
+		{
+			entries.add(new Entry(EntryType.SUMMARY, null, summary.getTitle(), summary.getSubTitle(), 0, summary.getKills(),
+				summary.getItems().toArray(new LootTrackerItem[0])));
+		}
+
+		for (LootTrackerRecord record : recent)
+		{
+			entries.add(new Entry(EntryType.RECORD, record.getId(), record.getTitle(), record.getSubTitle(), record.getTimestamp(), 0, record.getItems()));
+		}
+
+		return entries;
+	}
+
+	private void writeAll(final List<Entry> entries)
+	{
+		try
+		{
+			Files.createDirectories(file.getParent());
+
+			final Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8))
+			{
+				for (Entry entry : entries)
+				{
+					writer.write(gson.toJson(entry));
+					writer.newLine();
+				}
+			}
+
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			lines = entries.size();
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to rewrite loot log", ex);
+		}
+	}
+
+	private static LootTrackerRecord toRecord(final Entry entry)
+	{
+		return new LootTrackerRecord(entry.getId(), entry.getTitle(), entry.getSubTitle(), items(entry), entry.getTimestamp());
+	}
+
+	private static LootTrackerItem[] items(final Entry entry)
+	{
+		return entry.getItems() != null ? entry.getItems() : new LootTrackerItem[0];
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import com.google.common.primitives.Ints;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Running totals of kills and items received from a single loot source
+ */
+class LootTrackerAggregate
+{
+	@Getter
+	private final String title;
+	@Getter
+	private final String subTitle;
+	@Getter
+	private long kills;
+	private final Map<Integer, LootTrackerItem> items = new LinkedHashMap<>();
+
+	LootTrackerAggregate(final String title, final String subTitle)
+	{
+		this.title = title;
+		this.subTitle = subTitle;
+	}
+
+	LootTrackerAggregate(final LootTrackerRecord record)
+	{
+		this(record.getTitle(), record.getSubTitle());
+		add(record);
+	}
+
+	/**
+	 * Get the items of this aggregate, stacked by item id
+	 *
+	 * @return stacked items
+	 */
+	Collection<LootTrackerItem> getItems()
+	{
+		return Collections.unmodifiableCollection(items.values());
+	}
+
+	boolean isEmpty()
+	{
+		return kills <= 0;
+	}
+
+	void add(final LootTrackerRecord record)
+	{
+		add(1, record.getItems());
+	}
+
+	void add(final LootTrackerAggregate aggregate)
+	{
+		kills += aggregate.kills;
+
+		for (LootTrackerItem item : aggregate.items.values())
+		{
+			add(item);
+		}
+	}
+
+	void add(final long kills, final LootTrackerItem[] items)
+	{
+		this.kills += kills;
+
+		for (LootTrackerItem item : items)
+		{
+			add(item);
+		}
+	}
+
+	/**
+	 * Subtracts a record previously added to this aggregate
+	 *
+	 * @param record loot record
+	 */
+	void remove(final LootTrackerRecord record)
+	{
+		kills--;
+
+		for (LootTrackerItem item : record.getItems())
+		{
+			final LootTrackerItem existing = items.get(item.getId());
+			if (existing == null)
+			{
+				continue;
+			}
+
+			final int quantity = existing.getQuantity() - item.getQuantity();
+			if (quantity <= 0)
+			{
+				items.remove(item.getId());
+			}
+			else
+			{
+				items.put(item.getId(), new LootTrackerItem(item.getId(), existing.getName(), quantity,
+					existing.getPrice() - item.getPrice(), existing.isIgnored()));
+			}
+		}
+	}
+
+	private void add(final LootTrackerItem item)
+	{
+		items.merge(item.getId(), item, (a, b) -> new LootTrackerItem(a.getId(), a.getName(),
+			Ints.saturatedCast((long) a.getQuantity() + b.getQuantity()),
+			a.getPrice() + b.getPrice(), a.isIgnored()));
+	}
+}
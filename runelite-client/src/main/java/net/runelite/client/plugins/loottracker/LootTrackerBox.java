@@ -31,10 +31,9 @@ import java.awt.Color;
 import java.awt.GridLayout;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
-import javax.annotation.Nullable;
+import java.util.stream.Collectors;
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
 import javax.swing.JMenuItem;
@@ -45,6 +44,7 @@ import javax.swing.border.EmptyBorder;
 import lombok.Getter;
 import net.runelite.client.game.AsyncBufferedImage;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemStack;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.util.ImageUtil;
@@ -61,7 +61,7 @@ class LootTrackerBox extends JPanel
 	private final String id;
 
 	@Getter
-	private final List<LootTrackerRecord> records = new ArrayList<>();
+	private final LootTrackerAggregate aggregate;
 
 	private long totalPrice;
 	private boolean hideIgnoredItems;
@@ -69,12 +69,12 @@ class LootTrackerBox extends JPanel
 
 	LootTrackerBox(
 		final ItemManager itemManager,
-		final String id,
-		@Nullable final String subtitle,
+		final LootTrackerAggregate aggregate,
 		final boolean hideIgnoredItems,
 		final BiConsumer<String, Boolean> onItemToggle)
 	{
-		this.id = id;
+		this.id = aggregate.getTitle();
+		this.aggregate = aggregate;
 		this.itemManager = itemManager;
 		this.onItemToggle = onItemToggle;
 		this.hideIgnoredItems = hideIgnoredItems;
@@ -96,9 +96,9 @@ class LootTrackerBox extends JPanel
 		subTitleLabel.setForeground(ColorScheme.LIGHT_GRAY_COLOR);
 		logTitle.add(subTitleLabel, BorderLayout.CENTER);
 
-		if (!Strings.isNullOrEmpty(subtitle))
+		if (!Strings.isNullOrEmpty(aggregate.getSubTitle()))
 		{
-			subTitleLabel.setText(subtitle);
+			subTitleLabel.setText(aggregate.getSubTitle());
 		}
 
 		priceLabel.setFont(FontManager.getRunescapeSmallFont());
@@ -109,29 +109,6 @@ class LootTrackerBox extends JPanel
 		add(itemContainer, BorderLayout.CENTER);
 	}
 
-	/**
-	 * Returns total amount of kills, removing ignored kills when necessary
-	 *
-	 * @return total amount of kills
-	 */
-	private long getTotalKills()
-	{
-		return hideIgnoredItems
-			? records.stream().filter(r -> !Arrays.stream(r.getItems()).allMatch(LootTrackerItem::isIgnored)).count()
-			: records.size();
-	}
-
-	/**
-	 * Checks if this box matches specified record
-	 *
-	 * @param record loot record
-	 * @return true if match is made
-	 */
-	boolean matches(final LootTrackerRecord record)
-	{
-		return record.getTitle().equals(id);
-	}
-
 	/**
 	 * Checks if this box matches specified id
 	 *
@@ -148,27 +125,13 @@ class LootTrackerBox extends JPanel
 		return this.id.equals(id);
 	}
 
-	/**
-	 * Adds an record's data into a loot box.
-	 * This will add new items to the list, re-calculating price and kill count.
-	 */
-	void combine(final LootTrackerRecord record)
-	{
-		if (!matches(record))
-		{
-			throw new IllegalArgumentException(record.toString());
-		}
-
-		records.add(record);
-	}
-
 	void rebuild()
 	{
 		buildItems();
 
 		priceLabel.setText(StackFormatter.quantityToStackSize(totalPrice) + " gp");
 
-		final long kills = getTotalKills();
+		final long kills = aggregate.getKills();
 		if (kills > 1)
 		{
 			subTitleLabel.setText("x " + kills);
@@ -178,24 +141,18 @@ class LootTrackerBox extends JPanel
 	}
 
 	/**
-	 * This method creates stacked items from the item list, calculates total price and then
+	 * This method takes the stacked items of the aggregate, calculates total price and then
 	 * displays all the items in the UI.
 	 */
 	private void buildItems()
 	{
-		final List<LootTrackerItem> allItems = new ArrayList<>();
 		final List<LootTrackerItem> items = new ArrayList<>();
 		totalPrice = 0;
 
-		for (LootTrackerRecord record : records)
-		{
-			allItems.addAll(Arrays.asList(record.getItems()));
-		}
-
 		if (hideIgnoredItems)
 		{
 			/* If all the items in this box are ignored */
-			boolean hideBox = allItems.stream().allMatch(LootTrackerItem::isIgnored);
+			boolean hideBox = aggregate.getItems().stream().allMatch(LootTrackerItem::isIgnored);
 			setVisible(!hideBox);
 
 			if (hideBox)
@@ -204,7 +161,7 @@ class LootTrackerBox extends JPanel
 			}
 		}
 
-		for (final LootTrackerItem entry : allItems)
+		for (final LootTrackerItem entry : aggregate.getItems())
 		{
 			if (entry.isIgnored() && hideIgnoredItems)
 			{
@@ -212,29 +169,7 @@ class LootTrackerBox extends JPanel
 			}
 
 			totalPrice += entry.getPrice();
-
-			int quantity = 0;
-			for (final LootTrackerItem i : items)
-			{
-				if (i.getId() == entry.getId())
-				{
-					quantity = i.getQuantity();
-					items.remove(i);
-					break;
-				}
-			}
-
-			if (quantity > 0)
-			{
-				int newQuantity = entry.getQuantity() + quantity;
-				long pricePerItem = entry.getPrice() == 0 ? 0 : (entry.getPrice() / entry.getQuantity());
-
-				items.add(new LootTrackerItem(entry.getId(), entry.getName(), newQuantity, pricePerItem * newQuantity, entry.isIgnored()));
-			}
-			else
-			{
-				items.add(entry);
-			}
+			items.add(entry);
 		}
 
 		items.sort((i1, i2) -> Long.compare(i2.getPrice(), i1.getPrice()));
@@ -245,6 +180,10 @@ class LootTrackerBox extends JPanel
 		itemContainer.removeAll();
 		itemContainer.setLayout(new GridLayout(rowSize, ITEMS_PER_ROW, 1, 1));
 
+		final List<AsyncBufferedImage> itemImages = itemManager.getImages(items.stream()
+			.map(item -> new ItemStack(item.getId(), item.getQuantity()))
+			.collect(Collectors.toList()));
+
 		for (int i = 0; i < rowSize * ITEMS_PER_ROW; i++)
 		{
 			final JPanel slotContainer = new JPanel();
@@ -258,7 +197,7 @@ class LootTrackerBox extends JPanel
 				imageLabel.setVerticalAlignment(SwingConstants.CENTER);
 				imageLabel.setHorizontalAlignment(SwingConstants.CENTER);
 
-				AsyncBufferedImage itemImage = itemManager.getImage(item.getId(), item.getQuantity(), item.getQuantity() > 1);
+				AsyncBufferedImage itemImage = itemImages.get(i);
 
 				if (item.isIgnored())
 				{
@@ -41,5 +41,5 @@ class LootTrackerItem
 	private final long price;
 	@Getter
 	@Setter
-	private boolean ignored;
+	private transient boolean ignored;
 }
@@ -32,13 +32,23 @@ import java.awt.GridLayout;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
 import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.border.EmptyBorder;
@@ -47,13 +57,14 @@ import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.PluginPanel;
 import net.runelite.client.ui.components.PluginErrorPanel;
+import net.runelite.client.ui.components.VirtualListPanel;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.ImageUtil;
 import net.runelite.client.util.StackFormatter;
 
 class LootTrackerPanel extends PluginPanel
 {
-	private static final int MAX_LOOT_BOXES = 500;
+	private static final int MAX_LOOT_BOXES = LootLog.RECENT_RECORDS;
 
 	private static final ImageIcon SINGLE_LOOT_VIEW;
 	private static final ImageIcon SINGLE_LOOT_VIEW_FADED;
@@ -74,8 +85,8 @@ class LootTrackerPanel extends PluginPanel
 	// When there is no loot, display this
 	private final PluginErrorPanel errorPanel = new PluginErrorPanel();
 
-	// Handle loot boxes
-	private final JPanel logsContainer = new JPanel();
+	// Handle loot boxes, only the boxes in view are created
+	private final VirtualListPanel<LootTrackerAggregate> logsContainer = new VirtualListPanel<>(this::buildBox, 80, 0);
 
 	// Handle overall session data
 	private final JPanel overallPanel = new JPanel();
@@ -92,8 +103,11 @@ class LootTrackerPanel extends PluginPanel
 	private final JLabel groupedLootBtn = new JLabel();
 
 	// Log collection
-	private final List<LootTrackerRecord> records = new ArrayList<>();
-	private final List<LootTrackerBox> boxes = new ArrayList<>();
+	private final Deque<LootTrackerRecord> records = new ArrayDeque<>();
+	private final Map<String, LootTrackerAggregate> aggregates = new LinkedHashMap<>();
+	// Loot of each record shown in the single loot view
+	private final Map<LootTrackerRecord, LootTrackerAggregate> singleLogs = new IdentityHashMap<>();
+	private final Map<LootTrackerAggregate, LootTrackerRecord> singleRecords = new IdentityHashMap<>();
 
 	private final ItemManager itemManager;
 	private final LootTrackerPlugin plugin;
@@ -282,26 +296,22 @@ class LootTrackerPanel extends PluginPanel
 		overallPanel.add(overallIcon, BorderLayout.WEST);
 		overallPanel.add(overallInfo, BorderLayout.CENTER);
 
-		// Create reset all menu
+		// Create reset all menu, which only resets the loot of this session
 		final JMenuItem reset = new JMenuItem("Reset All");
-		reset.addActionListener(e ->
-		{
-			// If not in detailed view, remove all, otherwise only remove for the currently detailed title
-			records.removeIf(r -> r.matches(currentView));
-			boxes.removeIf(b -> b.matches(currentView));
-			updateOverall();
-			logsContainer.removeAll();
-			logsContainer.repaint();
-		});
+		reset.addActionListener(e -> resetView(false));
+
+		// Create delete all menu, which also deletes the loot from the history
+		final JMenuItem delete = new JMenuItem("Delete All From History");
+		delete.addActionListener(e -> resetView(true));
 
 		// Create popup menu
 		final JPopupMenu popupMenu = new JPopupMenu();
 		popupMenu.setBorder(new EmptyBorder(5, 5, 5, 5));
 		popupMenu.add(reset);
+		popupMenu.add(delete);
 		overallPanel.setComponentPopupMenu(popupMenu);
 
 		// Create loot boxes wrapper
-		logsContainer.setLayout(new BoxLayout(logsContainer, BoxLayout.Y_AXIS));
 		layoutPanel.add(actionsContainer);
 		layoutPanel.add(Box.createRigidArea(new Dimension(0, 5)));
 		layoutPanel.add(overallPanel);
@@ -319,19 +329,140 @@ class LootTrackerPanel extends PluginPanel
 
 	/**
 	 * Adds a new entry to the plugin.
-	 * Creates a subtitle, adds a new entry and then passes off to the render methods, that will decide
-	 * how to display this new data.
+	 * Adds the entry to the totals of its source and then updates only the box showing it,
+	 * the boxes of the other loot are kept.
 	 */
-	void add(final String eventName, final int actorLevel, LootTrackerItem[] items)
+	void add(final LootTrackerRecord record)
 	{
-		final String subTitle = actorLevel > -1 ? "(lvl-" + actorLevel + ")" : "";
-		final LootTrackerRecord record = new LootTrackerRecord(eventName, subTitle, items, System.currentTimeMillis());
-		records.add(record);
-		LootTrackerBox box = buildBox(record);
-		if (box != null)
+		addRecord(record);
+
+		LootTrackerAggregate aggregate = aggregates.remove(record.getTitle());
+		if (aggregate == null)
 		{
-			box.rebuild();
-			updateOverall();
+			aggregate = new LootTrackerAggregate(record.getTitle(), record.getSubTitle());
+		}
+
+		aggregate.add(record);
+		// Keep the most recently looted source last
+		aggregates.put(record.getTitle(), aggregate);
+
+		// If this record is not part of current view, return
+		if (!record.matches(currentView))
+		{
+			return;
+		}
+
+		if (groupLoot)
+		{
+			// Group all similar loot together, the box of the source moves to the top and is rebuilt
+			logsContainer.removeItem(aggregate);
+			if (isShown(aggregate))
+			{
+				logsContainer.addItem(0, aggregate);
+			}
+		}
+		else
+		{
+			final LootTrackerAggregate log = singleLog(record);
+			if (isShown(log))
+			{
+				logsContainer.addItem(0, log);
+			}
+		}
+
+		showLogs();
+		updateOverall();
+	}
+
+	/**
+	 * Adds the loot history loaded from disk in front of the loot received this session.
+	 *
+	 * @param totals lifetime totals per loot source, oldest source first
+	 * @param recent most recent records, oldest first
+	 */
+	void load(final Collection<LootTrackerAggregate> totals, final Collection<LootTrackerRecord> recent)
+	{
+		final Deque<LootTrackerRecord> session = new ArrayDeque<>(records);
+		records.clear();
+		recent.forEach(this::addRecord);
+		session.forEach(this::addRecord);
+
+		final Map<String, LootTrackerAggregate> sessionTotals = new LinkedHashMap<>(aggregates);
+		aggregates.clear();
+		for (LootTrackerAggregate total : totals)
+		{
+			aggregates.put(total.getTitle(), total);
+		}
+
+		for (LootTrackerAggregate sessionTotal : sessionTotals.values())
+		{
+			final LootTrackerAggregate total = aggregates.remove(sessionTotal.getTitle());
+			if (total != null)
+			{
+				total.add(sessionTotal);
+				aggregates.put(total.getTitle(), total);
+			}
+			else
+			{
+				aggregates.put(sessionTotal.getTitle(), sessionTotal);
+			}
+		}
+
+		for (LootTrackerAggregate aggregate : aggregates.values())
+		{
+			updateIgnored(aggregate.getItems());
+		}
+
+		for (LootTrackerRecord record : records)
+		{
+			updateIgnored(Arrays.asList(record.getItems()));
+		}
+
+		rebuild();
+	}
+
+	/**
+	 * Removes all loot from the panel, such as when switching to the loot history of another account.
+	 */
+	void clear()
+	{
+		records.clear();
+		aggregates.clear();
+		rebuild();
+	}
+
+	private void addRecord(final LootTrackerRecord record)
+	{
+		records.addLast(record);
+		if (records.size() > MAX_LOOT_BOXES)
+		{
+			removeSingleLog(records.removeFirst());
+		}
+	}
+
+	/**
+	 * Gets the loot of a record shown in the single loot view
+	 */
+	private LootTrackerAggregate singleLog(final LootTrackerRecord record)
+	{
+		LootTrackerAggregate log = singleLogs.get(record);
+		if (log == null)
+		{
+			log = new LootTrackerAggregate(record);
+			singleLogs.put(record, log);
+			singleRecords.put(log, record);
+		}
+
+		return log;
+	}
+
+	private void removeSingleLog(final LootTrackerRecord record)
+	{
+		final LootTrackerAggregate log = singleLogs.remove(record);
+		if (log != null)
+		{
+			singleRecords.remove(log);
+			logsContainer.removeItem(log);
 		}
 	}
 
@@ -362,104 +493,166 @@ class LootTrackerPanel extends PluginPanel
 
 	/**
 	 * After an item changed it's ignored state, iterate all the records and make
-	 * sure all items of the same name also get updated
+	 * sure all items of the same name also get updated. Only the boxes containing
+	 * such items are rebuilt.
 	 */
 	void updateIgnoredRecords()
 	{
-		for (LootTrackerRecord r : records)
+		// Shown loot goes first, grouped loot shares its items with the totals
+		for (LootTrackerAggregate log : logsContainer.getItems())
 		{
-			for (LootTrackerItem item : r.getItems())
+			if (updateIgnored(log.getItems()))
 			{
-				if (plugin.isIgnored(item.getName()) != item.isIgnored())
-				{
-					item.setIgnored(plugin.isIgnored(item.getName()));
-				}
+				logsContainer.refresh(log);
 			}
 		}
 
-		rebuild();
+		for (LootTrackerAggregate aggregate : aggregates.values())
+		{
+			updateIgnored(aggregate.getItems());
+		}
+
+		for (LootTrackerRecord r : records)
+		{
+			updateIgnored(Arrays.asList(r.getItems()));
+		}
+
+		updateLogs();
+		updateOverall();
 	}
 
 	/**
-	 * Rebuilds all the boxes from scratch using existing listed records, depending on the grouping mode.
+	 * Updates the ignored state of the given items
+	 *
+	 * @return true if any item changed
 	 */
-	private void rebuild()
+	private boolean updateIgnored(Collection<LootTrackerItem> items)
 	{
-		logsContainer.removeAll();
-		boxes.clear();
-		int start = 0;
-		if (!groupLoot && records.size() > MAX_LOOT_BOXES)
-		{
-			start = records.size() - MAX_LOOT_BOXES;
-		}
-		for (int i = start; i < records.size(); i++)
+		boolean changed = false;
+
+		for (LootTrackerItem item : items)
 		{
-			buildBox(records.get(i));
+			final boolean ignored = plugin.isIgnored(item.getName());
+			if (ignored != item.isIgnored())
+			{
+				item.setIgnored(ignored);
+				changed = true;
+			}
 		}
-		boxes.forEach(LootTrackerBox::rebuild);
+
+		return changed;
+	}
+
+	/**
+	 * Rebuilds all the boxes from scratch depending on the grouping mode.
+	 */
+	private void rebuild()
+	{
+		singleLogs.clear();
+		singleRecords.clear();
+		logsContainer.setItems(Collections.emptyList());
+		updateLogs();
 		updateOverall();
-		logsContainer.revalidate();
-		logsContainer.repaint();
 	}
 
 	/**
-	 * This method decides what to do with a new record, if a similar log exists, it will
-	 * add its items to it, updating the log's overall price and kills. If not, a new log will be created
-	 * to hold this entry's information.
+	 * Updates the loot shown by the boxes, keeping the boxes of loot that is still shown.
 	 */
-	private LootTrackerBox buildBox(LootTrackerRecord record)
+	private void updateLogs()
 	{
-		// If this record is not part of current view, return
-		if (!record.matches(currentView))
+		logsContainer.setItems(buildLogs());
+		showLogs();
+	}
+
+	private void showLogs()
+	{
+		if (!logsContainer.getItems().isEmpty())
 		{
-			return null;
+			// Show main view
+			remove(errorPanel);
+			actionsContainer.setVisible(true);
+			overallPanel.setVisible(true);
 		}
+	}
+
+	/**
+	 * Lists the loot to show in the current view, newest first. This is the loot totals
+	 * when grouped or the most recent records otherwise.
+	 */
+	private List<LootTrackerAggregate> buildLogs()
+	{
+		final List<LootTrackerAggregate> logs = new ArrayList<>();
 
-		// Group all similar loot together
 		if (groupLoot)
 		{
-			for (LootTrackerBox box : boxes)
+			final List<LootTrackerAggregate> totals = new ArrayList<>(aggregates.values());
+			for (int i = totals.size() - 1; i >= 0; i--)
+			{
+				final LootTrackerAggregate aggregate = totals.get(i);
+				if ((currentView == null || currentView.equals(aggregate.getTitle())) && isShown(aggregate))
+				{
+					logs.add(aggregate);
+				}
+			}
+		}
+		else
+		{
+			for (Iterator<LootTrackerRecord> it = records.descendingIterator(); it.hasNext(); )
 			{
-				if (box.matches(record))
+				final LootTrackerRecord record = it.next();
+				if (!record.matches(currentView))
+				{
+					continue;
+				}
+
+				final LootTrackerAggregate log = singleLog(record);
+				if (isShown(log))
 				{
-					box.combine(record);
-					return box;
+					logs.add(log);
 				}
 			}
 		}
 
-		// Show main view
-		remove(errorPanel);
-		actionsContainer.setVisible(true);
-		overallPanel.setVisible(true);
+		return logs;
+	}
+
+	private boolean isShown(LootTrackerAggregate log)
+	{
+		/* If all the items in this box are ignored */
+		return !hideIgnoredItems || !log.getItems().stream().allMatch(LootTrackerItem::isIgnored);
+	}
+
+	/**
+	 * Creates the box of the given loot, once it is scrolled into view.
+	 */
+	private LootTrackerBox buildBox(LootTrackerAggregate log)
+	{
+		// The single record shown by the box, or null if it shows all loot of a source
+		final LootTrackerRecord record = groupLoot ? null : singleRecords.get(log);
 
 		// Create box
-		final LootTrackerBox box = new LootTrackerBox(itemManager, record.getTitle(), record.getSubTitle(), hideIgnoredItems, plugin::toggleItem);
-		box.combine(record);
+		final LootTrackerBox box = new LootTrackerBox(itemManager, log, hideIgnoredItems, plugin::toggleItem);
 
 		// Create popup menu
 		final JPopupMenu popupMenu = new JPopupMenu();
 		popupMenu.setBorder(new EmptyBorder(5, 5, 5, 5));
 		box.setComponentPopupMenu(popupMenu);
 
-		// Create reset menu
+		// Create reset menu, which only resets the loot of this session
 		final JMenuItem reset = new JMenuItem("Reset");
-		reset.addActionListener(e ->
-		{
-			records.removeAll(box.getRecords());
-			boxes.remove(box);
-			updateOverall();
-			logsContainer.remove(box);
-			logsContainer.repaint();
-		});
-
+		reset.addActionListener(e -> removeLog(log, record, false));
 		popupMenu.add(reset);
 
+		// Create delete menu, which also deletes the loot from the history
+		final JMenuItem delete = new JMenuItem("Delete From History");
+		delete.addActionListener(e -> removeLog(log, record, true));
+		popupMenu.add(delete);
+
 		// Create details menu
 		final JMenuItem details = new JMenuItem("View details");
 		details.addActionListener(e ->
 		{
-			currentView = record.getTitle();
+			currentView = log.getTitle();
 			detailsTitle.setText(currentView);
 			backBtn.setVisible(true);
 			rebuild();
@@ -467,16 +660,85 @@ class LootTrackerPanel extends PluginPanel
 
 		popupMenu.add(details);
 
-		// Add box to panel
-		boxes.add(box);
-		logsContainer.add(box, 0);
+		box.rebuild();
+		return box;
+	}
 
-		if (!groupLoot && boxes.size() > MAX_LOOT_BOXES)
+	/**
+	 * Removes all the loot in the current view.
+	 *
+	 * @param deleteHistory if the loot should also be deleted from the loot history
+	 */
+	private void resetView(boolean deleteHistory)
+	{
+		if (deleteHistory && !confirmDelete(currentView == null ? "all loot" : "all loot from " + currentView))
 		{
-			logsContainer.remove(boxes.remove(0));
+			return;
 		}
 
-		return box;
+		// If not in detailed view, remove all, otherwise only remove for the currently detailed title
+		records.removeIf(r -> r.matches(currentView));
+		aggregates.values().removeIf(a -> currentView == null || currentView.equals(a.getTitle()));
+		if (deleteHistory)
+		{
+			plugin.resetLoot(currentView);
+		}
+		rebuild();
+	}
+
+	/**
+	 * Removes the loot shown by a box.
+	 *
+	 * @param log the loot shown by the box
+	 * @param record the single record shown by the box, or null if it shows all loot of a source
+	 * @param deleteHistory if the loot should also be deleted from the loot history
+	 */
+	private void removeLog(LootTrackerAggregate log, LootTrackerRecord record, boolean deleteHistory)
+	{
+		if (deleteHistory && !confirmDelete(record == null ? "all loot from " + log.getTitle() : "this loot"))
+		{
+			return;
+		}
+
+		if (record == null)
+		{
+			records.removeIf(r -> r.matches(log.getTitle()));
+			aggregates.remove(log.getTitle());
+			if (deleteHistory)
+			{
+				plugin.resetLoot(log.getTitle());
+			}
+		}
+		else
+		{
+			records.remove(record);
+			removeSingleLog(record);
+			final LootTrackerAggregate total = aggregates.get(record.getTitle());
+			if (total != null)
+			{
+				total.remove(record);
+				if (total.isEmpty())
+				{
+					aggregates.remove(record.getTitle());
+				}
+			}
+			if (deleteHistory)
+			{
+				plugin.removeLoot(record);
+			}
+		}
+
+		// Only the box of the removed loot goes, the other boxes are kept
+		logsContainer.removeItem(log);
+		updateOverall();
+	}
+
+	private boolean confirmDelete(String loot)
+	{
+		final int result = JOptionPane.showConfirmDialog(this,
+			"Are you sure you want to permanently delete " + loot + " from the loot history?", "Delete loot",
+			JOptionPane.OK_CANCEL_OPTION, JOptionPane.WARNING_MESSAGE);
+		return result == JOptionPane.OK_OPTION;
 	}
 
 	private void updateOverall()
@@ -484,16 +746,16 @@ class LootTrackerPanel extends PluginPanel
 		long overallKills = 0;
 		long overallGp = 0;
 
-		for (LootTrackerRecord record : records)
+		for (LootTrackerAggregate aggregate : aggregates.values())
 		{
-			if (!record.matches(currentView))
+			if (currentView != null && !currentView.equals(aggregate.getTitle()))
 			{
 				continue;
 			}
 
-			int present = record.getItems().length;
+			int present = aggregate.getItems().size();
 
-			for (LootTrackerItem item : record.getItems())
+			for (LootTrackerItem item : aggregate.getItems())
 			{
 				if (hideIgnoredItems && item.isIgnored())
 				{
@@ -506,7 +768,7 @@ class LootTrackerPanel extends PluginPanel
 
 			if (present > 0)
 			{
-				overallKills++;
+				overallKills += aggregate.getKills();
 			}
 		}
 
@@ -30,15 +30,19 @@ import com.google.common.base.Splitter;
 import com.google.common.eventbus.Subscribe;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
@@ -53,8 +57,10 @@ import net.runelite.api.SpriteID;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.ConfigChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.WidgetID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.events.NpcLootReceived;
 import net.runelite.client.events.PlayerLootReceived;
@@ -80,6 +86,7 @@ public class LootTrackerPlugin extends Plugin
 	// Activity/Event loot handling
 	private static final Pattern CLUE_SCROLL_PATTERN = Pattern.compile("You have completed [0-9]+ ([a-z]+) Treasure Trails.");
 	private static final int THEATRE_OF_BLOOD_REGION = 12867;
+	private static final File LOOT_LOG_DIR = new File(RuneLite.RUNELITE_DIR, "loottracker");
 
 	private static final Splitter COMMA_SPLITTER = Splitter
 		.on(",")
@@ -103,7 +110,12 @@ public class LootTrackerPlugin extends Plugin
 	@Inject
 	private Client client;
 
+	@Inject
+	private ScheduledExecutorService executor;
+
 	private LootTrackerPanel panel;
+	private LootLog lootLog;
+	private String lootLogName;
 	private NavigationButton navButton;
 	private String eventType;
 
@@ -177,6 +189,19 @@ public class LootTrackerPlugin extends Plugin
 	protected void shutDown()
 	{
 		clientToolbar.removeNavigation(navButton);
+		lootLog = null;
+		lootLogName = null;
+	}
+
+	@Subscribe
+	public void onGameTick(GameTick event)
+	{
+		// The local player's name is not known until the first tick after logging in
+		final Player local = client.getLocalPlayer();
+		if (local != null && local.getName() != null)
+		{
+			loadLootLog(local.getName());
+		}
 	}
 
 	@Subscribe
@@ -187,7 +212,7 @@ public class LootTrackerPlugin extends Plugin
 		final String name = npc.getName();
 		final int combat = npc.getCombatLevel();
 		final LootTrackerItem[] entries = buildEntries(stack(items));
-		SwingUtilities.invokeLater(() -> panel.add(name, combat, entries));
+		addLoot(name, combat, entries);
 	}
 
 	@Subscribe
@@ -198,7 +223,7 @@ public class LootTrackerPlugin extends Plugin
 		final String name = player.getName();
 		final int combat = player.getCombatLevel();
 		final LootTrackerItem[] entries = buildEntries(stack(items));
-		SwingUtilities.invokeLater(() -> panel.add(name, combat, entries));
+		addLoot(name, combat, entries);
 	}
 
 	@Subscribe
@@ -247,7 +272,7 @@ public class LootTrackerPlugin extends Plugin
 		if (!items.isEmpty())
 		{
 			final LootTrackerItem[] entries = buildEntries(stack(items));
-			SwingUtilities.invokeLater(() -> panel.add(eventType, -1, entries));
+			addLoot(eventType, -1, entries);
 		}
 		else
 		{
@@ -289,6 +314,80 @@ public class LootTrackerPlugin extends Plugin
 		}
 	}
 
+	private void addLoot(final String name, final int combat, final LootTrackerItem[] entries)
+	{
+		final String subTitle = combat > -1 ? "(lvl-" + combat + ")" : "";
+		final LootTrackerRecord record = new LootTrackerRecord(UUID.randomUUID(), name, subTitle, entries, System.currentTimeMillis());
+		final LootLog lootLog = this.lootLog;
+		if (lootLog != null)
+		{
+			executor.execute(() -> lootLog.append(record));
+		}
+		SwingUtilities.invokeLater(() -> panel.add(record));
+	}
+
+	/**
+	 * Switches to the loot log of the logged in player if it is not already loaded. The
+	 * log is loaded off the main thread, loot received meanwhile is logged after it.
+	 *
+	 * @param name the local player's name
+	 */
+	private void loadLootLog(String name)
+	{
+		final String lootLogName = lootLogName(name);
+		if (lootLogName.equals(this.lootLogName))
+		{
+			return;
+		}
+
+		this.lootLogName = lootLogName;
+		final LootLog lootLog = this.lootLog = new LootLog(new File(LOOT_LOG_DIR, lootLogName + ".log"));
+		final LootTrackerPanel panel = this.panel;
+
+		// Drop the loot of the previous account before loading this one
+		SwingUtilities.invokeLater(panel::clear);
+		executor.execute(() ->
+		{
+			lootLog.load();
+			final List<LootTrackerAggregate> totals = lootLog.getTotals();
+			final List<LootTrackerRecord> recent = lootLog.getRecent();
+			SwingUtilities.invokeLater(() -> panel.load(totals, recent));
+		});
+	}
+
+	private static String lootLogName(String name)
+	{
+		return name.toLowerCase().replaceAll("[^a-z0-9_-]", "_");
+	}
+
+	/**
+	 * Deletes a single record from the loot log
+	 *
+	 * @param record loot record
+	 */
+	void removeLoot(LootTrackerRecord record)
+	{
+		final LootLog lootLog = this.lootLog;
+		if (lootLog != null)
+		{
+			executor.execute(() -> lootLog.remove(record));
+		}
+	}
+
+	/**
+	 * Deletes the loot of a source from the loot log
+	 *
+	 * @param title loot source, or null to delete all loot
+	 */
+	void resetLoot(@Nullable String title)
+	{
+		final LootLog lootLog = this.lootLog;
+		if (lootLog != null)
+		{
+			executor.execute(() -> lootLog.reset(title));
+		}
+	}
+
 	void toggleItem(String name, boolean ignore)
 	{
 		final Set<String> ignoredItemSet = new HashSet<>(ignoredItems);
@@ -24,11 +24,13 @@
  */
 package net.runelite.client.plugins.loottracker;
 
+import java.util.UUID;
 import lombok.Value;
 
 @Value
 class LootTrackerRecord
 {
+	private final UUID id;
 	private final String title;
 	private final String subTitle;
 	private final LootTrackerItem[] items;
@@ -44,7 +44,8 @@ import net.runelite.client.plugins.PluginDescriptor;
 @PluginDescriptor(
 	name = "Minimap",
 	description = "Customize the color of minimap dots",
-	tags = {"items", "npcs", "players"}
+	tags = {"items", "npcs", "players"},
+	concurrentStartUp = true
 )
 public class MinimapPlugin extends Plugin
 {
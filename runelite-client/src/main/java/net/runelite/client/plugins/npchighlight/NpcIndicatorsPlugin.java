@@ -69,7 +69,8 @@ import net.runelite.client.util.WildcardMatcher;
 @PluginDescriptor(
 	name = "NPC Indicators",
 	description = "Highlight NPCs on-screen and/or on the minimap",
-	tags = {"highlight", "minimap", "npcs", "overlay", "respawn", "tags"}
+	tags = {"highlight", "minimap", "npcs", "overlay", "respawn", "tags"},
+	concurrentStartUp = true
 )
 @Slf4j
 public class NpcIndicatorsPlugin extends Plugin
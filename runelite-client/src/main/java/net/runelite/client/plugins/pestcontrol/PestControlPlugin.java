@@ -38,7 +38,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 @PluginDescriptor(
 	name = "Pest Control",
 	description = "Show helpful information for the Pest Control minigame",
-	tags = {"minigame", "overlay"}
+	tags = {"minigame", "overlay"},
+	concurrentStartUp = true
 )
 public class PestControlPlugin extends Plugin
 {
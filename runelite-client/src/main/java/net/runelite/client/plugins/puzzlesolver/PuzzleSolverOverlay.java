@@ -50,8 +50,7 @@ import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
-import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
-import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.CompactIDAStar;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -71,6 +70,9 @@ public class PuzzleSolverOverlay extends Overlay
 	private static final int PUZZLE_TILE_SIZE = 39;
 	private static final int DOT_MARKER_SIZE = 16;
 
+	// Roughly a second of searching for an optimal solution before settling for a longer one
+	private static final long SOLVER_NODE_LIMIT = 2_000_000;
+
 	private final Client client;
 	private final PuzzleSolverConfig config;
 	private final ScheduledExecutorService executorService;
@@ -418,7 +420,7 @@ public class PuzzleSolverOverlay extends Overlay
 
 		PuzzleState puzzleState = new PuzzleState(items);
 
-		solver = new PuzzleSolver(new IDAStar(new ManhattanDistance()), puzzleState);
+		solver = new PuzzleSolver(new CompactIDAStar(SOLVER_NODE_LIMIT), puzzleState);
 		solverFuture = executorService.submit(solver);
 	}
 
@@ -62,7 +62,8 @@ import net.runelite.client.util.Text;
 @PluginDescriptor(
 	name = "Puzzle Solver",
 	description = "Show you where to click to solve puzzle boxes",
-	tags = {"clues", "scrolls", "overlay"}
+	tags = {"clues", "scrolls", "overlay"},
+	concurrentStartUp = true
 )
 @Slf4j
 public class PuzzleSolverPlugin extends Plugin
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * The manhattan distance plus linear conflicts.
+ * <p>
+ * Two pieces are in linear conflict when both are in their goal row (or column),
+ * but in the wrong order. One of them has to leave the line and come back, which
+ * costs two moves on top of the manhattan distance. For each line, the number of
+ * pieces that have to leave is the number of pieces in their goal line minus the
+ * longest run of them that is already in order.
+ * <p>
+ * Lines are looked up by a key with one base {@link #LINE_KEY_BASE} digit per
+ * position in the line, which is the goal position of the piece in that line plus
+ * one, or zero if the piece doesn't belong to the line.
+ */
+public class LinearConflict implements Heuristic
+{
+	public static final int LINE_KEY_BASE = DIMENSION + 1;
+
+	private static final byte[] LINE_CONFLICTS;
+
+	static
+	{
+		int keys = 1;
+		for (int i = 0; i < DIMENSION; i++)
+		{
+			keys *= LINE_KEY_BASE;
+		}
+
+		LINE_CONFLICTS = new byte[keys];
+		int[] goals = new int[DIMENSION];
+		for (int key = 0; key < keys; key++)
+		{
+			int count = 0;
+			for (int i = 0, k = key; i < DIMENSION; i++, k /= LINE_KEY_BASE)
+			{
+				int digit = k % LINE_KEY_BASE;
+				if (digit != 0)
+				{
+					goals[count++] = digit;
+				}
+			}
+
+			LINE_CONFLICTS[key] = (byte) (2 * (count - longestIncreasing(goals, count)));
+		}
+	}
+
+	@Override
+	public int computeValue(PuzzleState state)
+	{
+		int value = 0;
+
+		for (int line = 0; line < DIMENSION; line++)
+		{
+			int rowKey = 0;
+			int columnKey = 0;
+
+			for (int i = DIMENSION - 1; i >= 0; i--)
+			{
+				rowKey = rowKey * LINE_KEY_BASE + rowDigit(state.getPiece(i, line), line);
+				columnKey = columnKey * LINE_KEY_BASE + columnDigit(state.getPiece(line, i), line);
+
+				int piece = state.getPiece(i, line);
+				if (piece != BLANK_TILE_VALUE)
+				{
+					value += Math.abs(i - piece % DIMENSION) + Math.abs(line - piece / DIMENSION);
+				}
+			}
+
+			value += LINE_CONFLICTS[rowKey] + LINE_CONFLICTS[columnKey];
+		}
+
+		return value;
+	}
+
+	/**
+	 * Gets the extra moves needed to resolve the conflicts within a line.
+	 *
+	 * @param key the line key, with the first position of the line as the least significant digit
+	 * @return the number of extra moves
+	 */
+	public static int lineConflicts(int key)
+	{
+		return LINE_CONFLICTS[key];
+	}
+
+	/**
+	 * Gets the line key digit of a piece in a row.
+	 *
+	 * @param piece the piece, or {@link net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver#BLANK_TILE_VALUE}
+	 * @param row the row the piece is in
+	 * @return the digit
+	 */
+	public static int rowDigit(int piece, int row)
+	{
+		return piece != BLANK_TILE_VALUE && piece / DIMENSION == row ? piece % DIMENSION + 1 : 0;
+	}
+
+	/**
+	 * Gets the line key digit of a piece in a column.
+	 *
+	 * @param piece the piece, or {@link net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver#BLANK_TILE_VALUE}
+	 * @param column the column the piece is in
+	 * @return the digit
+	 */
+	public static int columnDigit(int piece, int column)
+	{
+		return piece != BLANK_TILE_VALUE && piece % DIMENSION == column ? piece / DIMENSION + 1 : 0;
+	}
+
+	private static int longestIncreasing(int[] values, int count)
+	{
+		int[] lengths = new int[count];
+		int longest = 0;
+		for (int i = 0; i < count; i++)
+		{
+			lengths[i] = 1;
+			for (int j = 0; j < i; j++)
+			{
+				if (values[j] < values[i] && lengths[j] + 1 > lengths[i])
+				{
+					lengths[i] = lengths[j] + 1;
+				}
+			}
+			longest = Math.max(longest, lengths[i]);
+		}
+		return longest;
+	}
+}
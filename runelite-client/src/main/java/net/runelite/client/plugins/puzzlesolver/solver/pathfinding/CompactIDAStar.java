@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.LinearConflict;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * An implementation of the IDA* algorithm which searches a single copy of the
+ * puzzle, moving pieces in place and undoing the moves when backtracking.
+ * <p>
+ * Uses the {@link LinearConflict} heuristic, which is updated incrementally
+ * on every move: only the manhattan distance of the moved piece and the
+ * conflicts of the two lines it moves between can change.
+ * <p>
+ * The optimal search of a heavily shuffled puzzle can take a long time. When
+ * given a node limit, the search restarts with an increasingly weighted
+ * heuristic each time the limit is reached, which finds a solution much faster
+ * at the cost of it being a few moves longer than necessary.
+ * <p>
+ * Unsolvable puzzles fail immediately, and the search stops when the
+ * thread is interrupted.
+ */
+public class CompactIDAStar extends Pathfinder
+{
+	private static final int SIZE = DIMENSION * DIMENSION;
+	private static final int FOUND = -1;
+	private static final int CANCELLED = -2;
+	private static final int OUT_OF_NODES = -3;
+	// How many nodes to search between checks for interruption
+	private static final int INTERRUPT_CHECK_MASK = (1 << 16) - 1;
+
+	// Heuristic weights to search with, in quarters. The first is the optimal search.
+	private static final int WEIGHT_SCALE = 4;
+	private static final int[] WEIGHTS = {4, 6, 8, 12, 16};
+
+	private static final int[][] NEIGHBOURS = new int[SIZE][];
+
+	static
+	{
+		for (int i = 0; i < SIZE; i++)
+		{
+			int x = i % DIMENSION;
+			int y = i / DIMENSION;
+			int[] neighbours = new int[4];
+			int count = 0;
+
+			if (x > 0)
+			{
+				neighbours[count++] = i - 1;
+			}
+			if (x < DIMENSION - 1)
+			{
+				neighbours[count++] = i + 1;
+			}
+			if (y > 0)
+			{
+				neighbours[count++] = i - DIMENSION;
+			}
+			if (y < DIMENSION - 1)
+			{
+				neighbours[count++] = i + DIMENSION;
+			}
+
+			NEIGHBOURS[i] = Arrays.copyOf(neighbours, count);
+		}
+	}
+
+	private final long nodeLimit;
+	private final byte[] pieces = new byte[SIZE];
+	private final int[] rowConflicts = new int[DIMENSION];
+	private final int[] columnConflicts = new int[DIMENSION];
+	private int[] path = new int[0];
+	private int emptyPiece;
+	private int h;
+	private int weight;
+	private int solutionLength;
+	private long nodes;
+	private long nodeBudget;
+
+	/**
+	 * Creates a pathfinder which always searches for an optimal solution.
+	 */
+	public CompactIDAStar()
+	{
+		this(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a pathfinder which gives up on an optimal solution after a number of nodes.
+	 *
+	 * @param nodeLimit the number of nodes to search with each heuristic weight
+	 */
+	public CompactIDAStar(long nodeLimit)
+	{
+		super(new LinearConflict());
+		this.nodeLimit = nodeLimit;
+	}
+
+	@Override
+	public List<PuzzleState> computePath(PuzzleState root)
+	{
+		load(root);
+
+		if (!isSolvable())
+		{
+			return null;
+		}
+
+		nodes = 0;
+
+		for (int i = 0; i < WEIGHTS.length; i++)
+		{
+			weight = WEIGHTS[i];
+			nodeBudget = i == WEIGHTS.length - 1 || nodeLimit == Long.MAX_VALUE ? Long.MAX_VALUE : nodes + nodeLimit;
+
+			int t = solve();
+
+			if (t == FOUND)
+			{
+				return buildPath(root, solutionLength);
+			}
+
+			if (t == CANCELLED)
+			{
+				return null;
+			}
+
+			// Out of nodes, the search was left midway so start over
+			load(root);
+		}
+
+		return null;
+	}
+
+	private int solve()
+	{
+		int bound = h * weight;
+
+		while (true)
+		{
+			if (path.length <= bound / WEIGHT_SCALE)
+			{
+				path = new int[(bound / WEIGHT_SCALE + 1) * 2];
+			}
+
+			int t = search(0, bound, -1);
+
+			if (t < 0)
+			{
+				return t;
+			}
+
+			bound = t;
+		}
+	}
+
+	/**
+	 * Gets the number of nodes visited by the last search.
+	 */
+	public long getNodeCount()
+	{
+		return nodes;
+	}
+
+	private int search(int g, int bound, int previousEmptyPiece)
+	{
+		int f = g * WEIGHT_SCALE + h * weight;
+
+		if (f > bound)
+		{
+			return f;
+		}
+
+		if (h == 0)
+		{
+			solutionLength = g;
+			return FOUND;
+		}
+
+		if (++nodes >= nodeBudget)
+		{
+			return OUT_OF_NODES;
+		}
+
+		if ((nodes & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted())
+		{
+			return CANCELLED;
+		}
+
+		int min = Integer.MAX_VALUE;
+		int from = emptyPiece;
+
+		for (int to : NEIGHBOURS[from])
+		{
+			if (to == previousEmptyPiece)
+			{
+				continue;
+			}
+
+			boolean horizontal = from / DIMENSION == to / DIMENSION;
+			int[] conflicts = horizontal ? columnConflicts : rowConflicts;
+			int fromLine = horizontal ? from % DIMENSION : from / DIMENSION;
+			int toLine = horizontal ? to % DIMENSION : to / DIMENSION;
+			int oldFromConflicts = conflicts[fromLine];
+			int oldToConflicts = conflicts[toLine];
+			int oldH = h;
+
+			move(to);
+			path[g] = to;
+
+			int t = search(g + 1, bound, from);
+
+			if (t < 0)
+			{
+				// Either the path has been recorded, or the search is over
+				return t;
+			}
+
+			// Undo the move
+			pieces[to] = pieces[from];
+			pieces[from] = BLANK_TILE_VALUE;
+			emptyPiece = from;
+			h = oldH;
+			conflicts[fromLine] = oldFromConflicts;
+			conflicts[toLine] = oldToConflicts;
+
+			min = Math.min(min, t);
+		}
+
+		return min;
+	}
+
+	/**
+	 * Moves the piece at {@code to} into the empty space, updating the heuristic.
+	 */
+	private void move(int to)
+	{
+		int from = emptyPiece;
+		int piece = pieces[to];
+
+		pieces[from] = (byte) piece;
+		pieces[to] = BLANK_TILE_VALUE;
+		emptyPiece = to;
+
+		// The piece moves from "to" to "from"
+		h += distance(piece, from) - distance(piece, to);
+
+		if (from / DIMENSION == to / DIMENSION)
+		{
+			// Moving along a row changes the piece's column
+			int fromColumn = from % DIMENSION;
+			int toColumn = to % DIMENSION;
+			h -= columnConflicts[fromColumn] + columnConflicts[toColumn];
+			columnConflicts[fromColumn] = columnConflicts(fromColumn);
+			columnConflicts[toColumn] = columnConflicts(toColumn);
+			h += columnConflicts[fromColumn] + columnConflicts[toColumn];
+		}
+		else
+		{
+			int fromRow = from / DIMENSION;
+			int toRow = to / DIMENSION;
+			h -= rowConflicts[fromRow] + rowConflicts[toRow];
+			rowConflicts[fromRow] = rowConflicts(fromRow);
+			rowConflicts[toRow] = rowConflicts(toRow);
+			h += rowConflicts[fromRow] + rowConflicts[toRow];
+		}
+	}
+
+	private void load(PuzzleState state)
+	{
+		for (int i = 0; i < SIZE; i++)
+		{
+			pieces[i] = (byte) state.getPiece(i % DIMENSION, i / DIMENSION);
+		}
+
+		emptyPiece = state.getEmptyPiece();
+		h = 0;
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			if (pieces[i] != BLANK_TILE_VALUE)
+			{
+				h += distance(pieces[i], i);
+			}
+		}
+
+		for (int line = 0; line < DIMENSION; line++)
+		{
+			rowConflicts[line] = rowConflicts(line);
+			columnConflicts[line] = columnConflicts(line);
+			h += rowConflicts[line] + columnConflicts[line];
+		}
+	}
+
+	private int rowConflicts(int row)
+	{
+		int key = 0;
+		for (int x = DIMENSION - 1; x >= 0; x--)
+		{
+			key = key * LinearConflict.LINE_KEY_BASE + LinearConflict.rowDigit(pieces[row * DIMENSION + x], row);
+		}
+		return LinearConflict.lineConflicts(key);
+	}
+
+	private int columnConflicts(int column)
+	{
+		int key = 0;
+		for (int y = DIMENSION - 1; y >= 0; y--)
+		{
+			key = key * LinearConflict.LINE_KEY_BASE + LinearConflict.columnDigit(pieces[y * DIMENSION + column], column);
+		}
+		return LinearConflict.lineConflicts(key);
+	}
+
+	private static int distance(int piece, int position)
+	{
+		return Math.abs(piece % DIMENSION - position % DIMENSION) + Math.abs(piece / DIMENSION - position / DIMENSION);
+	}
+
+	/**
+	 * As the board width is odd, a puzzle is solvable if and only if
+	 * the number of inversions between the pieces is even.
+	 */
+	private boolean isSolvable()
+	{
+		int inversions = 0;
+		for (int i = 0; i < SIZE; i++)
+		{
+			if (pieces[i] == BLANK_TILE_VALUE)
+			{
+				continue;
+			}
+
+			for (int j = i + 1; j < SIZE; j++)
+			{
+				if (pieces[j] != BLANK_TILE_VALUE && pieces[j] < pieces[i])
+				{
+					inversions++;
+				}
+			}
+		}
+		return inversions % 2 == 0;
+	}
+
+	private List<PuzzleState> buildPath(PuzzleState root, int length)
+	{
+		List<PuzzleState> states = new ArrayList<>(length + 1);
+		PuzzleState state = root;
+		states.add(state);
+
+		for (int i = 0; i < length; i++)
+		{
+			for (PuzzleState next : state.computeMoves())
+			{
+				if (next.getEmptyPiece() == path[i])
+				{
+					state = next;
+					break;
+				}
+			}
+			states.add(state);
+		}
+
+		return states;
+	}
+}
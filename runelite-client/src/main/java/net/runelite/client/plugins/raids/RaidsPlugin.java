@@ -41,12 +41,15 @@ import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.InstanceTemplates;
 import net.runelite.api.NullObjectID;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
 import static net.runelite.api.Perspective.SCENE_SIZE;
 import net.runelite.api.Point;
 import static net.runelite.api.SpriteID.TAB_QUESTS_BROWN_RAIDING_PARTY;
 import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
 import net.runelite.api.VarPlayer;
 import net.runelite.api.Varbits;
+import net.runelite.api.WallObject;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.ConfigChanged;
 import net.runelite.api.events.VarbitChanged;
@@ -59,6 +62,7 @@ import net.runelite.client.chat.ChatMessageBuilder;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.game.SceneIndex;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -72,7 +76,8 @@ import net.runelite.client.util.Text;
 @PluginDescriptor(
 	name = "Chambers Of Xeric",
 	description = "Show helpful information for the Chambers of Xeric raid",
-	tags = {"combat", "raid", "overlay", "pve", "pvm", "bosses"}
+	tags = {"combat", "raid", "overlay", "pve", "pvm", "bosses"},
+	concurrentStartUp = true
 )
 @Slf4j
 public class RaidsPlugin extends Plugin
@@ -113,6 +118,9 @@ public class RaidsPlugin extends Plugin
 	@Inject
 	private SpriteManager spriteManager;
 
+	@Inject
+	private SceneIndex sceneIndex;
+
 	@Inject
 	private ClientThread clientThread;
 
@@ -411,25 +419,26 @@ public class RaidsPlugin extends Plugin
 
 	private Point findLobbyBase()
 	{
-		Tile[][] tiles = client.getScene().getTiles()[LOBBY_PLANE];
+		Point base = null;
 
-		for (int x = 0; x < SCENE_SIZE; x++)
+		// the index is unordered, so pick the lowest x then y like a scan of the scene would
+		for (TileObject object : sceneIndex.getObjects(NullObjectID.NULL_12231))
 		{
-			for (int y = 0; y < SCENE_SIZE; y++)
+			if (!(object instanceof WallObject) || object.getPlane() != LOBBY_PLANE)
 			{
-				if (tiles[x][y] == null || tiles[x][y].getWallObject() == null)
-				{
-					continue;
-				}
+				continue;
+			}
 
-				if (tiles[x][y].getWallObject().getId() == NullObjectID.NULL_12231)
-				{
-					return tiles[x][y].getSceneLocation();
-				}
+			final int x = object.getX() >> LOCAL_COORD_BITS;
+			final int y = object.getY() >> LOCAL_COORD_BITS;
+
+			if (base == null || x < base.getX() || (x == base.getX() && y < base.getY()))
+			{
+				base = new Point(x, y);
 			}
 		}
 
-		return null;
+		return base;
 	}
 
 	private Raid buildRaid()
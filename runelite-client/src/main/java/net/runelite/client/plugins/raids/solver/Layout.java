@@ -25,6 +25,7 @@
 package net.runelite.client.plugins.raids.solver;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import lombok.Getter;
 
@@ -33,22 +34,33 @@ public class Layout
 	@Getter
 	private final List<Room> rooms = new ArrayList<>();
 
+	private Room[] roomsByPosition = new Room[0];
+
 	public void add(Room room)
 	{
 		rooms.add(room);
+
+		int position = room.getPosition();
+
+		if (position >= roomsByPosition.length)
+		{
+			roomsByPosition = Arrays.copyOf(roomsByPosition, position + 1);
+		}
+
+		if (roomsByPosition[position] == null)
+		{
+			roomsByPosition[position] = room;
+		}
 	}
 
 	public Room getRoomAt(int position)
 	{
-		for (Room room : rooms)
+		if (position < 0 || position >= roomsByPosition.length)
 		{
-			if (room.getPosition() == position)
-			{
-				return room;
-			}
+			return null;
 		}
 
-		return null;
+		return roomsByPosition[position];
 	}
 
 	public String toCode()
@@ -26,11 +26,12 @@ package net.runelite.client.plugins.raids.solver;
 
 import com.google.inject.Singleton;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.raids.RaidRoom;
 
 /*
  * Implementation of https://github.com/WooxSolo/raids-layout
@@ -51,8 +52,7 @@ import lombok.extern.slf4j.Slf4j;
 public class LayoutSolver
 {
 	@Getter
-	private static final List<Layout> layouts = new ArrayList<>();
-	private static final Pattern regex = Pattern.compile("^([A-Z]*)\\.([A-Z]*) - #([A-Z]*)#([A-Z]*)$");
+	private static final List<Layout> layouts;
 	private static final String[] codes =
 	{
 		"CFSCP.PCSCF - #ENWWWS#NEESEN",
@@ -83,50 +83,185 @@ public class LayoutSolver
 		"SPSFP.CCCSF - #NWSWWN#ESEENW",
 	};
 
-	public LayoutSolver()
-	{
-		build();
-	}
+	/**
+	 * Every room symbol used by the layouts.
+	 */
+	private static final String symbols;
 
-	public Layout findLayout(String code)
+	/**
+	 * For each position and room symbol, the layouts which have a room with that
+	 * symbol at the position, or no room at all. Indexed by position, then by the
+	 * index of the symbol in {@link #symbols}.
+	 */
+	private static final BitSet[][] index;
+
+	/**
+	 * For each position, the layouts which have no room at the position.
+	 */
+	private static final BitSet[] unconstrained;
+
+	static
 	{
-		Layout solution = null;
-		int matches = 0;
-		boolean match;
+		List<Layout> built = build();
+		layouts = Collections.unmodifiableList(built);
 
-		for (Layout layout : layouts)
+		StringBuilder symbolBuilder = new StringBuilder();
+		int positions = 0;
+
+		for (Layout layout : built)
 		{
-			match = true;
+			for (Room room : layout.getRooms())
+			{
+				positions = Math.max(positions, room.getPosition() + 1);
 
-			for (int i = 0; i < code.length(); i++)
+				if (symbolBuilder.indexOf(String.valueOf(room.getSymbol())) == -1)
+				{
+					symbolBuilder.append(room.getSymbol());
+				}
+			}
+		}
+
+		symbols = symbolBuilder.toString();
+		index = new BitSet[positions][symbols.length()];
+		unconstrained = new BitSet[positions];
+
+		for (int position = 0; position < positions; position++)
+		{
+			unconstrained[position] = new BitSet(built.size());
+
+			for (int i = 0; i < built.size(); i++)
 			{
-				Room room = layout.getRoomAt(i);
-				char c = code.charAt(i);
+				if (built.get(i).getRoomAt(position) == null)
+				{
+					unconstrained[position].set(i);
+				}
+			}
+
+			for (int symbol = 0; symbol < symbols.length(); symbol++)
+			{
+				BitSet layoutSet = (BitSet) unconstrained[position].clone();
 
-				if (room != null && c != ' ' && c != room.getSymbol())
+				for (int i = 0; i < built.size(); i++)
 				{
-					match = false;
-					break;
+					Room room = built.get(i).getRoomAt(position);
+
+					if (room != null && room.getSymbol() == symbols.charAt(symbol))
+					{
+						layoutSet.set(i);
+					}
 				}
+
+				index[position][symbol] = layoutSet;
 			}
+		}
+	}
+
+	/**
+	 * Finds the layout matching a partial room code, where unknown rooms are spaces.
+	 *
+	 * @param code the room code
+	 * @return the layout, or null if no layout or more than one layout matches
+	 */
+	public Layout findLayout(String code)
+	{
+		BitSet matches = match(code);
 
-			if (match)
+		if (matches.cardinality() != 1)
+		{
+			log.debug("Found {} matching layouts", matches.cardinality());
+			return null;
+		}
+
+		Layout layout = layouts.get(matches.nextSetBit(0));
+		log.debug("Found matching layout: " + layout.toCode());
+		return layout;
+	}
+
+	/**
+	 * Finds every layout matching a partial room code, where unknown rooms are spaces.
+	 *
+	 * @param code the room code
+	 * @return the matching layouts
+	 */
+	public List<Layout> findLayouts(String code)
+	{
+		BitSet matches = match(code);
+		List<Layout> result = new ArrayList<>(matches.cardinality());
+
+		for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1))
+		{
+			result.add(layouts.get(i));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Finds every layout matching the scouted rooms, along with the boss rotation
+	 * each layout would give the combat rooms.
+	 *
+	 * @param rooms the scouted rooms by position, where unknown rooms are null
+	 * @return the matching layouts
+	 * @see RotationSolver#solve(RaidRoom.Boss[])
+	 */
+	public List<LayoutCandidate> findCandidates(RaidRoom[] rooms)
+	{
+		StringBuilder code = new StringBuilder(rooms.length);
+
+		for (RaidRoom room : rooms)
+		{
+			code.append(room != null ? room.getType().getCode() : " ");
+		}
+
+		List<Layout> matches = findLayouts(code.toString());
+		List<LayoutCandidate> candidates = new ArrayList<>(matches.size());
+
+		for (Layout layout : matches)
+		{
+			List<RaidRoom.Boss> bosses = new ArrayList<>();
+
+			for (Room room : layout.getRooms())
 			{
-				solution = layout;
-				matches++;
-				log.debug("Found matching layout: " + layout.toCode());
+				if (RaidRoom.Type.fromCode(room.getSymbol()) != RaidRoom.Type.COMBAT)
+				{
+					continue;
+				}
+
+				RaidRoom raidRoom = room.getPosition() < rooms.length ? rooms[room.getPosition()] : null;
+				RaidRoom.Boss boss = raidRoom != null ? raidRoom.getBoss() : null;
+				bosses.add(boss != null ? boss : RaidRoom.Boss.UNKNOWN);
 			}
+
+			RaidRoom.Boss[] known = bosses.toArray(new RaidRoom.Boss[bosses.size()]);
+			RaidRoom.Boss[] rotation = RotationSolver.solve(known);
+			candidates.add(new LayoutCandidate(layout, rotation != null ? rotation : known, rotation != null));
 		}
 
-		if (matches == 1)
+		return candidates;
+	}
+
+	private BitSet match(String code)
+	{
+		BitSet matches = new BitSet(layouts.size());
+		matches.set(0, layouts.size());
+
+		for (int position = 0; position < code.length() && position < index.length && !matches.isEmpty(); position++)
 		{
-			return solution;
+			char c = code.charAt(position);
+
+			if (c == ' ')
+			{
+				continue;
+			}
+
+			int symbol = symbols.indexOf(c);
+			matches.and(symbol != -1 ? index[position][symbol] : unconstrained[position]);
 		}
 
-		return null;
+		return matches;
 	}
 
-	private int calcStart(String directions)
+	private static int calcStart(String directions)
 	{
 		int startPos = 0;
 		int position = 0;
@@ -147,7 +282,7 @@ public class LayoutSolver
 		return startPos;
 	}
 
-	private int dirToPosDelta(char direction)
+	private static int dirToPosDelta(char direction)
 	{
 		switch (String.valueOf(direction))
 		{
@@ -168,27 +303,36 @@ public class LayoutSolver
 		}
 	}
 
-	private void build()
+	private static List<Layout> build()
 	{
+		List<Layout> built = new ArrayList<>(codes.length);
+
 		for (String code : codes)
 		{
-			Matcher match = regex.matcher(code);
+			// Codes are of the form "SYMBOLS.SYMBOLS - #DIRECTIONS#DIRECTIONS"
+			int floorSeparator = code.indexOf('.');
+			int directionsStart = code.indexOf(" - #");
+			int directionsSeparator = code.indexOf('#', directionsStart + 4);
 
-			if (!match.find())
+			if (floorSeparator == -1 || directionsStart == -1 || directionsSeparator == -1)
 			{
+				log.warn("Invalid layout code: {}", code);
 				continue;
 			}
 
+			String[] floorSymbols = {code.substring(0, floorSeparator), code.substring(floorSeparator + 1, directionsStart)};
+			String[] floorDirections = {code.substring(directionsStart + 4, directionsSeparator), code.substring(directionsSeparator + 1)};
+
 			String symbols, directions;
-			int position = calcStart(match.group(3));
+			int position = calcStart(floorDirections[0]);
 			Layout layout = new Layout();
 			Room lastRoom = null;
 			Room room;
 
 			for (int floor = 0; floor < 2; floor++)
 			{
-				symbols = match.group(1 + floor);
-				directions = match.group(3 + floor);
+				symbols = floorSymbols[floor];
+				directions = floorDirections[floor];
 
 				for (int i = 0; i < directions.length(); i++)
 				{
@@ -216,7 +360,9 @@ public class LayoutSolver
 				position += 8;
 			}
 
-			layouts.add(layout);
+			built.add(layout);
 		}
+
+		return built;
 	}
 }
@@ -59,6 +59,12 @@ public class RotationSolver
 			new Rotation<>(Arrays.asList(Boss.MYSTICS, Boss.VANGUARDS, Boss.VASA, Boss.SHAMANS, Boss.VESPULA, Boss.GUARDIANS, Boss.MUTTADILES, Boss.TEKTON))
 	};
 
+	/**
+	 * Fills in the unknown bosses of the combat rooms from the boss rotations.
+	 *
+	 * @param rooms the combat rooms, in layout order
+	 * @return true if every boss is known after solving
+	 */
 	public static boolean solve(RaidRoom[] rooms)
 	{
 		if (rooms == null)
@@ -66,14 +72,59 @@ public class RotationSolver
 			return false;
 		}
 
+		Boss[] bosses = new Boss[rooms.length];
+
+		for (int i = 0; i < rooms.length; i++)
+		{
+			bosses[i] = rooms[i] != null ? rooms[i].getBoss() : null;
+		}
+
+		Boss[] solved = solve(bosses);
+
+		if (solved == null)
+		{
+			return false;
+		}
+
+		for (int i = 0; i < rooms.length; i++)
+		{
+			if (rooms[i] == null)
+			{
+				continue;
+			}
+
+			if (rooms[i].getBoss() == null || rooms[i].getBoss() == Boss.UNKNOWN)
+			{
+				rooms[i].setBoss(solved[i]);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Finds the boss rotation matching the known bosses, where unknown bosses are
+	 * null or {@link Boss#UNKNOWN}.
+	 *
+	 * @param bosses the bosses of the combat rooms, in layout order
+	 * @return a copy of the bosses with every boss filled in, or null if the
+	 * rotation is unknown or ambiguous
+	 */
+	public static Boss[] solve(Boss[] bosses)
+	{
+		if (bosses == null)
+		{
+			return null;
+		}
+
 		Rotation<Boss> match = null;
 		Integer start = null;
 		Integer index = null;
 		int known = 0;
 
-		for (int i = 0; i < rooms.length; i++)
+		for (int i = 0; i < bosses.length; i++)
 		{
-			if (rooms[i] == null || rooms[i].getBoss() == null || rooms[i].getBoss() == Boss.UNKNOWN)
+			if (bosses[i] == null || bosses[i] == Boss.UNKNOWN)
 			{
 				continue;
 			}
@@ -88,12 +139,12 @@ public class RotationSolver
 
 		if (known < 2)
 		{
-			return false;
+			return null;
 		}
 
-		if (known == rooms.length)
+		if (known == bosses.length)
 		{
-			return true;
+			return bosses.clone();
 		}
 
 		for (Rotation rotation : ROTATIONS)
@@ -101,16 +152,16 @@ public class RotationSolver
 			COMPARE:
 			for (int i = 0; i < rotation.size(); i++)
 			{
-				if (rooms[start].getBoss() == rotation.get(i))
+				if (bosses[start] == rotation.get(i))
 				{
-					for (int j = start + 1; j < rooms.length; j++)
+					for (int j = start + 1; j < bosses.length; j++)
 					{
-						if (rooms[j].getBoss() == null || rooms[j].getBoss() == Boss.UNKNOWN)
+						if (bosses[j] == null || bosses[j] == Boss.UNKNOWN)
 						{
 							continue;
 						}
 
-						if (rooms[j].getBoss() != rotation.get(i + j - start))
+						if (bosses[j] != rotation.get(i + j - start))
 						{
 							break COMPARE;
 						}
@@ -118,7 +169,7 @@ public class RotationSolver
 
 					if (match != null && match != rotation)
 					{
-						return false;
+						return null;
 					}
 
 					index = i - start;
@@ -129,22 +180,19 @@ public class RotationSolver
 
 		if (match == null)
 		{
-			return false;
+			return null;
 		}
 
-		for (int i = 0; i < rooms.length; i++)
-		{
-			if (rooms[i] == null)
-			{
-				continue;
-			}
+		Boss[] solved = bosses.clone();
 
-			if (rooms[i].getBoss() == null || rooms[i].getBoss() == Boss.UNKNOWN)
+		for (int i = 0; i < solved.length; i++)
+		{
+			if (solved[i] == null || solved[i] == Boss.UNKNOWN)
 			{
-				rooms[i].setBoss(match.get(index + i));
+				solved[i] = match.get(index + i);
 			}
 		}
 
-		return true;
+		return solved;
 	}
 }
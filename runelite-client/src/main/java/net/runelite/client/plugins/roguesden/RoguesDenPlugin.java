@@ -53,7 +53,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 @PluginDescriptor(
 	name = "Rogues' Den",
 	description = "Mark tiles and clickboxes to help traverse the maze",
-	tags = {"agility", "maze", "minigame", "overlay", "thieving"}
+	tags = {"agility", "maze", "minigame", "overlay", "thieving"},
+	concurrentStartUp = true
 )
 public class RoguesDenPlugin extends Plugin
 {
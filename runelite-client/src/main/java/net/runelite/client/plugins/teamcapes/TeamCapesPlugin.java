@@ -46,7 +46,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 	name = "Team Capes",
 	description = "Show the different team capes in your area and the amount of each",
 	tags = {"overlay", "players"},
-	enabledByDefault = false
+	enabledByDefault = false,
+	concurrentStartUp = true
 )
 public class TeamCapesPlugin extends Plugin
 {
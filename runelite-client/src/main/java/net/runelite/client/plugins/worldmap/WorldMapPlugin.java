@@ -44,7 +44,8 @@ import net.runelite.client.util.ImageUtil;
 @PluginDescriptor(
 	name = "World Map",
 	description = "Enhance the world map to display additional information",
-	tags = {"agility", "fairy", "rings", "teleports"}
+	tags = {"agility", "fairy", "rings", "teleports"},
+	concurrentStartUp = true
 )
 public class WorldMapPlugin extends Plugin
 {
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Skill;
+
+/**
+ * Xp history of an account, kept as a {@link XpTimeSeries} file per skill.
+ * <p>
+ * The files are only opened and written by {@link #load()} and {@link #add(Skill, long, int)},
+ * which are run on the executor. Reading the history does not take their lock, so it never
+ * waits on the disk; a read racing a write may miss the xp being added.
+ */
+@Slf4j
+class XpHistory
+{
+	private final Path directory;
+	private final Map<Skill, XpTimeSeries> series = new ConcurrentHashMap<>();
+
+	XpHistory(File directory)
+	{
+		this.directory = directory.toPath();
+	}
+
+	/**
+	 * Open the history of the skills which already have one
+	 */
+	synchronized void load()
+	{
+		for (Skill skill : Skill.values())
+		{
+			if (skill != Skill.OVERALL)
+			{
+				get(skill, false);
+			}
+		}
+	}
+
+	/**
+	 * Record xp gained in a skill
+	 *
+	 * @param skill skill
+	 * @param time  time in milliseconds since the epoch
+	 * @param xp    xp gained
+	 */
+	synchronized void add(Skill skill, long time, int xp)
+	{
+		try
+		{
+			final XpTimeSeries timeSeries = get(skill, true);
+			if (timeSeries != null)
+			{
+				timeSeries.add(time, xp);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to write xp history of {}", skill, ex);
+		}
+	}
+
+	/**
+	 * Get the xp per hour gained in a skill while it was being trained, within a window
+	 * ending now. Time in the window without any xp gained in the skill is not counted.
+	 *
+	 * @param skill  skill
+	 * @param window length of the window, up to a month
+	 * @return xp per hour of activity, or 0 if no xp was gained
+	 */
+	int getXpPerHour(Skill skill, Duration window)
+	{
+		final XpTimeSeries timeSeries = series.get(skill);
+		if (timeSeries == null)
+		{
+			return 0;
+		}
+
+		final long now = System.currentTimeMillis();
+		final long from = now - window.toMillis();
+		final long active = timeSeries.getActiveTime(from, now);
+		if (active <= 0)
+		{
+			return 0;
+		}
+
+		return (int) (timeSeries.getXpGained(from, now) * TimeUnit.HOURS.toMillis(1) / active);
+	}
+
+	synchronized void close()
+	{
+		for (XpTimeSeries timeSeries : series.values())
+		{
+			try
+			{
+				timeSeries.close();
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to close xp history", ex);
+			}
+		}
+
+		series.clear();
+	}
+
+	private XpTimeSeries get(Skill skill, boolean create)
+	{
+		XpTimeSeries timeSeries = series.get(skill);
+		if (timeSeries != null)
+		{
+			return timeSeries;
+		}
+
+		final Path file = directory.resolve(skill.getName().toLowerCase() + ".dat");
+		if (!create && !Files.exists(file))
+		{
+			return null;
+		}
+
+		try
+		{
+			Files.createDirectories(directory);
+			timeSeries = new XpTimeSeries(file);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to open xp history of {}", skill, ex);
+			return null;
+		}
+
+		series.put(skill, timeSeries);
+		return timeSeries;
+	}
+}
@@ -30,6 +30,9 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.io.IOException;
 import java.text.DecimalFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
 import javax.swing.JMenuItem;
@@ -49,6 +52,7 @@ import net.runelite.client.ui.DynamicGridLayout;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.SkillColor;
 import net.runelite.client.ui.components.ProgressBar;
+import net.runelite.client.ui.components.VirtualListPanel;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.LinkBrowser;
 import net.runelite.client.util.StackFormatter;
@@ -56,17 +60,20 @@ import net.runelite.client.util.StackFormatter;
 class XpInfoBox extends JPanel
 {
 	private static final DecimalFormat TWO_DECIMAL_FORMAT = new DecimalFormat("0.00");
+	private static final Duration HISTORY_WINDOW = Duration.ofDays(1);
 
 	// Templates
 	private static final String HTML_TOOL_TIP_TEMPLATE =
 		"<html>%s %s done<br/>"
 			+ "%s %s/hr<br/>"
-			+ "%s till goal lvl</html>";
+			+ "%s till goal lvl<br/>"
+			+ "%s xp/hr active in the last day</html>";
 	private static final String HTML_LABEL_TEMPLATE =
 		"<html><body style='color:%s'>%s<span style='color:white'>%s</span></body></html>";
 
 	// Instance members
-	private final JPanel panel;
+	private final XpTrackerPlugin xpTrackerPlugin;
+	private final VirtualListPanel<Skill> panel;
 
 	@Getter(AccessLevel.PACKAGE)
 	private final Skill skill;
@@ -90,8 +97,9 @@ class XpInfoBox extends JPanel
 
 	private boolean paused = false;
 
-	XpInfoBox(XpTrackerPlugin xpTrackerPlugin, Client client, JPanel panel, Skill skill, SkillIconManager iconManager) throws IOException
+	XpInfoBox(XpTrackerPlugin xpTrackerPlugin, Client client, VirtualListPanel<Skill> panel, Skill skill, SkillIconManager iconManager) throws IOException
 	{
+		this.xpTrackerPlugin = xpTrackerPlugin;
 		this.panel = panel;
 		this.skill = skill;
 
@@ -173,8 +181,10 @@ class XpInfoBox extends JPanel
 	void reset()
 	{
 		container.remove(statsPanel);
-		panel.remove(this);
-		panel.revalidate();
+
+		final List<Skill> skills = new ArrayList<>(panel.getItems());
+		skills.remove(skill);
+		panel.setItems(skills);
 	}
 
 	void update(boolean updated, boolean paused, XpSnapshotSingle xpSnapshotSingle)
@@ -186,10 +196,11 @@ class XpInfoBox extends JPanel
 	{
 		if (updated)
 		{
-			if (getParent() != panel)
+			if (!panel.getItems().contains(skill))
 			{
-				panel.add(this);
-				panel.revalidate();
+				final List<Skill> skills = new ArrayList<>(panel.getItems());
+				skills.add(skill);
+				panel.setItems(skills);
 			}
 
 			paused = skillPaused;
@@ -213,7 +224,8 @@ class XpInfoBox extends JPanel
 				xpSnapshotSingle.getActionType().getLabel(),
 				xpSnapshotSingle.getActionsPerHour(),
 				xpSnapshotSingle.getActionType().getLabel(),
-				xpSnapshotSingle.getTimeTillGoal()));
+				xpSnapshotSingle.getTimeTillGoal(),
+				StackFormatter.quantityToRSDecimalStack(xpTrackerPlugin.getXpPerHour(skill, HISTORY_WINDOW))));
 
 			progressBar.setDimmed(skillPaused);
 
@@ -47,6 +47,7 @@ import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.PluginPanel;
 import net.runelite.client.ui.components.PluginErrorPanel;
+import net.runelite.client.ui.components.VirtualListPanel;
 import net.runelite.client.util.LinkBrowser;
 import okhttp3.HttpUrl;
 
@@ -130,8 +131,8 @@ class XpPanel extends PluginPanel
 		overallPanel.add(overallInfo, BorderLayout.CENTER);
 
 
-		final JPanel infoBoxPanel = new JPanel();
-		infoBoxPanel.setLayout(new BoxLayout(infoBoxPanel, BoxLayout.Y_AXIS));
+		// Skills are listed in the order they gained exp
+		final VirtualListPanel<Skill> infoBoxPanel = new VirtualListPanel<>(infoBoxes::get, 70, 0);
 		layoutPanel.add(overallPanel);
 		layoutPanel.add(infoBoxPanel);
 
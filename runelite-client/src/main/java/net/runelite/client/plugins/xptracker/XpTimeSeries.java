@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import com.google.common.primitives.Ints;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Xp gained in a single skill, stored in a fixed size file of two ring buffers:
+ * per minute buckets for the last day and per hour buckets for the last month.
+ * <p>
+ * Each bucket holds the minute or hour since the epoch it belongs to, and the xp gained
+ * in it. Buckets which were overwritten by a later minute or hour no longer match and
+ * count as empty.
+ */
+class XpTimeSeries implements Closeable
+{
+	static final int MINUTE_BUCKETS = 24 * 60;
+	static final int HOUR_BUCKETS = 30 * 24;
+
+	private static final int MAGIC = 0x58505453;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+	private static final int BUCKET_SIZE = 8;
+	private static final int MINUTES_OFFSET = HEADER_SIZE;
+	private static final int HOURS_OFFSET = MINUTES_OFFSET + MINUTE_BUCKETS * BUCKET_SIZE;
+	private static final int FILE_SIZE = HOURS_OFFSET + HOUR_BUCKETS * BUCKET_SIZE;
+
+	private final FileChannel channel;
+	private final int[] minutes = new int[MINUTE_BUCKETS];
+	private final int[] minuteXp = new int[MINUTE_BUCKETS];
+	private final int[] hours = new int[HOUR_BUCKETS];
+	private final int[] hourXp = new int[HOUR_BUCKETS];
+	private final ByteBuffer bucket = ByteBuffer.allocate(BUCKET_SIZE);
+
+	XpTimeSeries(Path file) throws IOException
+	{
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		try
+		{
+			if (!read())
+			{
+				// Missing or of another version, start over
+				final ByteBuffer empty = ByteBuffer.allocate(FILE_SIZE);
+				empty.putInt(MAGIC).putInt(VERSION).rewind();
+				channel.truncate(0);
+				channel.write(empty, 0);
+			}
+		}
+		catch (IOException ex)
+		{
+			channel.close();
+			throw ex;
+		}
+	}
+
+	private boolean read() throws IOException
+	{
+		if (channel.size() != FILE_SIZE)
+		{
+			return false;
+		}
+
+		final ByteBuffer buffer = ByteBuffer.allocate(FILE_SIZE);
+		while (buffer.hasRemaining())
+		{
+			if (channel.read(buffer, buffer.position()) == -1)
+			{
+				return false;
+			}
+		}
+
+		buffer.flip();
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+		{
+			return false;
+		}
+
+		for (int i = 0; i < MINUTE_BUCKETS; i++)
+		{
+			minutes[i] = buffer.getInt();
+			minuteXp[i] = buffer.getInt();
+		}
+
+		for (int i = 0; i < HOUR_BUCKETS; i++)
+		{
+			hours[i] = buffer.getInt();
+			hourXp[i] = buffer.getInt();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Add gained xp to the buckets of the given time
+	 *
+	 * @param time time in milliseconds since the epoch
+	 * @param xp   xp gained
+	 */
+	void add(long time, int xp) throws IOException
+	{
+		final int minute = (int) TimeUnit.MILLISECONDS.toMinutes(time);
+		final int hour = (int) TimeUnit.MILLISECONDS.toHours(time);
+		add(minutes, minuteXp, MINUTES_OFFSET, minute, xp);
+		add(hours, hourXp, HOURS_OFFSET, hour, xp);
+	}
+
+	private void add(int[] indexes, int[] values, int offset, int index, int xp) throws IOException
+	{
+		final int slot = index % indexes.length;
+
+		if (indexes[slot] != index)
+		{
+			indexes[slot] = index;
+			values[slot] = 0;
+		}
+
+		values[slot] = Ints.saturatedCast((long) values[slot] + xp);
+
+		bucket.clear();
+		bucket.putInt(index).putInt(values[slot]).flip();
+		channel.write(bucket, offset + (long) slot * BUCKET_SIZE);
+	}
+
+	/**
+	 * Get the xp gained between two times. Windows of up to a day are summed per minute,
+	 * longer windows per hour, counting the partial hours at either end as a whole.
+	 *
+	 * @param from start time in milliseconds since the epoch, inclusive
+	 * @param to   end time in milliseconds since the epoch, exclusive
+	 * @return xp gained
+	 */
+	long getXpGained(long from, long to)
+	{
+		final long fromMinute = TimeUnit.MILLISECONDS.toMinutes(from);
+		final long toMinute = TimeUnit.MILLISECONDS.toMinutes(to - 1) + 1;
+
+		if (toMinute - fromMinute <= MINUTE_BUCKETS)
+		{
+			return sum(minutes, minuteXp, fromMinute, toMinute);
+		}
+
+		final long fromHour = TimeUnit.MILLISECONDS.toHours(from);
+		final long toHour = TimeUnit.MILLISECONDS.toHours(to - 1) + 1;
+		return sum(hours, hourXp, Math.max(fromHour, toHour - HOUR_BUCKETS), toHour);
+	}
+
+	/**
+	 * Get the time spent gaining xp between two times, which is the length of the buckets
+	 * with xp in them. The buckets are picked like in {@link #getXpGained(long, long)}.
+	 *
+	 * @param from start time in milliseconds since the epoch, inclusive
+	 * @param to   end time in milliseconds since the epoch, exclusive
+	 * @return active time in milliseconds
+	 */
+	long getActiveTime(long from, long to)
+	{
+		final long fromMinute = TimeUnit.MILLISECONDS.toMinutes(from);
+		final long toMinute = TimeUnit.MILLISECONDS.toMinutes(to - 1) + 1;
+
+		if (toMinute - fromMinute <= MINUTE_BUCKETS)
+		{
+			return count(minutes, minuteXp, fromMinute, toMinute) * TimeUnit.MINUTES.toMillis(1);
+		}
+
+		final long fromHour = TimeUnit.MILLISECONDS.toHours(from);
+		final long toHour = TimeUnit.MILLISECONDS.toHours(to - 1) + 1;
+		return count(hours, hourXp, Math.max(fromHour, toHour - HOUR_BUCKETS), toHour) * TimeUnit.HOURS.toMillis(1);
+	}
+
+	private static long sum(int[] indexes, int[] values, long from, long to)
+	{
+		long xp = 0;
+
+		for (long index = from; index < to; index++)
+		{
+			final int slot = (int) (index % indexes.length);
+			if (indexes[slot] == index)
+			{
+				xp += values[slot];
+			}
+		}
+
+		return xp;
+	}
+
+	private static int count(int[] indexes, int[] values, long from, long to)
+	{
+		int count = 0;
+
+		for (long index = from; index < to; index++)
+		{
+			final int slot = (int) (index % indexes.length);
+			if (indexes[slot] == index && values[slot] > 0)
+			{
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		channel.close();
+	}
+}
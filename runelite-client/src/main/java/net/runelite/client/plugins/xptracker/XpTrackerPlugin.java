@@ -31,10 +31,14 @@ import com.google.common.eventbus.Subscribe;
 import com.google.inject.Binder;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Actor;
@@ -50,6 +54,7 @@ import net.runelite.api.events.ExperienceChanged;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.NpcDespawned;
+import net.runelite.client.RuneLite;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.NPCManager;
 import net.runelite.client.game.SkillIconManager;
@@ -78,6 +83,8 @@ public class XpTrackerPlugin extends Plugin
 		Skill.HITPOINTS,
 		Skill.MAGIC);
 
+	private static final File XP_HISTORY_DIR = new File(RuneLite.RUNELITE_DIR, "xp");
+
 	@Inject
 	private ClientToolbar clientToolbar;
 
@@ -93,6 +100,9 @@ public class XpTrackerPlugin extends Plugin
 	@Inject
 	private NPCManager npcManager;
 
+	@Inject
+	private ScheduledExecutorService executor;
+
 	private NavigationButton navButton;
 	private XpPanel xpPanel;
 	private XpWorldType lastWorldType;
@@ -103,6 +113,10 @@ public class XpTrackerPlugin extends Plugin
 	private final XpState xpState = new XpState();
 	private final XpPauseState xpPauseState = new XpPauseState();
 
+	private volatile XpHistory xpHistory;
+	// Xp of each skill at the last game tick, 0 until the client has received it
+	private final int[] lastTickXp = new int[Skill.values().length];
+
 	@Provides
 	XpTrackerConfig provideConfig(ConfigManager configManager)
 	{
@@ -136,6 +150,7 @@ public class XpTrackerPlugin extends Plugin
 	protected void shutDown() throws Exception
 	{
 		xpState.reset();
+		closeHistory();
 		clientToolbar.removeNavigation(navButton);
 	}
 
@@ -159,6 +174,7 @@ public class XpTrackerPlugin extends Plugin
 				lastUsername = client.getUsername();
 				lastWorldType = type;
 				resetState();
+				closeHistory();
 			}
 		}
 		else if (event.getGameState() == GameState.LOGIN_SCREEN)
@@ -300,9 +316,100 @@ public class XpTrackerPlugin extends Plugin
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
+		recordHistory();
 		rebuildSkills();
 	}
 
+	/**
+	 * Records the xp gained since the last tick in the xp history of the logged in account
+	 */
+	private void recordHistory()
+	{
+		if (xpHistory == null)
+		{
+			final Player local = client.getLocalPlayer();
+			if (local == null || local.getName() == null)
+			{
+				return;
+			}
+
+			xpHistory = new XpHistory(new File(XP_HISTORY_DIR, historyName(local.getName(), lastWorldType)));
+			executor.execute(xpHistory::load);
+		}
+
+		final long now = System.currentTimeMillis();
+		final int[] gained = new int[lastTickXp.length];
+		boolean changed = false;
+
+		for (Skill skill : Skill.values())
+		{
+			if (skill == Skill.OVERALL)
+			{
+				continue;
+			}
+
+			final int xp = client.getSkillExperience(skill);
+			final int lastXp = lastTickXp[skill.ordinal()];
+			lastTickXp[skill.ordinal()] = xp;
+
+			// The first xp received after login is not gained
+			if (lastXp > 0 && xp > lastXp)
+			{
+				gained[skill.ordinal()] = xp - lastXp;
+				changed = true;
+			}
+		}
+
+		if (!changed)
+		{
+			return;
+		}
+
+		final XpHistory history = xpHistory;
+		executor.execute(() ->
+		{
+			for (Skill skill : Skill.values())
+			{
+				if (gained[skill.ordinal()] > 0)
+				{
+					history.add(skill, now, gained[skill.ordinal()]);
+				}
+			}
+		});
+	}
+
+	private static String historyName(String name, XpWorldType worldType)
+	{
+		final String account = name.toLowerCase().replaceAll("[^a-z0-9_-]", "_");
+		return worldType == null || worldType == NORMAL ? account : account + "-" + worldType.name().toLowerCase();
+	}
+
+	private void closeHistory()
+	{
+		Arrays.fill(lastTickXp, 0);
+
+		final XpHistory history = xpHistory;
+		xpHistory = null;
+		if (history != null)
+		{
+			executor.execute(history::close);
+		}
+	}
+
+	/**
+	 * Get the xp per hour of a skill while it was trained within a window ending now,
+	 * including previous sessions
+	 *
+	 * @param skill  skill
+	 * @param window length of the window, up to a month
+	 * @return xp per hour of activity, or 0 if there is no history
+	 */
+	int getXpPerHour(Skill skill, Duration window)
+	{
+		final XpHistory history = xpHistory;
+		return history != null ? history.getXpPerHour(skill, window) : 0;
+	}
+
 	XpSnapshotSingle getSkillSnapshot(Skill skill)
 	{
 		return xpState.getSkillSnapshot(skill);
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.xptracker;
 
+import java.time.Duration;
 import net.runelite.api.Skill;
 
 public interface XpTrackerService
@@ -48,6 +49,12 @@ public interface XpTrackerService
 	 */
 	int getXpHr(Skill skill);
 
+	/**
+	 * Get the amount of xp per hour while the skill was trained within a window
+	 * ending now, including previous sessions of the logged in account
+	 */
+	int getXpHr(Skill skill, Duration window);
+
 	/**
 	 * Get the start goal XP
 	 */
@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -38,20 +39,28 @@ import okhttp3.Response;
 @Singleton
 class ClientConfigLoader
 {
-	private static final String CONFIG_URL = "http://oldschool.runescape.com/jav_config.ws";
+	private static final HttpUrl CONFIG_URL = HttpUrl.parse("http://oldschool.runescape.com/jav_config.ws");
 	private final OkHttpClient httpClient;
+	private final HttpUrl configUrl;
 
 	@Inject
 	@VisibleForTesting
 	ClientConfigLoader(final OkHttpClient httpClient)
+	{
+		this(httpClient, CONFIG_URL);
+	}
+
+	@VisibleForTesting
+	ClientConfigLoader(final OkHttpClient httpClient, final HttpUrl configUrl)
 	{
 		this.httpClient = httpClient;
+		this.configUrl = configUrl;
 	}
 
 	RSConfig fetch() throws IOException
 	{
 		final Request request = new Request.Builder()
-			.url(CONFIG_URL)
+			.url(configUrl)
 			.build();
 
 		final RSConfig config = new RSConfig();
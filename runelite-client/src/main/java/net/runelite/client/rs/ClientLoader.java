@@ -33,6 +33,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.Tracer;
 import net.runelite.http.api.updatecheck.UpdateCheckClient;
 
 @Slf4j
@@ -41,15 +42,18 @@ public class ClientLoader
 {
 	private final UpdateCheckClient updateCheckClient = new UpdateCheckClient();
 	private final ClientConfigLoader clientConfigLoader;
+	private final GamepackCache gamepackCache;
 	private final ClientUpdateCheckMode updateCheckMode;
 
 	@Inject
 	private ClientLoader(
 		@Named("updateCheckMode") final ClientUpdateCheckMode updateCheckMode,
-		final ClientConfigLoader clientConfigLoader)
+		final ClientConfigLoader clientConfigLoader,
+		final GamepackCache gamepackCache)
 	{
 		this.updateCheckMode = updateCheckMode;
 		this.clientConfigLoader = clientConfigLoader;
+		this.gamepackCache = gamepackCache;
 	}
 
 	private static Applet loadRuneLite(final RSConfig config) throws ClassNotFoundException, InstantiationException, IllegalAccessException
@@ -59,12 +63,10 @@ public class ClientLoader
 		return loadFromClass(config, clientClass);
 	}
 
-	private static Applet loadVanilla(final RSConfig config) throws IOException, ClassNotFoundException, InstantiationException, IllegalAccessException
+	private Applet loadVanilla(final RSConfig config) throws IOException, ClassNotFoundException, InstantiationException, IllegalAccessException
 	{
-		final String codebase = config.getCodeBase();
-		final String initialJar = config.getInitialJar();
 		final String initialClass = config.getInitialClass();
-		final URL url = new URL(codebase + initialJar);
+		final URL url = gamepackCache.get(config);
 
 		// Must set parent classloader to null, or it will pull from
 		// this class's classloader first
@@ -82,7 +84,7 @@ public class ClientLoader
 
 	public Applet load()
 	{
-		try
+		try (Tracer.Span span = Tracer.span("load client"))
 		{
 			final RSConfig config = clientConfigLoader.fetch();
 			final ClientUpdateCheckMode updateMode = updateCheckMode == ClientUpdateCheckMode.AUTO
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.rs;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.util.jar.JarFile;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Keeps a local copy of the gamepack, so it is only downloaded once per revision.
+ * <p>
+ * Gamepacks are stored by the SHA-256 of their contents, alongside a file per
+ * initial jar name recording which hash it was downloaded as. The initial jar name
+ * changes with each revision, so a new revision is always downloaded again.
+ */
+@Slf4j
+@Singleton
+class GamepackCache
+{
+	private static final File GAMEPACK_DIR = new File(RuneLite.RUNELITE_DIR, "gamepack");
+	private static final String KEY_SUFFIX = ".sha256";
+
+	private final OkHttpClient httpClient;
+	private final File directory;
+
+	@Inject
+	private GamepackCache(final OkHttpClient httpClient)
+	{
+		this(httpClient, GAMEPACK_DIR);
+	}
+
+	@VisibleForTesting
+	GamepackCache(final OkHttpClient httpClient, final File directory)
+	{
+		this.httpClient = httpClient;
+		this.directory = directory;
+	}
+
+	/**
+	 * Gets the URL to load the gamepack for {@code config} from, downloading it if it is not cached.
+	 * If the gamepack can't be cached, the remote URL is returned.
+	 *
+	 * @param config the client config
+	 * @return the gamepack URL
+	 */
+	URL get(final RSConfig config) throws IOException
+	{
+		final URL remote = new URL(config.getCodeBase() + config.getInitialJar());
+
+		try
+		{
+			final File cached = getCached(config);
+			if (cached != null)
+			{
+				log.debug("Using cached gamepack {}", cached);
+				return cached.toURI().toURL();
+			}
+
+			final File downloaded = download(config, remote);
+			log.debug("Downloaded gamepack {} to {}", remote, downloaded);
+			prune(config, downloaded);
+			return downloaded.toURI().toURL();
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to cache gamepack, loading it from {}", remote, ex);
+			return remote;
+		}
+	}
+
+	/**
+	 * Gets the cached gamepack for the initial jar in {@code config}, if it exists and is intact.
+	 */
+	private File getCached(final RSConfig config) throws IOException
+	{
+		final File keyFile = getKeyFile(config);
+		if (!keyFile.exists())
+		{
+			return null;
+		}
+
+		final String hash = Files.asCharSource(keyFile, StandardCharsets.UTF_8).read().trim();
+		final File gamepack = new File(directory, hash + ".jar");
+		if (!gamepack.exists())
+		{
+			return null;
+		}
+
+		final HashCode actual = Files.asByteSource(gamepack).hash(Hashing.sha256());
+		if (!actual.toString().equals(hash))
+		{
+			log.warn("Cached gamepack {} is corrupt, downloading it again", gamepack);
+			gamepack.delete();
+			return null;
+		}
+
+		return gamepack;
+	}
+
+	private File download(final RSConfig config, final URL remote) throws IOException
+	{
+		if (!directory.exists() && !directory.mkdirs())
+		{
+			throw new IOException("Unable to create " + directory);
+		}
+
+		final Request request = new Request.Builder()
+			.url(remote)
+			.build();
+
+		final File temp = File.createTempFile("gamepack", ".tmp", directory);
+		try
+		{
+			final HashCode hash;
+			try (Response response = httpClient.newCall(request).execute())
+			{
+				if (!response.isSuccessful())
+				{
+					throw new IOException("Unable to download gamepack: HTTP " + response.code());
+				}
+
+				try (HashingInputStream in = new HashingInputStream(Hashing.sha256(), response.body().byteStream());
+					OutputStream out = new FileOutputStream(temp))
+				{
+					ByteStreams.copy(in, out);
+					hash = in.hash();
+				}
+			}
+
+			verify(config, temp);
+
+			final File gamepack = new File(directory, hash + ".jar");
+			java.nio.file.Files.move(temp.toPath(), gamepack.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.asCharSink(getKeyFile(config), StandardCharsets.UTF_8).write(hash.toString());
+			return gamepack;
+		}
+		finally
+		{
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Checks the downloaded file is a jar containing the initial class.
+	 */
+	private static void verify(final RSConfig config, final File file) throws IOException
+	{
+		try (JarFile jar = new JarFile(file))
+		{
+			final String initialClass = config.getInitialClass().replace('.', '/') + ".class";
+			if (jar.getEntry(initialClass) == null)
+			{
+				throw new IOException("Gamepack is missing initial class " + initialClass);
+			}
+		}
+	}
+
+	/**
+	 * Removes the gamepacks and keys of previous revisions. Other launchers may be using the
+	 * directory at the same time, so only completed entries older than the current one are
+	 * removed, leaving their in progress downloads and newer revisions alone.
+	 */
+	private void prune(final RSConfig config, final File current)
+	{
+		final File keyFile = getKeyFile(config);
+		final File[] files = directory.listFiles((dir, name) -> name.endsWith(".jar") || name.endsWith(KEY_SUFFIX));
+		if (files == null)
+		{
+			return;
+		}
+
+		final long cutoff = keyFile.lastModified();
+		for (File file : files)
+		{
+			if (!file.equals(current) && !file.equals(keyFile) && file.lastModified() < cutoff)
+			{
+				log.debug("Removing old gamepack file {}", file);
+				file.delete();
+			}
+		}
+	}
+
+	private File getKeyFile(final RSConfig config)
+	{
+		// the initial jar name is unique per revision, eg. gamepack_1234567.jar
+		final String name = new File(config.getInitialJar()).getName();
+		return new File(directory, name + KEY_SUFFIX);
+	}
+}
@@ -24,7 +24,12 @@
  */
 package net.runelite.client.task;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.time.Instant;
 
 public class ScheduledMethod
@@ -32,13 +37,33 @@ public class ScheduledMethod
 	private final Schedule schedule;
 	private final Method method;
 	private final Object object;
-	private Instant last = Instant.now();
+
+	/**
+	 * The method bound to its object, taking no arguments and returning nothing,
+	 * or null if the method can only be invoked reflectively
+	 */
+	private final MethodHandle handle;
+	private final long periodNanos;
+
+	// scheduling state, guarded by the scheduler
+	private volatile boolean scheduled;
+	private long sequence;
+	private long nextRun;
+
+	// written by the thread running the task, so asynchronous tasks may be read
+	// slightly stale
+	private volatile Instant last = Instant.now();
+	private volatile long runs;
+	private volatile long lastDurationNanos;
+	private volatile long overruns;
 
 	public ScheduledMethod(Schedule schedule, Method method, Object object)
 	{
 		this.schedule = schedule;
 		this.method = method;
 		this.object = object;
+		this.handle = createHandle(method, object);
+		this.periodNanos = Duration.of(schedule.period(), schedule.unit()).toNanos();
 	}
 
 	@Override
@@ -62,13 +87,119 @@ public class ScheduledMethod
 		return object;
 	}
 
+	/**
+	 * Get the time this task last started running, or when it was created if it has not run yet
+	 */
 	public Instant getLast()
 	{
 		return last;
 	}
 
-	public void setLast(Instant last)
+	/**
+	 * Get the number of times this task has run
+	 */
+	public long getRuns()
+	{
+		return runs;
+	}
+
+	/**
+	 * Get how long the last run of this task took, in nanoseconds
+	 */
+	public long getLastDurationNanos()
+	{
+		return lastDurationNanos;
+	}
+
+	/**
+	 * Get the number of runs of this task which took longer than its period
+	 */
+	public long getOverruns()
+	{
+		return overruns;
+	}
+
+	long getPeriodNanos()
+	{
+		return periodNanos;
+	}
+
+	boolean isScheduled()
+	{
+		return scheduled;
+	}
+
+	void setScheduled(boolean scheduled)
+	{
+		this.scheduled = scheduled;
+	}
+
+	long getSequence()
+	{
+		return sequence;
+	}
+
+	void setSequence(long sequence)
+	{
+		this.sequence = sequence;
+	}
+
+	long getNextRun()
+	{
+		return nextRun;
+	}
+
+	void setNextRun(long nextRun)
+	{
+		this.nextRun = nextRun;
+	}
+
+	void invoke() throws Throwable
+	{
+		if (handle != null)
+		{
+			handle.invokeExact();
+		}
+		else
+		{
+			method.invoke(object);
+		}
+	}
+
+	void record(long durationNanos)
+	{
+		++runs;
+		lastDurationNanos = durationNanos;
+
+		if (durationNanos > periodNanos)
+		{
+			++overruns;
+		}
+	}
+
+	void setLast(Instant last)
 	{
 		this.last = last;
 	}
+
+	private static MethodHandle createHandle(Method method, Object object)
+	{
+		try
+		{
+			method.setAccessible(true);
+
+			MethodHandle handle = MethodHandles.lookup().unreflect(method);
+
+			if (!Modifier.isStatic(method.getModifiers()))
+			{
+				handle = handle.bindTo(object);
+			}
+
+			return handle.asType(MethodType.methodType(void.class));
+		}
+		catch (IllegalAccessException | RuntimeException ex)
+		{
+			return null;
+		}
+	}
 }
@@ -24,34 +24,73 @@
  */
 package net.runelite.client.task;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.LongSupplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Runs {@link Schedule} methods. Tasks are kept in a queue ordered by their next deadline,
+ * so each tick only looks at the tasks which are due. Deadlines advance by whole periods
+ * from the previous deadline rather than from when the task ran, so tasks do not drift
+ * later by the tick granularity, and periods missed entirely are skipped.
+ */
 @Singleton
 @Slf4j
 public class Scheduler
 {
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
+	private final PriorityQueue<ScheduledMethod> queue = new PriorityQueue<>(Scheduler::compareDeadlines);
+	private final List<ScheduledMethod> due = new ArrayList<>();
+	private final LongSupplier clock;
+	private long sequence;
 
 	@Inject
 	ScheduledExecutorService executor;
 
+	public Scheduler()
+	{
+		this(System::nanoTime);
+	}
+
+	Scheduler(LongSupplier clock)
+	{
+		this.clock = clock;
+	}
+
 	public void addScheduledMethod(ScheduledMethod method)
 	{
+		synchronized (queue)
+		{
+			if (method.isScheduled())
+			{
+				return;
+			}
+
+			method.setScheduled(true);
+			method.setSequence(sequence++);
+			method.setNextRun(clock.getAsLong() + method.getPeriodNanos());
+			queue.add(method);
+		}
+
 		scheduledMethods.add(method);
 	}
 
 	public void removeScheduledMethod(ScheduledMethod method)
 	{
+		synchronized (queue)
+		{
+			method.setScheduled(false);
+			queue.remove(method);
+		}
+
 		scheduledMethods.remove(method);
 	}
 
@@ -62,24 +101,46 @@ public class Scheduler
 
 	public void tick()
 	{
-		Instant now = Instant.now();
+		final long now = clock.getAsLong();
 
-		for (ScheduledMethod scheduledMethod : scheduledMethods)
+		synchronized (queue)
 		{
-			Instant last = scheduledMethod.getLast();
+			ScheduledMethod next;
+
+			while ((next = queue.peek()) != null && next.getNextRun() - now <= 0)
+			{
+				queue.poll();
+
+				// advance to the first deadline after now, skipping periods which were missed
+				final long period = next.getPeriodNanos();
+				final long missed = (now - next.getNextRun()) / period;
+				next.setNextRun(next.getNextRun() + (missed + 1) * period);
+
+				due.add(next);
+			}
 
-			Duration difference = Duration.between(last, now);
+			// requeue before running, so tasks can be added or removed by the tasks themselves
+			queue.addAll(due);
+		}
 
-			Schedule schedule = scheduledMethod.getSchedule();
-			Duration timeSinceRun = Duration.of(schedule.period(), schedule.unit());
+		if (due.isEmpty())
+		{
+			return;
+		}
 
-			if (difference.compareTo(timeSinceRun) > 0)
+		try
+		{
+			for (ScheduledMethod scheduledMethod : due)
 			{
-				log.trace("Scheduled task triggered: {}", scheduledMethod);
+				if (!scheduledMethod.isScheduled())
+				{
+					// removed by a task which ran earlier in this tick
+					continue;
+				}
 
-				scheduledMethod.setLast(now);
+				log.trace("Scheduled task triggered: {}", scheduledMethod);
 
-				if (schedule.asynchronous())
+				if (scheduledMethod.getSchedule().asynchronous())
 				{
 					executor.submit(() -> run(scheduledMethod));
 				}
@@ -89,23 +150,42 @@ public class Scheduler
 				}
 			}
 		}
+		finally
+		{
+			due.clear();
+		}
 	}
 
 	private void run(ScheduledMethod scheduledMethod)
 	{
-		Method method = scheduledMethod.getMethod();
+		final long start = clock.getAsLong();
+		scheduledMethod.setLast(Instant.now());
 
 		try
 		{
-			method.invoke(scheduledMethod.getObject());
+			scheduledMethod.invoke();
 		}
-		catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex)
+		catch (Error e)
 		{
-			log.warn("error invoking scheduled task", ex);
+			throw e;
 		}
-		catch (Exception ex)
+		catch (Throwable ex)
 		{
 			log.warn("error during scheduled task", ex);
 		}
+
+		scheduledMethod.record(clock.getAsLong() - start);
+	}
+
+	private static int compareDeadlines(ScheduledMethod a, ScheduledMethod b)
+	{
+		final long difference = a.getNextRun() - b.getNextRun();
+
+		if (difference != 0)
+		{
+			return difference < 0 ? -1 : 1;
+		}
+
+		return Long.compare(a.getSequence(), b.getSequence());
 	}
 }
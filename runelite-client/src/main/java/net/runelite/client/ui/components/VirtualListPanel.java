@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.components;
+
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.swing.JPanel;
+import javax.swing.event.AncestorEvent;
+import javax.swing.event.AncestorListener;
+
+/**
+ * A vertical list of rows which only creates components for the rows that are in view.
+ * <p>
+ * Rows are created from the list items with a row factory and dropped again once they are
+ * scrolled out of view. Row heights are measured as rows are created and estimated until then,
+ * so rows may differ in height. Setting new items keeps the rows of items which are still in
+ * the list, single items can be added or removed without touching the other rows, and
+ * {@link #refresh(Object)} recreates the row of a single changed item.
+ *
+ * @param <T> list item type, used as the key of its row
+ */
+public class VirtualListPanel<T> extends JPanel
+{
+	/**
+	 * Extra height above and below the visible area which is also filled with rows
+	 */
+	private static final int OVERSCAN = 200;
+
+	private final Function<T, ? extends Component> rowFactory;
+	private final int estimatedRowHeight;
+	private final int gap;
+
+	private List<T> items = new ArrayList<>();
+	private final Map<T, Component> rows = new HashMap<>();
+	private final Map<T, Integer> heights = new HashMap<>();
+
+	/**
+	 * Offset of each row from the top of the list, with the total height as last element
+	 */
+	private int[] offsets = new int[1];
+	private boolean offsetsValid = true;
+
+	/**
+	 * @param rowFactory         creates the row of an item
+	 * @param estimatedRowHeight height assumed for rows which have not been created yet
+	 * @param gap                vertical gap between rows
+	 */
+	public VirtualListPanel(Function<T, ? extends Component> rowFactory, int estimatedRowHeight, int gap)
+	{
+		super(null);
+		this.rowFactory = rowFactory;
+		this.estimatedRowHeight = estimatedRowHeight;
+		this.gap = gap;
+		setOpaque(false);
+
+		// Scrolling moves an ancestor of this panel rather than the panel itself
+		addAncestorListener(new AncestorListener()
+		{
+			@Override
+			public void ancestorAdded(AncestorEvent event)
+			{
+				layoutRows();
+			}
+
+			@Override
+			public void ancestorRemoved(AncestorEvent event)
+			{
+			}
+
+			@Override
+			public void ancestorMoved(AncestorEvent event)
+			{
+				layoutRows();
+			}
+		});
+	}
+
+	/**
+	 * Replaces the items of this list. Rows of items that are still present are kept.
+	 *
+	 * @param items new items, top to bottom
+	 */
+	public void setItems(List<T> items)
+	{
+		this.items = new ArrayList<>(items);
+
+		final Set<T> present = new HashSet<>(this.items);
+		heights.keySet().retainAll(present);
+
+		for (Iterator<Map.Entry<T, Component>> it = rows.entrySet().iterator(); it.hasNext(); )
+		{
+			final Map.Entry<T, Component> row = it.next();
+			if (!present.contains(row.getKey()))
+			{
+				remove(row.getValue());
+				it.remove();
+			}
+		}
+
+		offsetsValid = false;
+		revalidate();
+		repaint();
+	}
+
+	/**
+	 * Inserts an item into this list, without recreating the rows of the other items
+	 *
+	 * @param index position of the new item
+	 * @param item  new item
+	 */
+	public void addItem(int index, T item)
+	{
+		items.add(index, item);
+
+		offsetsValid = false;
+		revalidate();
+		repaint();
+	}
+
+	/**
+	 * Removes an item from this list, without recreating the rows of the other items
+	 *
+	 * @param item removed item
+	 */
+	public void removeItem(T item)
+	{
+		if (!items.remove(item))
+		{
+			return;
+		}
+
+		heights.remove(item);
+		final Component row = rows.remove(item);
+		if (row != null)
+		{
+			remove(row);
+		}
+
+		offsetsValid = false;
+		revalidate();
+		repaint();
+	}
+
+	public List<T> getItems()
+	{
+		return Collections.unmodifiableList(items);
+	}
+
+	/**
+	 * Recreates the row of an item, if it is currently in view
+	 *
+	 * @param item changed item
+	 */
+	public void refresh(T item)
+	{
+		final Component row = rows.remove(item);
+		if (row == null)
+		{
+			return;
+		}
+
+		remove(row);
+		layoutRows();
+		repaint();
+	}
+
+	/**
+	 * @return number of rows which currently have a component
+	 */
+	public int getRowCount()
+	{
+		return rows.size();
+	}
+
+	@Override
+	public Dimension getPreferredSize()
+	{
+		updateOffsets();
+
+		final Insets insets = getInsets();
+		int width = 0;
+		for (Component row : rows.values())
+		{
+			width = Math.max(width, row.getPreferredSize().width);
+		}
+
+		return new Dimension(width + insets.left + insets.right, offsets[items.size()] + insets.top + insets.bottom);
+	}
+
+	@Override
+	public void doLayout()
+	{
+		layoutRows();
+	}
+
+	private void layoutRows()
+	{
+		final Rectangle view = getVisibleRect();
+		final Insets insets = getInsets();
+		final int width = getWidth() - insets.left - insets.right;
+		final int top = view.y - insets.top - OVERSCAN;
+		final int bottom = view.y + view.height - insets.top + OVERSCAN;
+		final Set<T> visible = new HashSet<>();
+		boolean resized = false;
+		int first = 0;
+		int last = 0;
+
+		updateOffsets();
+
+		if (!view.isEmpty())
+		{
+			first = rowAt(top);
+			last = first;
+			while (last < items.size() && offsets[last] < bottom)
+			{
+				final T item = items.get(last++);
+				Component row = rows.get(item);
+
+				if (row == null)
+				{
+					row = rowFactory.apply(item);
+					rows.put(item, row);
+					add(row);
+				}
+
+				final int height = row.getPreferredSize().height;
+				final Integer previous = heights.put(item, height);
+				if (previous == null ? height != estimatedRowHeight : previous != height)
+				{
+					offsetsValid = false;
+					resized = true;
+				}
+
+				visible.add(item);
+			}
+		}
+
+		for (Iterator<Map.Entry<T, Component>> it = rows.entrySet().iterator(); it.hasNext(); )
+		{
+			final Map.Entry<T, Component> row = it.next();
+			if (!visible.contains(row.getKey()))
+			{
+				remove(row.getValue());
+				it.remove();
+			}
+		}
+
+		updateOffsets();
+
+		for (int i = first; i < last; i++)
+		{
+			final Component row = rows.get(items.get(i));
+			row.setBounds(insets.left, insets.top + offsets[i], width, offsets[i + 1] - offsets[i] - gap);
+		}
+
+		if (resized)
+		{
+			// The measured rows changed the total height
+			revalidate();
+		}
+	}
+
+	private void updateOffsets()
+	{
+		if (offsetsValid)
+		{
+			return;
+		}
+
+		final int size = items.size();
+		if (offsets.length != size + 1)
+		{
+			offsets = new int[size + 1];
+		}
+
+		int y = 0;
+		for (int i = 0; i < size; i++)
+		{
+			offsets[i] = y;
+			y += heights.getOrDefault(items.get(i), estimatedRowHeight) + gap;
+		}
+
+		offsets[size] = y;
+		offsetsValid = true;
+	}
+
+	/**
+	 * @return index of the row at the given offset
+	 */
+	private int rowAt(int y)
+	{
+		int low = 0;
+		int high = items.size() - 1;
+
+		while (low < high)
+		{
+			final int mid = (low + high + 1) >>> 1;
+			if (offsets[mid] <= y)
+			{
+				low = mid;
+			}
+			else
+			{
+				high = mid - 1;
+			}
+		}
+
+		return Math.max(low, 0);
+	}
+}
@@ -38,7 +38,7 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	private Point preferredLocation;
 	private Dimension preferredSize;
 	private OverlayPosition preferredPosition;
-	private Rectangle bounds = new Rectangle();
+	private volatile Rectangle bounds = new Rectangle();
 	private OverlayPosition position = OverlayPosition.TOP_LEFT;
 	private OverlayPriority priority = OverlayPriority.NONE;
 	private OverlayLayer layer = OverlayLayer.UNDER_WIDGETS;
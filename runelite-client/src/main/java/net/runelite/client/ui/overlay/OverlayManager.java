@@ -101,7 +101,7 @@ public class OverlayManager
 	}
 
 	@Subscribe
-	public void onPluginChanged(final PluginChanged event)
+	public synchronized void onPluginChanged(final PluginChanged event)
 	{
 		overlays.forEach(this::loadOverlay);
 		rebuildOverlayLayers();
@@ -24,25 +24,40 @@
  */
 package net.runelite.client.ui.overlay;
 
-import com.google.common.base.MoreObjects;
 import com.google.common.eventbus.Subscribe;
 import com.google.common.primitives.Ints;
+import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
+import net.runelite.api.events.CanvasSizeChanged;
+import net.runelite.api.events.ConfigChanged;
 import net.runelite.api.events.FocusChanged;
+import net.runelite.api.events.ResizeableChanged;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
+import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.input.KeyListener;
 import net.runelite.client.input.KeyManager;
@@ -50,6 +65,7 @@ import net.runelite.client.input.MouseAdapter;
 import net.runelite.client.input.MouseManager;
 
 @Singleton
+@Slf4j
 public class OverlayRenderer extends MouseAdapter implements KeyListener
 {
 	private static final int BORDER = 5;
@@ -60,10 +76,23 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	private static final Color SNAP_CORNER_ACTIVE_COLOR = new Color(0, 255, 0, 100);
 	private static final Color MOVING_OVERLAY_COLOR = new Color(255, 255, 0, 100);
 	private static final Color MOVING_OVERLAY_ACTIVE_COLOR = new Color(255, 255, 0, 200);
+	private static final Point ORIGIN = new Point();
+	private static final String RUNELITE_CONFIG_GROUP_NAME = RuneLiteConfig.class.getAnnotation(ConfigGroup.class).value();
 	private final Client client;
 	private final OverlayManager overlayManager;
 	private final RuneLiteConfig runeLiteConfig;
 
+	// Overlay instrumentation
+	private final Map<Overlay, OverlayStatistics> overlayStatistics = new ConcurrentHashMap<>();
+	private final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+
+	/**
+	 * Whether render times of overlays are recorded. This is implied by the overlay frame budget.
+	 */
+	@Getter
+	@Setter
+	private volatile boolean instrumented;
+
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
 	private final Point mousePosition = new Point();
@@ -71,13 +100,28 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 	private boolean inOverlayDraggingMode;
 
 	// Overlay state validation
-	private Rectangle viewportBounds;
-	private Rectangle chatboxBounds;
+	private int viewportWidth;
+	private int viewportHeight;
+	private int chatboxWidth;
+	private int chatboxHeight;
 	private int viewportOffset;
+	private int realWidth;
+	private int realHeight;
 	private boolean chatboxHidden;
 	private boolean isResizeable;
+	private boolean layoutInvalidated = true;
 	private OverlayBounds snapCorners;
 
+	// Overlay layout
+	private final Map<OverlayLayer, LayerLayout> layouts = new EnumMap<>(OverlayLayer.class);
+	private final Point renderLocation = new Point();
+
+	// Cached configuration, as reading it through the config proxy allocates
+	private Font font;
+	private Font tooltipFont;
+	private Font interfaceFont;
+	private long overlayFrameBudget;
+
 	@Inject
 	private OverlayRenderer(
 		final Client client,
@@ -89,6 +133,13 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		this.client = client;
 		this.overlayManager = overlayManager;
 		this.runeLiteConfig = runeLiteConfig;
+
+		for (OverlayLayer layer : OverlayLayer.values())
+		{
+			layouts.put(layer, new LayerLayout());
+		}
+
+		updateConfig();
 		keyManager.registerKeyListener(this);
 		mouseManager.registerMouseListener(this);
 	}
@@ -102,6 +153,27 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		}
 	}
 
+	@Subscribe
+	public void onCanvasSizeChanged(CanvasSizeChanged event)
+	{
+		layoutInvalidated = true;
+	}
+
+	@Subscribe
+	public void onResizeableChanged(ResizeableChanged event)
+	{
+		layoutInvalidated = true;
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (event.getGroup().equals(RUNELITE_CONFIG_GROUP_NAME))
+		{
+			updateConfig();
+		}
+	}
+
 	public void render(Graphics2D graphics, final OverlayLayer layer)
 	{
 		final List<Overlay> overlays = overlayManager.getLayer(layer);
@@ -118,16 +190,38 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		if (shouldInvalidateBounds())
 		{
 			snapCorners = buildSnapCorners();
+
+			for (LayerLayout layout : layouts.values())
+			{
+				layout.dirty = true;
+			}
 		}
 
-		// Create copy of snap corners because overlays will modify them
-		OverlayBounds snapCorners = new OverlayBounds(this.snapCorners);
+		// The layout of a layer only has to be recomputed when the snap corners, the overlays
+		// on the layer, or the position, preferred location or size of one of the overlays has
+		// changed, or while dragging
+		final LayerLayout layout = layouts.get(layer);
+		final boolean relayout = layout.dirty || layout.overlays != overlays || movedOverlay != null
+			|| preferencesChanged(overlays, layout);
+		OverlayBounds snapCorners = null;
+
+		if (relayout)
+		{
+			layout.reset(overlays);
+
+			// Create copy of snap corners because overlays will modify them
+			snapCorners = new OverlayBounds(this.snapCorners);
+		}
+
+		final long budgetNanos = overlayFrameBudget;
+		final boolean measure = instrumented || budgetNanos > 0;
+
 		OverlayUtil.setGraphicProperties(graphics);
 
 		// Draw snap corners
 		if (layer == OverlayLayer.UNDER_WIDGETS && movedOverlay != null && movedOverlay.getPosition() != OverlayPosition.DETACHED)
 		{
-			final OverlayBounds translatedSnapCorners = snapCorners.translated(
+			final OverlayBounds translatedSnapCorners = this.snapCorners.translated(
 				-SNAP_CORNER_SIZE.width,
 				-SNAP_CORNER_SIZE.height);
 
@@ -142,72 +236,46 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 			graphics.setColor(previous);
 		}
 
-		for (Overlay overlay : overlays)
+		// Indexed loop to avoid allocating an iterator each frame
+		for (int i = 0; i < overlays.size(); i++)
 		{
-			OverlayPosition overlayPosition = overlay.getPosition();
-
-			if (overlay.getPreferredPosition() != null)
-			{
-				overlayPosition = overlay.getPreferredPosition();
-			}
+			final Overlay overlay = overlays.get(i);
+			final OverlayPosition overlayPosition = getOverlayPosition(overlay);
 
-			if (!isResizeable)
+			if (relayout)
 			{
-				// On fixed mode, ABOVE_CHATBOX_RIGHT is in the same location as
-				// BOTTOM_RIGHT and CANVAST_TOP_RIGHT is same as TOP_RIGHT.
-				// Just use BOTTOM_RIGHT and TOP_RIGHT to prevent overlays from
-				// drawing over each other.
-				switch (overlayPosition)
-				{
-					case CANVAS_TOP_RIGHT:
-						overlayPosition = OverlayPosition.TOP_RIGHT;
-						break;
-					case ABOVE_CHATBOX_RIGHT:
-						overlayPosition = OverlayPosition.BOTTOM_RIGHT;
-						break;
-				}
+				layout.recordPreferences(i, overlay, overlayPosition);
 			}
 
 			if (overlayPosition == OverlayPosition.DYNAMIC || overlayPosition == OverlayPosition.TOOLTIP)
 			{
-				safeRender(client, overlay, layer, graphics, new Point());
+				timedRender(overlay, layer, graphics, ORIGIN, measure, budgetNanos);
 			}
 			else
 			{
-				final Point location = overlay.getBounds().getLocation();
-				final Dimension dimension = overlay.getBounds().getSize();
-
-				// If the final position is not modified, layout it
-				if (overlayPosition != OverlayPosition.DETACHED && (overlay.getPreferredLocation() == null || overlay.getPreferredPosition() != null))
-				{
-					final Rectangle snapCorner = snapCorners.forPosition(overlayPosition);
-					final Point translation = OverlayUtil.transformPosition(overlayPosition, dimension);
-					location.setLocation(snapCorner.getX() + translation.x, snapCorner.getY() + translation.y);
-					final Point padding = OverlayUtil.padPosition(overlayPosition, dimension, PADDING);
-					snapCorner.translate(padding.x, padding.y);
-				}
-				else
+				if (relayout)
 				{
-					final Point preferredLocation = overlay.getPreferredLocation();
-
-					if (preferredLocation != null)
-					{
-						location.setLocation(preferredLocation);
-					}
+					layoutOverlay(overlay, overlayPosition, snapCorners, layout, i);
 				}
 
-				final Dimension realDimensions = client.getRealDimensions();
-				location.x = Ints.constrainToRange(location.x, 0, realDimensions.width - dimension.width);
-				location.y = Ints.constrainToRange(location.y, 0, realDimensions.height - dimension.height);
+				final Dimension preferredSize = overlay.getPreferredSize();
+				final Rectangle previousBounds = overlay.getBounds();
 
-				if (overlay.getPreferredSize() != null)
+				if (preferredSize != null && (previousBounds.width != preferredSize.width || previousBounds.height != preferredSize.height))
 				{
-					overlay.getBounds().setSize(overlay.getPreferredSize());
+					overlay.setBounds(new Rectangle(previousBounds.x, previousBounds.y, preferredSize.width, preferredSize.height));
 				}
 
-				safeRender(client, overlay, layer, graphics, location);
+				renderLocation.setLocation(layout.x[i], layout.y[i]);
+				timedRender(overlay, layer, graphics, renderLocation, measure, budgetNanos);
 				final Rectangle bounds = overlay.getBounds();
 
+				if (bounds.width != layout.width[i] || bounds.height != layout.height[i])
+				{
+					// Overlays after this one are laid out using its size
+					layout.dirty = true;
+				}
+
 				if (bounds.isEmpty())
 				{
 					continue;
@@ -224,6 +292,105 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		}
 	}
 
+	private OverlayPosition getOverlayPosition(final Overlay overlay)
+	{
+		OverlayPosition overlayPosition = overlay.getPosition();
+
+		if (overlay.getPreferredPosition() != null)
+		{
+			overlayPosition = overlay.getPreferredPosition();
+		}
+
+		if (!isResizeable)
+		{
+			// On fixed mode, ABOVE_CHATBOX_RIGHT is in the same location as
+			// BOTTOM_RIGHT and CANVAST_TOP_RIGHT is same as TOP_RIGHT.
+			// Just use BOTTOM_RIGHT and TOP_RIGHT to prevent overlays from
+			// drawing over each other.
+			switch (overlayPosition)
+			{
+				case CANVAS_TOP_RIGHT:
+					overlayPosition = OverlayPosition.TOP_RIGHT;
+					break;
+				case ABOVE_CHATBOX_RIGHT:
+					overlayPosition = OverlayPosition.BOTTOM_RIGHT;
+					break;
+			}
+		}
+
+		return overlayPosition;
+	}
+
+	/**
+	 * Check if the position, preferred location or preferred size of any overlay on a layer
+	 * has changed since the layer was laid out, such as when a plugin moves an overlay.
+	 */
+	private boolean preferencesChanged(final List<Overlay> overlays, final LayerLayout layout)
+	{
+		for (int i = 0; i < overlays.size(); i++)
+		{
+			final Overlay overlay = overlays.get(i);
+
+			if (!layout.preferencesMatch(i, overlay, getOverlayPosition(overlay)))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void layoutOverlay(final Overlay overlay, final OverlayPosition overlayPosition, final OverlayBounds snapCorners, final LayerLayout layout, final int index)
+	{
+		final Point location = overlay.getBounds().getLocation();
+		final Dimension dimension = overlay.getBounds().getSize();
+
+		// If the final position is not modified, layout it
+		if (overlayPosition != OverlayPosition.DETACHED && (overlay.getPreferredLocation() == null || overlay.getPreferredPosition() != null))
+		{
+			final Rectangle snapCorner = snapCorners.forPosition(overlayPosition);
+			final Point translation = OverlayUtil.transformPosition(overlayPosition, dimension);
+			location.setLocation(snapCorner.getX() + translation.x, snapCorner.getY() + translation.y);
+			final Point padding = OverlayUtil.padPosition(overlayPosition, dimension, PADDING);
+			snapCorner.translate(padding.x, padding.y);
+		}
+		else
+		{
+			final Point preferredLocation = overlay.getPreferredLocation();
+
+			if (preferredLocation != null)
+			{
+				location.setLocation(preferredLocation);
+			}
+		}
+
+		final Dimension realDimensions = client.getRealDimensions();
+		location.x = Ints.constrainToRange(location.x, 0, realDimensions.width - dimension.width);
+		location.y = Ints.constrainToRange(location.y, 0, realDimensions.height - dimension.height);
+
+		layout.x[index] = location.x;
+		layout.y[index] = location.y;
+		layout.width[index] = dimension.width;
+		layout.height[index] = dimension.height;
+	}
+
+	/**
+	 * Get the render statistics of all overlays which have been rendered while instrumented
+	 *
+	 * @return overlay statistics, sorted by descending average render time
+	 */
+	public List<OverlayStatistics> getOverlayStatistics()
+	{
+		synchronized (overlayManager)
+		{
+			overlayStatistics.keySet().retainAll(overlayManager.getOverlays());
+		}
+
+		final List<OverlayStatistics> statistics = new ArrayList<>(overlayStatistics.values());
+		statistics.sort((a, b) -> Long.compare(b.getAverageNanos(), a.getAverageNanos()));
+		return statistics;
+	}
+
 	@Override
 	public MouseEvent mousePressed(MouseEvent mouseEvent)
 	{
@@ -360,6 +527,61 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		}
 	}
 
+	private void timedRender(Overlay overlay, OverlayLayer layer, Graphics2D graphics, Point point, boolean measure, long budgetNanos)
+	{
+		if (!measure)
+		{
+			safeRender(client, overlay, layer, graphics, point);
+			return;
+		}
+
+		final OverlayStatistics statistics = overlayStatistics.computeIfAbsent(overlay, o -> new OverlayStatistics(o.getName(), o.getLayer()));
+
+		if (budgetNanos > 0 && !statistics.shouldRender())
+		{
+			return;
+		}
+
+		final long allocatedBefore = getAllocatedBytes();
+		final long start = System.nanoTime();
+		safeRender(client, overlay, layer, graphics, point);
+		final long elapsed = System.nanoTime() - start;
+		final long allocated = allocatedBefore == -1 ? -1 : getAllocatedBytes() - allocatedBefore;
+
+		if (statistics.record(elapsed, allocated, budgetNanos))
+		{
+			log.warn("Overlay {} exceeded the frame budget of {}ms repeatedly, throttling it",
+				overlay.getName(), TimeUnit.NANOSECONDS.toMillis(budgetNanos));
+		}
+	}
+
+	private long getAllocatedBytes()
+	{
+		if (threadMXBean == null)
+		{
+			return -1;
+		}
+
+		return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static com.sun.management.ThreadMXBean getThreadMXBean()
+	{
+		final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		if (threadMXBean instanceof com.sun.management.ThreadMXBean)
+		{
+			final com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+
+			if (sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled())
+			{
+				return sunThreadMXBean;
+			}
+		}
+
+		return null;
+	}
+
 	private void safeRender(Client client, Overlay overlay, OverlayLayer layer, Graphics2D graphics, Point point)
 	{
 		final Graphics2D subGraphics = (Graphics2D) graphics.create();
@@ -377,28 +599,49 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		// Set font based on configuration
 		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
 		{
-			subGraphics.setFont(runeLiteConfig.fontType().getFont());
+			subGraphics.setFont(font);
 		}
 		else if (position == OverlayPosition.TOOLTIP)
 		{
-			subGraphics.setFont(runeLiteConfig.tooltipFontType().getFont());
+			subGraphics.setFont(tooltipFont);
 		}
 		else
 		{
-			subGraphics.setFont(runeLiteConfig.interfaceFontType().getFont());
+			subGraphics.setFont(interfaceFont);
 		}
 
 		subGraphics.translate(point.x, point.y);
-		final Dimension dimension = MoreObjects.firstNonNull(overlay.render(subGraphics), new Dimension());
+		final Dimension dimension = overlay.render(subGraphics);
 		subGraphics.dispose();
-		overlay.setBounds(new Rectangle(point, dimension));
+
+		final Rectangle bounds = overlay.getBounds();
+		final int width = dimension == null ? 0 : dimension.width;
+		final int height = dimension == null ? 0 : dimension.height;
+
+		// The bounds are read by the mouse listeners on another thread, so changed
+		// bounds are published as a new rectangle rather than updated in place
+		if (bounds.x != point.x || bounds.y != point.y || bounds.width != width || bounds.height != height)
+		{
+			overlay.setBounds(new Rectangle(point.x, point.y, width, height));
+		}
+	}
+
+	private void updateConfig()
+	{
+		font = runeLiteConfig.fontType().getFont();
+		tooltipFont = runeLiteConfig.tooltipFontType().getFont();
+		interfaceFont = runeLiteConfig.interfaceFontType().getFont();
+		overlayFrameBudget = TimeUnit.MILLISECONDS.toNanos(runeLiteConfig.overlayFrameBudget());
 	}
 
 	private boolean shouldInvalidateBounds()
 	{
 		final Widget chatbox = client.getWidget(WidgetInfo.CHATBOX);
+		final Widget viewport = client.getViewportWidget();
+		boolean changed = layoutInvalidated;
+		layoutInvalidated = false;
+
 		final boolean resizeableChanged = isResizeable != client.isResized();
-		boolean changed = false;
 
 		if (resizeableChanged)
 		{
@@ -406,11 +649,14 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 			changed = true;
 		}
 
-		final boolean chatboxBoundsChanged = chatbox == null || !chatbox.getBounds().equals(chatboxBounds);
+		final int chatboxWidth = chatbox != null ? chatbox.getWidth() : 0;
+		final int chatboxHeight = chatbox != null ? chatbox.getHeight() : 0;
+		final boolean chatboxBoundsChanged = chatboxWidth != this.chatboxWidth || chatboxHeight != this.chatboxHeight;
 
 		if (chatboxBoundsChanged)
 		{
-			chatboxBounds = chatbox != null ? chatbox.getBounds() : new Rectangle();
+			this.chatboxWidth = chatboxWidth;
+			this.chatboxHeight = chatboxHeight;
 			changed = true;
 		}
 
@@ -422,11 +668,12 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 			changed = true;
 		}
 
-		final boolean viewportChanged = !client.getViewportWidget().getBounds().equals(viewportBounds);
+		final boolean viewportChanged = viewport.getWidth() != viewportWidth || viewport.getHeight() != viewportHeight;
 
 		if (viewportChanged)
 		{
-			viewportBounds = client.getViewportWidget().getBounds();
+			viewportWidth = viewport.getWidth();
+			viewportHeight = viewport.getHeight();
 			changed = true;
 		}
 
@@ -438,6 +685,19 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 			changed = true;
 		}
 
+		// The real dimensions change without a canvas size change when stretched mode is toggled
+		final Canvas canvas = client.getCanvas();
+		final int realWidth = client.isStretchedEnabled() ? client.getRealDimensions().width : canvas.getWidth();
+		final int realHeight = client.isStretchedEnabled() ? client.getRealDimensions().height : canvas.getHeight();
+		final boolean realDimensionsChanged = realWidth != this.realWidth || realHeight != this.realHeight;
+
+		if (realDimensionsChanged)
+		{
+			this.realWidth = realWidth;
+			this.realHeight = realHeight;
+			changed = true;
+		}
+
 		return changed;
 	}
 
@@ -448,17 +708,17 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 			viewportOffset + BORDER_TOP);
 
 		final Point topCenterPoint = new Point(
-			viewportOffset + viewportBounds.width / 2,
+			viewportOffset + viewportWidth / 2,
 			viewportOffset + BORDER
 		);
 
 		final Point topRightPoint = new Point(
-			viewportOffset + viewportBounds.width - BORDER,
+			viewportOffset + viewportWidth - BORDER,
 			topCenterPoint.y);
 
 		final Point bottomLeftPoint = new Point(
 			topLeftPoint.x,
-			viewportOffset + viewportBounds.height - BORDER);
+			viewportOffset + viewportHeight - BORDER);
 
 		final Point bottomRightPoint = new Point(
 			topRightPoint.x,
@@ -467,11 +727,11 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 		// Check to see if chat box is minimized
 		if (isResizeable && chatboxHidden)
 		{
-			bottomLeftPoint.y += chatboxBounds.height;
+			bottomLeftPoint.y += chatboxHeight;
 		}
 
 		final Point rightChatboxPoint = isResizeable ? new Point(
-			viewportOffset + chatboxBounds.width - BORDER,
+			viewportOffset + chatboxWidth - BORDER,
 			bottomLeftPoint.y) : bottomRightPoint;
 
 		final Point canvasTopRightPoint = isResizeable ? new Point(
@@ -487,4 +747,67 @@ public class OverlayRenderer extends MouseAdapter implements KeyListener
 			new Rectangle(rightChatboxPoint, SNAP_CORNER_SIZE),
 			new Rectangle(canvasTopRightPoint, SNAP_CORNER_SIZE));
 	}
+
+	/**
+	 * Cached locations of the overlays on a layer, indexed the same as the overlay list they were computed for
+	 */
+	private static class LayerLayout
+	{
+		private List<Overlay> overlays;
+		private int[] x = new int[0];
+		private int[] y = new int[0];
+		private int[] width = new int[0];
+		private int[] height = new int[0];
+		private boolean dirty = true;
+
+		// The position and preferences of each overlay when the layer was laid out
+		private OverlayPosition[] position = new OverlayPosition[0];
+		private int[] preferredX = new int[0];
+		private int[] preferredY = new int[0];
+		private int[] preferredWidth = new int[0];
+		private int[] preferredHeight = new int[0];
+
+		void reset(List<Overlay> overlays)
+		{
+			this.overlays = overlays;
+			dirty = false;
+
+			final int size = overlays.size();
+
+			if (x.length < size)
+			{
+				x = new int[size];
+				y = new int[size];
+				width = new int[size];
+				height = new int[size];
+				position = new OverlayPosition[size];
+				preferredX = new int[size];
+				preferredY = new int[size];
+				preferredWidth = new int[size];
+				preferredHeight = new int[size];
+			}
+		}
+
+		void recordPreferences(int index, Overlay overlay, OverlayPosition overlayPosition)
+		{
+			final Point preferredLocation = overlay.getPreferredLocation();
+			final Dimension preferredSize = overlay.getPreferredSize();
+			position[index] = overlayPosition;
+			preferredX[index] = preferredLocation != null ? preferredLocation.x : Integer.MIN_VALUE;
+			preferredY[index] = preferredLocation != null ? preferredLocation.y : Integer.MIN_VALUE;
+			preferredWidth[index] = preferredSize != null ? preferredSize.width : Integer.MIN_VALUE;
+			preferredHeight[index] = preferredSize != null ? preferredSize.height : Integer.MIN_VALUE;
+		}
+
+		boolean preferencesMatch(int index, Overlay overlay, OverlayPosition overlayPosition)
+		{
+			final Point preferredLocation = overlay.getPreferredLocation();
+			final Dimension preferredSize = overlay.getPreferredSize();
+			return position[index] == overlayPosition
+				&& preferredX[index] == (preferredLocation != null ? preferredLocation.x : Integer.MIN_VALUE)
+				&& preferredY[index] == (preferredLocation != null ? preferredLocation.y : Integer.MIN_VALUE)
+				&& preferredWidth[index] == (preferredSize != null ? preferredSize.width : Integer.MIN_VALUE)
+				&& preferredHeight[index] == (preferredSize != null ? preferredSize.height : Integer.MIN_VALUE);
+		}
+	}
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Rolling render time and allocation statistics for a single overlay,
+ * and the state used to throttle it when it exceeds the frame budget
+ */
+public class OverlayStatistics
+{
+	/**
+	 * Number of renders kept for the rolling statistics
+	 */
+	private static final int SAMPLES = 256;
+
+	/**
+	 * Number of consecutive renders over budget before an overlay is throttled,
+	 * and under budget before it is unthrottled
+	 */
+	private static final int THROTTLE_THRESHOLD = 10;
+
+	/**
+	 * A throttled overlay is only rendered once in this many frames
+	 */
+	private static final int THROTTLE_INTERVAL = 10;
+
+	@Getter
+	private final String name;
+
+	@Getter
+	private final OverlayLayer layer;
+
+	private final long[] nanos = new long[SAMPLES];
+	private final long[] allocated = new long[SAMPLES];
+	private int index;
+	private int count;
+
+	@Getter
+	private boolean throttled;
+	private int consecutive;
+	private int skipped;
+
+	OverlayStatistics(String name, OverlayLayer layer)
+	{
+		this.name = name;
+		this.layer = layer;
+	}
+
+	/**
+	 * Whether the overlay should be rendered this frame
+	 */
+	synchronized boolean shouldRender()
+	{
+		if (!throttled || ++skipped >= THROTTLE_INTERVAL)
+		{
+			skipped = 0;
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Record a single render of the overlay
+	 *
+	 * @param elapsedNanos time taken by the render
+	 * @param allocatedBytes bytes allocated by the render, or -1 if unavailable
+	 * @param budgetNanos the frame budget, or 0 if the budget is disabled
+	 * @return true if the overlay has just become throttled
+	 */
+	synchronized boolean record(long elapsedNanos, long allocatedBytes, long budgetNanos)
+	{
+		nanos[index] = elapsedNanos;
+		allocated[index] = allocatedBytes;
+		index = (index + 1) % SAMPLES;
+		if (count < SAMPLES)
+		{
+			++count;
+		}
+
+		if (budgetNanos <= 0)
+		{
+			throttled = false;
+			consecutive = 0;
+			return false;
+		}
+
+		// count consecutive renders which would flip the throttle state
+		if (throttled == (elapsedNanos > budgetNanos))
+		{
+			consecutive = 0;
+			return false;
+		}
+
+		if (++consecutive < THROTTLE_THRESHOLD)
+		{
+			return false;
+		}
+
+		consecutive = 0;
+		throttled = !throttled;
+		return throttled;
+	}
+
+	/**
+	 * @return the number of renders in the rolling window
+	 */
+	public synchronized int getSamples()
+	{
+		return count;
+	}
+
+	public synchronized long getAverageNanos()
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		long total = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			total += nanos[i];
+		}
+		return total / count;
+	}
+
+	public synchronized long getMaxNanos()
+	{
+		long max = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			max = Math.max(max, nanos[i]);
+		}
+		return max;
+	}
+
+	/**
+	 * Get a percentile of the render time over the rolling window
+	 *
+	 * @param percentile percentile, between 0 and 1
+	 * @return render time in nanoseconds
+	 */
+	public synchronized long getPercentileNanos(double percentile)
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		final long[] sorted = Arrays.copyOf(nanos, count);
+		Arrays.sort(sorted);
+		final int i = (int) Math.ceil(percentile * count) - 1;
+		return sorted[Math.max(0, Math.min(count - 1, i))];
+	}
+
+	/**
+	 * @return average bytes allocated per render, or -1 if allocation tracking is not available
+	 */
+	public synchronized long getAverageAllocatedBytes()
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		long total = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			if (allocated[i] < 0)
+			{
+				return -1;
+			}
+			total += allocated[i];
+		}
+		return total / count;
+	}
+}
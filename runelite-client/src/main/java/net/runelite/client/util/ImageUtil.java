@@ -33,15 +33,20 @@ import java.awt.image.BufferedImage;
 import java.awt.image.RescaleOp;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.swing.GrayFilter;
-import java.util.function.Predicate;
 
 /**
  * Various Image/BufferedImage utilities.
  */
 public class ImageUtil
 {
+	private static final Predicate<Color> NOT_FULLY_TRANSPARENT = ColorUtil::isNotFullyTransparent;
+	private static final int[] IDENTITY_TABLE = createTable(1f, 0f);
+
 	/**
 	 * Creates a {@link BufferedImage} from an {@link Image}.
 	 *
@@ -72,6 +77,27 @@ public class ImageUtil
 	 */
 	public static BufferedImage grayscaleOffset(final BufferedImage image, final int offset)
 	{
+		return grayscaleOffset(image, offset, null);
+	}
+
+	/**
+	 * Offsets an image in the grayscale (darkens/brightens) by a given offset, writing the result
+	 * into the given destination image if it is a {@link BufferedImage#TYPE_INT_ARGB} image of the
+	 * same size.
+	 *
+	 * @param image       The image to be darkened or brightened.
+	 * @param offset      A signed 8-bit integer value to brighten or darken the image with.
+	 *                    Values above 0 will brighten, and values below 0 will darken.
+	 * @param destination The image to reuse for the result, or null to create a new image.
+	 * @return            The given image with its brightness adjusted by the given offset.
+	 */
+	public static BufferedImage grayscaleOffset(final BufferedImage image, final int offset, @Nullable final BufferedImage destination)
+	{
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return lookup(image, createTable(1f, offset), IDENTITY_TABLE, destination);
+		}
+
 		final float offsetFloat = (float) offset;
 		final int numComponents = image.getColorModel().getNumComponents();
 		final float[] scales = new float[numComponents];
@@ -98,6 +124,27 @@ public class ImageUtil
 	 */
 	public static BufferedImage grayscaleOffset(final BufferedImage image, final float percentage)
 	{
+		return grayscaleOffset(image, percentage, null);
+	}
+
+	/**
+	 * Offsets an image in the grayscale (darkens/brightens) by a given percentage, writing the
+	 * result into the given destination image if it is a {@link BufferedImage#TYPE_INT_ARGB} image
+	 * of the same size.
+	 *
+	 * @param image       The image to be darkened or brightened.
+	 * @param percentage  The ratio to darken or brighten the given image.
+	 *                    Values above 1 will brighten, and values below 1 will darken.
+	 * @param destination The image to reuse for the result, or null to create a new image.
+	 * @return            The given image with its brightness scaled by the given percentage.
+	 */
+	public static BufferedImage grayscaleOffset(final BufferedImage image, final float percentage, @Nullable final BufferedImage destination)
+	{
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return lookup(image, createTable(percentage, 0f), IDENTITY_TABLE, destination);
+		}
+
 		final int numComponents = image.getColorModel().getNumComponents();
 		final float[] scales = new float[numComponents];
 		final float[] offsets = new float[numComponents];
@@ -124,6 +171,27 @@ public class ImageUtil
 	 */
 	public static BufferedImage alphaOffset(final BufferedImage image, final int offset)
 	{
+		return alphaOffset(image, offset, null);
+	}
+
+	/**
+	 * Offsets an image's alpha component by a given offset, writing the result into the given
+	 * destination image if it is a {@link BufferedImage#TYPE_INT_ARGB} image of the same size.
+	 *
+	 * @param image       The image to be made more or less transparent.
+	 * @param offset      A signed 8-bit integer value to modify the image's alpha component with.
+	 *                    Values above 0 will increase transparency, and values below 0 will decrease
+	 *                    transparency.
+	 * @param destination The image to reuse for the result, or null to create a new image.
+	 * @return            The given image with its alpha component adjusted by the given offset.
+	 */
+	public static BufferedImage alphaOffset(final BufferedImage image, final int offset, @Nullable final BufferedImage destination)
+	{
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return lookup(image, IDENTITY_TABLE, createTable(1f, offset), destination);
+		}
+
 		final float offsetFloat = (float) offset;
 		final int numComponents = image.getColorModel().getNumComponents();
 		final float[] scales = new float[numComponents];
@@ -146,6 +214,27 @@ public class ImageUtil
 	 */
 	public static BufferedImage alphaOffset(final BufferedImage image, final float percentage)
 	{
+		return alphaOffset(image, percentage, null);
+	}
+
+	/**
+	 * Offsets an image's alpha component by a given percentage, writing the result into the given
+	 * destination image if it is a {@link BufferedImage#TYPE_INT_ARGB} image of the same size.
+	 *
+	 * @param image       The image to be made more or less transparent.
+	 * @param percentage  The ratio to modify the image's alpha component with.
+	 *                    Values above 1 will increase transparency, and values below 1 will decrease
+	 *                    transparency.
+	 * @param destination The image to reuse for the result, or null to create a new image.
+	 * @return            The given image with its alpha component scaled by the given percentage.
+	 */
+	public static BufferedImage alphaOffset(final BufferedImage image, final float percentage, @Nullable final BufferedImage destination)
+	{
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return lookup(image, IDENTITY_TABLE, createTable(percentage, 0f), destination);
+		}
+
 		final int numComponents = image.getColorModel().getNumComponents();
 		final float[] scales = new float[numComponents];
 		final float[] offsets = new float[numComponents];
@@ -262,7 +351,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage outlineImage(final BufferedImage image, final Color color)
 	{
-		return outlineImage(image, color, ColorUtil::isNotFullyTransparent, false);
+		return outlineImage(image, color, NOT_FULLY_TRANSPARENT, false);
 	}
 
 	/**
@@ -291,7 +380,7 @@ public class ImageUtil
 	 */
 	public static BufferedImage outlineImage(final BufferedImage image, final Color color, final Boolean outlineCorners)
 	{
-		return outlineImage(image, color, ColorUtil::isNotFullyTransparent, outlineCorners);
+		return outlineImage(image, color, NOT_FULLY_TRANSPARENT, outlineCorners);
 	}
 
 	/**
@@ -307,27 +396,98 @@ public class ImageUtil
 	 */
 	public static BufferedImage outlineImage(final BufferedImage image, final Color color, final Predicate<Color> fillCondition, final Boolean outlineCorners)
 	{
-		final BufferedImage filledImage = fillImage(image, color, fillCondition);
-		final BufferedImage outlinedImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		return outlineImage(image, color, fillCondition, outlineCorners, null);
+	}
+
+	/**
+	 * Outlines pixels of a BufferedImage with the given color, using a given predicate to colorize
+	 * the given image for outlining, and writing the result into the given destination image if it
+	 * is a {@link BufferedImage#TYPE_INT_ARGB} image of the same size. Optionally outlines corners
+	 * in addition to edges.
+	 *
+	 * @param image          The image to be outlined.
+	 * @param color          The color to use for the outline.
+	 * @param fillCondition  The predicate to be consumed by {@link #fillImage(BufferedImage, Color, Predicate) fillImage(BufferedImage, Color, Predicate)}
+	 * @param outlineCorners Whether to draw an outline around corners, or only around edges.
+	 * @param destination    The image to reuse for the result, or null to create a new image.
+	 *                       It may be the image being outlined, which is then outlined in place,
+	 *                       as the pixels are read before the result is written.
+	 * @return               The BufferedImage with its edges--and optionally, corners--outlined
+	 * 	                     with the given color.
+	 */
+	public static BufferedImage outlineImage(final BufferedImage image, final Color color, final Predicate<Color> fillCondition, final Boolean outlineCorners,
+		@Nullable final BufferedImage destination)
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final int[] pixels = getPixels(image);
+		final IntPredicate condition = toIntPredicate(fillCondition);
+
+		final boolean[] filled = new boolean[pixels.length];
+		for (int i = 0; i < pixels.length; i++)
+		{
+			filled[i] = condition.test(pixels[i]);
+		}
 
-		final Graphics2D g2d = outlinedImage.createGraphics();
-		for (int x = -1; x <= 1; x++)
+		// Equivalent to drawing the filled image shifted to each neighbour, and then the image on top
+		final int rgb = color.getRGB();
+		for (int y = 0, i = 0; y < height; y++)
 		{
-			for (int y = -1; y <= 1; y++)
+			for (int x = 0; x < width; x++, i++)
 			{
-				if ((x == 0 && y == 0)
-					|| (!outlineCorners && Math.abs(x) + Math.abs(y) != 1))
+				final boolean left = x > 0;
+				final boolean right = x < width - 1;
+				final boolean up = y > 0;
+				final boolean down = y < height - 1;
+
+				int neighbours = 0;
+				if (left && filled[i - 1])
+				{
+					neighbours++;
+				}
+				if (right && filled[i + 1])
+				{
+					neighbours++;
+				}
+				if (up && filled[i - width])
+				{
+					neighbours++;
+				}
+				if (down && filled[i + width])
+				{
+					neighbours++;
+				}
+				if (outlineCorners)
 				{
-					continue;
+					if (up && left && filled[i - width - 1])
+					{
+						neighbours++;
+					}
+					if (up && right && filled[i - width + 1])
+					{
+						neighbours++;
+					}
+					if (down && left && filled[i + width - 1])
+					{
+						neighbours++;
+					}
+					if (down && right && filled[i + width + 1])
+					{
+						neighbours++;
+					}
 				}
 
-				g2d.drawImage(filledImage, x, y, null);
+				int outline = 0;
+				for (int n = 0; n < neighbours; n++)
+				{
+					outline = blend(rgb, outline);
+				}
+
+				pixels[i] = blend(pixels[i], outline);
 			}
 		}
-		g2d.drawImage(image, 0, 0, null);
-		g2d.dispose();
 
-		return outlinedImage;
+		return setPixels(destination, width, height, pixels);
 	}
 
 	/**
@@ -363,7 +523,7 @@ public class ImageUtil
 	 */
 	static BufferedImage fillImage(final BufferedImage image, final Color color)
 	{
-		return fillImage(image, color, ColorUtil::isNotFullyTransparent);
+		return fillImage(image, color, NOT_FULLY_TRANSPARENT);
 	}
 
 	/**
@@ -378,21 +538,31 @@ public class ImageUtil
 	 */
 	static BufferedImage fillImage(final BufferedImage image, final Color color, final Predicate<Color> fillCondition)
 	{
-		final BufferedImage filledImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-		for (int x = 0; x < filledImage.getWidth(); x++)
-		{
-			for (int y = 0; y < filledImage.getHeight(); y++)
-			{
-				final Color pixelColor = new Color(image.getRGB(x, y), true);
-				if (!fillCondition.test(pixelColor))
-				{
-					continue;
-				}
+		return fillImage(image, color, fillCondition, null);
+	}
 
-				filledImage.setRGB(x, y, color.getRGB());
-			}
+	/**
+	 * 	Fills pixels of the given image with the given color based on a given fill condition
+	 * 	predicate, writing the result into the given destination image if it is a
+	 * 	{@link BufferedImage#TYPE_INT_ARGB} image of the same size.
+	 *
+	 * @param image         The image which should have its non-transparent pixels filled.
+	 * @param color         The color with which to fill pixels.
+	 * @param fillCondition The condition on which to fill pixels with the given color.
+	 * @param destination   The image to reuse for the result, or null to create a new image.
+	 * @return              The given image with all pixels fulfilling the fill condition predicate
+	 *                      set to the given color.
+	 */
+	static BufferedImage fillImage(final BufferedImage image, final Color color, final Predicate<Color> fillCondition, @Nullable final BufferedImage destination)
+	{
+		final int[] pixels = getPixels(image);
+		final IntPredicate condition = toIntPredicate(fillCondition);
+		final int rgb = color.getRGB();
+		for (int i = 0; i < pixels.length; i++)
+		{
+			pixels[i] = condition.test(pixels[i]) ? rgb : 0;
 		}
-		return filledImage;
+		return setPixels(destination, image.getWidth(), image.getHeight(), pixels);
 	}
 
 	/**
@@ -407,4 +577,107 @@ public class ImageUtil
 	{
 		return new RescaleOp(scales, offsets, null).filter(image, null);
 	}
+
+	/**
+	 * Maps each pixel's color and alpha components through lookup tables, equivalent to a
+	 * {@link RescaleOp} over an 8-bit ARGB image.
+	 *
+	 * @param image       The image to be adjusted.
+	 * @param colorTable  The table to map the red, green and blue components through.
+	 * @param alphaTable  The table to map the alpha component through.
+	 * @param destination The image to reuse for the result, or null to create a new image.
+	 * @return            The modified image after applying the given tables.
+	 */
+	private static BufferedImage lookup(final BufferedImage image, final int[] colorTable, final int[] alphaTable, @Nullable final BufferedImage destination)
+	{
+		final int[] pixels = getPixels(image);
+		for (int i = 0; i < pixels.length; i++)
+		{
+			final int argb = pixels[i];
+			pixels[i] = alphaTable[argb >>> 24] << 24
+				| colorTable[(argb >> 16) & 0xff] << 16
+				| colorTable[(argb >> 8) & 0xff] << 8
+				| colorTable[argb & 0xff];
+		}
+		return setPixels(destination, image.getWidth(), image.getHeight(), pixels);
+	}
+
+	/**
+	 * Creates a lookup table which scales and then offsets an 8-bit component, rounding down and
+	 * clamping the same way as {@link RescaleOp}.
+	 */
+	private static int[] createTable(final float scale, final float offset)
+	{
+		final int[] table = new int[256];
+		for (int i = 0; i < table.length; i++)
+		{
+			table[i] = Math.max(0, Math.min(255, (int) (i * scale + offset)));
+		}
+		return table;
+	}
+
+	/**
+	 * Reads the pixels of an image as non-premultiplied ARGB values. The pixels of
+	 * {@link BufferedImage#TYPE_INT_ARGB} images are copied directly from the raster.
+	 */
+	private static int[] getPixels(final BufferedImage image)
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+		{
+			return (int[]) image.getRaster().getDataElements(0, 0, width, height, null);
+		}
+		return image.getRGB(0, 0, width, height, null, 0, width);
+	}
+
+	/**
+	 * Writes ARGB pixels to the destination image, or to a new image if the destination can not hold them.
+	 */
+	private static BufferedImage setPixels(@Nullable final BufferedImage destination, final int width, final int height, final int[] pixels)
+	{
+		final BufferedImage image = destination != null
+			&& destination.getType() == BufferedImage.TYPE_INT_ARGB
+			&& destination.getWidth() == width
+			&& destination.getHeight() == height
+			? destination
+			: new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		image.getRaster().setDataElements(0, 0, width, height, pixels);
+		return image;
+	}
+
+	private static IntPredicate toIntPredicate(final Predicate<Color> predicate)
+	{
+		if (predicate == NOT_FULLY_TRANSPARENT)
+		{
+			return argb -> (argb >>> 24) != 0;
+		}
+
+		return argb -> predicate.test(new Color(argb, true));
+	}
+
+	/**
+	 * Composites a non-premultiplied ARGB pixel over another, as drawing with
+	 * {@link java.awt.AlphaComposite#SrcOver} does.
+	 */
+	private static int blend(final int src, final int dst)
+	{
+		final int srcAlpha = src >>> 24;
+		final int dstAlpha = dst >>> 24;
+		if (srcAlpha == 0xff || dstAlpha == 0)
+		{
+			return srcAlpha == 0 ? 0 : src;
+		}
+		if (srcAlpha == 0)
+		{
+			return dst;
+		}
+
+		final int dstWeight = (dstAlpha * (0xff - srcAlpha) + 127) / 0xff;
+		final int alpha = srcAlpha + dstWeight;
+		final int red = (((src >> 16) & 0xff) * srcAlpha + ((dst >> 16) & 0xff) * dstWeight + alpha / 2) / alpha;
+		final int green = (((src >> 8) & 0xff) * srcAlpha + ((dst >> 8) & 0xff) * dstWeight + alpha / 2) / alpha;
+		final int blue = ((src & 0xff) * srcAlpha + (dst & 0xff) * dstWeight + alpha / 2) / alpha;
+		return alpha << 24 | red << 16 | green << 8 | blue;
+	}
 }
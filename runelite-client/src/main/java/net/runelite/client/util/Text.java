@@ -25,36 +25,108 @@
  */
 package net.runelite.client.util;
 
-import com.google.common.base.CharMatcher;
-import java.util.regex.Pattern;
-
 /**
  * A set of utilities to use when dealing with text.
  */
 public class Text
 {
-	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+	private static final char NBSP = '\u00A0';
 
 	/**
 	 * Removes all tags from the given `str`.
 	 *
 	 * @param str The string to remove tags from.
-	 * @return The given `str` with all tags removed from it.
+	 * @return The given `str` with all tags removed from it, or `str` itself if it has no tags.
 	 */
 	public static String removeTags(String str)
 	{
-		return TAG_REGEXP.matcher(str).replaceAll("");
+		final int tagStart = str.indexOf('<');
+		if (tagStart == -1 || str.indexOf('>', tagStart + 1) == -1)
+		{
+			return str;
+		}
+
+		return removeTags(str, new StringBuilder(str.length())).toString();
+	}
+
+	/**
+	 * Removes all tags from the given `str`, appending the result to `out`.
+	 *
+	 * @param str The text to remove tags from.
+	 * @param out The builder to append the result to.
+	 * @return `out`
+	 */
+	public static StringBuilder removeTags(CharSequence str, StringBuilder out)
+	{
+		final int length = str.length();
+		final int lastTagEnd = lastIndexOf(str, '>');
+		for (int i = 0; i < length; i++)
+		{
+			final char c = str.charAt(i);
+			if (c == '<' && i < lastTagEnd)
+			{
+				i = indexOf(str, '>', i + 1);
+				continue;
+			}
+
+			out.append(c);
+		}
+		return out;
 	}
 
 	/**
 	 * In addition to removing all tags, replaces nbsp with space, trims string and lowercases it
 	 * @param str The string to standardize
 	 *
-	 * @return The given `str` that is standardized
+	 * @return The given `str` that is standardized, or `str` itself if it is already standardized
 	 */
 	public static String standardize(String str)
 	{
-		return removeTags(str).replace('\u00A0', ' ').trim().toLowerCase();
+		if (isStandardized(str))
+		{
+			return str;
+		}
+
+		return standardize(str, new StringBuilder(str.length())).toString();
+	}
+
+	/**
+	 * In addition to removing all tags, replaces nbsp with space, trims string and lowercases it,
+	 * appending the result to `out`.
+	 *
+	 * @param str The text to standardize
+	 * @param out The builder to append the result to.
+	 * @return `out`
+	 */
+	public static StringBuilder standardize(CharSequence str, StringBuilder out)
+	{
+		final int length = str.length();
+		final int lastTagEnd = lastIndexOf(str, '>');
+		final int start = out.length();
+		for (int i = 0; i < length; i++)
+		{
+			char c = str.charAt(i);
+			if (c == '<' && i < lastTagEnd)
+			{
+				i = indexOf(str, '>', i + 1);
+				continue;
+			}
+
+			if (c == NBSP)
+			{
+				c = ' ';
+			}
+
+			if (c <= ' ' && out.length() == start)
+			{
+				continue;
+			}
+
+			out.append(Character.toLowerCase(c));
+		}
+
+		trimEnd(out, start);
+		return out;
 	}
 
 	/**
@@ -62,11 +134,76 @@ public class Text
 	 * Remove all non-ascii characters, replace nbsp with space, replace _- with spaces, and trim
 	 *
 	 * @param str The string to standardize
-	 * @return The given `str` that is in Jagex name format
+	 * @return The given `str` that is in Jagex name format, or `str` itself if it already is
 	 */
 	public static String toJagexName(String str)
 	{
-		return CharMatcher.ascii().retainFrom(str.replace('\u00A0', ' ')).replaceAll("[_-]+", " ").trim();
+		final int length = str.length();
+		boolean changed = length > 0 && (str.charAt(0) <= ' ' || str.charAt(length - 1) <= ' ');
+		for (int i = 0; i < length && !changed; i++)
+		{
+			final char c = str.charAt(i);
+			changed = c > 0x7F || c == '_' || c == '-';
+		}
+
+		if (!changed)
+		{
+			return str;
+		}
+
+		return toJagexName(str, new StringBuilder(length)).toString();
+	}
+
+	/**
+	 * Convert text into Jagex username format, appending the result to `out`.
+	 * Remove all non-ascii characters, replace nbsp with space, replace _- with spaces, and trim
+	 *
+	 * @param str The text to convert
+	 * @param out The builder to append the result to.
+	 * @return `out`
+	 */
+	public static StringBuilder toJagexName(CharSequence str, StringBuilder out)
+	{
+		final int length = str.length();
+		final int start = out.length();
+		boolean separator = false;
+		for (int i = 0; i < length; i++)
+		{
+			final char c = str.charAt(i);
+			if (c == NBSP)
+			{
+				out.append(' ');
+				separator = false;
+			}
+			else if (c > 0x7F)
+			{
+				// Removed characters do not split up a run of separators
+				continue;
+			}
+			else if (c == '_' || c == '-')
+			{
+				if (!separator)
+				{
+					out.append(' ');
+					separator = true;
+				}
+			}
+			else
+			{
+				out.append(c);
+				separator = false;
+			}
+		}
+
+		int leading = start;
+		while (leading < out.length() && out.charAt(leading) <= ' ')
+		{
+			leading++;
+		}
+		out.delete(start, leading);
+
+		trimEnd(out, start);
+		return out;
 	}
 
 	/**
@@ -83,4 +220,58 @@ public class Text
 			.replaceAll("<br>", " ")
 			.replaceAll("[ ]+", " "));
 	}
+
+	private static boolean isStandardized(String str)
+	{
+		final int length = str.length();
+		if (length > 0 && (str.charAt(0) <= ' ' || str.charAt(length - 1) <= ' '))
+		{
+			return false;
+		}
+
+		final int lastTagEnd = str.lastIndexOf('>');
+		for (int i = 0; i < length; i++)
+		{
+			final char c = str.charAt(i);
+			if ((c == '<' && i < lastTagEnd) || c == NBSP || Character.toLowerCase(c) != c)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void trimEnd(StringBuilder out, int start)
+	{
+		int end = out.length();
+		while (end > start && out.charAt(end - 1) <= ' ')
+		{
+			end--;
+		}
+		out.setLength(end);
+	}
+
+	private static int indexOf(CharSequence str, char c, int fromIndex)
+	{
+		for (int i = fromIndex; i < str.length(); i++)
+		{
+			if (str.charAt(i) == c)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOf(CharSequence str, char c)
+	{
+		for (int i = str.length() - 1; i >= 0; i--)
+		{
+			if (str.charAt(i) == c)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
 }
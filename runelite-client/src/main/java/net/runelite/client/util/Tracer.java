@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records nested timing spans and writes them in the Chrome trace event format,
+ * which can be opened in chrome://tracing or other trace viewers.
+ * <p>
+ * Tracing is off unless {@link #enable()} is called, in which case {@link #span(String)}
+ * returns a shared span which records nothing. Spans are nested by the viewer from their
+ * start times and durations on each thread. Writing the trace turns tracing off again and
+ * drops the recorded spans.
+ */
+@Slf4j
+public class Tracer
+{
+	private static final Span NOOP = new Span(null);
+
+	private static final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+	private static volatile boolean enabled;
+
+	/**
+	 * A timed region of code, closing the span ends it.
+	 */
+	public static final class Span implements AutoCloseable
+	{
+		private final String name;
+		private final long start;
+		private final long threadId;
+		private final String threadName;
+		private long end;
+
+		private Span(String name)
+		{
+			final Thread thread = Thread.currentThread();
+			this.name = name;
+			this.start = System.nanoTime();
+			this.threadId = thread.getId();
+			this.threadName = thread.getName();
+		}
+
+		@Override
+		public void close()
+		{
+			if (this != NOOP && enabled)
+			{
+				end = System.nanoTime();
+				spans.add(this);
+			}
+		}
+	}
+
+	public static void enable()
+	{
+		enabled = true;
+	}
+
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Starts a span, which should be closed with try-with-resources.
+	 *
+	 * @param name name of the span
+	 * @return the span
+	 */
+	public static Span span(String name)
+	{
+		return enabled ? new Span(name) : NOOP;
+	}
+
+	/**
+	 * Writes all of the spans which have been closed to a file in the Chrome trace event format,
+	 * then disables tracing. Spans closed after this are not recorded.
+	 *
+	 * @param file file to write to
+	 */
+	public static void write(File file)
+	{
+		enabled = false;
+
+		final Map<Long, String> threads = new TreeMap<>();
+		int count = 0;
+
+		try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+		{
+			writer.beginObject();
+			writer.name("displayTimeUnit").value("ms");
+			writer.name("traceEvents").beginArray();
+
+			Span span;
+			while ((span = spans.poll()) != null)
+			{
+				count++;
+				threads.put(span.threadId, span.threadName);
+
+				// complete event, times are in microseconds
+				writer.beginObject();
+				writer.name("name").value(span.name);
+				writer.name("cat").value("runelite");
+				writer.name("ph").value("X");
+				writer.name("ts").value(span.start / 1000L);
+				writer.name("dur").value((span.end - span.start) / 1000L);
+				writer.name("pid").value(1);
+				writer.name("tid").value(span.threadId);
+				writer.endObject();
+			}
+
+			for (Map.Entry<Long, String> thread : threads.entrySet())
+			{
+				writer.beginObject();
+				writer.name("name").value("thread_name");
+				writer.name("ph").value("M");
+				writer.name("pid").value(1);
+				writer.name("tid").value(thread.getKey());
+				writer.name("args").beginObject().name("name").value(thread.getValue()).endObject();
+				writer.endObject();
+			}
+
+			writer.endArray();
+			writer.endObject();
+
+			log.info("Wrote trace of {} spans to {}", count, file);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to write trace to {}", file, ex);
+		}
+		finally
+		{
+			spans.clear();
+		}
+	}
+}
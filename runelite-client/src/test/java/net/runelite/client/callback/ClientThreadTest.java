@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.events.ConfigChanged;
+import net.runelite.client.config.RuneLiteConfig;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Mock
+	@Bind
+	Client client;
+
+	@Mock
+	@Bind
+	RuneLiteConfig runeLiteConfig;
+
+	@Inject
+	ClientThread clientThread;
+
+	private final List<String> ran = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		when(client.isClientThread()).thenReturn(true);
+	}
+
+	@Test
+	public void testInvokeOnClientThread()
+	{
+		clientThread.invoke(() -> ran.add("task"));
+		assertEquals(Collections.singletonList("task"), ran);
+
+		// completed tasks are not queued again
+		clientThread.invoke();
+		assertEquals(Collections.singletonList("task"), ran);
+		assertEquals(0, clientThread.getQueueSize());
+	}
+
+	@Test
+	public void testRetry()
+	{
+		final int[] calls = {0};
+		clientThread.invokeLater(() -> ++calls[0] == 3);
+
+		clientThread.invoke();
+		clientThread.invoke();
+		assertEquals(1, clientThread.getQueueSize());
+
+		clientThread.invoke();
+		assertEquals(3, calls[0]);
+		assertEquals(0, clientThread.getQueueSize());
+	}
+
+	@Test
+	public void testException()
+	{
+		clientThread.invokeLater(() ->
+		{
+			throw new IllegalStateException();
+		});
+		clientThread.invokeLater(() -> ran.add("second"));
+
+		clientThread.invoke();
+
+		assertEquals(Collections.singletonList("second"), ran);
+		assertEquals(0, clientThread.getQueueSize());
+	}
+
+	@Test
+	public void testUnlimitedBudget()
+	{
+		for (int i = 0; i < 3; i++)
+		{
+			clientThread.invokeLater(slowTask("task" + i));
+		}
+
+		clientThread.invoke();
+
+		assertEquals(Arrays.asList("task0", "task1", "task2"), ran);
+		assertEquals(3, clientThread.getLastFrameRuns());
+		assertEquals(0, clientThread.getDeferredFrames());
+	}
+
+	@Test
+	public void testBudgetCarriesOver()
+	{
+		when(runeLiteConfig.clientThreadBudget()).thenReturn(1);
+
+		for (int i = 0; i < 3; i++)
+		{
+			clientThread.invokeLater(slowTask("task" + i));
+		}
+
+		// each task takes longer than the budget, so one runs per frame
+		clientThread.invoke();
+		assertEquals(Collections.singletonList("task0"), ran);
+		assertEquals(1, clientThread.getLastFrameRuns());
+		assertEquals(2, clientThread.getQueueSize());
+
+		clientThread.invoke();
+		clientThread.invoke();
+		assertEquals(Arrays.asList("task0", "task1", "task2"), ran);
+		assertEquals(0, clientThread.getQueueSize());
+		assertEquals(2, clientThread.getDeferredFrames());
+	}
+
+	@Test
+	public void testRetryDoesNotStarveQueue()
+	{
+		when(runeLiteConfig.clientThreadBudget()).thenReturn(1);
+
+		final Runnable slow = slowTask("retry");
+		clientThread.invokeLater(() ->
+		{
+			slow.run();
+			return false;
+		});
+		clientThread.invokeLater(slowTask("task"));
+
+		// the retrying task uses up the first frame's budget, and then waits behind the other task
+		clientThread.invoke();
+		assertEquals(Collections.singletonList("retry"), ran);
+
+		clientThread.invoke();
+		assertEquals(Arrays.asList("retry", "task"), ran);
+		assertEquals(1, clientThread.getQueueSize());
+	}
+
+	@Test
+	public void testBudgetConfigChanged()
+	{
+		clientThread.invoke();
+
+		when(runeLiteConfig.clientThreadBudget()).thenReturn(1);
+		final ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup("runelite");
+		configChanged.setKey("clientThreadBudget");
+		clientThread.onConfigChanged(configChanged);
+
+		clientThread.invokeLater(slowTask("task0"));
+		clientThread.invokeLater(slowTask("task1"));
+		clientThread.invoke();
+
+		assertEquals(Collections.singletonList("task0"), ran);
+	}
+
+	@Test
+	public void testStatistics()
+	{
+		clientThread.setInstrumented(true);
+
+		final int[] calls = {0};
+		clientThread.invokeLater(() -> ++calls[0] == 3);
+		clientThread.invokeLater(() -> ran.add("task"));
+
+		clientThread.invoke();
+		clientThread.invoke();
+		clientThread.invoke();
+
+		final List<InvokeStatistics> statistics = clientThread.getInvokeStatistics();
+		assertEquals(1, statistics.size());
+
+		final InvokeStatistics s = statistics.get(0);
+		assertEquals(ClientThreadTest.class.getName(), s.getOrigin());
+		assertEquals(4, s.getRuns());
+		assertEquals(2, s.getRetries());
+		assertEquals(2, s.getMaxRetries());
+
+		clientThread.resetInvokeStatistics();
+		assertEquals(0, clientThread.getInvokeStatistics().size());
+	}
+
+	private Runnable slowTask(String name)
+	{
+		return () ->
+		{
+			final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+			while (System.nanoTime() < end)
+			{
+				// spin
+			}
+			ran.add(name);
+		};
+	}
+}
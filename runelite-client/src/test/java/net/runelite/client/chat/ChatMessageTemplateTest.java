@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class ChatMessageTemplateTest
+{
+	private static final String[] COLOR_TAGS = {"<col=000000>", "<col=ff0000>"};
+
+	@Test
+	public void testFormat()
+	{
+		final String message = new ChatMessageBuilder()
+			.append(ChatColorType.NORMAL)
+			.append("Price of ")
+			.append(ChatColorType.HIGHLIGHT)
+			.append("Abyssal whip")
+			.append(ChatColorType.NORMAL)
+			.append(": GE average ")
+			.append(ChatColorType.HIGHLIGHT)
+			.append("1,500,000")
+			.build();
+
+		assertEquals("<col=000000>Price of <col=ff0000>Abyssal whip<col=000000>: GE average <col=ff0000>1,500,000",
+			ChatMessageTemplate.parse(message).format(COLOR_TAGS));
+	}
+
+	@Test
+	public void testMissingColor()
+	{
+		final String message = "<colNORMAL>Level <colHIGHLIGHT>99";
+		assertEquals("<col=000000>Level <colHIGHLIGHT>99",
+			ChatMessageTemplate.parse(message).format(new String[]{"<col=000000>", null}));
+	}
+
+	@Test
+	public void testOtherTags()
+	{
+		final String message = "<col=00ff00>Hi</col> <colNORMAL<colHIGHLIGHT><colUNKNOWN><colNORMAL";
+		assertEquals("<col=00ff00>Hi</col> <colNORMAL<col=ff0000><colUNKNOWN><colNORMAL",
+			ChatMessageTemplate.parse(message).format(COLOR_TAGS));
+	}
+
+	@Test
+	public void testNoSlots()
+	{
+		final String message = "Welcome to RuneScape.";
+		assertSame(message, ChatMessageTemplate.parse(message).format(COLOR_TAGS));
+	}
+}
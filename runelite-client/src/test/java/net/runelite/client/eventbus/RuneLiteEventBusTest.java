@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.Subscribe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RuneLiteEventBusTest
+{
+	private RuneLiteEventBus eventBus;
+	private List<String> received;
+
+	@Before
+	public void before()
+	{
+		eventBus = new RuneLiteEventBus();
+		received = new ArrayList<>();
+	}
+
+	@Test
+	public void testHierarchy()
+	{
+		eventBus.register(new Child());
+		eventBus.post("event");
+
+		assertEquals(Arrays.asList("child:event", "parent:event"), received);
+	}
+
+	@Test
+	public void testNestedPostIsQueued()
+	{
+		eventBus.register(new Reposting());
+		eventBus.register(new Child());
+		eventBus.post("first");
+
+		assertEquals(Arrays.asList(
+			"repost:first", "child:first", "parent:first",
+			"repost:second", "child:second", "parent:second"), received);
+	}
+
+	@Test
+	public void testDuplicateRegistration()
+	{
+		final Child child = new Child();
+		eventBus.register(child);
+		eventBus.register(child);
+		eventBus.post("event");
+
+		assertEquals(Arrays.asList("child:event", "parent:event"), received);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		final Child child = new Child();
+		eventBus.register(child);
+		eventBus.unregister(child);
+		eventBus.post("event");
+
+		assertTrue(received.isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnregisterNotRegistered()
+	{
+		eventBus.unregister(new Child());
+	}
+
+	@Test
+	public void testDeadEvent()
+	{
+		eventBus.register(new DeadEventListener());
+		eventBus.post(1);
+
+		assertEquals(Arrays.asList("dead:1"), received);
+	}
+
+	@Test
+	public void testExceptionDoesNotStopDispatch()
+	{
+		eventBus.register(new Throwing());
+		eventBus.register(new Child());
+		eventBus.post("event");
+
+		assertEquals(Arrays.asList("child:event", "parent:event"), received);
+	}
+
+	@Test
+	public void testMetrics()
+	{
+		eventBus.register(new Child());
+		eventBus.post("a");
+		eventBus.post("b");
+
+		final List<SubscriberMetrics> metrics = eventBus.getSubscriberMetrics();
+		assertEquals(2, metrics.size());
+		for (SubscriberMetrics m : metrics)
+		{
+			assertEquals(2, m.getInvocations());
+		}
+	}
+
+	private class Parent
+	{
+		@Subscribe
+		public void onObject(Object event)
+		{
+			received.add("parent:" + event);
+		}
+	}
+
+	private class Child extends Parent
+	{
+		@Subscribe
+		private void onString(String event)
+		{
+			received.add("child:" + event);
+		}
+	}
+
+	private class Reposting
+	{
+		@Subscribe
+		void onString(String event)
+		{
+			received.add("repost:" + event);
+			if (event.equals("first"))
+			{
+				eventBus.post("second");
+			}
+		}
+	}
+
+	private class Throwing
+	{
+		@Subscribe
+		public void onString(String event)
+		{
+			throw new RuntimeException("subscriber failure");
+		}
+	}
+
+	private class DeadEventListener
+	{
+		@Subscribe
+		public void onDeadEvent(DeadEvent event)
+		{
+			received.add("dead:" + event.getEvent());
+		}
+	}
+}
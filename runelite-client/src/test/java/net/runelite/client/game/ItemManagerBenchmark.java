@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.http.api.item.ItemPrice;
+import static org.mockito.Mockito.mock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares computing the value of a full bank through {@link ItemManager#getItemPrice(int)}
+ * against the previous map and {@link ItemMapping} lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ItemManagerBenchmark
+{
+	private static final int PRICES = 4000;
+
+	@Param({"816"})
+	private int bankSize;
+
+	private ItemManager itemManager;
+	private Map<Integer, ItemPrice> itemPrices;
+	private int[] bankItems;
+	private int[] bankQuantities;
+
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(0);
+		final ItemPrice[] prices = new ItemPrice[PRICES];
+		itemPrices = new HashMap<>();
+		for (int i = 0; i < PRICES; ++i)
+		{
+			ItemPrice price = new ItemPrice();
+			price.setId(i * 6);
+			price.setName("Item " + i);
+			price.setPrice(random.nextInt(1_000_000));
+			prices[i] = price;
+			itemPrices.put(price.getId(), price);
+		}
+
+		itemManager = new ItemManager(mock(Client.class), mock(ScheduledExecutorService.class), mock(ClientThread.class));
+		itemManager.setPrices(prices);
+
+		// A bank is mostly tradeable items with a few untradeable mapped items mixed in
+		final List<Integer> mappedItems = new ArrayList<>(ItemMapping.getMappedItems());
+		bankItems = new int[bankSize];
+		bankQuantities = new int[bankSize];
+		for (int i = 0; i < bankSize; ++i)
+		{
+			bankItems[i] = i % 10 == 0
+				? mappedItems.get(random.nextInt(mappedItems.size()))
+				: prices[random.nextInt(PRICES)].getId();
+			bankQuantities[i] = 1 + random.nextInt(1000);
+		}
+	}
+
+	@Benchmark
+	public long bankValue()
+	{
+		long value = 0;
+		for (int i = 0; i < bankItems.length; ++i)
+		{
+			value += (long) itemManager.getItemPrice(bankItems[i]) * bankQuantities[i];
+		}
+		return value;
+	}
+
+	@Benchmark
+	public long bankValueMapLookup()
+	{
+		long value = 0;
+		for (int i = 0; i < bankItems.length; ++i)
+		{
+			int price = 0;
+			for (int mappedId : ItemMapping.map(bankItems[i]))
+			{
+				ItemPrice ip = itemPrices.get(mappedId);
+				if (ip != null)
+				{
+					price += ip.getPrice();
+				}
+			}
+			value += (long) price * bankQuantities[i];
+		}
+		return value;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ItemManagerBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import net.runelite.api.Client;
+import net.runelite.api.SpritePixels;
+import net.runelite.client.callback.ClientThread;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ItemManagerTest
+{
+	private static final int OUTLINES = 256;
+
+	@Mock
+	private Client client;
+
+	@Mock
+	private ScheduledExecutorService executor;
+
+	@Mock
+	private ClientThread clientThread;
+
+	private ItemManager itemManager;
+
+	@Before
+	public void before()
+	{
+		// Each item sprite draws its item id into the outline
+		when(client.createItemSprite(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyBoolean(), anyInt())).thenAnswer(invocation ->
+		{
+			final int itemId = (int) invocation.getArguments()[0];
+			final SpritePixels sprite = mock(SpritePixels.class);
+			when(sprite.toBufferedOutline(any(Color.class))).thenAnswer(draw ->
+			{
+				final BufferedImage image = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+				final int[] pixels = new int[image.getWidth() * image.getHeight()];
+				Arrays.fill(pixels, 0xFF000000 | itemId);
+				image.setRGB(0, 0, image.getWidth(), image.getHeight(), pixels, 0, image.getWidth());
+				return image;
+			});
+			return sprite;
+		});
+
+		itemManager = new ItemManager(client, executor, clientThread);
+	}
+
+	@Test
+	public void testOutlinesKept()
+	{
+		final List<BufferedImage> images = new ArrayList<>(OUTLINES);
+		for (int itemId = 1; itemId <= OUTLINES; itemId++)
+		{
+			images.add(itemManager.getItemOutline(itemId, 1, Color.WHITE));
+		}
+
+		// Outlines evicted from the cache are not drawn over by later outlines
+		for (int itemId = 1; itemId <= OUTLINES; itemId++)
+		{
+			assertEquals(itemId, images.get(itemId - 1).getRGB(0, 0) & 0xFFFFFF);
+		}
+	}
+
+	@Test
+	public void testSuccessiveOutlinesDoNotAlias()
+	{
+		for (int itemId = 1; itemId <= OUTLINES; itemId++)
+		{
+			final BufferedImage first = itemManager.getItemOutline(itemId, 1, Color.WHITE);
+			final BufferedImage second = itemManager.getItemOutline(itemId + OUTLINES, 1, Color.WHITE);
+
+			assertNotSame(first, second);
+			assertEquals(itemId, first.getRGB(0, 0) & 0xFFFFFF);
+			assertEquals(itemId + OUTLINES, second.getRGB(0, 0) & 0xFFFFFF);
+		}
+	}
+}
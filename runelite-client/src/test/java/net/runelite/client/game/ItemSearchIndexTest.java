@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ItemSearchIndexTest
+{
+	private static final String[] NAMES = {
+		"Abyssal whip",
+		"Volcanic abyssal whip",
+		"Frozen abyssal whip",
+		"Abyssal dagger",
+		"Rune scimitar",
+		"Dragon scimitar",
+		"Dragon dagger",
+		"Dragon dagger(p++)",
+		"Blue dragonhide",
+		"Green d'hide body",
+		"Dragon",
+	};
+
+	private final ItemSearchIndex index = new ItemSearchIndex(prices(NAMES));
+
+	@Test
+	public void testRanking()
+	{
+		assertEquals(Arrays.asList(
+			"Dragon",
+			"Dragon dagger",
+			"Dragon scimitar",
+			"Dragon dagger(p++)",
+			"Blue dragonhide"
+		), names(index.search("dragon")));
+	}
+
+	@Test
+	public void testWordPrefixBeforeSubstring()
+	{
+		assertEquals(Arrays.asList(
+			"Abyssal whip",
+			"Frozen abyssal whip",
+			"Volcanic abyssal whip"
+		), names(index.search("whip")));
+
+		assertEquals(Arrays.asList(
+			"Green d'hide body",
+			"Blue dragonhide"
+		), names(index.search("hide")));
+	}
+
+	@Test
+	public void testIgnoresCase()
+	{
+		assertEquals(Arrays.asList("Rune scimitar"), names(index.search("RUNE SCIM")));
+	}
+
+	@Test
+	public void testShortQuery()
+	{
+		assertEquals(Arrays.asList("Blue dragonhide"), names(index.search("e d")));
+		assertEquals(6, index.search("ag").size());
+	}
+
+	@Test
+	public void testNoMatch()
+	{
+		assertTrue(index.search("bandos").isEmpty());
+		assertTrue(index.search("whip dagger").isEmpty());
+	}
+
+	@Test
+	public void testMatchesSubstringSearch()
+	{
+		for (String query : new String[]{"a", "ab", "abyss", "l w", "ger", "(p++)", "scimitar", "x"})
+		{
+			final List<String> expected = new ArrayList<>();
+			for (String name : NAMES)
+			{
+				if (name.toLowerCase().contains(query))
+				{
+					expected.add(name);
+				}
+			}
+
+			final List<String> actual = names(index.search(query));
+			assertEquals(query, expected.size(), actual.size());
+			assertTrue(query, actual.containsAll(expected));
+		}
+	}
+
+	private static List<ItemPrice> prices(String... names)
+	{
+		final List<ItemPrice> prices = new ArrayList<>();
+		for (int i = 0; i < names.length; ++i)
+		{
+			ItemPrice price = new ItemPrice();
+			price.setId(i);
+			price.setName(names[i]);
+			prices.add(price);
+		}
+		return prices;
+	}
+
+	private static List<String> names(List<ItemPrice> prices)
+	{
+		return prices.stream().map(ItemPrice::getName).collect(Collectors.toList());
+	}
+}
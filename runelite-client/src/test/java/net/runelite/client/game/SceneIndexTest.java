@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
+import net.runelite.api.Point;
+import net.runelite.api.Tile;
+import net.runelite.api.WallObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.WallObjectSpawned;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SceneIndexTest
+{
+	private static final int BANK_BOOTH = 10583;
+	private static final int DOOR = 1535;
+
+	@Mock
+	@Bind
+	Client client;
+
+	@Inject
+	SceneIndex sceneIndex;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testObjectsById()
+	{
+		final GameObject near = spawnGameObject(BANK_BOOTH, 10, 10, 1, 1);
+		final GameObject far = spawnGameObject(BANK_BOOTH, 60, 60, 1, 1);
+		spawnGameObject(DOOR, 11, 10, 1, 1);
+
+		assertEquals(Arrays.asList(near, far), sceneIndex.getObjects(BANK_BOOTH));
+		assertEquals(Collections.singletonList(near), sceneIndex.getObjects(BANK_BOOTH, new WorldPoint(12, 12, 0), 2));
+		assertTrue(sceneIndex.getObjects(BANK_BOOTH, new WorldPoint(12, 12, 1), 2).isEmpty());
+	}
+
+	@Test
+	public void testObjectsByLocation()
+	{
+		final GameObject booth = spawnGameObject(BANK_BOOTH, 7, 7, 1, 1);
+		final WallObject door = mock(WallObject.class);
+		when(door.getId()).thenReturn(DOOR);
+		when(door.getX()).thenReturn(local(8));
+		when(door.getY()).thenReturn(local(8));
+
+		final WallObjectSpawned wallObjectSpawned = new WallObjectSpawned();
+		wallObjectSpawned.setWallObject(door);
+		sceneIndex.onWallObjectSpawned(wallObjectSpawned);
+		spawnGameObject(BANK_BOOTH, 20, 7, 1, 1);
+
+		// The booth and door are in different cells of the grid
+		assertEquals(Arrays.asList(booth, door), sceneIndex.getObjects(new WorldPoint(8, 7, 0), 1));
+		assertEquals(Collections.singletonList(door), sceneIndex.getObjects(new WorldPoint(9, 9, 0), 1));
+	}
+
+	@Test
+	public void testLargeObjectIndexedOnce()
+	{
+		final GameObject object = spawnGameObject(BANK_BOOTH, 30, 30, 2, 2);
+		assertEquals(Collections.singletonList(object), sceneIndex.getObjects(BANK_BOOTH));
+
+		for (int x = 30; x < 32; ++x)
+		{
+			for (int y = 30; y < 32; ++y)
+			{
+				final GameObjectDespawned event = new GameObjectDespawned();
+				event.setTile(tile(x, y));
+				event.setGameObject(object);
+				sceneIndex.onGameObjectDespawned(event);
+			}
+		}
+
+		assertTrue(sceneIndex.getObjects(BANK_BOOTH).isEmpty());
+		assertTrue(sceneIndex.getObjects(new WorldPoint(30, 30, 0), 5).isEmpty());
+	}
+
+	@Test
+	public void testLoadingClearsObjects()
+	{
+		spawnGameObject(BANK_BOOTH, 10, 10, 1, 1);
+		final NPC banker = npc(394, "Banker");
+		sceneIndex.onNpcSpawned(new NpcSpawned(banker));
+
+		final GameStateChanged loading = new GameStateChanged();
+		loading.setGameState(GameState.LOADING);
+		sceneIndex.onGameStateChanged(loading);
+
+		assertTrue(sceneIndex.getObjects(BANK_BOOTH).isEmpty());
+		assertTrue(sceneIndex.getObjects(new WorldPoint(10, 10, 0), 5).isEmpty());
+		assertEquals(Collections.singletonList(banker), sceneIndex.getNpcs("banker"));
+	}
+
+	@Test
+	public void testNpcs()
+	{
+		final NPC goblin = npc(3029, "Goblin");
+		final NPC otherGoblin = npc(3030, "Goblin");
+		sceneIndex.onNpcSpawned(new NpcSpawned(goblin));
+		sceneIndex.onNpcSpawned(new NpcSpawned(otherGoblin));
+
+		assertEquals(Collections.singletonList(goblin), sceneIndex.getNpcs(3029));
+		assertEquals(Arrays.asList(goblin, otherGoblin), sceneIndex.getNpcs("<col=ffff00>GOBLIN"));
+
+		sceneIndex.onNpcDespawned(new NpcDespawned(goblin));
+		assertTrue(sceneIndex.getNpcs(3029).isEmpty());
+		assertEquals(Collections.singletonList(otherGoblin), sceneIndex.getNpcs("Goblin"));
+	}
+
+	@Test
+	public void testTransformedNpcDespawn()
+	{
+		final NPC npc = npc(7413, "Undead combat dummy");
+		sceneIndex.onNpcSpawned(new NpcSpawned(npc));
+
+		// The id and name follow the NPC's transform, which can change while it is in the scene
+		when(npc.getId()).thenReturn(7414);
+		when(npc.getName()).thenReturn("Combat dummy");
+		sceneIndex.onNpcDespawned(new NpcDespawned(npc));
+
+		assertTrue(sceneIndex.getNpcs(7413).isEmpty());
+		assertTrue(sceneIndex.getNpcs("Undead combat dummy").isEmpty());
+	}
+
+	private GameObject spawnGameObject(int id, int sceneX, int sceneY, int width, int height)
+	{
+		final GameObject object = mock(GameObject.class);
+		when(object.getId()).thenReturn(id);
+		when(object.getX()).thenReturn(local(sceneX) + (width - 1) * LOCAL_TILE_SIZE / 2);
+		when(object.getY()).thenReturn(local(sceneY) + (height - 1) * LOCAL_TILE_SIZE / 2);
+		when(object.getSceneMinLocation()).thenReturn(new Point(sceneX, sceneY));
+
+		// Objects larger than a tile are spawned on every tile they cover
+		for (int x = sceneX; x < sceneX + width; ++x)
+		{
+			for (int y = sceneY; y < sceneY + height; ++y)
+			{
+				final GameObjectSpawned event = new GameObjectSpawned();
+				event.setTile(tile(x, y));
+				event.setGameObject(object);
+				sceneIndex.onGameObjectSpawned(event);
+			}
+		}
+		return object;
+	}
+
+	private static Tile tile(int sceneX, int sceneY)
+	{
+		final Tile tile = mock(Tile.class);
+		when(tile.getSceneLocation()).thenReturn(new Point(sceneX, sceneY));
+		return tile;
+	}
+
+	private static NPC npc(int id, String name)
+	{
+		final NPC npc = mock(NPC.class);
+		when(npc.getId()).thenReturn(id);
+		when(npc.getName()).thenReturn(name);
+		return npc;
+	}
+
+	private static int local(int sceneX)
+	{
+		return sceneX * LOCAL_TILE_SIZE + LOCAL_TILE_SIZE / 2;
+	}
+}
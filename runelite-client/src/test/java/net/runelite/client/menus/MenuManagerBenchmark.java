@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.menus;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.eventbus.EventBus;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.api.widgets.WidgetInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Dispatches menu events through {@link MenuManager} with many managed menu options registered,
+ * comparing the click lookup against the previous scan of the options of the clicked widget.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MenuManagerBenchmark
+{
+	private static final int WIDGETS = 20;
+	private static final int MENU_SIZE = 40;
+
+	@Param({"25"})
+	private int optionsPerWidget;
+
+	private MenuManager menuManager;
+	private Multimap<Integer, WidgetMenuOption> managedMenuOptions;
+	private MenuEntry[] menuEntries;
+	private MenuEntryAdded[] menuEntriesAdded;
+	private MenuOptionClicked[] clicks;
+
+	@Setup
+	public void setup()
+	{
+		final Client client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getMenuEntries":
+					return menuEntries;
+				case "setMenuEntries":
+					menuEntries = (MenuEntry[]) args[0];
+					return null;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+
+		final EventBus eventBus = new EventBus()
+		{
+			@Override
+			public void post(Object event)
+			{
+			}
+		};
+
+		menuManager = new MenuManager(client, eventBus);
+		managedMenuOptions = HashMultimap.create();
+
+		final WidgetInfo[] widgets = WidgetInfo.values();
+		final Random random = new Random(0);
+		clicks = new MenuOptionClicked[WIDGETS * optionsPerWidget];
+
+		for (int w = 0; w < WIDGETS; ++w)
+		{
+			final WidgetInfo widget = widgets[w];
+
+			for (int o = 0; o < optionsPerWidget; ++o)
+			{
+				final WidgetMenuOption option = new WidgetMenuOption("Option " + o, "Plugin " + random.nextInt(10), widget);
+				menuManager.addManagedCustomMenu(option);
+				managedMenuOptions.put(widget.getId(), option);
+
+				final MenuOptionClicked click = new MenuOptionClicked();
+				click.setMenuOption(option.getMenuOption());
+				click.setMenuTarget(option.getMenuTarget());
+				click.setMenuAction(MenuAction.RUNELITE);
+				click.setWidgetId(widget.getId());
+				clicks[w * optionsPerWidget + o] = click;
+			}
+		}
+
+		// A busy menu is mostly scene entries, with one entry on a widget which has managed options
+		menuEntriesAdded = new MenuEntryAdded[MENU_SIZE];
+		for (int i = 0; i < MENU_SIZE; ++i)
+		{
+			menuEntriesAdded[i] = i == MENU_SIZE / 2
+				? new MenuEntryAdded("Inventory", "", 0, 0, -1, widgets[0].getId())
+				: new MenuEntryAdded("Examine", "Object " + i, MenuAction.EXAMINE_OBJECT.getId(), i, random.nextInt(104), random.nextInt(104));
+		}
+	}
+
+	@Benchmark
+	public void menuOptionClicked()
+	{
+		for (MenuOptionClicked click : clicks)
+		{
+			menuManager.onMenuOptionClicked(click);
+		}
+	}
+
+	@Benchmark
+	public int menuOptionClickedScan()
+	{
+		int found = 0;
+		for (MenuOptionClicked click : clicks)
+		{
+			for (WidgetMenuOption option : managedMenuOptions.get(click.getWidgetId()))
+			{
+				if (option.getMenuTarget().equals(click.getMenuTarget())
+					&& option.getMenuOption().equals(click.getMenuOption()))
+				{
+					++found;
+					break;
+				}
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public MenuEntry[] menuEntryAdded()
+	{
+		menuEntries = new MenuEntry[0];
+		for (MenuEntryAdded event : menuEntriesAdded)
+		{
+			menuManager.onMenuEntryAdded(event);
+		}
+		return menuEntries;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(MenuManagerBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.menus;
+
+import com.google.common.eventbus.EventBus;
+import java.util.Arrays;
+import net.runelite.api.Client;
+import net.runelite.api.MenuAction;
+import net.runelite.api.MenuEntry;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.api.events.PlayerMenuOptionClicked;
+import net.runelite.api.events.WidgetMenuOptionClicked;
+import net.runelite.api.widgets.WidgetInfo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MenuManagerTest
+{
+	private static final WidgetInfo WIDGET = WidgetInfo.FIXED_VIEWPORT_INVENTORY_TAB;
+
+	@Mock
+	private Client client;
+
+	@Mock
+	private EventBus eventBus;
+
+	private MenuManager menuManager;
+	private MenuEntry[] menuEntries = new MenuEntry[0];
+
+	@Before
+	public void before()
+	{
+		when(client.getMenuEntries()).thenAnswer(invocation -> menuEntries);
+		doAnswer(invocation ->
+		{
+			menuEntries = (MenuEntry[]) invocation.getArguments()[0];
+			return null;
+		}).when(client).setMenuEntries(any(MenuEntry[].class));
+
+		menuManager = new MenuManager(client, eventBus);
+	}
+
+	@Test
+	public void testMenuEntryAdded()
+	{
+		final WidgetMenuOption configure = new WidgetMenuOption("Configure", "Inventory Tags", WIDGET);
+		final WidgetMenuOption save = new WidgetMenuOption("Save", "Inventory Tags", WIDGET);
+		menuManager.addManagedCustomMenu(configure);
+		menuManager.addManagedCustomMenu(save);
+
+		menuManager.onMenuEntryAdded(new MenuEntryAdded("Inventory", "", 0, 0, -1, WIDGET.getId()));
+		menuManager.onMenuEntryAdded(new MenuEntryAdded("Cancel", "", 0, 0, 0, 0));
+		// added again when the next entry on the widget is added
+		menuManager.onMenuEntryAdded(new MenuEntryAdded("Inventory", "", 0, 0, -1, WIDGET.getId()));
+
+		assertEquals(2, menuEntries.length);
+		assertTrue(Arrays.stream(menuEntries).anyMatch(e -> e.getOption().equals("Configure") && e.getTarget().equals(configure.getMenuTarget())));
+		assertTrue(Arrays.stream(menuEntries).anyMatch(e -> e.getOption().equals("Save") && e.getTarget().equals(save.getMenuTarget())));
+
+		for (MenuEntry menuEntry : menuEntries)
+		{
+			assertEquals(WIDGET.getId(), menuEntry.getParam1());
+			assertEquals(MenuAction.RUNELITE.getId(), menuEntry.getType());
+		}
+	}
+
+	@Test
+	public void testMenuOptionClicked()
+	{
+		final WidgetMenuOption tags = new WidgetMenuOption("Configure", "Inventory Tags", WIDGET);
+		final WidgetMenuOption swapper = new WidgetMenuOption("Configure", "Inventory Swapper", WIDGET);
+		menuManager.addManagedCustomMenu(tags);
+		menuManager.addManagedCustomMenu(swapper);
+
+		menuManager.onMenuOptionClicked(click("Configure", swapper.getMenuTarget(), WIDGET.getId()));
+
+		final ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(eventBus).post(captor.capture());
+
+		final WidgetMenuOptionClicked clicked = (WidgetMenuOptionClicked) captor.getValue();
+		assertEquals("Configure", clicked.getMenuOption());
+		assertEquals(swapper.getMenuTarget(), clicked.getMenuTarget());
+		assertSame(WIDGET, clicked.getWidget());
+	}
+
+	@Test
+	public void testRemoveManagedCustomMenu()
+	{
+		final WidgetMenuOption configure = new WidgetMenuOption("Configure", "Inventory Tags", WIDGET);
+		menuManager.addManagedCustomMenu(configure);
+		menuManager.removeManagedCustomMenu(configure);
+
+		menuManager.onMenuEntryAdded(new MenuEntryAdded("Inventory", "", 0, 0, -1, WIDGET.getId()));
+		assertEquals(0, menuEntries.length);
+
+		// no longer a widget option, so it is treated as a player option
+		menuManager.onMenuOptionClicked(click("Configure", configure.getMenuTarget(), WIDGET.getId()));
+
+		final ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(eventBus).post(captor.capture());
+		assertTrue(captor.getValue() instanceof PlayerMenuOptionClicked);
+	}
+
+	@Test
+	public void testNpcMenuOption()
+	{
+		final String[] actions = new String[5];
+		final NPCComposition composition = mock(NPCComposition.class);
+		when(composition.getActions()).thenReturn(actions);
+
+		final NPC npc = mock(NPC.class);
+		when(npc.getComposition()).thenReturn(composition);
+		when(client.getNpcs()).thenReturn(Arrays.asList(npc, npc));
+
+		// repeated adds, such as from key repeat, are undone by a single remove
+		menuManager.addNpcMenuOption("Tag");
+		menuManager.addNpcMenuOption("Tag");
+		assertArrayEquals(new String[]{"Tag", null, null, null, null}, actions);
+
+		menuManager.removeNpcMenuOption("Tag");
+		assertArrayEquals(new String[5], actions);
+	}
+
+	@Test
+	public void testMenuOptionChanged()
+	{
+		final WidgetMenuOption toggle = new WidgetMenuOption("Show", "Instance Map", WIDGET);
+		menuManager.addManagedCustomMenu(toggle);
+
+		toggle.setMenuOption("Hide");
+		menuManager.onMenuOptionClicked(click("Hide", toggle.getMenuTarget(), WIDGET.getId()));
+
+		toggle.setMenuOption("Show");
+		menuManager.onMenuOptionClicked(click("Show", toggle.getMenuTarget(), WIDGET.getId()));
+
+		final ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(eventBus, times(2)).post(captor.capture());
+		assertEquals("Hide", ((WidgetMenuOptionClicked) captor.getAllValues().get(0)).getMenuOption());
+		assertEquals("Show", ((WidgetMenuOptionClicked) captor.getAllValues().get(1)).getMenuOption());
+
+		// removed while indexed under an older option
+		toggle.setMenuOption("Hide");
+		menuManager.removeManagedCustomMenu(toggle);
+		menuManager.onMenuOptionClicked(click("Show", toggle.getMenuTarget(), WIDGET.getId()));
+
+		verify(eventBus, times(3)).post(captor.capture());
+		assertTrue(captor.getValue() instanceof PlayerMenuOptionClicked);
+	}
+
+	private static MenuOptionClicked click(String option, String target, int widgetId)
+	{
+		final MenuOptionClicked event = new MenuOptionClicked();
+		event.setMenuOption(option);
+		event.setMenuTarget(target);
+		event.setMenuAction(MenuAction.RUNELITE);
+		event.setWidgetId(widgetId);
+		return event;
+	}
+}
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins;
 
+import com.google.common.eventbus.EventBus;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
 import com.google.inject.Guice;
@@ -38,17 +39,28 @@ import java.applet.Applet;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
+import net.runelite.client.config.ConfigManager;
 import net.runelite.client.rs.ClientUpdateCheckMode;
+import net.runelite.client.task.Scheduler;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -73,6 +85,9 @@ public class PluginManagerTest
 	@Bind
 	public Client client;
 
+	@Mock
+	public ConfigManager configManager;
+
 	private Set<Class> pluginClasses;
 
 	@Before
@@ -125,6 +140,48 @@ public class PluginManagerTest
 		assertEquals(expected, plugins.size());
 	}
 
+	@Test
+	public void testLoadUnindexedPlugins() throws Exception
+	{
+		// Compile a plugin without the plugin processor, so its classpath root has no plugin index
+		final File sources = folder.newFolder("src");
+		final File classes = folder.newFolder("classes");
+		final File source = new File(sources, "UnindexedPlugin.java");
+		Files.write(source.toPath(), Arrays.asList(
+			"package net.runelite.client.plugins.unindexed;",
+			"import net.runelite.client.plugins.*;",
+			"@PluginDescriptor(name = \"Unindexed\")",
+			"public class UnindexedPlugin extends Plugin {}"), StandardCharsets.UTF_8);
+
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertEquals(0, compiler.run(null, null, null, "-proc:none", "-d", classes.getPath(),
+			"-classpath", System.getProperty("java.class.path"), source.getPath()));
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader()))
+		{
+			PluginManager pluginManager = new PluginManager(false, null, null, null, null, null);
+			List<Plugin> plugins = pluginManager.scanAndInstantiate(classLoader, PLUGIN_PACKAGE + ".unindexed");
+			assertEquals(1, plugins.size());
+			assertEquals("net.runelite.client.plugins.unindexed.UnindexedPlugin", plugins.get(0).getClass().getName());
+		}
+	}
+
+	@Test
+	public void testFailedDependency()
+	{
+		PluginManager pluginManager = new PluginManager(false, new EventBus(), new Scheduler(), configManager, null, null);
+		FailingPlugin failing = new FailingPlugin();
+		DependentPlugin dependent = new DependentPlugin();
+		DependentPlugin.started = false;
+		pluginManager.add(failing);
+		pluginManager.add(dependent);
+
+		pluginManager.startCorePlugins();
+
+		assertFalse(DependentPlugin.started);
+		assertTrue(pluginManager.getPlugins().isEmpty());
+	}
+
 	@Test
 	public void dumpGraph() throws Exception
 	{
@@ -150,4 +207,26 @@ public class PluginManagerTest
 		}
 	}
 
+	@PluginDescriptor(name = "Failing", concurrentStartUp = true)
+	public static class FailingPlugin extends Plugin
+	{
+		@Override
+		protected void startUp() throws Exception
+		{
+			throw new Exception("failed to start");
+		}
+	}
+
+	@PluginDescriptor(name = "Dependent", concurrentStartUp = true)
+	@PluginDependency(FailingPlugin.class)
+	public static class DependentPlugin extends Plugin
+	{
+		private static volatile boolean started;
+
+		@Override
+		protected void startUp()
+		{
+			started = true;
+		}
+	}
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+import net.runelite.api.ItemID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootLogTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void before() throws IOException
+	{
+		file = new File(folder.newFolder(), "loot.log");
+	}
+
+	@Test
+	public void testReload()
+	{
+		final LootLog lootLog = new LootLog(file);
+		lootLog.load();
+		lootLog.append(goblin(1, 5));
+		lootLog.append(goblin(2, 10));
+		lootLog.append(record("Barrows", 3, ItemID.DEATH_RUNE, 100, 20000));
+
+		final LootLog reloaded = new LootLog(file);
+		reloaded.load();
+
+		final List<LootTrackerAggregate> totals = reloaded.getTotals();
+		assertEquals(2, totals.size());
+		assertEquals("Goblin", totals.get(0).getTitle());
+		assertEquals(2, totals.get(0).getKills());
+		assertEquals(1, totals.get(0).getItems().size());
+		assertEquals(15, totals.get(0).getItems().iterator().next().getQuantity());
+		assertEquals(3, reloaded.getRecent().size());
+	}
+
+	@Test
+	public void testRemoveAndReset()
+	{
+		final LootLog lootLog = new LootLog(file);
+		lootLog.load();
+		final LootTrackerRecord first = goblin(1, 5);
+		lootLog.append(first);
+		lootLog.append(goblin(2, 10));
+		lootLog.append(record("Barrows", 3, ItemID.DEATH_RUNE, 100, 20000));
+		lootLog.remove(first);
+		lootLog.reset("Barrows");
+
+		final LootLog reloaded = new LootLog(file);
+		reloaded.load();
+
+		final List<LootTrackerAggregate> totals = reloaded.getTotals();
+		assertEquals(1, totals.size());
+		assertEquals(1, totals.get(0).getKills());
+		assertEquals(10, totals.get(0).getItems().iterator().next().getQuantity());
+
+		reloaded.reset(null);
+		reloaded.load();
+		assertTrue(reloaded.getTotals().isEmpty());
+	}
+
+	@Test
+	public void testRemoveById()
+	{
+		final LootLog lootLog = new LootLog(file);
+		lootLog.load();
+
+		// Two kills in the same millisecond are told apart by their id
+		final LootTrackerRecord first = goblin(1, 5);
+		final LootTrackerRecord second = goblin(1, 10);
+		lootLog.append(first);
+		lootLog.append(second);
+		lootLog.remove(second);
+
+		final LootLog reloaded = new LootLog(file);
+		reloaded.load();
+
+		final List<LootTrackerRecord> recent = reloaded.getRecent();
+		assertEquals(1, recent.size());
+		assertEquals(first.getId(), recent.get(0).getId());
+		assertEquals(5, reloaded.getTotals().get(0).getItems().iterator().next().getQuantity());
+	}
+
+	@Test
+	public void testCompaction() throws IOException
+	{
+		final int kills = 5000;
+		final LootLog lootLog = new LootLog(file);
+		lootLog.load();
+
+		for (int i = 0; i < kills; i++)
+		{
+			lootLog.append(goblin(i, 1));
+		}
+
+		// Fold a record which is no longer recent out of the summary
+		lootLog.remove(goblin(0, 1));
+
+		assertTrue(Files.readAllLines(file.toPath()).size() < kills);
+
+		final LootLog reloaded = new LootLog(file);
+		reloaded.load();
+
+		final List<LootTrackerAggregate> totals = reloaded.getTotals();
+		assertEquals(1, totals.size());
+		assertEquals(kills - 1, totals.get(0).getKills());
+		assertEquals(kills - 1, totals.get(0).getItems().iterator().next().getQuantity());
+		assertEquals(LootLog.RECENT_RECORDS, reloaded.getRecent().size());
+	}
+
+	private static LootTrackerRecord goblin(long timestamp, int bones)
+	{
+		return record("Goblin", timestamp, ItemID.BONES, bones, 0);
+	}
+
+	private static LootTrackerRecord record(String title, long timestamp, int itemId, int quantity, long price)
+	{
+		return new LootTrackerRecord(UUID.randomUUID(), title, "(lvl-2)",
+			new LootTrackerItem[]{new LootTrackerItem(itemId, "Item " + itemId, quantity, price, false)},
+			timestamp);
+	}
+}
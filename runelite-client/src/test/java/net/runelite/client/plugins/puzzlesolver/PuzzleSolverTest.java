@@ -25,17 +25,24 @@
  */
 package net.runelite.client.plugins.puzzlesolver;
 
+import java.util.ArrayList;
+import java.util.List;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.LinearConflict;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.CompactIDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class PuzzleSolverTest
 {
-	private static final PuzzleState[] START_STATES =
+	static final PuzzleState[] START_STATES =
 	{
 		new PuzzleState(new int[]{0, 11, 1, 3, 4, 5, 12, 2, 7, 9, 6, 20, 18, 16, 8, 15, 22, 10, 14, 13, 21, -1, 17, 23, 19}),
 		new PuzzleState(new int[]{0, 2, 7, 3, 4, 10, 5, 12, 1, 9, 6, 17, 8, 14, 19, -1, 16, 21, 11, 13, 15, 20, 22, 18, 23}),
@@ -83,6 +90,20 @@ public class PuzzleSolverTest
 		new PuzzleState(new int[]{1, 5, 2, 3, 4, -1, 0, 7, 14, 8, 11, 6, 13, 9, 23, 10, 12, 15, 19, 17, 20, 21, 16, 22, 18}),
 	};
 
+	/**
+	 * Fully shuffled puzzles, which take far too long to solve optimally.
+	 */
+	static final int[][] HARD_STATES =
+	{
+		{23, 2, -1, 11, 9, 10, 7, 13, 3, 4, 5, 15, 8, 16, 17, 12, 1, 0, 21, 19, 6, 14, 20, 22, 18},
+		{16, 4, 9, 8, 11, 2, 10, 5, 17, 3, 7, 18, -1, 19, 21, 6, 0, 22, 14, 23, 15, 20, 12, 13, 1},
+		{8, 5, 6, 1, 20, 12, 18, 2, 3, 9, 4, 13, 0, 23, 11, 10, 7, 14, -1, 21, 22, 16, 17, 19, 15},
+		{0, 5, 8, 9, 3, 16, -1, 7, 17, 20, 10, 1, 23, 13, 19, 21, 18, 2, 15, 22, 6, 14, 4, 12, 11},
+		{0, 11, 18, 5, 19, 3, 8, 17, 9, 2, -1, 10, 4, 13, 20, 6, 16, 12, 14, 22, 1, 21, 23, 7, 15},
+	};
+
+	private static final long HARD_NODE_LIMIT = 2_000_000;
+
 	private static final int[] FINISHED_STATE = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, -1};
 
 	@Test
@@ -98,4 +119,101 @@ public class PuzzleSolverTest
 			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
 		}
 	}
+
+	@Test
+	public void testCompactSolverIsOptimal()
+	{
+		for (PuzzleState state : START_STATES)
+		{
+			List<PuzzleState> expected = new IDAStar(new ManhattanDistance()).computePath(state);
+			List<PuzzleState> path = new CompactIDAStar().computePath(state);
+
+			assertEquals(expected.size(), path.size());
+			assertSolution(state, path);
+		}
+	}
+
+	@Test
+	public void testCompactSolverHardStates()
+	{
+		for (int[] pieces : HARD_STATES)
+		{
+			PuzzleState state = new PuzzleState(pieces.clone());
+
+			long start = System.nanoTime();
+			PuzzleSolver solver = new PuzzleSolver(new CompactIDAStar(HARD_NODE_LIMIT), state);
+			solver.run();
+			long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+			assertTrue(solver.hasSolution());
+			assertTrue("solving took " + elapsedMs + "ms", elapsedMs < 10_000);
+
+			List<PuzzleState> path = new ArrayList<>();
+			for (int i = 0; i < solver.getStepCount(); i++)
+			{
+				path.add(solver.getStep(i));
+			}
+			assertSolution(state, path);
+		}
+	}
+
+	@Test
+	public void testCompactSolverUnsolvable()
+	{
+		int[] pieces = FINISHED_STATE.clone();
+		pieces[0] = 1;
+		pieces[1] = 0;
+
+		PuzzleSolver solver = new PuzzleSolver(new CompactIDAStar(), new PuzzleState(pieces));
+		solver.run();
+
+		assertTrue(solver.hasFailed());
+	}
+
+	@Test
+	public void testCompactSolverInterrupted()
+	{
+		Thread.currentThread().interrupt();
+		try
+		{
+			assertNull(new CompactIDAStar().computePath(new PuzzleState(HARD_STATES[0].clone())));
+		}
+		finally
+		{
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	public void testLinearConflict()
+	{
+		LinearConflict linearConflict = new LinearConflict();
+		ManhattanDistance manhattanDistance = new ManhattanDistance();
+
+		assertEquals(0, linearConflict.computeValue(new PuzzleState(FINISHED_STATE.clone())));
+
+		// 0 and 1 are swapped within their goal row
+		int[] swapped = FINISHED_STATE.clone();
+		swapped[0] = 1;
+		swapped[1] = 0;
+		PuzzleState state = new PuzzleState(swapped);
+		assertEquals(manhattanDistance.computeValue(state) + 2, linearConflict.computeValue(state));
+
+		for (PuzzleState start : START_STATES)
+		{
+			assertTrue(linearConflict.computeValue(start) >= manhattanDistance.computeValue(start));
+		}
+	}
+
+	private static void assertSolution(PuzzleState start, List<PuzzleState> path)
+	{
+		assertSame(start, path.get(0));
+		assertTrue(path.get(path.size() - 1).hasPieces(FINISHED_STATE));
+
+		for (int i = 1; i < path.size(); i++)
+		{
+			int distance = Math.abs(path.get(i).getEmptyPiece() - path.get(i - 1).getEmptyPiece());
+			assertTrue(distance == 1 || distance == PuzzleSolver.DIMENSION);
+		}
+	}
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.raids.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.client.plugins.raids.RaidRoom;
+import net.runelite.client.plugins.raids.RaidRoom.Boss;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LayoutSolverTest
+{
+	private static final int ROOMS = 16;
+
+	private final LayoutSolver layoutSolver = new LayoutSolver();
+
+	@Test
+	public void testFullCodes()
+	{
+		for (Layout layout : LayoutSolver.getLayouts())
+		{
+			assertSame(layout, layoutSolver.findLayout(toCode(layout)));
+		}
+	}
+
+	@Test
+	public void testPartialCodes()
+	{
+		List<Layout> layouts = LayoutSolver.getLayouts();
+
+		for (Layout layout : layouts)
+		{
+			char[] code = toCode(layout).toCharArray();
+			int[] positions = roomPositions(layout);
+
+			// Every subset of the scouted rooms, the rest being unknown
+			for (int mask = 0; mask < 1 << positions.length; mask++)
+			{
+				char[] partial = new char[ROOMS];
+				Arrays.fill(partial, ' ');
+
+				for (int i = 0; i < positions.length; i++)
+				{
+					if ((mask & (1 << i)) != 0)
+					{
+						partial[positions[i]] = code[positions[i]];
+					}
+				}
+
+				String partialCode = new String(partial);
+				List<Layout> expected = findLayoutsLinear(layouts, partialCode);
+				List<Layout> actual = layoutSolver.findLayouts(partialCode);
+
+				assertEquals(partialCode, expected, actual);
+				assertTrue(partialCode, actual.contains(layout));
+				assertSame(partialCode, expected.size() == 1 ? layout : null, layoutSolver.findLayout(partialCode));
+			}
+		}
+	}
+
+	@Test
+	public void testUnknownSymbol()
+	{
+		for (Layout layout : LayoutSolver.getLayouts())
+		{
+			char[] code = toCode(layout).toCharArray();
+
+			for (int position = 0; position < ROOMS; position++)
+			{
+				char[] partial = new char[ROOMS];
+				Arrays.fill(partial, ' ');
+				partial[position] = 'X';
+
+				String partialCode = new String(partial);
+				assertEquals(partialCode, code[position] == ' ', layoutSolver.findLayouts(partialCode).contains(layout));
+			}
+		}
+	}
+
+	@Test
+	public void testEmptyCode()
+	{
+		assertEquals(LayoutSolver.getLayouts(), layoutSolver.findLayouts(""));
+		assertNull(layoutSolver.findLayout(""));
+	}
+
+	@Test
+	public void testCandidatesSolved()
+	{
+		Layout layout = LayoutSolver.getLayouts().get(0);
+		RaidRoom[] rooms = toRooms(layout);
+		List<RaidRoom> combatRooms = combatRooms(layout, rooms);
+		combatRooms.get(0).setBoss(Boss.TEKTON);
+		combatRooms.get(1).setBoss(Boss.VASA);
+
+		List<LayoutCandidate> candidates = layoutSolver.findCandidates(rooms);
+
+		assertEquals(1, candidates.size());
+		assertSame(layout, candidates.get(0).getLayout());
+		assertTrue(candidates.get(0).isRotationSolved());
+		assertArrayEquals(new Boss[]{Boss.TEKTON, Boss.VASA, Boss.GUARDIANS, Boss.MYSTICS}, candidates.get(0).getBosses());
+
+		// The scouted rooms are not modified
+		assertNull(combatRooms.get(2).getBoss());
+	}
+
+	@Test
+	public void testCandidatesUnsolved()
+	{
+		Layout layout = LayoutSolver.getLayouts().get(0);
+		RaidRoom[] rooms = toRooms(layout);
+		combatRooms(layout, rooms).get(0).setBoss(Boss.TEKTON);
+
+		List<LayoutCandidate> candidates = layoutSolver.findCandidates(rooms);
+
+		assertEquals(1, candidates.size());
+		assertFalse(candidates.get(0).isRotationSolved());
+		assertArrayEquals(new Boss[]{Boss.TEKTON, Boss.UNKNOWN, Boss.UNKNOWN, Boss.UNKNOWN}, candidates.get(0).getBosses());
+	}
+
+	@Test
+	public void testCandidatesAmbiguous()
+	{
+		List<LayoutCandidate> candidates = layoutSolver.findCandidates(new RaidRoom[ROOMS]);
+
+		assertEquals(LayoutSolver.getLayouts().size(), candidates.size());
+
+		for (int i = 0; i < candidates.size(); i++)
+		{
+			LayoutCandidate candidate = candidates.get(i);
+			assertSame(LayoutSolver.getLayouts().get(i), candidate.getLayout());
+			assertFalse(candidate.isRotationSolved());
+		}
+	}
+
+	@Test
+	public void testRotation()
+	{
+		Boss[] bosses = {Boss.UNKNOWN, Boss.SHAMANS, Boss.VASA, null};
+
+		assertArrayEquals(new Boss[]{Boss.VESPULA, Boss.SHAMANS, Boss.VASA, Boss.VANGUARDS}, RotationSolver.solve(bosses));
+		assertArrayEquals(new Boss[]{Boss.UNKNOWN, Boss.SHAMANS, Boss.VASA, null}, bosses);
+		assertNull(RotationSolver.solve(new Boss[]{Boss.TEKTON, Boss.UNKNOWN, Boss.UNKNOWN}));
+		assertNull(RotationSolver.solve(new Boss[]{Boss.TEKTON, Boss.UNKNOWN, Boss.TEKTON}));
+	}
+
+	private static List<Layout> findLayoutsLinear(List<Layout> layouts, String code)
+	{
+		List<Layout> matches = new ArrayList<>();
+
+		for (Layout layout : layouts)
+		{
+			boolean match = true;
+
+			for (int i = 0; i < code.length(); i++)
+			{
+				Room room = layout.getRoomAt(i);
+				char c = code.charAt(i);
+
+				if (room != null && c != ' ' && c != room.getSymbol())
+				{
+					match = false;
+					break;
+				}
+			}
+
+			if (match)
+			{
+				matches.add(layout);
+			}
+		}
+
+		return matches;
+	}
+
+	private static String toCode(Layout layout)
+	{
+		StringBuilder builder = new StringBuilder(ROOMS);
+
+		for (int position = 0; position < ROOMS; position++)
+		{
+			Room room = layout.getRoomAt(position);
+			builder.append(room != null ? room.getSymbol() : ' ');
+		}
+
+		return builder.toString();
+	}
+
+	private static int[] roomPositions(Layout layout)
+	{
+		return layout.getRooms().stream()
+			.mapToInt(Room::getPosition)
+			.distinct()
+			.toArray();
+	}
+
+	private static RaidRoom[] toRooms(Layout layout)
+	{
+		RaidRoom[] rooms = new RaidRoom[ROOMS];
+
+		for (Room room : layout.getRooms())
+		{
+			rooms[room.getPosition()] = new RaidRoom(null, RaidRoom.Type.fromCode(room.getSymbol()));
+		}
+
+		return rooms;
+	}
+
+	private static List<RaidRoom> combatRooms(Layout layout, RaidRoom[] rooms)
+	{
+		List<RaidRoom> combatRooms = new ArrayList<>();
+
+		for (Room room : layout.getRooms())
+		{
+			if (rooms[room.getPosition()].getType() == RaidRoom.Type.COMBAT)
+			{
+				combatRooms.add(rooms[room.getPosition()]);
+			}
+		}
+
+		return combatRooms;
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class XpTimeSeriesTest
+{
+	private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+	private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+	private static final long DAY = TimeUnit.DAYS.toMillis(1);
+	// 2018-11-01 00:00 UTC
+	private static final long START = 1541030400000L;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void before() throws IOException
+	{
+		file = new File(folder.newFolder(), "attack.dat");
+	}
+
+	@Test
+	public void testWindows() throws IOException
+	{
+		try (XpTimeSeries timeSeries = new XpTimeSeries(file.toPath()))
+		{
+			timeSeries.add(START, 100);
+			timeSeries.add(START + 30 * 1000, 50);
+			timeSeries.add(START + 10 * MINUTE, 200);
+			timeSeries.add(START + 2 * HOUR, 1000);
+
+			assertEquals(150, timeSeries.getXpGained(START, START + MINUTE));
+			assertEquals(350, timeSeries.getXpGained(START, START + HOUR));
+			assertEquals(200, timeSeries.getXpGained(START + MINUTE, START + HOUR));
+			assertEquals(1350, timeSeries.getXpGained(START, START + DAY));
+			assertEquals(1350, timeSeries.getXpGained(START - DAY, START + 2 * DAY));
+			assertEquals(0, timeSeries.getXpGained(START + 3 * HOUR, START + 4 * HOUR));
+		}
+	}
+
+	@Test
+	public void testActiveTime() throws IOException
+	{
+		try (XpTimeSeries timeSeries = new XpTimeSeries(file.toPath()))
+		{
+			timeSeries.add(START, 100);
+			timeSeries.add(START + 30 * 1000, 50);
+			timeSeries.add(START + 10 * MINUTE, 200);
+			timeSeries.add(START + 2 * HOUR, 1000);
+
+			// Two minutes with xp in the first hour, three over the day
+			assertEquals(2 * MINUTE, timeSeries.getActiveTime(START, START + HOUR));
+			assertEquals(3 * MINUTE, timeSeries.getActiveTime(START, START + DAY));
+			assertEquals(0, timeSeries.getActiveTime(START + 3 * HOUR, START + 4 * HOUR));
+
+			// Longer windows count whole hours
+			assertEquals(2 * HOUR, timeSeries.getActiveTime(START - DAY, START + 2 * DAY));
+		}
+	}
+
+	@Test
+	public void testReopen() throws IOException
+	{
+		try (XpTimeSeries timeSeries = new XpTimeSeries(file.toPath()))
+		{
+			timeSeries.add(START, 100);
+			timeSeries.add(START + HOUR, 200);
+		}
+
+		try (XpTimeSeries timeSeries = new XpTimeSeries(file.toPath()))
+		{
+			timeSeries.add(START + HOUR, 50);
+			assertEquals(350, timeSeries.getXpGained(START, START + 2 * HOUR));
+		}
+	}
+
+	@Test
+	public void testRingBuffer() throws IOException
+	{
+		try (XpTimeSeries timeSeries = new XpTimeSeries(file.toPath()))
+		{
+			// One sample every hour for two months
+			for (long time = START; time < START + 60 * DAY; time += HOUR)
+			{
+				timeSeries.add(time, 10);
+			}
+
+			final long end = START + 60 * DAY;
+
+			// Only the last day is kept per minute
+			assertEquals(24 * 10, timeSeries.getXpGained(end - DAY, end));
+			assertEquals(0, timeSeries.getXpGained(START, START + DAY));
+
+			// and the last month per hour
+			assertEquals(XpTimeSeries.HOUR_BUCKETS * 10, timeSeries.getXpGained(end - 40 * DAY, end));
+			assertEquals(0, timeSeries.getXpGained(START, START + 7 * DAY));
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GamepackCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final MockWebServer server = new MockWebServer();
+	private final OkHttpClient httpClient = new OkHttpClient();
+
+	private File directory;
+	private GamepackCache cache;
+	private byte[] gamepack;
+
+	@Before
+	public void before() throws IOException
+	{
+		server.start();
+		directory = folder.newFolder();
+		cache = new GamepackCache(httpClient, directory);
+		gamepack = createGamepack("client.class");
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		server.shutdown();
+	}
+
+	@Test
+	public void testDownloadOnce() throws IOException
+	{
+		final RSConfig config = fetchConfig("gamepack_1.jar");
+		server.enqueue(new MockResponse().setBody(new Buffer().write(gamepack)));
+
+		final URL url = cache.get(config);
+		assertEquals("file", url.getProtocol());
+		assertArrayEquals(gamepack, Files.readAllBytes(new File(url.getPath()).toPath()));
+		assertEquals(2, server.getRequestCount());
+
+		// the second launch loads the gamepack without downloading it
+		assertEquals(url, cache.get(config));
+		assertEquals(2, server.getRequestCount());
+	}
+
+	@Test
+	public void testCorruptGamepack() throws IOException
+	{
+		final RSConfig config = fetchConfig("gamepack_1.jar");
+		server.enqueue(new MockResponse().setBody(new Buffer().write(gamepack)));
+		server.enqueue(new MockResponse().setBody(new Buffer().write(gamepack)));
+
+		final URL url = cache.get(config);
+		Files.write(new File(url.getPath()).toPath(), new byte[]{1, 2, 3});
+
+		assertEquals(url, cache.get(config));
+		assertArrayEquals(gamepack, Files.readAllBytes(new File(url.getPath()).toPath()));
+		assertEquals(3, server.getRequestCount());
+	}
+
+	@Test
+	public void testNewRevision() throws IOException
+	{
+		server.enqueue(new MockResponse().setBody(new Buffer().write(gamepack)));
+		final File old = new File(cache.get(fetchConfig("gamepack_1.jar")).getPath());
+		age(old, new File(directory, "gamepack_1.jar.sha256"));
+
+		final RSConfig config = fetchConfig("gamepack_2.jar");
+		final byte[] newGamepack = createGamepack("client.class", "other.class");
+		server.enqueue(new MockResponse().setBody(new Buffer().write(newGamepack)));
+
+		final File current = new File(cache.get(config).getPath());
+		assertArrayEquals(newGamepack, Files.readAllBytes(current.toPath()));
+		assertFalse(old.exists());
+		assertFalse(new File(directory, "gamepack_1.jar.sha256").exists());
+		assertTrue(new File(directory, "gamepack_2.jar.sha256").exists());
+	}
+
+	@Test
+	public void testPruneLeavesOtherLaunchers() throws IOException
+	{
+		server.enqueue(new MockResponse().setBody(new Buffer().write(gamepack)));
+		final File old = new File(cache.get(fetchConfig("gamepack_1.jar")).getPath());
+		age(old, new File(directory, "gamepack_1.jar.sha256"));
+
+		// another launcher is downloading a gamepack, and has cached a newer revision
+		final File download = new File(directory, "gamepack123.tmp");
+		final File newerKey = new File(directory, "gamepack_3.jar.sha256");
+		final File newer = new File(directory, "abcdef.jar");
+		Files.write(download.toPath(), new byte[]{1, 2, 3});
+		Files.write(newerKey.toPath(), "abcdef".getBytes());
+		Files.write(newer.toPath(), new byte[]{1, 2, 3});
+		final long future = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+		newerKey.setLastModified(future);
+		newer.setLastModified(future);
+
+		server.enqueue(new MockResponse().setBody(new Buffer().write(createGamepack("client.class", "other.class"))));
+		cache.get(fetchConfig("gamepack_2.jar"));
+
+		assertFalse(old.exists());
+		assertTrue(download.exists());
+		assertTrue(newerKey.exists());
+		assertTrue(newer.exists());
+	}
+
+	@Test
+	public void testDownloadFailure() throws IOException
+	{
+		final RSConfig config = fetchConfig("gamepack_1.jar");
+		server.enqueue(new MockResponse().setResponseCode(404));
+
+		assertEquals(server.url("/gamepack_1.jar").url(), cache.get(config));
+	}
+
+	@Test
+	public void testInvalidGamepack() throws IOException
+	{
+		final RSConfig config = fetchConfig("gamepack_1.jar");
+		server.enqueue(new MockResponse().setBody(new Buffer().write(createGamepack("other.class"))));
+
+		assertEquals(server.url("/gamepack_1.jar").url(), cache.get(config));
+		assertEquals(0, directory.listFiles().length);
+	}
+
+	private RSConfig fetchConfig(String initialJar) throws IOException
+	{
+		server.enqueue(new MockResponse().setBody(
+			"codebase=" + server.url("/") + "\n"
+				+ "initial_jar=" + initialJar + "\n"
+				+ "initial_class=client.class\n"
+				+ "param=1=0\n"));
+
+		return new ClientConfigLoader(httpClient, server.url("/jav_config.ws")).fetch();
+	}
+
+	private static void age(File... files)
+	{
+		final long past = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1);
+		for (File file : files)
+		{
+			file.setLastModified(past);
+		}
+	}
+
+	private static byte[] createGamepack(String... classes) throws IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (JarOutputStream jar = new JarOutputStream(out))
+		{
+			for (String name : classes)
+			{
+				jar.putNextEntry(new ZipEntry(name));
+				jar.write(name.getBytes());
+				jar.closeEntry();
+			}
+		}
+		return out.toByteArray();
+	}
+}
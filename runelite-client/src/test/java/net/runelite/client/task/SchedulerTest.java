@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SchedulerTest
+{
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private long now;
+	private Scheduler scheduler;
+	private Tasks tasks;
+	private List<String> ran;
+
+	@Before
+	public void before()
+	{
+		now = 0;
+		scheduler = new Scheduler(() -> now);
+		tasks = new Tasks();
+		ran = new ArrayList<>();
+	}
+
+	@Test
+	public void testNoDrift()
+	{
+		final ScheduledMethod first = schedule("first");
+		final List<Long> runTimes = new ArrayList<>();
+		tasks.onFirst = () -> runTimes.add(now);
+
+		// tick at a granularity which does not divide the period
+		final long tick = TimeUnit.MILLISECONDS.toNanos(600);
+		for (int i = 1; i <= 1000; i++)
+		{
+			now = i * tick;
+			scheduler.tick();
+		}
+
+		assertEquals(600, first.getRuns());
+
+		for (int i = 0; i < runTimes.size(); i++)
+		{
+			final long deadline = (i + 1) * SECOND;
+			final long lateness = runTimes.get(i) - deadline;
+			assertTrue("run " + i + " late by " + lateness, lateness >= 0 && lateness < tick);
+		}
+	}
+
+	@Test
+	public void testNotRunBeforeDeadline()
+	{
+		final ScheduledMethod first = schedule("first");
+
+		now = SECOND - 1;
+		scheduler.tick();
+		assertEquals(0, first.getRuns());
+
+		now = SECOND;
+		scheduler.tick();
+		assertEquals(1, first.getRuns());
+	}
+
+	@Test
+	public void testMissedPeriodsAreSkipped()
+	{
+		final ScheduledMethod first = schedule("first");
+
+		now = 3 * SECOND + SECOND / 2;
+		scheduler.tick();
+		assertEquals(1, first.getRuns());
+
+		// the next deadline stays aligned to the period
+		now = 4 * SECOND - 1;
+		scheduler.tick();
+		assertEquals(1, first.getRuns());
+
+		now = 4 * SECOND;
+		scheduler.tick();
+		assertEquals(2, first.getRuns());
+	}
+
+	@Test
+	public void testRegistrationOrder()
+	{
+		schedule("second");
+		schedule("first");
+
+		now = SECOND;
+		scheduler.tick();
+
+		assertEquals(Arrays.asList("second", "first"), ran);
+	}
+
+	@Test
+	public void testRemovedDuringTick()
+	{
+		schedule("first");
+		final ScheduledMethod second = schedule("second");
+		tasks.onFirst = () -> scheduler.removeScheduledMethod(second);
+
+		now = SECOND;
+		scheduler.tick();
+		now = 2 * SECOND;
+		scheduler.tick();
+
+		assertEquals(Arrays.asList("first", "first"), ran);
+		assertEquals(0, second.getRuns());
+		assertFalse(scheduler.getScheduledMethods().contains(second));
+	}
+
+	@Test
+	public void testRemovedSelfDuringTick()
+	{
+		final ScheduledMethod first = schedule("first");
+		tasks.onFirst = () -> scheduler.removeScheduledMethod(first);
+
+		now = SECOND;
+		scheduler.tick();
+		now = 2 * SECOND;
+		scheduler.tick();
+
+		assertEquals(Collections.singletonList("first"), ran);
+		assertTrue(scheduler.getScheduledMethods().isEmpty());
+	}
+
+	@Test
+	public void testAddedDuringTick()
+	{
+		schedule("first");
+		final ScheduledMethod second = create("second");
+		tasks.onFirst = () ->
+		{
+			scheduler.addScheduledMethod(second);
+			tasks.onFirst = () -> { };
+		};
+
+		now = SECOND;
+		scheduler.tick();
+		assertEquals(0, second.getRuns());
+
+		now = 2 * SECOND;
+		scheduler.tick();
+		assertEquals(1, second.getRuns());
+		assertEquals(Arrays.asList("first", "first", "second"), ran);
+	}
+
+	@Test
+	public void testDuplicateAdd()
+	{
+		final ScheduledMethod first = schedule("first");
+		scheduler.addScheduledMethod(first);
+
+		now = SECOND;
+		scheduler.tick();
+
+		assertEquals(1, first.getRuns());
+		assertEquals(1, scheduler.getScheduledMethods().size());
+	}
+
+	@Test
+	public void testStatistics()
+	{
+		final ScheduledMethod first = schedule("first");
+		tasks.onFirst = () -> now += SECOND / 2;
+
+		now = SECOND;
+		scheduler.tick();
+
+		assertEquals(1, first.getRuns());
+		assertEquals(SECOND / 2, first.getLastDurationNanos());
+		assertEquals(0, first.getOverruns());
+
+		tasks.onFirst = () -> now += 2 * SECOND;
+
+		now = 2 * SECOND;
+		scheduler.tick();
+
+		assertEquals(2, first.getRuns());
+		assertEquals(2 * SECOND, first.getLastDurationNanos());
+		assertEquals(1, first.getOverruns());
+	}
+
+	@Test
+	public void testException()
+	{
+		final ScheduledMethod first = schedule("first");
+		final ScheduledMethod second = schedule("second");
+		tasks.onFirst = () ->
+		{
+			throw new IllegalStateException();
+		};
+
+		now = SECOND;
+		scheduler.tick();
+
+		assertEquals(1, first.getRuns());
+		assertEquals(1, second.getRuns());
+	}
+
+	private ScheduledMethod create(String name)
+	{
+		try
+		{
+			return new ScheduledMethod(Tasks.class.getMethod(name).getAnnotation(Schedule.class), Tasks.class.getMethod(name), tasks);
+		}
+		catch (NoSuchMethodException ex)
+		{
+			throw new AssertionError(ex);
+		}
+	}
+
+	private ScheduledMethod schedule(String name)
+	{
+		final ScheduledMethod method = create(name);
+		scheduler.addScheduledMethod(method);
+		return method;
+	}
+
+	public class Tasks
+	{
+		Runnable onFirst = () -> { };
+
+		@Schedule(period = 1, unit = ChronoUnit.SECONDS)
+		public void first()
+		{
+			ran.add("first");
+			onFirst.run();
+		}
+
+		@Schedule(period = 1000, unit = ChronoUnit.MILLIS)
+		public void second()
+		{
+			ran.add("second");
+		}
+	}
+}
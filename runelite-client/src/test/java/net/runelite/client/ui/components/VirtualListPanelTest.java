@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.components;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Point;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.swing.JLabel;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class VirtualListPanelTest
+{
+	private static final int RECORDS = 10_000;
+	private static final int VIEW_HEIGHT = 800;
+	/**
+	 * Upper bound of the rows in a view, the smallest rows with their gap fit (800 + 2 * 200) / 35 = 34 times
+	 */
+	private static final int MAX_VIEW_ROWS = 40;
+
+	private final AtomicInteger created = new AtomicInteger();
+
+	private Component createRow(int item)
+	{
+		created.incrementAndGet();
+		final JLabel label = new JLabel("Record " + item);
+		// Rows of unequal height, like loot boxes with a different amount of items
+		label.setPreferredSize(new Dimension(200, 30 + (item % 3) * 35));
+		return label;
+	}
+
+	@Test
+	public void testRowsBuilt() throws Exception
+	{
+		SwingUtilities.invokeAndWait(() ->
+		{
+			final VirtualListPanel<Integer> list = new VirtualListPanel<>(this::createRow, 50, 5);
+			final JScrollPane scrollPane = new JScrollPane(list);
+			scrollPane.setSize(225, VIEW_HEIGHT);
+
+			list.setItems(IntStream.range(0, RECORDS).boxed().collect(Collectors.toList()));
+			layout(scrollPane);
+
+			// Only the rows in view are built
+			assertTrue(created.get() < MAX_VIEW_ROWS);
+			assertEquals(created.get(), list.getRowCount());
+
+			// Scroll through the whole list, each view only builds the rows scrolled into it
+			for (int y = 0; y < list.getPreferredSize().height; y += VIEW_HEIGHT)
+			{
+				final int before = created.get();
+				scrollPane.getViewport().setViewPosition(new Point(0, y));
+				list.doLayout();
+				assertTrue(list.getRowCount() < MAX_VIEW_ROWS);
+				assertTrue(created.get() - before < MAX_VIEW_ROWS);
+			}
+		});
+	}
+
+	@Test
+	public void testUpdate() throws Exception
+	{
+		SwingUtilities.invokeAndWait(() ->
+		{
+			final VirtualListPanel<Integer> list = new VirtualListPanel<>(this::createRow, 50, 5);
+			final JScrollPane scrollPane = new JScrollPane(list);
+			scrollPane.setSize(225, VIEW_HEIGHT);
+
+			final List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+			list.setItems(items);
+			layout(scrollPane);
+
+			final Component second = rowOf(list, 1);
+			final int rows = list.getRowCount();
+			assertEquals(rows, created.get());
+
+			// Removing an item keeps the other rows
+			list.setItems(items.subList(1, items.size()));
+			list.doLayout();
+			assertTrue(created.get() <= rows + 1);
+			assertSame(second, rowOf(list, 1));
+
+			list.refresh(1);
+			assertNotSame(second, rowOf(list, 1));
+		});
+	}
+
+	@Test
+	public void testAddRemove() throws Exception
+	{
+		SwingUtilities.invokeAndWait(() ->
+		{
+			final VirtualListPanel<Integer> list = new VirtualListPanel<>(this::createRow, 50, 5);
+			final JScrollPane scrollPane = new JScrollPane(list);
+			scrollPane.setSize(225, VIEW_HEIGHT);
+
+			list.setItems(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+			layout(scrollPane);
+
+			final Component second = rowOf(list, 1);
+			final int rows = created.get();
+
+			// Adding an item only builds its own row
+			list.addItem(0, -1);
+			list.doLayout();
+			assertEquals(-1, (int) list.getItems().get(0));
+			assertEquals(101, list.getItems().size());
+			assertTrue(created.get() <= rows + 1);
+			assertSame(second, rowOf(list, 1));
+
+			// Removing an item builds no row other than the one scrolled into view
+			final int added = created.get();
+			list.removeItem(0);
+			list.doLayout();
+			assertEquals(100, list.getItems().size());
+			assertNull(rowOf(list, 0));
+			assertTrue(created.get() <= added + 1);
+			assertSame(second, rowOf(list, 1));
+		});
+	}
+
+	private static Component rowOf(VirtualListPanel<Integer> list, int item)
+	{
+		for (Component component : list.getComponents())
+		{
+			if (((JLabel) component).getText().equals("Record " + item))
+			{
+				return component;
+			}
+		}
+
+		return null;
+	}
+
+	private static void layout(Container container)
+	{
+		container.doLayout();
+
+		for (Component component : container.getComponents())
+		{
+			if (component instanceof Container)
+			{
+				layout((Container) component);
+			}
+		}
+	}
+}
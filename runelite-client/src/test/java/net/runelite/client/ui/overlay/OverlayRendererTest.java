@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.config.FontType;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.input.KeyManager;
+import net.runelite.client.input.MouseManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OverlayRendererTest
+{
+	@Mock
+	@Bind
+	Client client;
+
+	@Mock
+	@Bind
+	OverlayManager overlayManager;
+
+	@Mock
+	@Bind
+	RuneLiteConfig runeLiteConfig;
+
+	@Mock
+	@Bind
+	MouseManager mouseManager;
+
+	@Mock
+	@Bind
+	KeyManager keyManager;
+
+	@Inject
+	OverlayRenderer overlayRenderer;
+
+	private final TestOverlay overlay = new TestOverlay();
+	private final Graphics2D graphics = new BufferedImage(765, 503, BufferedImage.TYPE_INT_RGB).createGraphics();
+
+	private static class TestOverlay extends Overlay
+	{
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			return getPreferredSize() != null ? getPreferredSize() : new Dimension(50, 20);
+		}
+	}
+
+	@Before
+	public void before()
+	{
+		when(runeLiteConfig.fontType()).thenReturn(FontType.SMALL);
+		when(runeLiteConfig.tooltipFontType()).thenReturn(FontType.SMALL);
+		when(runeLiteConfig.interfaceFontType()).thenReturn(FontType.REGULAR);
+
+		final Widget viewport = mock(Widget.class);
+		when(viewport.getWidth()).thenReturn(512);
+		when(viewport.getHeight()).thenReturn(334);
+
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		when(client.getViewportWidget()).thenReturn(viewport);
+		when(client.isStretchedEnabled()).thenReturn(true);
+		when(client.getRealDimensions()).thenReturn(new Dimension(765, 503));
+
+		final List<Overlay> overlays = Collections.singletonList(overlay);
+		when(overlayManager.getLayer(OverlayLayer.ABOVE_WIDGETS)).thenReturn(overlays);
+
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testCachedLayout()
+	{
+		render();
+		assertEquals(new Rectangle(5, 20, 50, 20), overlay.getBounds());
+
+		// Unchanged bounds are not published again
+		final Rectangle bounds = overlay.getBounds();
+		render();
+		assertSame(bounds, overlay.getBounds());
+	}
+
+	@Test
+	public void testPreferredLocationChanged()
+	{
+		render();
+		final Rectangle bounds = overlay.getBounds();
+
+		overlay.setPreferredLocation(new Point(100, 100));
+		render();
+
+		assertEquals(new Rectangle(100, 100, 50, 20), overlay.getBounds());
+		// The previous bounds may still be read by the mouse listeners, so are left as they were
+		assertNotSame(bounds, overlay.getBounds());
+		assertEquals(new Rectangle(5, 20, 50, 20), bounds);
+	}
+
+	@Test
+	public void testPreferredPositionChanged()
+	{
+		render();
+		overlay.setPreferredPosition(OverlayPosition.TOP_RIGHT);
+		render();
+
+		// The top right snap corner is at the right edge of the viewport, less the border
+		assertEquals(new Rectangle(512 - 5 - 50, 5, 50, 20), overlay.getBounds());
+	}
+
+	@Test
+	public void testPreferredSizeChanged()
+	{
+		render();
+		overlay.setPreferredPosition(OverlayPosition.TOP_RIGHT);
+		render();
+
+		overlay.setPreferredSize(new Dimension(100, 20));
+		render();
+
+		assertEquals(new Rectangle(512 - 5 - 100, 5, 100, 20), overlay.getBounds());
+	}
+
+	private void render()
+	{
+		// The first frame after a size change lays the overlays out with the new size
+		overlayRenderer.render(graphics, OverlayLayer.ABOVE_WIDGETS);
+		overlayRenderer.render(graphics, OverlayLayer.ABOVE_WIDGETS);
+	}
+}
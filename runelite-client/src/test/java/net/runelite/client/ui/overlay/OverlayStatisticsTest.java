@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class OverlayStatisticsTest
+{
+	private static final long BUDGET = 1000;
+
+	@Test
+	public void testStatistics()
+	{
+		final OverlayStatistics statistics = new OverlayStatistics("test", OverlayLayer.ABOVE_SCENE);
+
+		for (int i = 1; i <= 100; ++i)
+		{
+			statistics.record(i, 10, 0);
+		}
+
+		assertEquals(100, statistics.getSamples());
+		assertEquals(50, statistics.getAverageNanos());
+		assertEquals(99, statistics.getPercentileNanos(0.99));
+		assertEquals(100, statistics.getMaxNanos());
+		assertEquals(10, statistics.getAverageAllocatedBytes());
+	}
+
+	@Test
+	public void testThrottle()
+	{
+		final OverlayStatistics statistics = new OverlayStatistics("test", OverlayLayer.ABOVE_SCENE);
+
+		// a single slow frame is not enough to throttle
+		assertFalse(statistics.record(BUDGET * 2, -1, BUDGET));
+		assertFalse(statistics.record(BUDGET / 2, -1, BUDGET));
+		assertFalse(statistics.isThrottled());
+
+		boolean throttled = false;
+		for (int i = 0; i < 10; ++i)
+		{
+			throttled |= statistics.record(BUDGET * 2, -1, BUDGET);
+		}
+
+		assertTrue(throttled);
+		assertTrue(statistics.isThrottled());
+
+		// throttled overlays are only rendered once every few frames
+		int rendered = 0;
+		for (int i = 0; i < 100; ++i)
+		{
+			if (statistics.shouldRender())
+			{
+				++rendered;
+			}
+		}
+		assertEquals(10, rendered);
+
+		for (int i = 0; i < 10; ++i)
+		{
+			assertFalse(statistics.record(BUDGET / 2, -1, BUDGET));
+		}
+
+		assertFalse(statistics.isThrottled());
+		assertTrue(statistics.shouldRender());
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.RescaleOp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the {@link ImageUtil} pixel operations on item icon sized images, alongside the
+ * {@link Graphics2D} and {@link RescaleOp} implementations they replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImageUtilBenchmark
+{
+	@Param({"36"})
+	private int width;
+
+	@Param({"32"})
+	private int height;
+
+	private BufferedImage image;
+	private BufferedImage destination;
+
+	@Setup
+	public void setup()
+	{
+		image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		destination = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+		// Something shaped like an item, surrounded by transparent pixels
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setColor(new Color(120, 80, 40));
+		graphics.fillOval(2, 2, width - 4, height - 4);
+		graphics.setColor(new Color(200, 180, 60, 160));
+		graphics.fillRect(width / 4, height / 4, width / 2, height / 2);
+		graphics.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage outlineImage()
+	{
+		return ImageUtil.outlineImage(image, Color.WHITE);
+	}
+
+	@Benchmark
+	public BufferedImage outlineImageReuse()
+	{
+		return ImageUtil.outlineImage(image, Color.WHITE, ColorUtil::isNotFullyTransparent, false, destination);
+	}
+
+	@Benchmark
+	public BufferedImage outlineImageGraphics()
+	{
+		final BufferedImage filledImage = ImageUtil.fillImage(image, Color.WHITE);
+		final BufferedImage outlinedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		final Graphics2D g2d = outlinedImage.createGraphics();
+		g2d.drawImage(filledImage, -1, 0, null);
+		g2d.drawImage(filledImage, 1, 0, null);
+		g2d.drawImage(filledImage, 0, -1, null);
+		g2d.drawImage(filledImage, 0, 1, null);
+		g2d.drawImage(image, 0, 0, null);
+		g2d.dispose();
+		return outlinedImage;
+	}
+
+	@Benchmark
+	public BufferedImage fillImage()
+	{
+		return ImageUtil.fillImage(image, Color.WHITE);
+	}
+
+	@Benchmark
+	public BufferedImage grayscaleOffset()
+	{
+		return ImageUtil.grayscaleOffset(image, -80);
+	}
+
+	@Benchmark
+	public BufferedImage alphaOffset()
+	{
+		return ImageUtil.alphaOffset(image, 0.3f);
+	}
+
+	@Benchmark
+	public BufferedImage alphaOffsetReuse()
+	{
+		return ImageUtil.alphaOffset(image, 0.3f, destination);
+	}
+
+	@Benchmark
+	public BufferedImage alphaOffsetRescaleOp()
+	{
+		return new RescaleOp(new float[]{1f, 1f, 1f, 0.3f}, new float[4], null).filter(image, null);
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ImageUtilBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
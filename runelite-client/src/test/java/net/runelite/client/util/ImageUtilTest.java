@@ -39,6 +39,8 @@ import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import org.apache.commons.lang3.ArrayUtils;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 
 public class ImageUtilTest
@@ -320,6 +322,87 @@ public class ImageUtilTest
 		assert(bufferedImagesEqual(expected, ImageUtil.outlineImage(test, RED, testPredicate, true)));
 	}
 
+	@Test
+	public void offsetDestination()
+	{
+		// grayscaleOffset(BufferedImage image, int offset, BufferedImage destination)
+		BufferedImage destination = oneByOne(RED);
+		assertSame(destination, ImageUtil.grayscaleOffset(oneByOne(BLACK), 50, destination));
+		assert(bufferedImagesEqual(oneByOne(new Color(50, 50, 50)), destination));
+
+		// grayscaleOffset(BufferedImage image, float percentage, BufferedImage destination)
+		assertSame(destination, ImageUtil.grayscaleOffset(oneByOne(GRAY), 2f, destination));
+		assert(bufferedImagesEqual(oneByOne(WHITE), destination));
+
+		// alphaOffset(BufferedImage image, int offset, BufferedImage destination)
+		assertSame(destination, ImageUtil.alphaOffset(oneByOne(BLACK), -55, destination));
+		assert(bufferedImagesEqual(oneByOne(new Color(0, 0, 0, 200)), destination));
+
+		// alphaOffset(BufferedImage image, float percentage, BufferedImage destination)
+		assertSame(destination, ImageUtil.alphaOffset(oneByOne(BLACK), 0.503f, destination));
+		assert(bufferedImagesEqual(oneByOne(BLACK_HALF_TRANSPARENT), destination));
+
+		// the image itself can be the destination
+		final BufferedImage image = oneByOne(BLACK);
+		assertSame(image, ImageUtil.grayscaleOffset(image, 128, image));
+		assert(bufferedImagesEqual(oneByOne(GRAY), image));
+
+		// destinations of another size or type are not written to
+		destination = oneByOne(RED);
+		BufferedImage result = ImageUtil.alphaOffset(solidColor(2, 2, BLACK), -55, destination);
+		assertNotSame(destination, result);
+		assert(bufferedImagesEqual(solidColor(2, 2, new Color(0, 0, 0, 200)), result));
+		assert(bufferedImagesEqual(oneByOne(RED), destination));
+
+		destination = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+		result = ImageUtil.grayscaleOffset(oneByOne(BLACK), 50, destination);
+		assertNotSame(destination, result);
+		assert(bufferedImagesEqual(oneByOne(new Color(50, 50, 50)), result));
+
+		// no destination creates a new image
+		assert(bufferedImagesEqual(oneByOne(new Color(50, 50, 50)), ImageUtil.grayscaleOffset(oneByOne(BLACK), 50, null)));
+	}
+
+	@Test
+	public void fillImageDestination()
+	{
+		// fillImage(BufferedImage image, Color color, Predicate<Color> fillCondition, BufferedImage destination)
+		final BufferedImage destination = solidColor(CENTERED_SIZE, CENTERED_SIZE, RED);
+		assertSame(destination, ImageUtil.fillImage(centeredPixel(BLACK), GRAY, ColorUtil::isNotFullyTransparent, destination));
+		assert(bufferedImagesEqual(centeredPixel(GRAY), destination));
+
+		final BufferedImage image = centeredPixel(BLACK);
+		assertSame(image, ImageUtil.fillImage(image, GREEN, ColorUtil::isNotFullyTransparent, image));
+		assert(bufferedImagesEqual(centeredPixel(GREEN), image));
+	}
+
+	@Test
+	public void outlineImageDestination()
+	{
+		BufferedImage expected = new BufferedImage(CENTERED_SIZE, CENTERED_SIZE, BufferedImage.TYPE_INT_ARGB);
+		for (int x = 0; x < expected.getWidth(); x++)
+		{
+			for (int y = 0; y < expected.getHeight(); y++)
+			{
+				if (x == 1 || y == 1)
+				{
+					expected.setRGB(x, y, BLACK.getRGB());
+				}
+			}
+		}
+		expected.setRGB(1, 1, WHITE.getRGB());
+
+		// outlineImage(BufferedImage image, Color color, Predicate<Color> fillCondition, Boolean outlineCorners, BufferedImage destination)
+		final BufferedImage destination = solidColor(CENTERED_SIZE, CENTERED_SIZE, RED);
+		assertSame(destination, ImageUtil.outlineImage(centeredPixel(WHITE), BLACK, ColorUtil::isNotFullyTransparent, false, destination));
+		assert(bufferedImagesEqual(expected, destination));
+
+		// the image being outlined can be the destination, it is outlined in place
+		final BufferedImage image = centeredPixel(WHITE);
+		assertSame(image, ImageUtil.outlineImage(image, BLACK, ColorUtil::isNotFullyTransparent, false, image));
+		assert(bufferedImagesEqual(expected, image));
+	}
+
 	/**
 	 * Compares whether two {@link BufferedImage}s are equal in data.
 	 *
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.base.CharMatcher;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link Text} utilities against the regex based implementations they replaced,
+ * over a mix of chat messages, menu targets and player names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TextBenchmark
+{
+	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+
+	private static final String[] CHAT = {
+		"Welcome to Old School RuneScape.",
+		"<col=ef1020>Your reward is: <col=ffffff>1,000</col> x <col=ffffff>Coins</col>.</col>",
+		"<img=2>Zezima: Selling lobsters 200 ea",
+		"You catch a shark.",
+		"<col=0000ff>Your Abyssal whip kill count is: <col=ff0000>25</col>.</col>",
+	};
+
+	private static final String[] MENU_TARGETS = {
+		"<col=ffff00>Goblin<col=ff00>  (level-2)",
+		"<col=ff9040>Lobster",
+		"<col=ffffff>Zezima<col=40ff00>  (level-126)",
+		"<col=00ffff>Bank booth",
+		"",
+	};
+
+	private static final String[] NAMES = {
+		"Zezima",
+		"Iron\u00A0Man",
+		"Lynx_Titan",
+		"B0aty",
+		"A-Friend",
+	};
+
+	private final StringBuilder builder = new StringBuilder();
+
+	@Benchmark
+	public void removeTagsChat(Blackhole blackhole)
+	{
+		for (String message : CHAT)
+		{
+			blackhole.consume(Text.removeTags(message));
+		}
+	}
+
+	@Benchmark
+	public void removeTagsChatRegex(Blackhole blackhole)
+	{
+		for (String message : CHAT)
+		{
+			blackhole.consume(TAG_REGEXP.matcher(message).replaceAll(""));
+		}
+	}
+
+	@Benchmark
+	public void standardizeMenu(Blackhole blackhole)
+	{
+		for (String target : MENU_TARGETS)
+		{
+			blackhole.consume(Text.standardize(target));
+		}
+	}
+
+	@Benchmark
+	public void standardizeMenuBuffer(Blackhole blackhole)
+	{
+		for (String target : MENU_TARGETS)
+		{
+			builder.setLength(0);
+			blackhole.consume(Text.standardize(target, builder).length());
+		}
+	}
+
+	@Benchmark
+	public void standardizeMenuRegex(Blackhole blackhole)
+	{
+		for (String target : MENU_TARGETS)
+		{
+			blackhole.consume(TAG_REGEXP.matcher(target).replaceAll("").replace('\u00A0', ' ').trim().toLowerCase());
+		}
+	}
+
+	@Benchmark
+	public void toJagexName(Blackhole blackhole)
+	{
+		for (String name : NAMES)
+		{
+			blackhole.consume(Text.toJagexName(name));
+		}
+	}
+
+	@Benchmark
+	public void toJagexNameRegex(Blackhole blackhole)
+	{
+		for (String name : NAMES)
+		{
+			blackhole.consume(CharMatcher.ascii().retainFrom(name.replace('\u00A0', ' ')).replaceAll("[_-]+", " ").trim());
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(TextBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -25,6 +25,7 @@
 package net.runelite.client.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 
 public class TextTest
@@ -42,4 +43,46 @@ public class TextTest
 		assertEquals("Remove no tags", Text.removeTags("Remove no tags"));
 	}
 
+	@Test
+	public void removeTagsUnchanged()
+	{
+		final String noTags = "Use Item -> Man";
+		assertSame(noTags, Text.removeTags(noTags));
+		final String unclosed = "a < b";
+		assertSame(unclosed, Text.removeTags(unclosed));
+	}
+
+	@Test
+	public void standardize()
+	{
+		assertEquals("zezima  (level-126)", Text.standardize("<col=ffffff><img=2>Zezima<col=00ffff>  (level-126)"));
+		assertEquals("iron man", Text.standardize(" <col=ff0000>Iron\u00A0Man</col>\u00A0"));
+		assertEquals("a < b", Text.standardize("A < B"));
+		assertEquals("", Text.standardize(" <br> "));
+
+		final String standardized = "abyssal whip";
+		assertSame(standardized, Text.standardize(standardized));
+	}
+
+	@Test
+	public void standardizeAppends()
+	{
+		final StringBuilder builder = new StringBuilder("name: ");
+		assertEquals("name: goblin", Text.standardize("<col=ffff00>Goblin</col> ", builder).toString());
+	}
+
+	@Test
+	public void toJagexName()
+	{
+		assertEquals("Zezima", Text.toJagexName("Zezima"));
+		assertEquals("Iron Man", Text.toJagexName("Iron\u00A0Man"));
+		assertEquals("Iron Man", Text.toJagexName("Iron_-_Man"));
+		assertEquals("Iron Man", Text.toJagexName("Iron_\u00E9_Man"));
+		assertEquals("Iron   Man", Text.toJagexName("Iron_ _Man"));
+		assertEquals("Zezima", Text.toJagexName("\u00A0_Zezima-\u00A0"));
+
+		final String name = "Lynx Titan";
+		assertSame(name, Text.toJagexName(name));
+	}
+
 }
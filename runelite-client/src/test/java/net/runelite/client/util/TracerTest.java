@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TracerTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testWrite() throws IOException
+	{
+		Tracer.enable();
+		try (Tracer.Span outer = Tracer.span("outer"))
+		{
+			try (Tracer.Span inner = Tracer.span("inner"))
+			{
+				assertTrue(Tracer.isEnabled());
+			}
+		}
+
+		final File file = folder.newFile();
+		Tracer.write(file);
+		assertFalse(Tracer.isEnabled());
+
+		final JsonObject trace = read(file);
+		assertEquals("ms", trace.get("displayTimeUnit").getAsString());
+
+		final JsonArray events = trace.getAsJsonArray("traceEvents");
+		assertEquals(3, events.size());
+
+		// spans are written as complete events in the order they were closed
+		final JsonObject inner = events.get(0).getAsJsonObject();
+		final JsonObject outer = events.get(1).getAsJsonObject();
+		final long threadId = Thread.currentThread().getId();
+		for (JsonObject span : new JsonObject[]{inner, outer})
+		{
+			assertEquals("X", span.get("ph").getAsString());
+			assertEquals("runelite", span.get("cat").getAsString());
+			assertEquals(1, span.get("pid").getAsInt());
+			assertEquals(threadId, span.get("tid").getAsLong());
+		}
+
+		assertEquals("inner", inner.get("name").getAsString());
+		assertEquals("outer", outer.get("name").getAsString());
+
+		// the viewer nests spans which start and end within another span
+		assertTrue(outer.get("ts").getAsLong() <= inner.get("ts").getAsLong());
+		assertTrue(outer.get("ts").getAsLong() + outer.get("dur").getAsLong()
+			>= inner.get("ts").getAsLong() + inner.get("dur").getAsLong());
+
+		// followed by the names of the threads
+		final JsonObject thread = events.get(2).getAsJsonObject();
+		assertEquals("thread_name", thread.get("name").getAsString());
+		assertEquals("M", thread.get("ph").getAsString());
+		assertEquals(threadId, thread.get("tid").getAsLong());
+		assertEquals(Thread.currentThread().getName(), thread.getAsJsonObject("args").get("name").getAsString());
+	}
+
+	@Test
+	public void testDisabledAfterWrite() throws IOException
+	{
+		Tracer.enable();
+		try (Tracer.Span span = Tracer.span("written"))
+		{
+		}
+
+		final Tracer.Span open = Tracer.span("open");
+		Tracer.write(folder.newFile());
+		assertFalse(Tracer.isEnabled());
+
+		// spans closed after the trace was written are neither recorded nor written again
+		open.close();
+		try (Tracer.Span span = Tracer.span("disabled"))
+		{
+		}
+
+		final File file = folder.newFile();
+		Tracer.write(file);
+		assertEquals(0, read(file).getAsJsonArray("traceEvents").size());
+	}
+
+	private static JsonObject read(File file) throws IOException
+	{
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+		{
+			return new Gson().fromJson(reader, JsonObject.class);
+		}
+	}
+}
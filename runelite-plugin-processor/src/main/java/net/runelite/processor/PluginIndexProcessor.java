@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.processor;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes an index of the plugins in a module at compile time, so the plugin
+ * manager can load the plugin classes directly instead of scanning and loading
+ * every class in the plugins package.
+ * <p>
+ * Each line of the index is a plugin, with tab separated fields:
+ * the binary class name and the {@code developerPlugin} and {@code loadWhenOutdated}
+ * flags of its descriptor. Plugin dependencies are not indexed, the plugin manager
+ * reads them from the loaded plugin classes.
+ */
+@SupportedAnnotationTypes(PluginIndexProcessor.PLUGIN_DESCRIPTOR)
+public class PluginIndexProcessor extends AbstractProcessor
+{
+	/**
+	 * Location of the index in the class output, must match PluginManager
+	 */
+	static final String PLUGIN_INDEX = "META-INF/runelite/plugins";
+
+	static final String PLUGIN = "net.runelite.client.plugins.Plugin";
+	static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+
+	private final Map<String, String> plugins = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		if (roundEnv.processingOver())
+		{
+			if (!plugins.isEmpty())
+			{
+				writeIndex();
+			}
+			return false;
+		}
+
+		final Elements elements = processingEnv.getElementUtils();
+		final TypeElement descriptor = elements.getTypeElement(PLUGIN_DESCRIPTOR);
+		if (descriptor == null)
+		{
+			return false;
+		}
+
+		for (Element element : roundEnv.getElementsAnnotatedWith(descriptor))
+		{
+			if (!(element instanceof TypeElement))
+			{
+				continue;
+			}
+
+			final TypeElement type = (TypeElement) element;
+
+			// the plugin manager only considers top level classes
+			if (type.getNestingKind() != NestingKind.TOP_LEVEL)
+			{
+				continue;
+			}
+
+			if (!isPlugin(type))
+			{
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+					"Class has plugin descriptor, but is not a plugin", type);
+				continue;
+			}
+
+			plugins.put(elements.getBinaryName(type).toString(), describe(type));
+		}
+
+		return false;
+	}
+
+	private static boolean isPlugin(TypeElement type)
+	{
+		final TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED)
+		{
+			return false;
+		}
+
+		final TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+		return element.getQualifiedName().contentEquals(PLUGIN);
+	}
+
+	private String describe(TypeElement type)
+	{
+		final Elements elements = processingEnv.getElementUtils();
+		final AnnotationMirror descriptor = getDescriptor(type);
+		final Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(descriptor);
+		final boolean developerPlugin = (Boolean) value(values, "developerPlugin");
+		final boolean loadWhenOutdated = (Boolean) value(values, "loadWhenOutdated");
+		return developerPlugin + "\t" + loadWhenOutdated;
+	}
+
+	private static AnnotationMirror getDescriptor(TypeElement type)
+	{
+		for (AnnotationMirror annotation : type.getAnnotationMirrors())
+		{
+			final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			if (annotationType.getQualifiedName().contentEquals(PLUGIN_DESCRIPTOR))
+			{
+				return annotation;
+			}
+		}
+
+		return null;
+	}
+
+	private static Object value(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name)
+	{
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet())
+		{
+			if (entry.getKey().getSimpleName().contentEquals(name))
+			{
+				return entry.getValue().getValue();
+			}
+		}
+
+		throw new IllegalArgumentException("Annotation has no value " + name);
+	}
+
+	private void writeIndex()
+	{
+		// merge with the existing index so incremental compiles, which only see
+		// the changed sources, don't drop the plugins which weren't recompiled
+		final Map<String, String> index = readIndex();
+
+		// drop the plugins from the previous index which have since been deleted, or are no longer plugins
+		final Elements elements = processingEnv.getElementUtils();
+		index.keySet().removeIf(className ->
+		{
+			final TypeElement type = elements.getTypeElement(className);
+			return type == null || !isPlugin(type) || getDescriptor(type) == null;
+		});
+
+		index.putAll(plugins);
+
+		try
+		{
+			final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", PLUGIN_INDEX);
+			try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))
+			{
+				for (Map.Entry<String, String> entry : index.entrySet())
+				{
+					writer.write(entry.getKey());
+					writer.write('\t');
+					writer.write(entry.getValue());
+					writer.write('\n');
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write plugin index: " + ex);
+		}
+	}
+
+	private Map<String, String> readIndex()
+	{
+		final Map<String, String> index = new TreeMap<>();
+
+		try
+		{
+			final FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", PLUGIN_INDEX);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8)))
+			{
+				String line;
+				while ((line = reader.readLine()) != null)
+				{
+					final int idx = line.indexOf('\t');
+					if (idx != -1)
+					{
+						index.put(line.substring(0, idx), line.substring(idx + 1));
+					}
+				}
+			}
+		}
+		catch (FileNotFoundException | NoSuchFileException ex)
+		{
+			// no previous index
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Unable to read previous plugin index: " + ex);
+		}
+
+		return index;
+	}
+}
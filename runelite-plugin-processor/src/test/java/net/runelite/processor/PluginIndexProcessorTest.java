@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PluginIndexProcessorTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File sources;
+	private File classes;
+
+	@Before
+	public void before() throws IOException
+	{
+		sources = folder.newFolder("src");
+		classes = folder.newFolder("classes");
+
+		source("net.runelite.client.plugins.Plugin",
+			"package net.runelite.client.plugins;",
+			"public abstract class Plugin {}");
+		source("net.runelite.client.plugins.PluginDescriptor",
+			"package net.runelite.client.plugins;",
+			"import java.lang.annotation.*;",
+			"@Retention(RetentionPolicy.RUNTIME) @Target(ElementType.TYPE)",
+			"public @interface PluginDescriptor {",
+			"	String name();",
+			"	boolean developerPlugin() default false;",
+			"	boolean loadWhenOutdated() default false;",
+			"}");
+		source("net.runelite.client.plugins.PluginDependency",
+			"package net.runelite.client.plugins;",
+			"import java.lang.annotation.*;",
+			"@Retention(RetentionPolicy.RUNTIME) @Target(ElementType.TYPE) @Repeatable(PluginDependencies.class)",
+			"public @interface PluginDependency {",
+			"	Class<? extends Plugin> value();",
+			"}");
+		source("net.runelite.client.plugins.PluginDependencies",
+			"package net.runelite.client.plugins;",
+			"import java.lang.annotation.*;",
+			"@Retention(RetentionPolicy.RUNTIME) @Target(ElementType.TYPE)",
+			"public @interface PluginDependencies {",
+			"	PluginDependency[] value();",
+			"}");
+		source("net.runelite.client.plugins.a.APlugin",
+			"package net.runelite.client.plugins.a;",
+			"import net.runelite.client.plugins.*;",
+			"@PluginDescriptor(name = \"A\", developerPlugin = true)",
+			"@PluginDependency(BPlugin.class)",
+			"@PluginDependency(CPlugin.class)",
+			"public class APlugin extends Plugin {}");
+		source("net.runelite.client.plugins.a.BPlugin",
+			"package net.runelite.client.plugins.a;",
+			"import net.runelite.client.plugins.*;",
+			"@PluginDescriptor(name = \"B\", loadWhenOutdated = true)",
+			"@PluginDependency(CPlugin.class)",
+			"public class BPlugin extends Plugin {}");
+		source("net.runelite.client.plugins.a.CPlugin",
+			"package net.runelite.client.plugins.a;",
+			"import net.runelite.client.plugins.*;",
+			"@PluginDescriptor(name = \"C\")",
+			"public class CPlugin extends Plugin {}");
+		source("net.runelite.client.plugins.a.NotAPlugin",
+			"package net.runelite.client.plugins.a;",
+			"import net.runelite.client.plugins.*;",
+			"@PluginDescriptor(name = \"D\")",
+			"public class NotAPlugin {}");
+	}
+
+	@Test
+	public void testIndex() throws IOException
+	{
+		assertTrue(compile(allSources()));
+
+		assertEquals(Arrays.asList(
+			"net.runelite.client.plugins.a.APlugin\ttrue\tfalse",
+			"net.runelite.client.plugins.a.BPlugin\tfalse\ttrue",
+			"net.runelite.client.plugins.a.CPlugin\tfalse\tfalse"
+		), index());
+	}
+
+	@Test
+	public void testIncrementalCompile() throws IOException
+	{
+		assertTrue(compile(allSources()));
+		final List<String> expected = index();
+
+		// recompiling a single plugin keeps the others in the index
+		assertTrue(compile(Arrays.asList(new File(sources, "net/runelite/client/plugins/a/BPlugin.java"))));
+		assertEquals(expected, index());
+	}
+
+	@Test
+	public void testDeletedPlugin() throws IOException
+	{
+		source("net.runelite.client.plugins.a.DPlugin",
+			"package net.runelite.client.plugins.a;",
+			"import net.runelite.client.plugins.*;",
+			"@PluginDescriptor(name = \"D\")",
+			"public class DPlugin extends Plugin {}");
+		assertTrue(compile(allSources()));
+		assertTrue(index().contains("net.runelite.client.plugins.a.DPlugin\tfalse\tfalse"));
+
+		// a plugin which has been deleted is dropped from the index on the next compile
+		Files.delete(new File(sources, "net/runelite/client/plugins/a/DPlugin.java").toPath());
+		Files.delete(new File(classes, "net/runelite/client/plugins/a/DPlugin.class").toPath());
+		assertTrue(compile(Arrays.asList(new File(sources, "net/runelite/client/plugins/a/BPlugin.java"))));
+		assertEquals(3, index().size());
+
+		// as is a class which is no longer a plugin
+		source("net.runelite.client.plugins.a.CPlugin",
+			"package net.runelite.client.plugins.a;",
+			"public class CPlugin extends net.runelite.client.plugins.Plugin {}");
+		assertTrue(compile(Arrays.asList(
+			new File(sources, "net/runelite/client/plugins/a/BPlugin.java"),
+			new File(sources, "net/runelite/client/plugins/a/CPlugin.java"))));
+		assertEquals(Arrays.asList(
+			"net.runelite.client.plugins.a.APlugin\ttrue\tfalse",
+			"net.runelite.client.plugins.a.BPlugin\tfalse\ttrue"
+		), index());
+	}
+
+	private void source(String className, String... lines) throws IOException
+	{
+		final File file = new File(sources, className.replace('.', '/') + ".java");
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+	}
+
+	private List<File> allSources() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(sources.toPath()))
+		{
+			return paths
+				.filter(path -> path.toString().endsWith(".java"))
+				.map(Path::toFile)
+				.collect(Collectors.toList());
+		}
+	}
+
+	private boolean compile(List<File> files) throws IOException
+	{
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null))
+		{
+			final List<String> options = Arrays.asList(
+				"-d", classes.getPath(),
+				"-classpath", classes.getPath()
+			);
+			final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+				fileManager.getJavaFileObjectsFromFiles(files));
+			task.setProcessors(Arrays.asList(new PluginIndexProcessor()));
+			return task.call();
+		}
+	}
+
+	private List<String> index() throws IOException
+	{
+		return Files.readAllLines(new File(classes, PluginIndexProcessor.PLUGIN_INDEX).toPath(), StandardCharsets.UTF_8);
+	}
+}